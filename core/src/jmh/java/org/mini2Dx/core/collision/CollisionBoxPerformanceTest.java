@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.collision;
+
+import org.mini2Dx.core.util.InterpolationTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Performance tests for moving large numbers of {@link CollisionBox} instances
+ */
+public class CollisionBoxPerformanceTest {
+	private static final int TOTAL_BOXES = 100000;
+
+	@State(Scope.Thread)
+	public static class TestState {
+		public CollisionBox [] boxes;
+		public float delta = 1f;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			boxes = new CollisionBox[TOTAL_BOXES];
+			for(int i = 0; i < TOTAL_BOXES; i++) {
+				boxes[i] = new CollisionBox((i % 1000) * 32f, (i / 1000) * 32f, 32f, 32f);
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			InterpolationTracker.deregisterAll();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionBox_Move")
+	public void testMove(TestState state) {
+		state.delta = -state.delta;
+		InterpolationTracker.preUpdate();
+		for(int i = 0; i < TOTAL_BOXES; i++) {
+			state.boxes[i].translate(state.delta, state.delta);
+		}
+		InterpolationTracker.interpolate(0.5f);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionBox_Intersects")
+	public int testIntersects(TestState state) {
+		int result = 0;
+		final CollisionBox first = state.boxes[0];
+		for(int i = 0; i < TOTAL_BOXES; i++) {
+			if(first.intersects(state.boxes[i])) {
+				result++;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.geom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Performance tests for separating axis intersection tests via {@link Shape#intersects(Shape, CollisionResult)}
+ */
+public class CollisionResultPerformanceTest {
+	@State(Scope.Thread)
+	public static class TestState {
+		public CollisionResult result = new CollisionResult();
+
+		public Rectangle rectangle = new Rectangle(0f, 0f, 50f, 50f);
+		public Rectangle rotatedRectangle = new Rectangle(0f, 0f, 50f, 50f);
+		public Rectangle intersectingRectangle = new Rectangle(25f, 25f, 50f, 50f);
+		public Rectangle nonIntersectingRectangle = new Rectangle(100f, 100f, 50f, 50f);
+		public Rectangle containedRectangle = new Rectangle(10f, 10f, 5f, 5f);
+
+		public Triangle intersectingTriangle = new Triangle(25f, 0f, 50f, 25f, -50f, 25f);
+		public Triangle nonIntersectingTriangle = new Triangle(-250f, 0f, 200f, 25f, -300f, 25f);
+
+		public Polygon octagon = new RegularPolygon(25f, 25f, 30f, 8, 45f).getPolygon();
+		public Polygon intersectingOctagon = new RegularPolygon(60f, 25f, 30f, 8, 45f).getPolygon();
+
+		public Circle intersectingCircle = new Circle(75f, 75f, 50f);
+		public Circle nonIntersectingCircle = new Circle(1000f, 1000f, 50f);
+
+		public TestState() {
+			rotatedRectangle.setRotation(45f);
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testIntersectsRectangle(TestState state) {
+		state.rectangle.intersects(state.intersectingRectangle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testNotIntersectsRectangle(TestState state) {
+		state.rectangle.intersects(state.nonIntersectingRectangle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testIntersectsContainedRectangle(TestState state) {
+		state.rectangle.intersects(state.containedRectangle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testRotatedIntersectsRectangle(TestState state) {
+		state.rotatedRectangle.intersects(state.intersectingRectangle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testRotatedNotIntersectsRectangle(TestState state) {
+		state.rotatedRectangle.intersects(state.nonIntersectingRectangle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testIntersectsTriangle(TestState state) {
+		state.rectangle.intersects(state.intersectingTriangle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testNotIntersectsTriangle(TestState state) {
+		state.rectangle.intersects(state.nonIntersectingTriangle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testIntersectsPolygon(TestState state) {
+		state.octagon.intersects(state.intersectingOctagon, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult_Boolean")
+	public void testIntersectsPolygonBoolean(TestState state) {
+		state.octagon.intersects(state.intersectingOctagon);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testIntersectsCircle(TestState state) {
+		state.rotatedRectangle.intersects(state.intersectingCircle, state.result);
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("CollisionResult")
+	public void testNotIntersectsCircle(TestState state) {
+		state.rotatedRectangle.intersects(state.nonIntersectingCircle, state.result);
+	}
+}
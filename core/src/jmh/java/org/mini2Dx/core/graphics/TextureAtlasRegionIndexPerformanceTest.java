@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics;
+
+import org.mini2Dx.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Performance tests for resolving every region of a large {@link TextureAtlas} by name during loading
+ */
+public class TextureAtlasRegionIndexPerformanceTest {
+	private static final int TOTAL_REGIONS = 4000;
+	private static final int FRAMES_PER_ANIMATION = 8;
+
+	@State(Scope.Thread)
+	public static class TestState {
+		public final Array<TextureAtlasRegion> regions = new Array<TextureAtlasRegion>();
+		public final String [] names = new String[TOTAL_REGIONS / FRAMES_PER_ANIMATION];
+
+		public TestState() {
+			for(int i = 0; i < names.length; i++) {
+				names[i] = "sprites/character" + i;
+				for(int j = 0; j < FRAMES_PER_ANIMATION; j++) {
+					regions.add(newRegion(names[i], j));
+				}
+			}
+		}
+
+		private static TextureAtlasRegion newRegion(final String name, final int index) {
+			return (TextureAtlasRegion) Proxy.newProxyInstance(TextureAtlasRegion.class.getClassLoader(),
+					new Class[] { TextureAtlasRegion.class }, new InvocationHandler() {
+						@Override
+						public Object invoke(Object proxy, java.lang.reflect.Method method, Object[] args) {
+							if(method.getName().equals("getName")) {
+								return name;
+							} else if(method.getName().equals("getIndex")) {
+								return index;
+							}
+							return null;
+						}
+					});
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("TextureAtlas_ResolveAllRegions")
+	public void testIndexedLookup(TestState state, Blackhole blackhole) {
+		final TextureAtlasRegionIndex index = new TextureAtlasRegionIndex(state.regions);
+		for(int i = 0; i < state.names.length; i++) {
+			blackhole.consume(index.findRegion(state.names[i]));
+			for(int j = 0; j < FRAMES_PER_ANIMATION; j++) {
+				blackhole.consume(index.findRegion(state.names[i], j));
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("TextureAtlas_ResolveAllRegions")
+	public void testLinearLookup(TestState state, Blackhole blackhole) {
+		for(int i = 0; i < state.names.length; i++) {
+			blackhole.consume(findRegion(state.regions, state.names[i], -1));
+			for(int j = 0; j < FRAMES_PER_ANIMATION; j++) {
+				blackhole.consume(findRegion(state.regions, state.names[i], j));
+			}
+		}
+	}
+
+	private static TextureAtlasRegion findRegion(Array<TextureAtlasRegion> regions, String name, int index) {
+		for(int i = 0; i < regions.size; i++) {
+			final TextureAtlasRegion region = regions.get(i);
+			if(!region.getName().equals(name)) {
+				continue;
+			}
+			if(index >= 0 && region.getIndex() != index) {
+				continue;
+			}
+			return region;
+		}
+		return null;
+	}
+}
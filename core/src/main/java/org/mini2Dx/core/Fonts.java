@@ -19,10 +19,13 @@ import org.mini2Dx.core.assets.AssetManager;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.font.GameFont;
 import org.mini2Dx.core.font.MonospaceGameFont;
+import org.mini2Dx.core.font.TextLayoutCache;
 import org.mini2Dx.core.graphics.Texture;
 import org.mini2Dx.core.graphics.TextureRegion;
 
 public abstract class Fonts {
+	private final TextLayoutCache textLayoutCache = new TextLayoutCache();
+
 	/**
 	 * Returns the default {@link GameFont} for the current {@link Platform}
 	 * @return The default font
@@ -61,4 +64,12 @@ public abstract class Fonts {
 	public GameFont newMonospaceFont(MonospaceGameFont.FontParameters fontParameters) {
 		return new MonospaceGameFont(fontParameters);
 	}
+
+	/**
+	 * Returns the {@link TextLayoutCache} shared by all {@link GameFont} instances
+	 * @return The shared {@link TextLayoutCache}
+	 */
+	public TextLayoutCache getTextLayoutCache() {
+		return textLayoutCache;
+	}
 }
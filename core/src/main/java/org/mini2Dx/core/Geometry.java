@@ -16,72 +16,177 @@
 package org.mini2Dx.core;
 
 import org.mini2Dx.core.geom.*;
-import org.mini2Dx.gdx.utils.Queue;
+import org.mini2Dx.gdx.utils.Array;
 
 /**
- * Provides pooled geometry classes. Note that this is not a thread-safe API.
+ * Provides pooled geometry classes.
+ *
+ * Each thread allocates from and releases to its own bounded pool so instances can be
+ * allocated on one thread and released on another (e.g. async loaders, collision jobs)
+ * without synchronisation. Instances released while the current thread's pool is full are
+ * discarded and left to the garbage collector.
  */
 public class Geometry {
     /**
      * Default pool size. Modify this value before launching the game to increase the default pool sizes.
      */
     public static int DEFAULT_POOL_SIZE = 8;
+    /**
+     * Default maximum number of instances of each type retained per thread. Modify this value before launching the game.
+     */
+    public static int DEFAULT_MAX_POOL_SIZE = 64;
 
-    final Queue<Circle> circles = new Queue<Circle>();
-    final Queue<EquilateralTriangle> equilateralTriangles = new Queue<EquilateralTriangle>();
-    final Queue<Line> lines = new Queue<Line>();
-    final Queue<LineSegment> lineSegments = new Queue<LineSegment>();
-    final Queue<Point> points = new Queue<Point>();
-    final Queue<Polygon> polygons = new Queue<Polygon>();
-    final Queue<Rectangle> rectangles = new Queue<Rectangle>();
-    final Queue<RegularHexagon> regularHexagons = new Queue<RegularHexagon>();
-    final Queue<RegularPentagon> regularPentagons = new Queue<RegularPentagon>();
-    final Queue<Triangle> triangles = new Queue<Triangle>();
+    private final ThreadLocal<Pools> pools = new ThreadLocal<Pools>() {
+        @Override
+        protected Pools initialValue() {
+            final Pools result = new Pools(maxPoolSize);
+            synchronized(allStats) {
+                allStats.add(result.stats);
+            }
+            result.fill(Geometry.this, DEFAULT_POOL_SIZE);
+            return result;
+        }
+    };
+    private final Array<PoolStats> allStats = new Array<PoolStats>(false, 4);
+    private final int maxPoolSize;
 
     private boolean initialised = false;
 
     public Geometry() {
+        this(DEFAULT_MAX_POOL_SIZE);
+    }
+
+    /**
+     * Constructor
+     * @param maxPoolSize The maximum number of instances of each type retained per thread
+     */
+    public Geometry(int maxPoolSize) {
         super();
+        this.maxPoolSize = maxPoolSize;
         init();
     }
 
     /**
-     * Initialises the pool
+     * Initialises the pool for the current thread. Other threads' pools are initialised on first use.
      */
     public void init() {
         if(initialised) {
             return;
         }
-        for(int i = 0; i < DEFAULT_POOL_SIZE; i++) {
-            circles.addLast(new Circle(this));
-            equilateralTriangles.addLast(new EquilateralTriangle(this));
-            lines.addLast(new Line(this));
-            lineSegments.addLast(new LineSegment(this));
-            points.addLast(new Point(this));
-            rectangles.addLast(new Rectangle(this));
-            regularHexagons.addLast(new RegularHexagon(this));
-            regularPentagons.addLast(new RegularPentagon(this));
-        }
+        pools.get();
         initialised = true;
     }
 
+    /**
+     * Returns the maximum number of instances of each type retained per thread
+     * @return The maximum pool size
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * Returns the total number of instances created by this pool across all threads
+     * @return The number of allocations
+     */
+    public long getTotalAllocations() {
+        long result = 0L;
+        synchronized(allStats) {
+            for(int i = 0; i < allStats.size; i++) {
+                result += allStats.get(i).allocations;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total number of requests served from a pool across all threads
+     * @return The number of pool hits
+     */
+    public long getTotalHits() {
+        long result = 0L;
+        synchronized(allStats) {
+            for(int i = 0; i < allStats.size; i++) {
+                result += allStats.get(i).hits;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total number of requests that required a new instance across all threads
+     * @return The number of pool misses
+     */
+    public long getTotalMisses() {
+        long result = 0L;
+        synchronized(allStats) {
+            for(int i = 0; i < allStats.size; i++) {
+                result += allStats.get(i).misses;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total number of released instances discarded due to a full pool across all threads
+     * @return The number of discarded instances
+     */
+    public long getTotalDiscards() {
+        long result = 0L;
+        synchronized(allStats) {
+            for(int i = 0; i < allStats.size; i++) {
+                result += allStats.get(i).discards;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the statistics for the current thread's pool
+     * @return The {@link PoolStats} for the current thread
+     */
+    public PoolStats getThreadStats() {
+        return pools.get().stats;
+    }
+
+    private <T> T obtain(Pools pools, Array<T> pool) {
+        if(pool.size == 0) {
+            pools.stats.misses++;
+            pools.stats.allocations++;
+            return null;
+        }
+        pools.stats.hits++;
+        return pool.pop();
+    }
+
+    private <T> void release(Pools pools, Array<T> pool, T instance) {
+        if(pool.size >= maxPoolSize) {
+            pools.stats.discards++;
+            return;
+        }
+        pool.add(instance);
+    }
+
     /**
      * Allocates a {@link Circle} from the pool
      * @return A {@link Circle} instance
      */
     public Circle circle() {
-        if(circles.size == 0) {
+        final Pools pools = this.pools.get();
+        final Circle result = obtain(pools, pools.circles);
+        if(result == null) {
             return new Circle(this);
         }
-        return circles.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link Circle} instance back to the pool
+     * Releases a {@link Circle} instance back to the current thread's pool
      * @param circle The {@link Circle} instance
      */
     public void release(Circle circle) {
-        circles.addLast(circle);
+        final Pools pools = this.pools.get();
+        release(pools, pools.circles, circle);
     }
 
     /**
@@ -89,18 +194,21 @@ public class Geometry {
      * @return A {@link EquilateralTriangle} instance
      */
     public EquilateralTriangle equilateralTriangle() {
-        if(equilateralTriangles.size == 0) {
+        final Pools pools = this.pools.get();
+        final EquilateralTriangle result = obtain(pools, pools.equilateralTriangles);
+        if(result == null) {
             return new EquilateralTriangle(this);
         }
-        return equilateralTriangles.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link EquilateralTriangle} instance back to the pool
+     * Releases a {@link EquilateralTriangle} instance back to the current thread's pool
      * @param equilateralTriangle The {@link EquilateralTriangle} instance
      */
     public void release(EquilateralTriangle equilateralTriangle) {
-        equilateralTriangles.addLast(equilateralTriangle);
+        final Pools pools = this.pools.get();
+        release(pools, pools.equilateralTriangles, equilateralTriangle);
     }
 
     /**
@@ -108,18 +216,21 @@ public class Geometry {
      * @return A {@link Line} instance
      */
     public Line line() {
-        if(lines.size == 0) {
+        final Pools pools = this.pools.get();
+        final Line result = obtain(pools, pools.lines);
+        if(result == null) {
             return new Line(this);
         }
-        return lines.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link Line} instance back to the pool
+     * Releases a {@link Line} instance back to the current thread's pool
      * @param line The {@link Line} instance
      */
     public void release(Line line) {
-        lines.addLast(line);
+        final Pools pools = this.pools.get();
+        release(pools, pools.lines, line);
     }
 
     /**
@@ -127,18 +238,21 @@ public class Geometry {
      * @return A {@link LineSegment} instance
      */
     public LineSegment lineSegment() {
-        if(lineSegments.size == 0) {
+        final Pools pools = this.pools.get();
+        final LineSegment result = obtain(pools, pools.lineSegments);
+        if(result == null) {
             return new LineSegment(this);
         }
-        return lineSegments.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link LineSegment} instance back to the pool
+     * Releases a {@link LineSegment} instance back to the current thread's pool
      * @param lineSegment The {@link LineSegment} instance
      */
     public void release(LineSegment lineSegment) {
-        lineSegments.addLast(lineSegment);
+        final Pools pools = this.pools.get();
+        release(pools, pools.lineSegments, lineSegment);
     }
 
     /**
@@ -146,18 +260,21 @@ public class Geometry {
      * @return A {@link Point} instance
      */
     public Point point() {
-        if(points.size == 0) {
+        final Pools pools = this.pools.get();
+        final Point result = obtain(pools, pools.points);
+        if(result == null) {
             return new Point(this);
         }
-        return points.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link Point} instance back to the pool
+     * Releases a {@link Point} instance back to the current thread's pool
      * @param point The {@link Point} instance
      */
     public void release(Point point) {
-        points.addLast(point);
+        final Pools pools = this.pools.get();
+        release(pools, pools.points, point);
     }
 
     /**
@@ -165,10 +282,12 @@ public class Geometry {
      * @return A {@link Polygon} instance
      */
     public Polygon polygon() {
-        if(polygons.size == 0) {
-            return polygon(new float[]{0f, 0f, 1f, 0f, 1f, 1f, 0f, 1f});
+        final Pools pools = this.pools.get();
+        final Polygon result = obtain(pools, pools.polygons);
+        if(result == null) {
+            return new Polygon(this, new float[]{0f, 0f, 1f, 0f, 1f, 1f, 0f, 1f});
         }
-        return polygons.removeFirst();
+        return result;
     }
 
     /**
@@ -177,20 +296,22 @@ public class Geometry {
      * @return A {@link Polygon} instance
      */
     public Polygon polygon(float [] vertices) {
-        if(polygons.size == 0) {
+        final Pools pools = this.pools.get();
+        final Polygon result = obtain(pools, pools.polygons);
+        if(result == null) {
             return new Polygon(this, vertices);
         }
-        final Polygon result = polygons.removeFirst();
         result.setVertices(vertices);
         return result;
     }
 
     /**
-     * Releases a {@link Polygon} instance back to the pool
+     * Releases a {@link Polygon} instance back to the current thread's pool
      * @param polygon The {@link Polygon} instance
      */
     public void release(Polygon polygon) {
-        polygons.addLast(polygon);
+        final Pools pools = this.pools.get();
+        release(pools, pools.polygons, polygon);
     }
 
     /**
@@ -198,18 +319,21 @@ public class Geometry {
      * @return A {@link Rectangle} instance
      */
     public Rectangle rectangle() {
-        if(rectangles.size == 0) {
+        final Pools pools = this.pools.get();
+        final Rectangle result = obtain(pools, pools.rectangles);
+        if(result == null) {
             return new Rectangle(this);
         }
-        return rectangles.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link Rectangle} instance back to the pool
+     * Releases a {@link Rectangle} instance back to the current thread's pool
      * @param rectangle The {@link Rectangle} instance
      */
     public void release(Rectangle rectangle) {
-        rectangles.addLast(rectangle);
+        final Pools pools = this.pools.get();
+        release(pools, pools.rectangles, rectangle);
     }
 
     /**
@@ -217,18 +341,21 @@ public class Geometry {
      * @return A {@link RegularHexagon} instance
      */
     public RegularHexagon regularHexagon() {
-        if(regularHexagons.size == 0) {
+        final Pools pools = this.pools.get();
+        final RegularHexagon result = obtain(pools, pools.regularHexagons);
+        if(result == null) {
             return new RegularHexagon(this);
         }
-        return regularHexagons.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link RegularHexagon} instance back to the pool
+     * Releases a {@link RegularHexagon} instance back to the current thread's pool
      * @param regularHexagon The {@link RegularHexagon} instance
      */
     public void release(RegularHexagon regularHexagon) {
-        regularHexagons.addLast(regularHexagon);
+        final Pools pools = this.pools.get();
+        release(pools, pools.regularHexagons, regularHexagon);
     }
 
     /**
@@ -236,18 +363,21 @@ public class Geometry {
      * @return A {@link RegularPentagon} instance
      */
     public RegularPentagon regularPentagon() {
-        if(regularPentagons.size == 0) {
+        final Pools pools = this.pools.get();
+        final RegularPentagon result = obtain(pools, pools.regularPentagons);
+        if(result == null) {
             return new RegularPentagon(this);
         }
-        return regularPentagons.removeFirst();
+        return result;
     }
 
     /**
-     * Releases a {@link RegularPentagon} instance back to the pool
+     * Releases a {@link RegularPentagon} instance back to the current thread's pool
      * @param regularPentagon The {@link RegularPentagon} instance
      */
     public void release(RegularPentagon regularPentagon) {
-        regularPentagons.addLast(regularPentagon);
+        final Pools pools = this.pools.get();
+        release(pools, pools.regularPentagons, regularPentagon);
     }
 
     /**
@@ -255,19 +385,104 @@ public class Geometry {
      * @return A {@link Triangle} instance
      */
     public Triangle triangle(float x1, float y1, float x2, float y2, float x3, float y3) {
-        if(triangles.size == 0) {
+        final Pools pools = this.pools.get();
+        final Triangle result = obtain(pools, pools.triangles);
+        if(result == null) {
             return new Triangle(this, x1, y1, x2, y2, x3, y3);
         }
-        final Triangle result = triangles.removeFirst();
         result.setPosition(x1, y1, x2, y2, x3, y3);
         return result;
     }
 
     /**
-     * Releases a {@link Triangle} instance back to the pool
+     * Releases a {@link Triangle} instance back to the current thread's pool
      * @param triangle The {@link Triangle} instance
      */
     public void release(Triangle triangle) {
-        triangles.addLast(triangle);
+        final Pools pools = this.pools.get();
+        release(pools, pools.triangles, triangle);
+    }
+
+    /**
+     * Pool statistics for a single thread. Values are only updated by the owning
+     * thread so may be slightly out of date when read from another thread.
+     */
+    public static class PoolStats {
+        long allocations, hits, misses, discards;
+
+        /**
+         * Returns the number of instances created
+         * @return The number of allocations
+         */
+        public long getAllocations() {
+            return allocations;
+        }
+
+        /**
+         * Returns the number of requests served from the pool
+         * @return The number of hits
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Returns the number of requests that required a new instance
+         * @return The number of misses
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Returns the number of released instances discarded because the pool was full
+         * @return The number of discards
+         */
+        public long getDiscards() {
+            return discards;
+        }
+    }
+
+    private static class Pools {
+        final Array<Circle> circles;
+        final Array<EquilateralTriangle> equilateralTriangles;
+        final Array<Line> lines;
+        final Array<LineSegment> lineSegments;
+        final Array<Point> points;
+        final Array<Polygon> polygons;
+        final Array<Rectangle> rectangles;
+        final Array<RegularHexagon> regularHexagons;
+        final Array<RegularPentagon> regularPentagons;
+        final Array<Triangle> triangles;
+        final PoolStats stats = new PoolStats();
+
+        Pools(int maxPoolSize) {
+            final int capacity = Math.max(1, Math.min(DEFAULT_POOL_SIZE, maxPoolSize));
+            circles = new Array<Circle>(false, capacity);
+            equilateralTriangles = new Array<EquilateralTriangle>(false, capacity);
+            lines = new Array<Line>(false, capacity);
+            lineSegments = new Array<LineSegment>(false, capacity);
+            points = new Array<Point>(false, capacity);
+            polygons = new Array<Polygon>(false, capacity);
+            rectangles = new Array<Rectangle>(false, capacity);
+            regularHexagons = new Array<RegularHexagon>(false, capacity);
+            regularPentagons = new Array<RegularPentagon>(false, capacity);
+            triangles = new Array<Triangle>(false, capacity);
+        }
+
+        void fill(Geometry geometry, int size) {
+            size = Math.min(size, geometry.maxPoolSize);
+            for(int i = 0; i < size; i++) {
+                circles.add(new Circle(geometry));
+                equilateralTriangles.add(new EquilateralTriangle(geometry));
+                lines.add(new Line(geometry));
+                lineSegments.add(new LineSegment(geometry));
+                points.add(new Point(geometry));
+                rectangles.add(new Rectangle(geometry));
+                regularHexagons.add(new RegularHexagon(geometry));
+                regularPentagons.add(new RegularPentagon(geometry));
+            }
+            stats.allocations += size * 8;
+        }
     }
 }
@@ -47,6 +47,13 @@ public interface Graphics {
      */
     public void clearContext();
 
+    /**
+     * Clears the graphics context with a specific {@link Color}, e.g. to clear a
+     * {@link org.mini2Dx.core.graphics.FrameBuffer} to transparent
+     * @param color The {@link Color} to clear with
+     */
+    public void clearContext(Color color);
+
     /**
      * Renders a line segment to the window in the current {@link Color} with
      * the set line height
@@ -355,6 +362,37 @@ public interface Graphics {
      */
     public void drawTextureRegion(TextureRegion textureRegion, float x, float y, float width, float height, float rotation);
 
+    /**
+     * Draws a texture region with flip, rotation and tint applied without modifying the region.
+     * Unlike setting these values on a shared {@link Sprite} before drawing, the same region
+     * can be drawn with different transformations by multiple objects or render passes.
+     *
+     * @param textureRegion
+     *            The {@link TextureRegion} (or {@link Sprite}) to draw
+     * @param x
+     *            The x coordinate to draw at
+     * @param y
+     *            The y coordinate to draw at
+     * @param width
+     *            The width to draw the region
+     * @param height
+     *            The height to draw the region
+     * @param originX
+     *            The x coordinate to rotate around (relative to x)
+     * @param originY
+     *            The y coordinate to rotate around (relative to y)
+     * @param rotation
+     *            The rotation in degrees
+     * @param flipX
+     *            True if the region should be mirrored horizontally (relative to its current flip state)
+     * @param flipY
+     *            True if the region should be mirrored vertically (relative to its current flip state)
+     * @param tint
+     *            The {@link Color} to tint the region with. Null to use this graphics context's tint.
+     */
+    public void drawTextureRegion(TextureRegion textureRegion, float x, float y, float width, float height,
+                                  float originX, float originY, float rotation, boolean flipX, boolean flipY, Color tint);
+
     /**
      * Draws an instance of {@link Shape}
      *
@@ -558,6 +596,22 @@ public interface Graphics {
      */
     public void setBlendFunction(Mini2DxBlendFunction srcFunc, Mini2DxBlendFunction dstFunc);
 
+    /**
+     * Sets separate blend functions for the color and alpha channels, e.g. to
+     * render premultiplied alpha into a {@link org.mini2Dx.core.graphics.FrameBuffer}
+     *
+     * @param srcColorFunc
+     *            Source GL function for the color channels
+     * @param dstColorFunc
+     *            Destination GL function for the color channels
+     * @param srcAlphaFunc
+     *            Source GL function for the alpha channel
+     * @param dstAlphaFunc
+     *            Destination GL function for the alpha channel
+     */
+    public void setBlendFunction(Mini2DxBlendFunction srcColorFunc, Mini2DxBlendFunction dstColorFunc,
+                                 Mini2DxBlendFunction srcAlphaFunc, Mini2DxBlendFunction dstAlphaFunc);
+
     /**
      * Resets the blend function to its default
      */
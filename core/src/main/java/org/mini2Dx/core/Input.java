@@ -16,6 +16,7 @@
 package org.mini2Dx.core;
 
 import org.mini2Dx.core.input.GamePad;
+import org.mini2Dx.core.input.InputEventBuffer;
 import org.mini2Dx.core.input.nswitch.SwitchDualJoyConGamePad;
 import org.mini2Dx.core.input.nswitch.SwitchJoyConLGamePad;
 import org.mini2Dx.core.input.nswitch.SwitchJoyConRGamePad;
@@ -32,6 +33,22 @@ public interface Input {
      */
     public void setInputProcessor(InputProcessor inputProcessor);
 
+    /**
+     * Returns the {@link InputEventBuffer} that input events are queued in until the next update
+     * @return Null if input events are dispatched immediately, including when the backend does not support buffering
+     */
+    public InputEventBuffer getInputEventBuffer();
+
+    /**
+     * Sets the {@link InputEventBuffer} to queue input events in. Queued events are
+     * drained at the start of each update by {@link org.mini2Dx.core.game.GameContainer}.
+     *
+     * Backends that already poll input once per update may ignore the buffer and keep
+     * dispatching events immediately. Use {@link #getInputEventBuffer()} to check whether it was applied.
+     * @param inputEventBuffer Null to dispatch input events immediately
+     */
+    public void setInputEventBuffer(InputEventBuffer inputEventBuffer);
+
     /**
      * Sets on mobile and consoles of the on-screen keyboard should appear
      * @param visible True if the keyboard should appear
@@ -277,6 +277,50 @@ public abstract class PlayerData {
         }
     }
 
+    /**
+     * Appends contents to the end of a file in the player data location. Unlike {@link #writeBytes(String...)}
+     * the file is written in place rather than via a temporary file, so readers of append-only files
+     * should tolerate a partially written final record.
+     * Note: Ensure that {@link DataOutputStream#close()} is called when finished writing.
+     *
+     * @param filepath
+     *            The path to the file. This will be resolved as a path
+     *            within the game data location.
+     * @return A {@link DataOutputStream} to write to
+     * @throws PlayerDataException
+     *             Thrown if the game data location cannot be accessed or the
+     *             data cannot be written to the file.
+     */
+    public DataOutputStream appendBytes(String... filepath) throws PlayerDataException {
+        if (filepath.length == 0) {
+            throw new PlayerDataException("No file path specified");
+        }
+        try {
+            ensureDirectoryExistsForFile(filepath);
+            final FileHandle file = resolve(filepath);
+            return new GameDataOutputStream(file.write(true));
+        } catch (Exception e) {
+            throw new PlayerDataException(e);
+        }
+    }
+
+    /**
+     * Opens a {@link SaveSlot} stored in a directory within the player data location
+     *
+     * @param path
+     *            The path to the save slot directory. This will be resolved as a path
+     *            within the game data location.
+     * @return A new {@link SaveSlot} instance. Call {@link SaveSlot#load()} before reading from it.
+     * @throws PlayerDataException
+     *             Thrown if no path is specified
+     */
+    public SaveSlot openSaveSlot(String... path) throws PlayerDataException {
+        if (path.length == 0) {
+            throw new PlayerDataException("No path specified");
+        }
+        return new SaveSlot(this, path);
+    }
+
     /**
      * Reads the contents of a file in the player data location into a {@link String}
      *
@@ -0,0 +1,521 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core;
+
+import org.mini2Dx.core.exception.PlayerDataException;
+import org.mini2Dx.core.serialization.GameDataSerializable;
+import org.mini2Dx.gdx.utils.ObjectMap;
+import org.mini2Dx.gdx.utils.OrderedSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * An incremental save slot stored within the {@link PlayerData} location.
+ *
+ * A save slot is a directory containing a base snapshot of all objects plus an
+ * append-only log of changes keyed by object id. Only objects whose serialized
+ * form has changed since the last save are appended to the log on {@link #flush()}.
+ * Once the log grows past the compaction threshold, a new snapshot is written on a
+ * separate thread via {@link Mdx#executor} and the old logs are discarded.
+ *
+ * Note: Instances are not thread-safe and should only be accessed from the game thread.
+ * {@link #load()} waits for any background compaction to finish before reading the slot.
+ */
+public class SaveSlot {
+    private static final String LOGGING_TAG = SaveSlot.class.getSimpleName();
+
+    private static final String SNAPSHOT_FILENAME = "snapshot.dat";
+    private static final String LOG_FILENAME_PREFIX = "delta-";
+    private static final String LOG_FILENAME_SUFFIX = ".log";
+
+    private static final int SNAPSHOT_MAGIC = 0x4D445853;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final byte OPERATION_PUT = 1;
+    private static final byte OPERATION_REMOVE = 2;
+
+    /**
+     * The default log size (in bytes) at which the log is compacted into a new snapshot
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    private final PlayerData playerData;
+    private final String[] directory;
+    private final ObjectMap<String, byte[]> records = new ObjectMap<String, byte[]>();
+    private final OrderedSet<String> pendingIds = new OrderedSet<String>();
+    private final AtomicBoolean compacting = new AtomicBoolean(false);
+    private final Object compactionLock = new Object();
+    private final ByteArrayOutputStream serializationBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream serializationStream = new DataOutputStream(serializationBuffer);
+    private final CRC32 crc = new CRC32();
+
+    private long compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+    private long baseGeneration = 0;
+    private long generation = 0;
+    private long logSize = 0;
+
+    /**
+     * Constructor. Use {@link PlayerData#openSaveSlot(String...)} to create instances.
+     * @param playerData The {@link PlayerData} to store the slot in
+     * @param directory The path of the save slot directory within the player data location
+     */
+    SaveSlot(PlayerData playerData, String... directory) {
+        this.playerData = playerData;
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the latest state of this save slot by reading the base snapshot and replaying the delta logs.
+     * Any unsaved changes are discarded. If a compaction is in progress, this waits for it to complete
+     * so that the logs are not deleted while they are being read.
+     * @throws PlayerDataException Thrown if the save data could not be read
+     */
+    public void load() throws PlayerDataException {
+        synchronized (compactionLock) {
+            awaitCompaction();
+            loadFiles();
+        }
+    }
+
+    private void loadFiles() throws PlayerDataException {
+        records.clear();
+        pendingIds.clear();
+
+        baseGeneration = 0;
+        if (playerData.hasFile(path(SNAPSHOT_FILENAME))) {
+            baseGeneration = readSnapshot();
+        }
+
+        generation = baseGeneration;
+        logSize = 0;
+        boolean corrupted = false;
+        while (playerData.hasFile(logPath(generation))) {
+            if (!replayLog(generation)) {
+                corrupted = true;
+            }
+            if (!playerData.hasFile(logPath(generation + 1))) {
+                logSize = playerData.getFileHandle(logPath(generation)).length();
+                break;
+            }
+            generation++;
+        }
+
+        if (corrupted) {
+            Mdx.log.error(LOGGING_TAG, "Discarded partially written delta records in save slot " + Arrays.toString(directory));
+            compact();
+        }
+    }
+
+    /**
+     * Stores an object in this save slot. The object is only appended to the log
+     * on the next {@link #flush()} if its serialized form has changed.
+     * @param id The unique id of the object
+     * @param object The object to store
+     * @return True if the object differed from the previously stored version
+     * @throws PlayerDataException Thrown if the object could not be serialized
+     */
+    public boolean put(String id, GameDataSerializable object) throws PlayerDataException {
+        serializationBuffer.reset();
+        try {
+            object.writeData(serializationStream);
+            serializationStream.flush();
+        } catch (IOException e) {
+            throw new PlayerDataException(e);
+        }
+        return put(id, serializationBuffer.toByteArray());
+    }
+
+    /**
+     * Stores raw data in this save slot. The data is only appended to the log
+     * on the next {@link #flush()} if it has changed.
+     * @param id The unique id of the data
+     * @param data The data to store. This array should not be modified afterwards.
+     * @return True if the data differed from the previously stored version
+     */
+    public boolean put(String id, byte[] data) {
+        if (Arrays.equals(records.get(id), data)) {
+            return false;
+        }
+        records.put(id, data);
+        pendingIds.add(id);
+        return true;
+    }
+
+    /**
+     * Reads an object from this save slot
+     * @param id The unique id of the object
+     * @param result The object to deserialize the stored data into
+     * @return False if no data is stored for the id
+     * @throws PlayerDataException Thrown if the object could not be deserialized
+     */
+    public boolean read(String id, GameDataSerializable result) throws PlayerDataException {
+        final byte[] data = records.get(id);
+        if (data == null) {
+            return false;
+        }
+        try {
+            result.readData(new DataInputStream(new ByteArrayInputStream(data)));
+        } catch (IOException e) {
+            throw new PlayerDataException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the raw data stored in this save slot
+     * @param id The unique id of the data
+     * @return Null if no data is stored for the id
+     */
+    public byte[] get(String id) {
+        return records.get(id);
+    }
+
+    /**
+     * Removes an object from this save slot
+     * @param id The unique id of the object
+     * @return True if the object was stored in this save slot
+     */
+    public boolean remove(String id) {
+        if (records.remove(id) == null) {
+            return false;
+        }
+        pendingIds.add(id);
+        return true;
+    }
+
+    /**
+     * Returns if an object is stored in this save slot
+     * @param id The unique id of the object
+     * @return True if data is stored for the id
+     */
+    public boolean contains(String id) {
+        return records.containsKey(id);
+    }
+
+    /**
+     * Returns the ids of all objects in this save slot
+     * @return A new {@link ObjectMap.Keys} iterator
+     */
+    public ObjectMap.Keys<String> ids() {
+        return new ObjectMap.Keys<String>(records);
+    }
+
+    /**
+     * Appends all changes since the previous flush to the delta log. If the log exceeds the
+     * compaction threshold, a new snapshot is written in the background.
+     *
+     * If the log could not be fully written, the changes remain pending and subsequent
+     * flushes are appended to a new log file so that they never follow a partially written record.
+     * @return The amount of bytes appended to the log
+     * @throws PlayerDataException Thrown if the log could not be written to
+     */
+    public int flush() throws PlayerDataException {
+        if (pendingIds.size == 0) {
+            return 0;
+        }
+        final DataOutputStream outputStream = playerData.appendBytes(logPath(generation));
+        int bytesWritten = 0;
+        try {
+            for (String id : pendingIds) {
+                writeRecord(outputStream, id, records.get(id));
+            }
+            bytesWritten = outputStream.size();
+            outputStream.close();
+        } catch (IOException e) {
+            abandonLog(outputStream);
+            throw new PlayerDataException(e);
+        }
+        pendingIds.clear();
+        logSize += bytesWritten;
+
+        if (logSize >= compactionThreshold) {
+            compactAsync();
+        }
+        return bytesWritten;
+    }
+
+    /**
+     * Flushes pending changes and writes a new base snapshot on the current thread
+     * @throws PlayerDataException Thrown if the snapshot could not be written
+     */
+    public void compact() throws PlayerDataException {
+        flush();
+        final CompactionTask task = beginCompaction();
+        if (task == null) {
+            throw new PlayerDataException("Compaction already in progress");
+        }
+        task.writeSnapshot();
+    }
+
+    /**
+     * Flushes pending changes and writes a new base snapshot using {@link Mdx#executor}.
+     * Does nothing if a compaction is already in progress.
+     * @return False if a compaction was already in progress
+     * @throws PlayerDataException Thrown if pending changes could not be written
+     */
+    public boolean compactAsync() throws PlayerDataException {
+        if (compacting.get()) {
+            return false;
+        }
+        if (pendingIds.size > 0) {
+            flush();
+        }
+        final CompactionTask task = beginCompaction();
+        if (task == null) {
+            return false;
+        }
+        if (Mdx.executor == null) {
+            task.run();
+        } else {
+            Mdx.executor.execute(task);
+        }
+        return true;
+    }
+
+    /**
+     * Returns if a compaction is currently being written
+     * @return True if a new snapshot is being written
+     */
+    public boolean isCompacting() {
+        return compacting.get();
+    }
+
+    /**
+     * Returns the current size of the delta log
+     * @return The size in bytes
+     */
+    public long getLogSize() {
+        return logSize;
+    }
+
+    /**
+     * Returns the log size at which the log is compacted into a new snapshot
+     * @return The threshold in bytes
+     */
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the log size at which the log is compacted into a new snapshot
+     * @param compactionThreshold The threshold in bytes
+     */
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    private void abandonLog(DataOutputStream outputStream) throws PlayerDataException {
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            Mdx.log.error(LOGGING_TAG, e.getMessage(), e);
+        }
+        if (!playerData.hasFile(logPath(generation))) {
+            return;
+        }
+        generation++;
+        logSize = 0;
+    }
+
+    private void awaitCompaction() {
+        boolean interrupted = false;
+        while (compacting.get()) {
+            try {
+                compactionLock.wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompactionTask beginCompaction() {
+        if (!compacting.compareAndSet(false, true)) {
+            return null;
+        }
+        final CompactionTask task = new CompactionTask(new ObjectMap<String, byte[]>(records), baseGeneration, generation + 1);
+        baseGeneration = generation + 1;
+        generation = baseGeneration;
+        logSize = 0;
+        return task;
+    }
+
+    private long readSnapshot() throws PlayerDataException {
+        final DataInputStream inputStream = playerData.readBytes(path(SNAPSHOT_FILENAME));
+        try {
+            if (inputStream.readInt() != SNAPSHOT_MAGIC) {
+                throw new PlayerDataException("Invalid save slot snapshot in " + Arrays.toString(directory));
+            }
+            final int version = inputStream.readInt();
+            if (version > SNAPSHOT_VERSION) {
+                throw new PlayerDataException("Unsupported save slot snapshot version " + version);
+            }
+            final long result = inputStream.readLong();
+            final int totalRecords = inputStream.readInt();
+            for (int i = 0; i < totalRecords; i++) {
+                final String id = inputStream.readUTF();
+                final byte[] data = new byte[inputStream.readInt()];
+                inputStream.readFully(data);
+                records.put(id, data);
+            }
+            inputStream.close();
+            return result;
+        } catch (IOException e) {
+            throw new PlayerDataException(e);
+        }
+    }
+
+    private boolean replayLog(long generation) throws PlayerDataException {
+        final DataInputStream inputStream = playerData.readBytes(logPath(generation));
+        try {
+            while (true) {
+                final int operation = inputStream.read();
+                if (operation < 0) {
+                    return true;
+                }
+                final String id = inputStream.readUTF();
+                final int length = inputStream.readInt();
+                if (length < 0) {
+                    return false;
+                }
+                final byte[] data = new byte[length];
+                inputStream.readFully(data);
+                final long checksum = inputStream.readLong();
+
+                if (checksum != checksum(operation, id, data)) {
+                    return false;
+                }
+
+                switch (operation) {
+                case OPERATION_PUT:
+                    records.put(id, data);
+                    break;
+                case OPERATION_REMOVE:
+                    records.remove(id);
+                    break;
+                default:
+                    return false;
+                }
+            }
+        } catch (EOFException e) {
+            return false;
+        } catch (UTFDataFormatException e) {
+            return false;
+        } catch (IOException e) {
+            throw new PlayerDataException(e);
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException e) {
+                Mdx.log.error(LOGGING_TAG, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void writeRecord(DataOutputStream outputStream, String id, byte[] data) throws IOException {
+        final byte operation = data == null ? OPERATION_REMOVE : OPERATION_PUT;
+        if (data == null) {
+            data = new byte[0];
+        }
+        final long checksum = checksum(operation, id, data);
+
+        outputStream.writeByte(operation);
+        outputStream.writeUTF(id);
+        outputStream.writeInt(data.length);
+        outputStream.write(data);
+        outputStream.writeLong(checksum);
+    }
+
+    private long checksum(int operation, String id, byte[] data) {
+        crc.reset();
+        crc.update(operation);
+        crc.update(id.getBytes(StandardCharsets.UTF_8));
+        crc.update(data, 0, data.length);
+        return crc.getValue();
+    }
+
+    private String[] path(String filename) {
+        final String[] result = Arrays.copyOf(directory, directory.length + 1);
+        result[directory.length] = filename;
+        return result;
+    }
+
+    private String[] logPath(long generation) {
+        return path(LOG_FILENAME_PREFIX + generation + LOG_FILENAME_SUFFIX);
+    }
+
+    private class CompactionTask implements Runnable {
+        private final ObjectMap<String, byte[]> snapshot;
+        private final long previousBaseGeneration;
+        private final long snapshotGeneration;
+
+        public CompactionTask(ObjectMap<String, byte[]> snapshot, long previousBaseGeneration, long snapshotGeneration) {
+            this.snapshot = snapshot;
+            this.previousBaseGeneration = previousBaseGeneration;
+            this.snapshotGeneration = snapshotGeneration;
+        }
+
+        @Override
+        public void run() {
+            try {
+                writeSnapshot();
+            } catch (PlayerDataException e) {
+                Mdx.log.error(LOGGING_TAG, e.getMessage(), e);
+            }
+        }
+
+        public void writeSnapshot() throws PlayerDataException {
+            synchronized (compactionLock) {
+                try {
+                    final DataOutputStream outputStream = playerData.writeBytes(path(SNAPSHOT_FILENAME));
+                    outputStream.writeInt(SNAPSHOT_MAGIC);
+                    outputStream.writeInt(SNAPSHOT_VERSION);
+                    outputStream.writeLong(snapshotGeneration);
+                    outputStream.writeInt(snapshot.size);
+                    for (ObjectMap.Entry<String, byte[]> entry : snapshot.entries()) {
+                        outputStream.writeUTF(entry.key);
+                        outputStream.writeInt(entry.value.length);
+                        outputStream.write(entry.value);
+                    }
+                    outputStream.close();
+
+                    for (long i = previousBaseGeneration; i < snapshotGeneration; i++) {
+                        if (playerData.hasFile(logPath(i))) {
+                            playerData.delete(logPath(i));
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new PlayerDataException(e);
+                } finally {
+                    compacting.set(false);
+                    compactionLock.notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -79,6 +79,7 @@ public class AssetLoadingTask<T> implements Runnable, Comparable<AssetLoadingTas
 
 		if(!asyncCompleted) {
 			if(asyncFuture == null) {
+				prepareAsyncLoadingCache(assetManager);
 				asyncFuture = Mdx.executor.submit((Runnable) this);
 			}
 			asyncCompleted = asyncFuture.isFinished();
@@ -90,6 +91,17 @@ public class AssetLoadingTask<T> implements Runnable, Comparable<AssetLoadingTas
 		return true;
 	}
 
+	private void prepareAsyncLoadingCache(AssetManager assetManager) {
+		if(dependencies != null) {
+			for(int i = 0; i < dependencies.size; i++) {
+				final AssetDescriptor dependency = dependencies.get(i);
+				asyncLoadingCache.setDependency(dependency.getFilePath(),
+						assetManager.get(dependency.getFilePath(), dependency.getClazz()));
+			}
+		}
+		asyncLoadingCache.setTexturePacker(assetManager.getTexturePacker());
+	}
+
 	@Override
 	public void run() {
 		try {
@@ -25,6 +25,7 @@ import org.mini2Dx.core.graphics.Pixmap;
 import org.mini2Dx.core.graphics.Shader;
 import org.mini2Dx.core.graphics.Texture;
 import org.mini2Dx.core.graphics.TextureAtlas;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.Disposable;
 import org.mini2Dx.gdx.utils.ObjectMap;
@@ -60,6 +61,8 @@ public class AssetManager implements Disposable {
 	private final Array<AssetDescriptor> loadingQueue = new Array<AssetDescriptor>(false, 32);
 	private final Array<AssetLoadingTask> loadingTasks = new Array<AssetLoadingTask>(false, 32);
 
+	private RuntimeTexturePacker texturePacker;
+
 	public AssetManager(FileHandleResolver fileHandleResolver) {
 		this(fileHandleResolver, true);
 	}
@@ -171,6 +174,24 @@ public class AssetManager implements Disposable {
 		assetLoaders.put(clazz, assetLoader);
 	}
 
+	/**
+	 * Returns the {@link RuntimeTexturePacker} that loaders may pack images into
+	 * @return Null by default
+	 */
+	public RuntimeTexturePacker getTexturePacker() {
+		return texturePacker;
+	}
+
+	/**
+	 * Opts in to packing images into shared texture pages. Loaders that support this
+	 * (e.g. tiled tileset images) will pack their images into the {@link RuntimeTexturePacker}
+	 * instead of creating a separate {@link Texture}.
+	 * @param texturePacker The {@link RuntimeTexturePacker} to use, null to disable packing
+	 */
+	public void setTexturePacker(RuntimeTexturePacker texturePacker) {
+		this.texturePacker = texturePacker;
+	}
+
 	/**
 	 * Clears all {@link AssetLoader}s so that new ones can be set
 	 */
@@ -15,10 +15,13 @@
  ******************************************************************************/
 package org.mini2Dx.core.assets;
 
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.ObjectMap;
 
 public class AsyncLoadingCache {
 	private final ObjectMap<String, Object> cache = new ObjectMap<String, Object>(7);
+	private final ObjectMap<String, Object> dependencies = new ObjectMap<String, Object>(7);
+	private RuntimeTexturePacker texturePacker;
 
 	public <T> T getCache(String cacheKey, Class<T> clazz) {
 		return (T) cache.get(cacheKey);
@@ -36,7 +39,37 @@ public class AsyncLoadingCache {
 		return cache.containsKey(cacheKey);
 	}
 
+	/**
+	 * Returns a loaded dependency. Dependencies are copied from the {@link AssetManager} before
+	 * {@link AsyncAssetLoader#loadOnAsyncThread(AssetDescriptor, AsyncLoadingCache)} is called
+	 * since the {@link AssetManager} itself must only be accessed on the game thread.
+	 * @param filePath The file path of the dependency
+	 * @param clazz The class of the dependency
+	 * @return Null if the dependency was not declared by the loader
+	 */
+	public <T> T getDependency(String filePath, Class<T> clazz) {
+		return (T) dependencies.get(filePath);
+	}
+
+	public void setDependency(String filePath, Object value) {
+		dependencies.put(filePath, value);
+	}
+
+	/**
+	 * Returns the {@link RuntimeTexturePacker} of the {@link AssetManager} for use on the async thread
+	 * @return Null if the {@link AssetManager} does not pack textures
+	 */
+	public RuntimeTexturePacker getTexturePacker() {
+		return texturePacker;
+	}
+
+	public void setTexturePacker(RuntimeTexturePacker texturePacker) {
+		this.texturePacker = texturePacker;
+	}
+
 	public void clearCache() {
 		cache.clear();
+		dependencies.clear();
+		texturePacker = null;
 	}
 }
@@ -15,8 +15,8 @@
  ******************************************************************************/
 package org.mini2Dx.core.collision;
 
-import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.geom.*;
+import org.mini2Dx.core.util.InterpolationBuffer;
 import org.mini2Dx.core.util.InterpolationTracker;
 import org.mini2Dx.gdx.math.MathUtils;
 import org.mini2Dx.gdx.utils.Array;
@@ -35,11 +35,8 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 	private final ReentrantReadWriteLock positionChangeListenerLock;
 	private final ReentrantReadWriteLock sizeChangeListenerLock;
 
-	private final Rectangle previousRectangle;
-	private final Rectangle renderRectangle;
-
-	private int renderX, renderY, renderWidth, renderHeight;
-	private boolean interpolateRequired = false;
+	private final InterpolationBuffer interpolationBuffer;
+	private int interpolationSlot;
 
 	public CollisionBox() {
 		this(0f, 0f, 1f, 1f);
@@ -57,35 +54,36 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 		super(x, y, width, height);
 		this.id = id;
 
+		interpolationBuffer = InterpolationTracker.getBuffer();
+		interpolationSlot = interpolationBuffer.allocate(x, y, width, height);
+
 		positionChangeListenerLock = new ReentrantReadWriteLock();
 		sizeChangeListenerLock = new ReentrantReadWriteLock();
 		addPostionChangeListener(this);
 		addSizeChangeListener(this);
+	}
 
-		InterpolationTracker.register(this);
-
-		previousRectangle = Mdx.geom.rectangle();
-		previousRectangle.set(x, y, width, height);
-
-		renderRectangle = new Rectangle();
-		renderRectangle.set(x, y, width, height);
-
-		storeRenderCoordinates();
+	private void storeCurrentCoordinates() {
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.update(interpolationSlot, getX(), getY(), getWidth(), getHeight());
 	}
 
-	private void storeRenderCoordinates() {
-		renderX = MathUtils.round(renderRectangle.getX());
-		renderY = MathUtils.round(renderRectangle.getY());
-		renderWidth = MathUtils.round(renderRectangle.getWidth());
-		renderHeight = MathUtils.round(renderRectangle.getHeight());
+	private void forceRenderCoordinates() {
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.forceTo(interpolationSlot, getX(), getY(), getWidth(), getHeight());
 	}
 
 	@Override
 	public void dispose() {
-		InterpolationTracker.deregister(this);
+		if(interpolationSlot >= 0) {
+			interpolationBuffer.release(interpolationSlot);
+			interpolationSlot = -1;
+		}
 		super.dispose();
-		previousRectangle.dispose();
-		renderRectangle.dispose();
 	}
 
 	@Override
@@ -96,10 +94,7 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 	@Override
 	public void forceTo(float x, float y, float width, float height) {
 		super.set(x, y, width, height);
-		previousRectangle.set(x, y, width, height);
-		renderRectangle.set(previousRectangle);
-		storeRenderCoordinates();
-		interpolateRequired = false;
+		forceRenderCoordinates();
 	}
 
 	/**
@@ -111,9 +106,7 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 	 */
 	public void forceToWidth(float width) {
 		super.setWidth(width);
-		previousRectangle.set(this);
-		renderRectangle.set(this);
-		storeRenderCoordinates();
+		forceRenderCoordinates();
 		notifySizeChangeListeners();
 	}
 
@@ -126,57 +119,56 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 	 */
 	public void forceToHeight(float height) {
 		super.setHeight(height);
-		previousRectangle.set(this);
-		renderRectangle.set(this);
-		storeRenderCoordinates();
+		forceRenderCoordinates();
 		notifySizeChangeListeners();
 	}
 
 	@Override
 	public int getRenderWidth() {
-		return renderWidth;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getWidth());
+		}
+		return interpolationBuffer.getRenderWidth(interpolationSlot);
 	}
 
 	@Override
 	public int getRenderHeight() {
-		return renderHeight;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getHeight());
+		}
+		return interpolationBuffer.getRenderHeight(interpolationSlot);
 	}
 
 	@Override
 	public void preUpdate() {
-		previousRectangle.set(this);
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.preUpdate(interpolationSlot);
 	}
 
 	@Override
 	public void interpolate(float alpha) {
-		if(!interpolateRequired) {
-			return;
-		}
-		renderRectangle.set(previousRectangle.lerp(this, alpha));
-		storeRenderCoordinates();
-		if(renderX != MathUtils.round(this.getX())) {
-			return;
-		}
-		if(renderY != MathUtils.round(this.getY())) {
+		if(interpolationSlot < 0) {
 			return;
 		}
-		if(renderWidth != MathUtils.round(this.getWidth())) {
-			return;
-		}
-		if(renderHeight != MathUtils.round(this.getHeight())) {
-			return;
-		}
-		interpolateRequired = false;
+		interpolationBuffer.interpolate(interpolationSlot, alpha);
 	}
 
 	@Override
 	public int getRenderX() {
-		return renderX;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getX());
+		}
+		return interpolationBuffer.getRenderX(interpolationSlot);
 	}
 
 	@Override
 	public int getRenderY() {
-		return renderY;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getY());
+		}
+		return interpolationBuffer.getRenderY(interpolationSlot);
 	}
 
 	@Override
@@ -189,7 +181,7 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 		if(moved.getId() != id) {
 			return;
 		}
-		interpolateRequired = true;
+		storeCurrentCoordinates();
 	}
 
 	@Override
@@ -197,7 +189,7 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 		if(changed.getId() != id) {
 			return;
 		}
-		interpolateRequired = true;
+		storeCurrentCoordinates();
 	}
 
 	@Override
@@ -253,7 +245,7 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 	}
 
 	public boolean isInterpolateRequired() {
-		return interpolateRequired;
+		return interpolationSlot >= 0 && interpolationBuffer.isInterpolateRequired(interpolationSlot);
 	}
 
 	@Override
@@ -273,6 +265,6 @@ public class CollisionBox extends Rectangle implements CollisionArea,
 	@Override
 	public String toString() {
 		return "CollisionBox [id=" + id + ", x=" + getX() + ", y=" + getY() + ", width="
-				+ getWidth() + ", height=" + getHeight() + ", getRotation()=" + getRotation() + ", renderRectangle=" + renderRectangle + "]";
+				+ getWidth() + ", height=" + getHeight() + ", getRotation()=" + getRotation() + ", renderX=" + getRenderX() + ", renderY=" + getRenderY() + "]";
 	}
 }
@@ -15,8 +15,8 @@
  ******************************************************************************/
 package org.mini2Dx.core.collision;
 
-import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.geom.*;
+import org.mini2Dx.core.util.InterpolationBuffer;
 import org.mini2Dx.core.util.InterpolationTracker;
 import org.mini2Dx.gdx.math.MathUtils;
 import org.mini2Dx.gdx.utils.Array;
@@ -35,11 +35,8 @@ public class CollisionCircle extends Circle implements CollisionArea,
 	private final ReentrantReadWriteLock positionChangeListenerLock;
 	private final ReentrantReadWriteLock sizeChangeListenerLock;
 
-	private final Circle previousCircle;
-	private final Circle renderCircle;
-
-	private int renderX, renderY, renderRadius;
-	private boolean interpolateRequired = false;
+	private final InterpolationBuffer interpolationBuffer;
+	private int interpolationSlot;
 
 	public CollisionCircle(float radius) {
 		this(CollisionIdSequence.nextId(), radius);
@@ -57,84 +54,57 @@ public class CollisionCircle extends Circle implements CollisionArea,
 		super(centerX, centerY, radius);
 		this.id = id;
 
+		interpolationBuffer = InterpolationTracker.getBuffer();
+		interpolationSlot = interpolationBuffer.allocate(centerX, centerY, radius, 0f);
+
 		positionChangeListenerLock = new ReentrantReadWriteLock();
 		sizeChangeListenerLock = new ReentrantReadWriteLock();
 		addPostionChangeListener(this);
 		addSizeChangeListener(this);
-
-		InterpolationTracker.register(this);
-
-		previousCircle = Mdx.geom.circle();
-		previousCircle.setXY(centerX, centerY);
-		previousCircle.setRadius(radius);
-
-		renderCircle = new Circle(centerX, centerY, radius);
-		renderCircle.setXY(centerX, centerY);
-		renderCircle.setRadius(radius);
-
-		storeRenderCoordinates();
-	}
-
-	private void storeRenderCoordinates() {
-		renderX = MathUtils.round(renderCircle.getX());
-		renderY = MathUtils.round(renderCircle.getY());
-		renderRadius = MathUtils.round(renderCircle.getRadius());
 	}
 
 	@Override
 	public void dispose() {
-		InterpolationTracker.deregister(this);
+		if(interpolationSlot >= 0) {
+			interpolationBuffer.release(interpolationSlot);
+			interpolationSlot = -1;
+		}
 		super.dispose();
-		previousCircle.dispose();
-		renderCircle.dispose();
 	}
 
 	@Override
 	public void preUpdate() {
-		previousCircle.set(this);
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.preUpdate(interpolationSlot);
 	}
 
 	@Override
 	public void interpolate(float alpha) {
-		if(!interpolateRequired) {
+		if(interpolationSlot < 0) {
 			return;
 		}
-		renderCircle.set(previousCircle.lerp(this, alpha));
-		storeRenderCoordinates();
-		if(renderX != MathUtils.round(getX())) {
-			return;
-		}
-		if(renderY != MathUtils.round(getY())) {
-			return;
-		}
-		if(renderRadius != MathUtils.round(getRadius())) {
-			return;
-		}
-		interpolateRequired = false;
+		interpolationBuffer.interpolate(interpolationSlot, alpha);
 	}
 
 	@Override
 	public void forceTo(float x, float y, float width, float height) {
 		super.setXY(x, y);
 		super.setRadius(width * 0.5f);
-
-		previousCircle.setXY(x, y);
-		previousCircle.setRadius(width * 0.5f);
-
-		renderCircle.setXY(x, y);
-		renderCircle.setRadius(width * 0.5f);
-
-		storeRenderCoordinates();
-		interpolateRequired = false;
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.forceTo(interpolationSlot, getX(), getY(), getRadius(), 0f);
 	}
 
 	@Override
 	public void forceTo(float x, float y) {
 		super.setXY(x, y);
-		previousCircle.setXY(x, y);
-		renderCircle.setXY(x, y);
-		storeRenderCoordinates();
-		interpolateRequired = false;
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.forceTo(interpolationSlot, getX(), getY(), getRadius(), 0f);
 	}
 
 	@Override
@@ -144,42 +114,51 @@ public class CollisionCircle extends Circle implements CollisionArea,
 
 	@Override
 	public int getRenderX() {
-		return renderX;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getX());
+		}
+		return interpolationBuffer.getRenderX(interpolationSlot);
 	}
 
 	@Override
 	public int getRenderY() {
-		return renderY;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getY());
+		}
+		return interpolationBuffer.getRenderY(interpolationSlot);
 	}
 
 	@Override
 	public int getRenderWidth() {
-		return renderRadius * 2;
+		return getRenderRadius() * 2;
 	}
 
 	@Override
 	public int getRenderHeight() {
-		return renderRadius * 2;
+		return getRenderRadius() * 2;
 	}
 
 	public int getRenderRadius() {
-		return renderRadius;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getRadius());
+		}
+		return interpolationBuffer.getRenderWidth(interpolationSlot);
 	}
 
 	@Override
 	public void positionChanged(CollisionCircle moved) {
-		if(moved.getId() != id) {
+		if(moved.getId() != id || interpolationSlot < 0) {
 			return;
 		}
-		interpolateRequired = true;
+		interpolationBuffer.update(interpolationSlot, getX(), getY(), getRadius(), 0f);
 	}
 
 	@Override
 	public void sizeChanged(CollisionCircle changed) {
-		if(changed.getId() != id) {
+		if(changed.getId() != id || interpolationSlot < 0) {
 			return;
 		}
-		interpolateRequired = true;
+		interpolationBuffer.update(interpolationSlot, getX(), getY(), getRadius(), 0f);
 	}
 
 	@Override
@@ -251,6 +230,6 @@ public class CollisionCircle extends Circle implements CollisionArea,
 	@Override
 	public String toString() {
 		return "CollisionCircle [id=" + id + ", x=" + getX() + ", y=" + getY() + ", radius="
-				+ getRadius() + ", renderCircle=" + renderCircle + "]";
+				+ getRadius() + ", renderX=" + getRenderX() + ", renderY=" + getRenderY() + "]";
 	}
 }
@@ -15,11 +15,11 @@
  ******************************************************************************/
 package org.mini2Dx.core.collision;
 
-import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.geom.Point;
 import org.mini2Dx.core.geom.PositionChangeListener;
 import org.mini2Dx.core.geom.Positionable;
 import org.mini2Dx.core.geom.Shape;
+import org.mini2Dx.core.util.InterpolationBuffer;
 import org.mini2Dx.core.util.InterpolationTracker;
 import org.mini2Dx.gdx.math.MathUtils;
 import org.mini2Dx.gdx.utils.Array;
@@ -36,11 +36,8 @@ public class CollisionPoint extends Point implements CollisionObject, PositionCh
 	private final int id;
 	private final ReentrantReadWriteLock positionChangeListenerLock;
 
-	private final Point previousPosition;
-	private final Point renderPosition;
-
-	private int renderX, renderY;
-	private boolean interpolateRequired = false;
+	private final InterpolationBuffer interpolationBuffer;
+	private int interpolationSlot;
 
 	public CollisionPoint() {
 		this(0f, 0f);
@@ -58,71 +55,65 @@ public class CollisionPoint extends Point implements CollisionObject, PositionCh
 		super(x, y);
 		this.id = id;
 
+		interpolationBuffer = InterpolationTracker.getBuffer();
+		interpolationSlot = interpolationBuffer.allocate(x, y, 0f, 0f);
+
 		positionChangeListenerLock = new ReentrantReadWriteLock();
 		addPostionChangeListener(this);
-
-		InterpolationTracker.register(this);
-
-		previousPosition = Mdx.geom.point();
-		previousPosition.set(x, y);
-
-		renderPosition = Mdx.geom.point();
-		renderPosition.set(x, y);
-
-		storeRenderCoordinates();
-	}
-
-	private void storeRenderCoordinates() {
-		renderX = MathUtils.round(renderPosition.getX());
-		renderY = MathUtils.round(renderPosition.getY());
 	}
 
 	@Override
 	public void dispose() {
-		InterpolationTracker.deregister(this);
+		if(interpolationSlot >= 0) {
+			interpolationBuffer.release(interpolationSlot);
+			interpolationSlot = -1;
+		}
 		super.dispose();
-		previousPosition.dispose();
-		renderPosition.dispose();
 	}
 
 	@Override
 	public void preUpdate() {
-		previousPosition.set(this);
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.preUpdate(interpolationSlot);
 	}
 
 	@Override
 	public void interpolate(float alpha) {
-		if(!interpolateRequired) {
+		if(interpolationSlot < 0) {
 			return;
 		}
-		renderPosition.set(previousPosition.lerp(this, alpha));
-		storeRenderCoordinates();
-		if(renderX != MathUtils.round(x)) {
-			return;
-		}
-		if(renderY != MathUtils.round(y)) {
-			return;
-		}
-		interpolateRequired = false;
+		interpolationBuffer.interpolate(interpolationSlot, alpha);
 	}
 
 	@Override
 	public void forceTo(float x, float y) {
 		super.set(x, y);
-		previousPosition.set(x, y);
-		renderPosition.set(x, y);
-		storeRenderCoordinates();
-		interpolateRequired = false;
+		if(interpolationSlot < 0) {
+			return;
+		}
+		interpolationBuffer.forceTo(interpolationSlot, x, y, 0f, 0f);
 	}
 
 	@Override
 	public int getRenderX() {
-		return renderX;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getX());
+		}
+		return interpolationBuffer.getRenderX(interpolationSlot);
 	}
 
 	@Override
 	public int getRenderY() {
-		return renderY;
+		if(interpolationSlot < 0) {
+			return MathUtils.round(getY());
+		}
+		return interpolationBuffer.getRenderY(interpolationSlot);
+	}
+
+	public boolean isInterpolateRequired() {
+		return interpolationSlot >= 0 && interpolationBuffer.isInterpolateRequired(interpolationSlot);
 	}
 
 	@Override
@@ -132,10 +123,10 @@ public class CollisionPoint extends Point implements CollisionObject, PositionCh
 
 	@Override
 	public void positionChanged(CollisionPoint moved) {
-		if(moved.getId() != id) {
+		if(moved.getId() != id || interpolationSlot < 0) {
 			return;
 		}
-		interpolateRequired = true;
+		interpolationBuffer.update(interpolationSlot, x, y, 0f, 0f);
 	}
 
 	@Override
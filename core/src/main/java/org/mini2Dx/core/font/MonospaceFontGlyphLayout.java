@@ -19,18 +19,26 @@ import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.graphics.Color;
 import org.mini2Dx.core.util.Align;
 import org.mini2Dx.gdx.math.MathUtils;
-import org.mini2Dx.gdx.utils.Array;
 
 /**
- *
+ * A {@link FontGlyphLayout} for {@link MonospaceGameFont} that stores glyphs in a {@link MonospaceGlyphBuffer}.
+ * Setting the same text and parameters as the previous layout skips re-calculating glyph positions.
  */
 public class MonospaceFontGlyphLayout implements FontGlyphLayout {
-	private final Array<MonospaceGlyph> glyphs = new Array<MonospaceGlyph>();
+	private final MonospaceGlyphBuffer glyphs = new MonospaceGlyphBuffer();
 	private final MonospaceGameFont monospaceFont;
 	private final MonospaceGameFont.FontParameters fontParameters;
 	private final Color black = Mdx.graphics.newColor(0f, 0f, 0f, 1f);
+	private final StringBuilder layoutText = new StringBuilder();
 
 	private float maxX, maxY;
+	private int glyphColor;
+
+	private boolean layoutValid = false;
+	private int layoutHash;
+	private int layoutColor, layoutHalign;
+	private float layoutTargetWidth;
+	private boolean layoutWrap;
 
 	public MonospaceFontGlyphLayout(MonospaceGameFont monospaceFont) {
 		super();
@@ -45,36 +53,42 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 
 	@Override
 	public void setText(CharSequence str, Color color, float targetWidth, int halign, boolean wrap) {
+		final int rgba8888 = color.rgba8888();
+		final int hash = hashLayout(str, rgba8888, targetWidth, halign, wrap);
+		if(isLayoutOf(hash, str, rgba8888, targetWidth, halign, wrap)) {
+			return;
+		}
+		storeLayoutKey(hash, str, rgba8888, targetWidth, halign, wrap);
+
 		maxX = -1f;
 		maxY = -1f;
+		glyphColor = rgba8888;
+
+		glyphs.setSize(str.length());
+		for(int i = 0; i < str.length(); i++) {
+			glyphs.set(i, str.charAt(i), 0f, 0f, rgba8888, -1);
+		}
 
 		switch(halign) {
 		default:
 		case Align.LEFT:
-			setTextLeftAlign(str, color, targetWidth, wrap);
+			setTextLeftAlign(str, targetWidth, wrap);
 			break;
 		case Align.RIGHT:
-			setTextRightAlign(str, color, targetWidth, wrap);
+			setTextRightAlign(str, targetWidth, wrap);
 			break;
 		case Align.CENTER:
-			setTextCenterAlign(str, color, targetWidth, wrap);
+			setTextCenterAlign(str, targetWidth, wrap);
 			break;
 		}
 
-		if(glyphs.size > str.length()) {
-			for(int i = glyphs.size - 1; i >= str.length(); i--) {
-				final MonospaceGlyph glyph = glyphs.removeIndex(i);
-				glyph.release();
-			}
-		}
-
-		for(int i = 0; i < glyphs.size; i++) {
-			final MonospaceGlyph glyph = getGlyph(i);
-			if(glyph.glyphChar == '\n' || glyph.glyphChar == '\r') {
+		for(int i = 0; i < glyphs.getSize(); i++) {
+			final char c = glyphs.getChar(i);
+			if(c == '\n' || c == '\r') {
 				continue;
 			}
-			maxX = Math.max(maxX, glyph.x + fontParameters.characterWidth);
-			maxY = Math.max(maxY, glyph.y + fontParameters.lineHeight);
+			maxX = Math.max(maxX, glyphs.getX(i) + fontParameters.characterWidth);
+			maxY = Math.max(maxY, glyphs.getY(i) + fontParameters.lineHeight);
 		}
 
 		if(halign == Align.CENTER && targetWidth >= 0f) {
@@ -82,7 +96,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		}
 	}
 
-	private void setTextLeftAlign(CharSequence str, Color color, float targetWidth, boolean wrap) {
+	private void setTextLeftAlign(CharSequence str, float targetWidth, boolean wrap) {
 		final int estimateMaxCharsPerLine;
 		if(targetWidth < 0f) {
 			targetWidth = Float.MAX_VALUE;
@@ -97,12 +111,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		for(int i = 0; i < str.length();) {
 			final char startChar = str.charAt(i);
 			if(startChar == '\n' || startChar == '\r' || Character.isWhitespace(startChar)) {
-				final MonospaceGlyph glyph = getGlyph(i);
-				glyph.color.set(color);
-				glyph.glyphChar = startChar;
-				glyph.x = -1f;
-				glyph.y = -1f;
-				glyph.textureRegion = null;
+				glyphs.set(i, startChar, -1f, -1f, glyphColor, -1);
 				i++;
 				continue;
 			}
@@ -112,12 +121,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 			for(int j = i; j < i + totalChars && j < str.length(); j++) {
 				final char c = str.charAt(j);
 
-				final MonospaceGlyph glyph = getGlyph(j);
-				glyph.color.set(color);
-				glyph.glyphChar = c;
-				glyph.x = xOffset;
-				glyph.y = yOffset;
-				glyph.textureRegion = monospaceFont.getTextureRegion(c);
+				glyphs.set(j, c, xOffset, yOffset, glyphColor, monospaceFont.getRegionIndex(c));
 
 				xOffset += fontParameters.characterWidth + fontParameters.spacing;
 			}
@@ -131,7 +135,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		}
 	}
 
-	private void setTextRightAlign(CharSequence str, Color color, float targetWidth, boolean wrap) {
+	private void setTextRightAlign(CharSequence str, float targetWidth, boolean wrap) {
 		final int charactersPerLine;
 
 		if(targetWidth < 0f) {
@@ -164,12 +168,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		for(int i = 0; i < str.length();) {
 			final char startChar = str.charAt(i);
 			if(startChar == '\n' || startChar == '\r' || Character.isWhitespace(startChar)) {
-				final MonospaceGlyph glyph = getGlyph(i);
-				glyph.color.set(color);
-				glyph.glyphChar = startChar;
-				glyph.x = -1f;
-				glyph.y = -1f;
-				glyph.textureRegion = null;
+				glyphs.set(i, startChar, -1f, -1f, glyphColor, -1);
 				i++;
 				continue;
 			}
@@ -178,12 +177,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 
 			for(int j = i + totalChars - 1; j >= i; j--) {
 				final char c = str.charAt(j);
-				final MonospaceGlyph glyph = getGlyph(j);
-				glyph.x = xOffset;
-				glyph.y = yOffset;
-				glyph.glyphChar = c;
-				glyph.color.set(color);
-				glyph.textureRegion = monospaceFont.getTextureRegion(c);
+				glyphs.set(j, c, xOffset, yOffset, glyphColor, monospaceFont.getRegionIndex(c));
 
 				xOffset -= fontParameters.characterWidth + fontParameters.spacing;
 			}
@@ -196,7 +190,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		}
 	}
 
-	private void setTextCenterAlign(CharSequence str, Color color, float targetWidth, boolean wrap) {
+	private void setTextCenterAlign(CharSequence str, float targetWidth, boolean wrap) {
 		final int charactersPerLine;
 
 		if(targetWidth < 0f) {
@@ -228,12 +222,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		for(int i = 0; i < str.length();) {
 			final char startChar = str.charAt(i);
 			if(startChar == '\n' || startChar == '\r' || Character.isWhitespace(startChar)) {
-				final MonospaceGlyph glyph = getGlyph(i);
-				glyph.color.set(color);
-				glyph.glyphChar = startChar;
-				glyph.x = -1f;
-				glyph.y = -1f;
-				glyph.textureRegion = null;
+				glyphs.set(i, startChar, -1f, -1f, glyphColor, -1);
 				i++;
 				continue;
 			}
@@ -245,12 +234,7 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 
 			for(int j = i; j < i + totalChars; j++) {
 				final char c = str.charAt(j);
-				final MonospaceGlyph glyph = getGlyph(j);
-				glyph.x = xOffset;
-				glyph.y = yOffset;
-				glyph.glyphChar = c;
-				glyph.color.set(color);
-				glyph.textureRegion = monospaceFont.getTextureRegion(c);
+				glyphs.set(j, c, xOffset, yOffset, glyphColor, monospaceFont.getRegionIndex(c));
 
 				xOffset += fontParameters.characterWidth + fontParameters.spacing;
 			}
@@ -303,12 +287,52 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		return Math.min(estimate, str.length() - from);
 	}
 
+	private int hashLayout(CharSequence str, int rgba8888, float targetWidth, int halign, boolean wrap) {
+		int result = 1;
+		for(int i = 0; i < str.length(); i++) {
+			result = (31 * result) + str.charAt(i);
+		}
+		result = (31 * result) + rgba8888;
+		result = (31 * result) + Float.floatToIntBits(targetWidth);
+		result = (31 * result) + halign;
+		result = (31 * result) + (wrap ? 1231 : 1237);
+		return result;
+	}
+
+	private boolean isLayoutOf(int hash, CharSequence str, int rgba8888, float targetWidth, int halign, boolean wrap) {
+		if(!layoutValid || layoutHash != hash) {
+			return false;
+		}
+		if(layoutColor != rgba8888 || layoutTargetWidth != targetWidth || layoutHalign != halign || layoutWrap != wrap) {
+			return false;
+		}
+		if(layoutText.length() != str.length()) {
+			return false;
+		}
+		for(int i = 0; i < str.length(); i++) {
+			if(layoutText.charAt(i) != str.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void storeLayoutKey(int hash, CharSequence str, int rgba8888, float targetWidth, int halign, boolean wrap) {
+		layoutValid = true;
+		layoutHash = hash;
+		layoutColor = rgba8888;
+		layoutTargetWidth = targetWidth;
+		layoutHalign = halign;
+		layoutWrap = wrap;
+		layoutText.setLength(0);
+		layoutText.append(str);
+	}
+
 	@Override
 	public void reset() {
-		while(glyphs.size > 0) {
-			final MonospaceGlyph run = glyphs.removeIndex(0);
-			run.release();
-		}
+		glyphs.clear();
+		layoutValid = false;
+		layoutText.setLength(0);
 
 		maxX = -1f;
 		maxY = -1f;
@@ -334,24 +358,17 @@ public class MonospaceFontGlyphLayout implements FontGlyphLayout {
 		return monospaceFont;
 	}
 
-	public void transferGlyphsTo(Array<MonospaceGlyph> result, float x, float y) {
-		while(glyphs.size > 0) {
-			final MonospaceGlyph glyph = glyphs.removeIndex(0);
-			glyph.x += x;
-			glyph.y += y;
-			result.add(glyph);
-		}
+	/**
+	 * Appends a copy of the current glyphs to a {@link MonospaceGlyphBuffer}
+	 * @param result The {@link MonospaceGlyphBuffer} to append to
+	 * @param x The x offset to apply to the glyphs
+	 * @param y The y offset to apply to the glyphs
+	 */
+	public void copyGlyphsTo(MonospaceGlyphBuffer result, float x, float y) {
+		result.append(glyphs, x, y);
 	}
 
-	public Array<MonospaceGlyph> getGlyphs() {
+	public MonospaceGlyphBuffer getGlyphs() {
 		return glyphs;
 	}
-
-	private MonospaceGlyph getGlyph(int index) {
-		while(index >= glyphs.size) {
-			final MonospaceGlyph result = MonospaceGlyph.allocate();
-			glyphs.add(result);
-		}
-		return glyphs.get(index);
-	}
 }
\ No newline at end of file
@@ -27,7 +27,6 @@ import org.mini2Dx.core.graphics.TextureRegion;
 import org.mini2Dx.core.serialization.annotation.Field;
 import org.mini2Dx.core.serialization.annotation.PostDeserialize;
 import org.mini2Dx.core.util.Align;
-import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.CharArray;
 import org.mini2Dx.gdx.utils.IntIntMap;
 
@@ -37,7 +36,8 @@ import org.mini2Dx.gdx.utils.IntIntMap;
 public class MonospaceGameFont implements GameFont {
 	private final MonospaceFontGlyphLayout sharedGlyphLayout;
 	private final FontParameters fontParameters;
-	private TextureRegion [][] characterTextures;
+	private final Color glyphTint = Mdx.graphics.newColor(0f, 0f, 0f, 1f);
+	private TextureRegion [] characterTextures;
 	private int charactersPerRow, charactersPerColumn;
 	private Color color = Mdx.graphics.newColor(0f, 0f, 0f, 1f);
 
@@ -127,7 +127,7 @@ public class MonospaceGameFont implements GameFont {
 		charactersPerRow = textureRegion.getRegionWidth() / fontParameters.frameWidth;
 		charactersPerColumn = textureRegion.getRegionHeight() / fontParameters.frameHeight;
 
-		characterTextures = new TextureRegion[charactersPerRow][charactersPerColumn];
+		characterTextures = new TextureRegion[charactersPerRow * charactersPerColumn];
 		for(int x = 0; x < charactersPerRow; x++) {
 			for(int y = 0; y < charactersPerColumn; y++) {
 				final int textureX = (x * fontParameters.frameWidth) + fontParameters.framePaddingLeft;
@@ -135,7 +135,7 @@ public class MonospaceGameFont implements GameFont {
 				final int textureWidth = fontParameters.frameWidth - fontParameters.framePaddingLeft - fontParameters.framePaddingRight;
 				final int textureHeight = fontParameters.frameHeight - fontParameters.framePaddingTop - fontParameters.framePaddingBottom;
 
-				characterTextures[x][y] = Mdx.graphics.newTextureRegion(textureRegion, textureX, textureY, textureWidth, textureHeight);
+				characterTextures[(y * charactersPerRow) + x] = Mdx.graphics.newTextureRegion(textureRegion, textureX, textureY, textureWidth, textureHeight);
 			}
 		}
 	}
@@ -164,28 +164,49 @@ public class MonospaceGameFont implements GameFont {
 		draw(g, sharedGlyphLayout.getGlyphs(), x, y, listener);
 	}
 
-	public void draw(Graphics g, Array<MonospaceGlyph> glyphs, float x, float y, FontRenderListener listener) {
+	/**
+	 * Draws the glyphs stored in a {@link MonospaceGlyphBuffer}. The tint is only changed when the
+	 * glyph color differs from the previous glyph unless a {@link FontRenderListener} is provided.
+	 * @param g The {@link Graphics} context
+	 * @param glyphs The glyphs to draw
+	 * @param x The x coordinate to render at
+	 * @param y The y coordinate to render at
+	 * @param listener An optional {@link FontRenderListener} (may be null)
+	 */
+	public void draw(Graphics g, MonospaceGlyphBuffer glyphs, float x, float y, FontRenderListener listener) {
+		if(characterTextures == null) {
+			return;
+		}
 		final float charRenderWidth = fontParameters.characterWidth;
 		final float charRenderHeight = fontParameters.lineHeight;
 
 		final Color previousTint = g.getTint();
-		for(int i = 0; i < glyphs.size; i++) {
-			final MonospaceGlyph glyph = glyphs.get(i);
-			if(glyph.textureRegion == null) {
+		boolean tintApplied = false;
+		int tintColor = 0;
+
+		for(int i = 0; i < glyphs.getSize(); i++) {
+			final TextureRegion textureRegion = getTextureRegion(glyphs.getRegionIndex(i));
+			if(textureRegion == null) {
 				continue;
 			}
 
-			final float renderX = x + glyph.x;
-			final float renderY = y + glyph.y;
+			final float renderX = x + glyphs.getX(i);
+			final float renderY = y + glyphs.getY(i);
+			final int glyphColor = glyphs.getColor(i);
 
-			g.setTint(glyph.color);
+			if(!tintApplied || glyphColor != tintColor || listener != null) {
+				g.setTint(MonospaceGlyphBuffer.toColor(glyphColor, glyphTint));
+				tintApplied = true;
+				tintColor = glyphColor;
+			}
 			if(listener == null) {
-				g.drawTextureRegion(glyph.textureRegion, renderX, renderY);
+				g.drawTextureRegion(textureRegion, renderX, renderY);
 			} else {
-				if(listener.preRenderChar(g, glyph.glyphChar, renderX, renderY, charRenderWidth, charRenderHeight)) {
-					g.drawTextureRegion(glyph.textureRegion, renderX, renderY);
+				final char glyphChar = glyphs.getChar(i);
+				if(listener.preRenderChar(g, glyphChar, renderX, renderY, charRenderWidth, charRenderHeight)) {
+					g.drawTextureRegion(textureRegion, renderX, renderY);
 				}
-				listener.postRenderChar(g, glyph.glyphChar, renderX, renderY, charRenderWidth, charRenderHeight);
+				listener.postRenderChar(g, glyphChar, renderX, renderY, charRenderWidth, charRenderHeight);
 			}
 		}
 		g.setTint(previousTint);
@@ -229,33 +250,32 @@ public class MonospaceGameFont implements GameFont {
 		return fontParameters.lineHeight;
 	}
 
-	private int getXIndex(int index, int charactersPerRow) {
-		return index % charactersPerRow;
-	}
-
-	private int getYIndex(int index, int charactersPerRow) {
-		return index / charactersPerRow;
+	/**
+	 * Returns the index of a character within the font's texture, counting left-to-right, top-to-bottom
+	 * @param c The character
+	 * @return -1 if the character is not in the font
+	 */
+	public int getRegionIndex(char c) {
+		if(fontParameters.overrideCharacterIndices != null) {
+			return fontParameters.overrideCharacterIndices.get(c, -1);
+		}
+		return c;
 	}
 
-	public TextureRegion getTextureRegion(char c) {
-		if(characterTextures == null) {
+	/**
+	 * Returns the {@link TextureRegion} for a character index
+	 * @param regionIndex The index returned by {@link #getRegionIndex(char)}
+	 * @return Null if the font is not loaded or the index is outside the font's texture
+	 */
+	public TextureRegion getTextureRegion(int regionIndex) {
+		if(characterTextures == null || regionIndex < 0 || regionIndex >= characterTextures.length) {
 			return null;
 		}
-		final int xIndex, yIndex;
-
-		if(fontParameters.overrideCharacterIndices != null) {
-			final int index = fontParameters.overrideCharacterIndices.get(c, -1);
-			if(index < 0) {
-				return null;
-			}
-			xIndex = getXIndex(index, charactersPerRow);
-			yIndex = getYIndex(index, charactersPerRow);
-		} else {
-			xIndex = getXIndex(c, charactersPerRow);
-			yIndex = getYIndex(c, charactersPerRow);
-		}
+		return characterTextures[regionIndex];
+	}
 
-		return characterTextures[xIndex][yIndex];
+	public TextureRegion getTextureRegion(char c) {
+		return getTextureRegion(getRegionIndex(c));
 	}
 
 	@Override
@@ -268,6 +288,9 @@ public class MonospaceGameFont implements GameFont {
 		if(sharedGlyphLayout != null) {
 			sharedGlyphLayout.dispose();
 		}
+		if(Mdx.fonts != null) {
+			Mdx.fonts.getTextLayoutCache().invalidate(this);
+		}
 	}
 
 	public FontParameters getFontParameters() {
@@ -19,10 +19,9 @@ import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.graphics.Color;
 import org.mini2Dx.core.util.Align;
-import org.mini2Dx.gdx.utils.Array;
 
 public class MonospaceGameFontCache implements GameFontCache {
-	private final Array<MonospaceGlyph> glyphs = new Array<MonospaceGlyph>();
+	private final MonospaceGlyphBuffer glyphs = new MonospaceGlyphBuffer();
 	private final MonospaceGameFont monospaceFont;
 	private final MonospaceFontGlyphLayout glyphLayout;
 
@@ -38,21 +37,18 @@ public class MonospaceGameFontCache implements GameFontCache {
 	@Override
 	public void addText(CharSequence str, float x, float y) {
 		glyphLayout.setText(str, color, -1f, Align.LEFT, true);
-		glyphLayout.transferGlyphsTo(glyphs, x, y);
+		glyphLayout.copyGlyphsTo(glyphs, x, y);
 	}
 
 	@Override
 	public void addText(CharSequence str, float x, float y, float targetWidth, int halign, boolean wrap) {
 		glyphLayout.setText(str, color, targetWidth, halign, wrap);
-		glyphLayout.transferGlyphsTo(glyphs, x, y);
+		glyphLayout.copyGlyphsTo(glyphs, x, y);
 	}
 
 	@Override
 	public void clear() {
-		while(glyphs.size > 0) {
-			final MonospaceGlyph glyph = glyphs.removeIndex(0);
-			glyph.release();
-		}
+		glyphs.clear();
 	}
 
 	@Override
@@ -72,30 +68,26 @@ public class MonospaceGameFontCache implements GameFontCache {
 
 	@Override
 	public void setAllColors(Color color) {
-		for(int i = 0; i < glyphs.size; i++) {
-			glyphs.get(i).color.set(color);
-		}
+		glyphs.setAllColors(color.rgba8888());
 	}
 
 	@Override
 	public void setAllAlphas(float alpha) {
-		for(int i = 0; i < glyphs.size; i++) {
-			glyphs.get(i).color.setA(alpha);
-		}
+		glyphs.setAllAlphas(alpha);
 	}
 
 	@Override
 	public void setText(CharSequence str, float x, float y) {
 		clear();
 		glyphLayout.setText(str, color, -1f, Align.LEFT, true);
-		glyphLayout.transferGlyphsTo(glyphs, x, y);
+		glyphLayout.copyGlyphsTo(glyphs, x, y);
 	}
 
 	@Override
 	public void setText(CharSequence str, float x, float y, float targetWidth, int halign, boolean wrap) {
 		clear();
 		glyphLayout.setText(str, color, targetWidth, halign, wrap);
-		glyphLayout.transferGlyphsTo(glyphs, x, y);
+		glyphLayout.copyGlyphsTo(glyphs, x, y);
 	}
 
 	@Override
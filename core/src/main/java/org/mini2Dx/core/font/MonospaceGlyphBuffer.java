@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.font;
+
+import org.mini2Dx.core.graphics.Color;
+
+/**
+ * Stores laid out {@link MonospaceGameFont} glyphs as parallel primitive arrays.
+ * Positions are packed as x,y pairs, colors as RGBA8888 ints and texture regions
+ * as indices into the font's character sheet (see {@link MonospaceGameFont#getRegionIndex(char)}).
+ */
+public class MonospaceGlyphBuffer {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private char[] chars;
+	private float[] positions;
+	private int[] colors;
+	private int[] regionIndices;
+	private int size;
+
+	public MonospaceGlyphBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public MonospaceGlyphBuffer(int capacity) {
+		super();
+		capacity = Math.max(1, capacity);
+		chars = new char[capacity];
+		positions = new float[capacity * 2];
+		colors = new int[capacity];
+		regionIndices = new int[capacity];
+	}
+
+	/**
+	 * Sets the glyph at an index
+	 * @param index The index of the glyph (must be less than {@link #getSize()})
+	 * @param c The character
+	 * @param x The x coordinate relative to the layout origin
+	 * @param y The y coordinate relative to the layout origin
+	 * @param rgba8888 The color of the glyph
+	 * @param regionIndex The character sheet index or -1 if the glyph is not rendered
+	 */
+	public void set(int index, char c, float x, float y, int rgba8888, int regionIndex) {
+		chars[index] = c;
+		positions[index * 2] = x;
+		positions[(index * 2) + 1] = y;
+		colors[index] = rgba8888;
+		regionIndices[index] = regionIndex;
+	}
+
+	/**
+	 * Appends all glyphs from another buffer
+	 * @param buffer The {@link MonospaceGlyphBuffer} to copy glyphs from
+	 * @param offsetX The amount to add to each glyph's x coordinate
+	 * @param offsetY The amount to add to each glyph's y coordinate
+	 */
+	public void append(MonospaceGlyphBuffer buffer, float offsetX, float offsetY) {
+		final int start = size;
+		setSize(size + buffer.size);
+
+		System.arraycopy(buffer.chars, 0, chars, start, buffer.size);
+		System.arraycopy(buffer.colors, 0, colors, start, buffer.size);
+		System.arraycopy(buffer.regionIndices, 0, regionIndices, start, buffer.size);
+		for(int i = 0; i < buffer.size * 2; i += 2) {
+			positions[(start * 2) + i] = buffer.positions[i] + offsetX;
+			positions[(start * 2) + i + 1] = buffer.positions[i + 1] + offsetY;
+		}
+	}
+
+	/**
+	 * Sets the color of all glyphs
+	 * @param rgba8888 The color as a RGBA8888 int
+	 */
+	public void setAllColors(int rgba8888) {
+		for(int i = 0; i < size; i++) {
+			colors[i] = rgba8888;
+		}
+	}
+
+	/**
+	 * Sets the alpha value of all glyphs
+	 * @param alpha The alpha value between 0 and 1
+	 */
+	public void setAllAlphas(float alpha) {
+		final int alphaBits = ((int) (Math.max(0f, Math.min(1f, alpha)) * 255f)) & 0xff;
+		for(int i = 0; i < size; i++) {
+			colors[i] = (colors[i] & 0xffffff00) | alphaBits;
+		}
+	}
+
+	/**
+	 * Resizes this buffer, growing the backing arrays if necessary
+	 * @param size The new amount of glyphs
+	 */
+	public void setSize(int size) {
+		ensureCapacity(size);
+		this.size = size;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if(capacity <= chars.length) {
+			return;
+		}
+		final int newCapacity = Math.max(capacity, (int) (chars.length * 1.75f));
+
+		final char[] newChars = new char[newCapacity];
+		System.arraycopy(chars, 0, newChars, 0, size);
+		chars = newChars;
+
+		final float[] newPositions = new float[newCapacity * 2];
+		System.arraycopy(positions, 0, newPositions, 0, size * 2);
+		positions = newPositions;
+
+		final int[] newColors = new int[newCapacity];
+		System.arraycopy(colors, 0, newColors, 0, size);
+		colors = newColors;
+
+		final int[] newRegionIndices = new int[newCapacity];
+		System.arraycopy(regionIndices, 0, newRegionIndices, 0, size);
+		regionIndices = newRegionIndices;
+	}
+
+	/**
+	 * Removes all glyphs. The backing arrays are retained.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public char getChar(int index) {
+		return chars[index];
+	}
+
+	public float getX(int index) {
+		return positions[index * 2];
+	}
+
+	public float getY(int index) {
+		return positions[(index * 2) + 1];
+	}
+
+	public int getColor(int index) {
+		return colors[index];
+	}
+
+	public int getRegionIndex(int index) {
+		return regionIndices[index];
+	}
+
+	/**
+	 * Applies a RGBA8888 int to a {@link Color} instance
+	 * @param rgba8888 The RGBA8888 value
+	 * @param result The {@link Color} to store the value in
+	 * @return The result {@link Color}
+	 */
+	public static Color toColor(int rgba8888, Color result) {
+		return result.set(((rgba8888 >>> 24) & 0xff) / 255f, ((rgba8888 >>> 16) & 0xff) / 255f,
+				((rgba8888 >>> 8) & 0xff) / 255f, (rgba8888 & 0xff) / 255f);
+	}
+}
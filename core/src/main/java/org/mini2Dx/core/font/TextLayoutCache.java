@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.font;
+
+import org.mini2Dx.gdx.utils.ObjectMap;
+
+/**
+ * A bounded, least-recently-used cache of text measurements shared across all {@link GameFont} implementations.
+ * Entries are keyed by font, text, target width, horizontal alignment and wrapping so that identical text
+ * (e.g. button captions and table cells) is only laid out once.
+ *
+ * The font's {@link GameFont#getLineHeight()} is also part of the key so that measurements are not reused
+ * after the font is scaled. If a font's glyph metrics change without its line height changing,
+ * call {@link #invalidate(GameFont)}.
+ */
+public class TextLayoutCache {
+	public static final int DEFAULT_CAPACITY = 2048;
+
+	private final ObjectMap<TextMeasurement, TextMeasurement> entries;
+	private final TextMeasurement lookupKey = new TextMeasurement();
+	private final TextMeasurement head = new TextMeasurement();
+	private final int capacity;
+
+	private long hits, misses, evictions;
+
+	public TextLayoutCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public TextLayoutCache(int capacity) {
+		super();
+		this.capacity = Math.max(1, capacity);
+		entries = new ObjectMap<TextMeasurement, TextMeasurement>(this.capacity + 1);
+		head.previous = head;
+		head.next = head;
+	}
+
+	/**
+	 * Measures text using {@link FontGlyphLayout#setText(CharSequence)}
+	 * @param font The {@link GameFont} to measure with
+	 * @param text The text to measure
+	 * @return The cached {@link TextMeasurement}
+	 */
+	public synchronized TextMeasurement measure(GameFont font, String text) {
+		lookupKey.setKey(font, text == null ? "" : text, 0f, 0, false, true);
+		return measure(lookupKey);
+	}
+
+	/**
+	 * Measures text using {@link FontGlyphLayout#setText(CharSequence, org.mini2Dx.core.graphics.Color, float, int, boolean)}
+	 * @param font The {@link GameFont} to measure with
+	 * @param text The text to measure
+	 * @param targetWidth The target width
+	 * @param halign The alignment based on {@link org.mini2Dx.core.util.Align}
+	 * @param wrap True if text wraps at the target width
+	 * @return The cached {@link TextMeasurement}
+	 */
+	public synchronized TextMeasurement measure(GameFont font, String text, float targetWidth, int halign, boolean wrap) {
+		lookupKey.setKey(font, text == null ? "" : text, targetWidth, halign, wrap, false);
+		return measure(lookupKey);
+	}
+
+	private TextMeasurement measure(TextMeasurement key) {
+		TextMeasurement result = entries.get(key);
+		if(result != null) {
+			key.font = null;
+			key.text = null;
+			hits++;
+			unlink(result);
+			linkFirst(result);
+			return result;
+		}
+		misses++;
+
+		result = new TextMeasurement();
+		result.setKey(key.font, key.text, key.targetWidth, key.halign, key.wrap, key.defaultLayout);
+
+		final FontGlyphLayout glyphLayout = key.font.getSharedGlyphLayout();
+		if(key.defaultLayout) {
+			glyphLayout.setText(key.text);
+		} else {
+			glyphLayout.setText(key.text, key.font.getColor(), key.targetWidth, key.halign, key.wrap);
+		}
+		result.width = glyphLayout.getWidth();
+		result.height = glyphLayout.getHeight();
+
+		if(entries.size >= capacity) {
+			final TextMeasurement eldest = head.previous;
+			unlink(eldest);
+			entries.remove(eldest);
+			evictions++;
+		}
+		entries.put(result, result);
+		linkFirst(result);
+		key.font = null;
+		key.text = null;
+		return result;
+	}
+
+	private void linkFirst(TextMeasurement entry) {
+		entry.previous = head;
+		entry.next = head.next;
+		head.next.previous = entry;
+		head.next = entry;
+	}
+
+	private void unlink(TextMeasurement entry) {
+		entry.previous.next = entry.next;
+		entry.next.previous = entry.previous;
+		entry.previous = null;
+		entry.next = null;
+	}
+
+	/**
+	 * Removes all cached measurements for a {@link GameFont}, e.g. after it has been reloaded or disposed
+	 * @param font The {@link GameFont} to remove measurements for
+	 */
+	public synchronized void invalidate(GameFont font) {
+		TextMeasurement entry = head.next;
+		while(entry != head) {
+			final TextMeasurement next = entry.next;
+			if(entry.font == font) {
+				unlink(entry);
+				entries.remove(entry);
+			}
+			entry = next;
+		}
+	}
+
+	/**
+	 * Removes all cached measurements. Statistics are retained.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		head.previous = head;
+		head.next = head;
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters
+	 */
+	public synchronized void resetStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	public synchronized int size() {
+		return entries.size;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the ratio of lookups that were served from the cache
+	 * @return A value between 0 and 1, 0 if no lookups have occurred
+	 */
+	public synchronized float getHitRate() {
+		final long total = hits + misses;
+		if(total == 0) {
+			return 0f;
+		}
+		return hits / (float) total;
+	}
+
+	/**
+	 * The measured size of a piece of text. Instances are immutable once returned by a {@link TextLayoutCache}.
+	 */
+	public static final class TextMeasurement {
+		private GameFont font;
+		private String text;
+		private float lineHeight;
+		private float targetWidth;
+		private int halign;
+		private boolean wrap, defaultLayout;
+		private int hashCode;
+
+		private float width, height;
+		private TextMeasurement previous, next;
+
+		private TextMeasurement() {
+			super();
+		}
+
+		private void setKey(GameFont font, String text, float targetWidth, int halign, boolean wrap, boolean defaultLayout) {
+			this.font = font;
+			this.text = text;
+			this.lineHeight = font.getLineHeight();
+			this.targetWidth = targetWidth;
+			this.halign = halign;
+			this.wrap = wrap;
+			this.defaultLayout = defaultLayout;
+
+			int result = System.identityHashCode(font);
+			result = (31 * result) + text.hashCode();
+			result = (31 * result) + Float.floatToIntBits(lineHeight);
+			result = (31 * result) + Float.floatToIntBits(targetWidth);
+			result = (31 * result) + halign;
+			result = (31 * result) + (wrap ? 1231 : 1237);
+			result = (31 * result) + (defaultLayout ? 1231 : 1237);
+			hashCode = result;
+		}
+
+		/**
+		 * Returns the width of the text
+		 * @return The value of {@link FontGlyphLayout#getWidth()}
+		 */
+		public float getWidth() {
+			return width;
+		}
+
+		/**
+		 * Returns the height of the text
+		 * @return The value of {@link FontGlyphLayout#getHeight()}
+		 */
+		public float getHeight() {
+			return height;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(this == o) {
+				return true;
+			}
+			if(!(o instanceof TextMeasurement)) {
+				return false;
+			}
+			final TextMeasurement that = (TextMeasurement) o;
+			return font == that.font && hashCode == that.hashCode &&
+					Float.floatToIntBits(lineHeight) == Float.floatToIntBits(that.lineHeight) &&
+					Float.floatToIntBits(targetWidth) == Float.floatToIntBits(that.targetWidth) &&
+					halign == that.halign && wrap == that.wrap && defaultLayout == that.defaultLayout &&
+					text.equals(that.text);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -17,6 +17,7 @@ package org.mini2Dx.core.game;
 
 import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.input.InputEventBuffer;
 import org.mini2Dx.core.util.InterpolationTracker;
 import org.mini2Dx.gdx.utils.Array;
 
@@ -39,11 +40,17 @@ public abstract class GameContainer {
     public abstract void initialise();
 
     /**
-     * Called by mini2Dx pre-update
+     * Called by mini2Dx pre-update. Drains any buffered input events before the update.
      * @param delta The time in seconds since the last update
      */
     public void preUpdate(float delta) {
         Mdx.executor.update(delta);
+        if(Mdx.input != null) {
+            final InputEventBuffer inputEventBuffer = Mdx.input.getInputEventBuffer();
+            if(inputEventBuffer != null) {
+                inputEventBuffer.update(delta);
+            }
+        }
         InterpolationTracker.preUpdate();
     }
 
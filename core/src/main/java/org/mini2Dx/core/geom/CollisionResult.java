@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.geom;
+
+/**
+ * Stores the result of an intersection test between two {@link Shape}s.
+ *
+ * The contact normal is a unit vector pointing from the first {@link Shape}
+ * towards the second. The minimum translation vector is the smallest
+ * translation to apply to the first {@link Shape} to separate the two shapes.
+ * Instances are intended to be re-used between tests to avoid allocation.
+ */
+public class CollisionResult {
+	private float normalX, normalY;
+	private float depth;
+
+	/**
+	 * Sets the contact normal and penetration depth
+	 * @param normalX The x component of the unit contact normal
+	 * @param normalY The y component of the unit contact normal
+	 * @param depth The penetration depth along the normal
+	 */
+	public void set(float normalX, float normalY, float depth) {
+		this.normalX = normalX;
+		this.normalY = normalY;
+		this.depth = depth;
+	}
+
+	/**
+	 * Reverses the contact normal, i.e. swaps which {@link Shape} is considered first
+	 */
+	public void flip() {
+		normalX = -normalX;
+		normalY = -normalY;
+	}
+
+	/**
+	 * Resets this result to no penetration
+	 */
+	public void reset() {
+		normalX = 0f;
+		normalY = 0f;
+		depth = 0f;
+	}
+
+	/**
+	 * Returns the x component of the contact normal
+	 * @return A value between -1 and 1
+	 */
+	public float getNormalX() {
+		return normalX;
+	}
+
+	/**
+	 * Returns the y component of the contact normal
+	 * @return A value between -1 and 1
+	 */
+	public float getNormalY() {
+		return normalY;
+	}
+
+	/**
+	 * Returns the penetration depth along the contact normal
+	 * @return 0 if the shapes are only touching
+	 */
+	public float getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Returns the x component of the minimum translation vector to apply to the first {@link Shape}
+	 * @return The x translation amount
+	 */
+	public float getTranslationX() {
+		return -normalX * depth;
+	}
+
+	/**
+	 * Returns the y component of the minimum translation vector to apply to the first {@link Shape}
+	 * @return The y translation amount
+	 */
+	public float getTranslationY() {
+		return -normalY * depth;
+	}
+
+	@Override
+	public String toString() {
+		return "CollisionResult [normalX=" + normalX + ", normalY=" + normalY + ", depth=" + depth + "]";
+	}
+}
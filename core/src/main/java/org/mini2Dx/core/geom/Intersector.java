@@ -189,5 +189,231 @@ public class Intersector {
         }
         return false;
     }
-}
 
+    /**
+     * Tests two convex {@link Polygon}s for intersection using the separating axis theorem.
+     *
+     * @param polygonA
+     *            The first {@link Polygon}
+     * @param polygonB
+     *            The second {@link Polygon}
+     * @param result
+     *            The {@link CollisionResult} to store the contact normal (pointing from A to B)
+     *            and penetration depth in. May be null if only a boolean result is required.
+     * @return True if the polygons intersect
+     */
+    public static boolean intersectConvexPolygons(Polygon polygonA, Polygon polygonB, CollisionResult result) {
+        final float[] verticesA = polygonA.getVertices();
+        final float[] verticesB = polygonB.getVertices();
+        final float[] normalsA = polygonA.getEdgeNormals();
+        final float[] normalsB = polygonB.getEdgeNormals();
+        final int totalNormalsA = polygonA.getTotalEdgeNormals();
+        final int totalNormalsB = polygonB.getTotalEdgeNormals();
+
+        float minDepth = Float.MAX_VALUE;
+        float normalX = 0f, normalY = 0f;
+
+        for (int i = 0; i < totalNormalsA + totalNormalsB; i++) {
+            final float axisX, axisY;
+            if (i < totalNormalsA) {
+                axisX = normalsA[i * 2];
+                axisY = normalsA[(i * 2) + 1];
+            } else {
+                axisX = normalsB[(i - totalNormalsA) * 2];
+                axisY = normalsB[((i - totalNormalsA) * 2) + 1];
+            }
+
+            float minA = Float.MAX_VALUE, maxA = -Float.MAX_VALUE;
+            for (int j = 0; j < verticesA.length; j += 2) {
+                final float projection = (verticesA[j] * axisX) + (verticesA[j + 1] * axisY);
+                minA = Math.min(minA, projection);
+                maxA = Math.max(maxA, projection);
+            }
+            float minB = Float.MAX_VALUE, maxB = -Float.MAX_VALUE;
+            for (int j = 0; j < verticesB.length; j += 2) {
+                final float projection = (verticesB[j] * axisX) + (verticesB[j + 1] * axisY);
+                minB = Math.min(minB, projection);
+                maxB = Math.max(maxB, projection);
+            }
+            if (maxA < minB || maxB < minA) {
+                return false;
+            }
+            if (result == null) {
+                continue;
+            }
+            final float forwardDepth = maxA - minB;
+            final float backwardDepth = maxB - minA;
+            if (forwardDepth <= backwardDepth) {
+                if (forwardDepth < minDepth) {
+                    minDepth = forwardDepth;
+                    normalX = axisX;
+                    normalY = axisY;
+                }
+            } else if (backwardDepth < minDepth) {
+                minDepth = backwardDepth;
+                normalX = -axisX;
+                normalY = -axisY;
+            }
+        }
+        if (result != null) {
+            result.set(normalX, normalY, minDepth);
+        }
+        return true;
+    }
+
+    /**
+     * Tests a convex {@link Polygon} and {@link Circle} for intersection using the separating axis theorem.
+     *
+     * @param polygon
+     *            The {@link Polygon}
+     * @param circle
+     *            The {@link Circle}
+     * @param result
+     *            The {@link CollisionResult} to store the contact normal (pointing from the polygon to the circle)
+     *            and penetration depth in. May be null if only a boolean result is required.
+     * @return True if the polygon and circle intersect
+     */
+    public static boolean intersectConvexPolygonCircle(Polygon polygon, Circle circle, CollisionResult result) {
+        final float[] vertices = polygon.getVertices();
+        final float[] normals = polygon.getEdgeNormals();
+        final int totalNormals = polygon.getTotalEdgeNormals();
+        final float centerX = circle.getX();
+        final float centerY = circle.getY();
+        final float radius = circle.getRadius();
+
+        float closestX = vertices[0], closestY = vertices[1];
+        float closestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < vertices.length; i += 2) {
+            final float distance = Vector2.dst2(vertices[i], vertices[i + 1], centerX, centerY);
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closestX = vertices[i];
+                closestY = vertices[i + 1];
+            }
+        }
+
+        float minDepth = Float.MAX_VALUE;
+        float normalX = 0f, normalY = 0f;
+
+        for (int i = 0; i <= totalNormals; i++) {
+            float axisX, axisY;
+            if (i < totalNormals) {
+                axisX = normals[i * 2];
+                axisY = normals[(i * 2) + 1];
+            } else {
+                axisX = centerX - closestX;
+                axisY = centerY - closestY;
+                final float length = (float) Math.sqrt((axisX * axisX) + (axisY * axisY));
+                if (length == 0f) {
+                    continue;
+                }
+                axisX /= length;
+                axisY /= length;
+            }
+
+            float minA = Float.MAX_VALUE, maxA = -Float.MAX_VALUE;
+            for (int j = 0; j < vertices.length; j += 2) {
+                final float projection = (vertices[j] * axisX) + (vertices[j + 1] * axisY);
+                minA = Math.min(minA, projection);
+                maxA = Math.max(maxA, projection);
+            }
+            final float circleProjection = (centerX * axisX) + (centerY * axisY);
+            final float minB = circleProjection - radius;
+            final float maxB = circleProjection + radius;
+            if (maxA < minB || maxB < minA) {
+                return false;
+            }
+            if (result == null) {
+                continue;
+            }
+            final float forwardDepth = maxA - minB;
+            final float backwardDepth = maxB - minA;
+            if (forwardDepth <= backwardDepth) {
+                if (forwardDepth < minDepth) {
+                    minDepth = forwardDepth;
+                    normalX = axisX;
+                    normalY = axisY;
+                }
+            } else if (backwardDepth < minDepth) {
+                minDepth = backwardDepth;
+                normalX = -axisX;
+                normalY = -axisY;
+            }
+        }
+        if (result != null) {
+            result.set(normalX, normalY, minDepth);
+        }
+        return true;
+    }
+
+    /**
+     * Tests two {@link Circle}s for intersection
+     *
+     * @param circleA
+     *            The first {@link Circle}
+     * @param circleB
+     *            The second {@link Circle}
+     * @param result
+     *            The {@link CollisionResult} to store the contact normal (pointing from A to B)
+     *            and penetration depth in. May be null if only a boolean result is required.
+     * @return True if the circles intersect
+     */
+    public static boolean intersectCircles(Circle circleA, Circle circleB, CollisionResult result) {
+        final float differenceX = circleB.getX() - circleA.getX();
+        final float differenceY = circleB.getY() - circleA.getY();
+        final float radii = circleA.getRadius() + circleB.getRadius();
+        final float distanceSquared = (differenceX * differenceX) + (differenceY * differenceY);
+        if (distanceSquared > radii * radii) {
+            return false;
+        }
+        if (result == null) {
+            return true;
+        }
+        final float distance = (float) Math.sqrt(distanceSquared);
+        if (distance == 0f) {
+            result.set(1f, 0f, radii);
+        } else {
+            result.set(differenceX / distance, differenceY / distance, radii - distance);
+        }
+        return true;
+    }
+
+    /**
+     * Tests two axis-aligned boxes for intersection
+     *
+     * @param minAX The minimum x coordinate of the first box
+     * @param minAY The minimum y coordinate of the first box
+     * @param maxAX The maximum x coordinate of the first box
+     * @param maxAY The maximum y coordinate of the first box
+     * @param minBX The minimum x coordinate of the second box
+     * @param minBY The minimum y coordinate of the second box
+     * @param maxBX The maximum x coordinate of the second box
+     * @param maxBY The maximum y coordinate of the second box
+     * @param result
+     *            The {@link CollisionResult} to store the contact normal (pointing from A to B)
+     *            and penetration depth in. May be null if only a boolean result is required.
+     * @return True if the boxes intersect
+     */
+    public static boolean intersectAxisAlignedBoxes(float minAX, float minAY, float maxAX, float maxAY,
+                                                    float minBX, float minBY, float maxBX, float maxBY, CollisionResult result) {
+        if (maxAX < minBX || maxBX < minAX || maxAY < minBY || maxBY < minAY) {
+            return false;
+        }
+        if (result == null) {
+            return true;
+        }
+        final float rightDepth = maxAX - minBX;
+        final float leftDepth = maxBX - minAX;
+        final float downDepth = maxAY - minBY;
+        final float upDepth = maxBY - minAY;
+
+        final float depthX = Math.min(rightDepth, leftDepth);
+        final float depthY = Math.min(downDepth, upDepth);
+        if (depthX <= depthY) {
+            result.set(rightDepth <= leftDepth ? 1f : -1f, 0f, depthX);
+        } else {
+            result.set(0f, downDepth <= upDepth ? 1f : -1f, depthY);
+        }
+        return true;
+    }
+}
@@ -47,10 +47,13 @@ public class Polygon extends Shape {
 	private int totalSidesCache = -1;
 	private float minX, minY, maxX, maxY;
 	private ShortArray triangles;
-	private boolean isRectangle, isEquilateral;
+	private float[] edgeNormals;
+	private int totalEdgeNormals;
+	private boolean isRectangle, isEquilateral, isConvex;
 	private boolean minMaxDirty = true;
 	private boolean trianglesDirty = true;
 	private boolean centroidDirty = true;
+	private boolean edgeNormalsDirty = true;
 
 	/**
 	 * Constructs a {@link Polygon} belonging to the {@link Geometry} pool
@@ -261,6 +264,9 @@ public class Polygon extends Shape {
 		if (polygon.maxY < minY) {
 			return false;
 		}
+		if (isConvex() && polygon.isConvex()) {
+			return Intersector.intersectConvexPolygons(this, polygon, null);
+		}
 		boolean result = false;
 
 		internalEdgeIterator.begin();
@@ -272,6 +278,11 @@ public class Polygon extends Shape {
 			}
 		}
 		internalEdgeIterator.end();
+
+		if (!result) {
+			//No edges cross, check if either polygon is entirely inside the other
+			result = polygon.contains(vertices[0], vertices[1]) || contains(polygon.vertices[0], polygon.vertices[1]);
+		}
 		return result;
 	}
 
@@ -295,7 +306,7 @@ public class Polygon extends Shape {
 	 * @return True if this {@link Polygon} and {@link Rectangle} intersect
 	 */
 	public boolean intersects(Rectangle rectangle) {
-		return intersects(rectangle.polygon);
+		return intersects(rectangle.getPolygon());
 	}
 
 	public boolean intersects(Circle circle) {
@@ -896,6 +907,41 @@ public class Polygon extends Shape {
 		return isRectangle;
 	}
 
+	/**
+	 * Returns if this {@link Polygon} is convex
+	 *
+	 * @return True if all interior angles are less than or equal to 180 degrees
+	 *         and the edges wind around the polygon exactly once, i.e. it is not self-intersecting
+	 */
+	public boolean isConvex() {
+		edgeNormalsDirtyCheck();
+		return isConvex;
+	}
+
+	/**
+	 * Returns the unit normals of the edges of this {@link Polygon} as x,y
+	 * pairs. Normals of parallel opposite edges are only included once. The
+	 * normals are cached and only recomputed after this {@link Polygon} has
+	 * changed.
+	 *
+	 * @return The edge normals. Use {@link #getTotalEdgeNormals()} to determine the
+	 *         amount of normals in the array.
+	 */
+	public float[] getEdgeNormals() {
+		edgeNormalsDirtyCheck();
+		return edgeNormals;
+	}
+
+	/**
+	 * Returns the amount of normals returned by {@link #getEdgeNormals()}
+	 *
+	 * @return The amount of normals (not the amount of floats)
+	 */
+	public int getTotalEdgeNormals() {
+		edgeNormalsDirtyCheck();
+		return totalEdgeNormals;
+	}
+
 	@Override
 	public boolean isCircle() {
 		return false;
@@ -907,13 +953,83 @@ public class Polygon extends Shape {
 	}
 
 	boolean isDirty() {
-		return minMaxDirty || trianglesDirty || centroidDirty;
+		return minMaxDirty || trianglesDirty || centroidDirty || edgeNormalsDirty;
 	}
 
 	private void setDirty() {
 		minMaxDirty = true;
 		trianglesDirty = true;
 		centroidDirty = true;
+		edgeNormalsDirty = true;
+	}
+
+	private void edgeNormalsDirtyCheck() {
+		if (!edgeNormalsDirty) {
+			return;
+		}
+		computeEdgeNormals(vertices);
+		edgeNormalsDirty = false;
+	}
+
+	private void computeEdgeNormals(float[] vertices) {
+		final int totalSides = vertices.length / 2;
+		if (edgeNormals == null || edgeNormals.length < vertices.length) {
+			edgeNormals = new float[vertices.length];
+		}
+		final boolean evenSides = totalSides % 2 == 0;
+
+		totalEdgeNormals = 0;
+		int windingSign = 0;
+		float totalTurning = 0f;
+		boolean convex = true;
+		boolean degenerate = false;
+
+		for (int i = 0; i < totalSides; i++) {
+			final int index = i * 2;
+			final int nextIndex = (index + 2) % vertices.length;
+			final int afterNextIndex = (index + 4) % vertices.length;
+
+			final float edgeX = vertices[nextIndex] - vertices[index];
+			final float edgeY = vertices[nextIndex + 1] - vertices[index + 1];
+
+			final float nextEdgeX = vertices[afterNextIndex] - vertices[nextIndex];
+			final float nextEdgeY = vertices[afterNextIndex + 1] - vertices[nextIndex + 1];
+
+			final float cross = (edgeX * nextEdgeY) - (edgeY * nextEdgeX);
+			if (!MathUtils.isZero(cross)) {
+				final int sign = cross > 0f ? 1 : -1;
+				if (windingSign == 0) {
+					windingSign = sign;
+				} else if (windingSign != sign) {
+					convex = false;
+				}
+			}
+			if (convex) {
+				//Self-intersecting polygons (e.g. stars) turn in one direction but wind around more than once
+				totalTurning += (float) Math.atan2(cross, (edgeX * nextEdgeX) + (edgeY * nextEdgeY));
+			}
+
+			final float length = (float) Math.sqrt((edgeX * edgeX) + (edgeY * edgeY));
+			if (MathUtils.isZero(length)) {
+				degenerate = true;
+				continue;
+			}
+			final float normalX = -edgeY / length;
+			final float normalY = edgeX / length;
+
+			if (evenSides && !degenerate && i >= totalSides / 2) {
+				//Skip if parallel to the opposite edge, e.g. rectangles
+				final int oppositeIndex = (i - (totalSides / 2)) * 2;
+				if (MathUtils.isZero(
+						(normalX * edgeNormals[oppositeIndex + 1]) - (normalY * edgeNormals[oppositeIndex]))) {
+					continue;
+				}
+			}
+			edgeNormals[totalEdgeNormals * 2] = normalX;
+			edgeNormals[(totalEdgeNormals * 2) + 1] = normalY;
+			totalEdgeNormals++;
+		}
+		isConvex = convex && Math.abs(totalTurning) < MathUtils.PI2 + MathUtils.PI;
 	}
 
 	private void minMaxDirtyCheck() {
@@ -17,6 +17,7 @@ package org.mini2Dx.core.geom;
 
 import org.mini2Dx.core.Geometry;
 import org.mini2Dx.core.Graphics;
+import org.mini2Dx.gdx.math.MathUtils;
 import org.mini2Dx.gdx.math.Vector2;
 
 /**
@@ -30,8 +31,9 @@ public class Rectangle extends Shape {
 	};
 	private static final Rectangle TMP_RECTANGLE = new Rectangle();
 
-	final Polygon polygon;
-	private float width, height;
+	Polygon polygon;
+	private float x, y, width, height;
+	private boolean polygonDirty, syncingPolygon;
 	
 	/**
 	 * Default constructor. Creates a {@link Rectangle} at 0,0 with a width and
@@ -49,8 +51,6 @@ public class Rectangle extends Shape {
 		super(geometry);
 		this.width = 1f;
 		this.height = 1f;
-		polygon = new Polygon(determineVertices(0f, 0f, width, height));
-		initProxyListeners();
 	}
 
 	/**
@@ -67,10 +67,10 @@ public class Rectangle extends Shape {
 	 */
 	public Rectangle(float x, float y, float width, float height) {
 		super();
+		this.x = x;
+		this.y = y;
 		this.width = width;
 		this.height = height;
-		polygon = new Polygon(determineVertices(x, y, width, height));
-		initProxyListeners();
 	}
 	
 	/**
@@ -79,27 +79,102 @@ public class Rectangle extends Shape {
 	 */
 	public Rectangle(Rectangle rectangle) {
 		super();
+		this.x = rectangle.getX();
+		this.y = rectangle.getY();
 		this.width = rectangle.getWidth();
 		this.height = rectangle.getHeight();
-		this.polygon = (Polygon) rectangle.polygon.copy();
-		initProxyListeners();
+		if(rectangle.isRotated()) {
+			polygon = (Polygon) rectangle.polygon.copy();
+			initProxyListeners();
+		}
 	}
 
 	private void initProxyListeners() {
 		polygon.addPostionChangeListener(new PositionChangeListener<Positionable>() {
 			@Override
 			public void positionChanged(Positionable moved) {
+				if(syncingPolygon) {
+					return;
+				}
+				if(!isRotated()) {
+					x = polygon.getX();
+					y = polygon.getY();
+				}
 				Rectangle.this.notifyPositionChangeListeners();
 			}
 		});
 		polygon.addSizeChangeListener(new SizeChangeListener<Sizeable>() {
 			@Override
 			public void sizeChanged(Sizeable changed) {
+				if(syncingPolygon) {
+					return;
+				}
+				if(!isRotated()) {
+					final float [] vertices = polygon.getVertices();
+					width = vertices[2] - vertices[0];
+					height = vertices[5] - vertices[1];
+				}
 				Rectangle.this.notifySizeChangeListeners();
 			}
 		});
 	}
 
+	/**
+	 * Returns the backing {@link Polygon}, creating it or updating its vertices if required.
+	 * Unrotated rectangles only use a {@link Polygon} for operations that need vertices.
+	 * @return The up-to-date backing {@link Polygon}
+	 */
+	private Polygon syncPolygon() {
+		if(polygon == null) {
+			polygon = new Polygon(determineVertices(x, y, width, height));
+			initProxyListeners();
+			polygonDirty = false;
+		} else if(polygonDirty) {
+			syncingPolygon = true;
+			polygon.setVertices(determineVertices(x, y, width, height));
+			syncingPolygon = false;
+			polygonDirty = false;
+		}
+		return polygon;
+	}
+
+	private boolean isRotated() {
+		return polygon != null && polygon.getRotation() != 0f;
+	}
+
+	/**
+	 * Updates the position and size fields after a rotation operation
+	 * has returned the {@link Polygon} to 0 degrees
+	 */
+	private void postRotate() {
+		if(isRotated()) {
+			return;
+		}
+		x = polygon.getX();
+		y = polygon.getY();
+		polygonDirty = true;
+	}
+
+	private void updatePosition(float x, float y) {
+		if(MathUtils.isEqual(this.x, x) && MathUtils.isEqual(this.y, y)) {
+			return;
+		}
+		this.x = x;
+		this.y = y;
+		polygonDirty = true;
+		notifyPositionChangeListeners();
+	}
+
+	private void updateSize(float width, float height) {
+		if(MathUtils.isEqual(this.width, width) && MathUtils.isEqual(this.height, height)) {
+			return;
+		}
+		this.width = width;
+		this.height = height;
+		polygonDirty = true;
+		notifySizeChangeListeners();
+	}
+
 	@Override
 	public void dispose() {
 		clearPositionChangeListeners();
@@ -126,30 +201,58 @@ public class Rectangle extends Shape {
 	
 	@Override
 	public boolean contains(float x, float y) {
-		return polygon.contains(x, y);
+		if(isRotated()) {
+			return polygon.contains(x, y);
+		}
+		if(x < getMinX() || x > getMaxX() || y < getMinY() || y > getMaxY()) {
+			return false;
+		}
+		//Same triangle split as Polygon to keep edge behaviour identical
+		final float maxX = this.x + width;
+		final float maxY = this.y + height;
+		return triangleContains(x, y, this.x, this.y, maxX, this.y, this.x, maxY)
+				|| triangleContains(x, y, this.x, maxY, maxX, this.y, maxX, maxY);
+	}
+
+	private static boolean triangleContains(float x, float y, float p1x, float p1y, float p2x, float p2y, float p3x,
+			float p3y) {
+		final boolean b1 = sign(x, y, p1x, p1y, p2x, p2y) < 0.0f;
+		final boolean b2 = sign(x, y, p2x, p2y, p3x, p3y) < 0.0f;
+		final boolean b3 = sign(x, y, p3x, p3y, p1x, p1y) < 0.0f;
+		return (b1 == b2) && (b2 == b3);
+	}
+
+	private static float sign(float x, float y, float p1x, float p1y, float p2x, float p2y) {
+		return (x - p2x) * (p1y - p2y) - (p1x - p2x) * (y - p2y);
 	}
 
 	@Override
 	public boolean contains(Vector2 point) {
-		return polygon.contains(point);
+		return contains(point.x, point.y);
 	}
 	
 	@Override
 	public boolean contains(Sizeable shape) {
-		return polygon.contains(shape);
+		return syncPolygon().contains(shape);
 	}
 	
 	public boolean contains(Rectangle rectangle) {
-		return this.polygon.contains(rectangle.polygon);
+		return syncPolygon().contains(rectangle.getPolygon());
 	}
 	
 	public boolean contains(Circle circle) {
-		return this.polygon.contains(circle.getBoundingBox());
+		return syncPolygon().contains(circle.getBoundingBox().getPolygon());
 	}
 
 	@Override
 	public boolean intersects(Sizeable shape) {
-		return polygon.intersects(shape);
+		if(shape instanceof Rectangle) {
+			return intersects((Rectangle) shape);
+		}
+		if(shape.isCircle()) {
+			return intersects((Circle) shape);
+		}
+		return syncPolygon().intersects(shape);
 	}
 
 	/**
@@ -159,7 +262,12 @@ public class Rectangle extends Shape {
 	 * @return True if the {@link Circle} intersects
 	 */
 	public boolean intersects(Circle circle) {
-		return polygon.intersects(circle);
+		if(isRotated()) {
+			return polygon.intersects(circle);
+		}
+		final float closestX = MathUtils.clamp(circle.getX(), getMinX(), getMaxX()) - circle.getX();
+		final float closestY = MathUtils.clamp(circle.getY(), getMinY(), getMaxY()) - circle.getY();
+		return (closestX * closestX) + (closestY * closestY) < circle.getRadius() * circle.getRadius();
 	}
 
 	/**
@@ -170,13 +278,33 @@ public class Rectangle extends Shape {
 	 * @return True if the {@link Rectangle}s intersect
 	 */
 	public boolean intersects(Rectangle rectangle) {
-		return polygon.intersects(rectangle);
+		if(isRotated() || rectangle.isRotated()) {
+			return syncPolygon().intersects(rectangle.getPolygon());
+		}
+		return intersectsAxisAligned(rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY());
+	}
+
+	private boolean intersectsAxisAligned(float minX, float minY, float maxX, float maxY) {
+		return getMaxX() >= minX && maxX >= getMinX() && getMaxY() >= minY && maxY >= getMinY();
+	}
+
+	@Override
+	public boolean intersects(Shape shape, CollisionResult result) {
+		if (shape instanceof Rectangle && !isRotated() && !((Rectangle) shape).isRotated()) {
+			final Rectangle rectangle = (Rectangle) shape;
+			return Intersector.intersectAxisAlignedBoxes(getMinX(), getMinY(), getMaxX(), getMaxY(),
+					rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY(), result);
+		}
+		return super.intersects(shape, result);
 	}
 
 	public boolean intersects(float x, float y, float width, float height) {
-		TMP_RECTANGLE.set(x, y, width, height);
-		TMP_RECTANGLE.setRotation(0f);
-		return intersects(TMP_RECTANGLE);
+		if(isRotated()) {
+			TMP_RECTANGLE.set(x, y, width, height);
+			return intersects(TMP_RECTANGLE);
+		}
+		return intersectsAxisAligned(Math.min(x, x + width), Math.min(y, y + height),
+				Math.max(x, x + width), Math.max(y, y + height));
 	}
 	
 	/**
@@ -185,7 +313,7 @@ public class Rectangle extends Shape {
 	 * @return True if this {@link Rectangle} and the {@link Triangle} intersect
 	 */
 	public boolean intersects(Triangle triangle) {
-		return polygon.intersects(triangle);
+		return syncPolygon().intersects(triangle);
 	}
 	
 	/**
@@ -194,21 +322,21 @@ public class Rectangle extends Shape {
 	 * @return True if this {@link Rectangle} and the {@link Polygon} intersect
 	 */
 	public boolean intersects(Polygon polygon) {
-		return this.polygon.intersects(polygon);
+		return syncPolygon().intersects(polygon);
 	}
 
 	@Override
 	public boolean intersectsLineSegment(Vector2 pointA, Vector2 pointB) {
-		return polygon.intersectsLineSegment(pointA, pointB);
+		return syncPolygon().intersectsLineSegment(pointA, pointB);
 	}
 
 	@Override
 	public boolean intersectsLineSegment(float x1, float y1, float x2, float y2) {
-		return polygon.intersectsLineSegment(x1, y1, x2, y2);
+		return syncPolygon().intersectsLineSegment(x1, y1, x2, y2);
 	}
 
 	public Rectangle intersection(Rectangle rect) {
-		if (polygon.getRotation() != 0f || rect.getRotation() != 0f)
+		if (isRotated() || rect.isRotated())
 			throw new UnsupportedOperationException(
 					"Rectangle.intersection is not implemented to handle rotated rectangles");
 
@@ -232,12 +360,20 @@ public class Rectangle extends Shape {
 	 */
 	@Override
 	public void draw(Graphics g) {
-		polygon.draw(g);
+		if(isRotated()) {
+			polygon.draw(g);
+			return;
+		}
+		g.drawRect(getMinX(), getMinY(), Math.abs(width), Math.abs(height));
 	}
 	
 	@Override
 	public void fill(Graphics g) {
-		polygon.fill(g);
+		if(isRotated()) {
+			polygon.fill(g);
+			return;
+		}
+		g.fillRect(getMinX(), getMinY(), Math.abs(width), Math.abs(height));
 	}
 	
 	public Rectangle lerp(Rectangle target, float alpha) {
@@ -264,43 +400,60 @@ public class Rectangle extends Shape {
 	}
 	
 	public float getDistanceTo(float x, float y) {
-	    return polygon.getDistanceTo(x, y);
+	    return syncPolygon().getDistanceTo(x, y);
 	}
 
 	@Override
 	public float getRotation() {
+		if(polygon == null) {
+			return 0f;
+		}
 		return polygon.getRotation();
 	}
 
 	@Override
 	public void setRotation(float degrees) {
-		polygon.setRotation(degrees);
+		if(polygon == null && degrees == 0f) {
+			return;
+		}
+		syncPolygon().setRotation(degrees);
+		postRotate();
 	}
 
 	@Override
 	public void rotate(float degrees) {
-		polygon.rotate(degrees);
+		if(degrees == 0f) {
+			return;
+		}
+		syncPolygon().rotate(degrees);
+		postRotate();
 	}
 	
 	@Override
 	public void rotateAround(float centerX, float centerY, float degrees) {
-		polygon.rotateAround(centerX, centerY, degrees);
+		if(degrees == 0f) {
+			return;
+		}
+		syncPolygon().rotateAround(centerX, centerY, degrees);
+		postRotate();
 	}
 
 	@Override
 	public void setRotationAround(float centerX, float centerY, float degrees) {
-		polygon.setRotationAround(centerX, centerY, degrees);
+		syncPolygon().setRotationAround(centerX, centerY, degrees);
+		postRotate();
 	}
 
 	public Rectangle set(float x, float y, float width, float height) {
-		float rotation = polygon.getRotation();
-		if(rotation != 0f) {
-			polygon.setRotation(-rotation);
+		if(!isRotated()) {
+			updatePosition(x, y);
+			updateSize(width, height);
+			return this;
 		}
+		float rotation = polygon.getRotation();
+		polygon.setRotation(-rotation);
 		polygon.setVertices(determineVertices(x, y, width, height));
-		if(rotation != 0f) {
-			polygon.setRotation(rotation);
-		}
+		polygon.setRotation(rotation);
 		
 		this.width = width;
 		this.height = height;
@@ -316,29 +469,47 @@ public class Rectangle extends Shape {
 	}
 	
 	public void setXY(float x, float y) {
-		polygon.setXY(x, y);
+		if(isRotated()) {
+			polygon.setXY(x, y);
+			return;
+		}
+		updatePosition(x, y);
 	}
 	
 	public void setXY(Vector2 position) {
-		polygon.setXY(position.x, position.y);
+		setXY(position.x, position.y);
 	}
 	
 	@Override
 	public float getX() {
-		return polygon.getX();
+		if(isRotated()) {
+			return polygon.getX();
+		}
+		return x;
 	}
 	
 	public void setX(float x) {
-		polygon.setX(x);
+		if(isRotated()) {
+			polygon.setX(x);
+			return;
+		}
+		updatePosition(x, y);
 	}
 	
 	@Override
 	public float getY() {
-		return polygon.getY();
+		if(isRotated()) {
+			return polygon.getY();
+		}
+		return y;
 	}
 	
 	public void setY(float y) {
-		polygon.setY(y);
+		if(isRotated()) {
+			polygon.setY(y);
+			return;
+		}
+		updatePosition(x, y);
 	}
 	
 	public float getWidth() {
@@ -346,12 +517,7 @@ public class Rectangle extends Shape {
 	}
 
 	public Rectangle setWidth(float width) {
-		float rotation = polygon.getRotation();
-		polygon.setRotation(-rotation);
-		polygon.setVertices(determineVertices(getX(), getY(), width, getHeight()));
-		polygon.setRotation(rotation);
-		this.width = width;
-		return this;
+		return setSize(width, height);
 	}
 	
 	public float getHeight() {
@@ -359,18 +525,17 @@ public class Rectangle extends Shape {
 	}
 
 	public Rectangle setHeight(float height) {
-		float rotation = polygon.getRotation();
-		polygon.setRotation(-rotation);
-		polygon.setVertices(determineVertices(getX(), getY(), getWidth(), height));
-		polygon.setRotation(rotation);
-		this.height = height;
-		return this;
+		return setSize(width, height);
 	}
 
 	public Rectangle setSize(float width, float height) {
+		if(!isRotated()) {
+			updateSize(width, height);
+			return this;
+		}
 		float rotation = polygon.getRotation();
 		polygon.setRotation(-rotation);
-		polygon.setVertices(determineVertices(getX(), getY(), getWidth(), height));
+		polygon.setVertices(determineVertices(getX(), getY(), width, height));
 		polygon.setRotation(rotation);
 		
 		this.width = width;
@@ -379,18 +544,12 @@ public class Rectangle extends Shape {
 	}
 
 	public Rectangle setSize(float sizeXY) {
-		float rotation = polygon.getRotation();
-		polygon.setRotation(-rotation);
-		polygon.setVertices(determineVertices(getX(), getY(), sizeXY, sizeXY));
-		polygon.setRotation(rotation);
-		
-		this.width = sizeXY;
-		this.height = sizeXY;
-		return this;
+		return setSize(sizeXY, sizeXY);
 	}
 	
 	@Override
 	public void setRadius(float radius) {
+		final Polygon polygon = syncPolygon();
 		polygon.setRadius(radius);
 		width = polygon.getMaxX() - polygon.getX();
 		height = polygon.getMaxY() - polygon.getY();
@@ -398,6 +557,7 @@ public class Rectangle extends Shape {
 	
 	@Override
 	public void scale(float scale) {
+		final Polygon polygon = syncPolygon();
 		polygon.scale(scale);
 		width = polygon.getMaxX() - polygon.getX();
 		height = polygon.getMaxY() - polygon.getY();
@@ -405,12 +565,16 @@ public class Rectangle extends Shape {
 	
 	@Override
 	public void translate(float translateX, float translateY) {
-		polygon.translate(translateX, translateY);
+		if(isRotated()) {
+			polygon.translate(translateX, translateY);
+			return;
+		}
+		updatePosition(x + translateX, y + translateY);
 	}
 	
 	@Override
 	public EdgeIterator edgeIterator() {
-		return polygon.edgeIterator();
+		return syncPolygon().edgeIterator();
 	}
 
 	/**
@@ -419,7 +583,10 @@ public class Rectangle extends Shape {
 	 * @return
 	 */
 	public float getCenterX() {
-		return polygon.getCenterX();
+		if(isRotated()) {
+			return polygon.getCenterX();
+		}
+		return x + (width * 0.5f);
 	}
 
 	/**
@@ -428,22 +595,37 @@ public class Rectangle extends Shape {
 	 * @return
 	 */
 	public float getCenterY() {
-		return polygon.getCenterY();
+		if(isRotated()) {
+			return polygon.getCenterY();
+		}
+		return y + (height * 0.5f);
 	}
 	
 	@Override
 	public void setCenter(float x, float y) {
-		polygon.setCenter(x, y);
+		if(isRotated()) {
+			polygon.setCenter(x, y);
+			return;
+		}
+		updatePosition(x - (width * 0.5f), y - (height * 0.5f));
 	}
 
 	@Override
 	public void setCenterX(float x) {
-		polygon.setCenterX(x);
+		if(isRotated()) {
+			polygon.setCenterX(x);
+			return;
+		}
+		updatePosition(x - (width * 0.5f), y);
 	}
 
 	@Override
 	public void setCenterY(float y) {
-		polygon.setCenterY(y);
+		if(isRotated()) {
+			polygon.setCenterY(y);
+			return;
+		}
+		updatePosition(x, y - (height * 0.5f));
 	}
 
 	/**
@@ -452,7 +634,10 @@ public class Rectangle extends Shape {
 	 * @return
 	 */
 	public float getMinX() {
-		return polygon.getMinX();
+		if(isRotated()) {
+			return polygon.getMinX();
+		}
+		return width < 0f ? x + width : x;
 	}
 
 	/**
@@ -461,7 +646,10 @@ public class Rectangle extends Shape {
 	 * @return
 	 */
 	public float getMinY() {
-		return polygon.getMinY();
+		if(isRotated()) {
+			return polygon.getMinY();
+		}
+		return height < 0f ? y + height : y;
 	}
 
 	/**
@@ -470,7 +658,10 @@ public class Rectangle extends Shape {
 	 * @return
 	 */
 	public float getMaxX() {
-		return polygon.getMaxX();
+		if(isRotated()) {
+			return polygon.getMaxX();
+		}
+		return width < 0f ? x : x + width;
 	}
 
 	/**
@@ -479,7 +670,10 @@ public class Rectangle extends Shape {
 	 * @return
 	 */
 	public float getMaxY() {
-		return polygon.getMaxY();
+		if(isRotated()) {
+			return polygon.getMaxY();
+		}
+		return height < 0f ? y : y + height;
 	}
 	
 	/**
@@ -487,12 +681,12 @@ public class Rectangle extends Shape {
 	 * @return
 	 */
 	public float [] getVertices() {
-		return polygon.getVertices();
+		return syncPolygon().getVertices();
 	}
 
 	@Override
 	public String toString() {
-		return "Rectangle [rotation=" + polygon.getRotation() + ", x=" + getX() + ", y=" + getY()
+		return "Rectangle [rotation=" + getRotation() + ", x=" + getX() + ", y=" + getY()
 				+ ", width=" + getWidth() + ", height=" + getHeight() + "]";
 	}
 
@@ -501,9 +695,15 @@ public class Rectangle extends Shape {
 		return false;
 	}
 
+	/**
+	 * Returns a {@link Polygon} representation of this {@link Rectangle}.
+	 * Unrotated {@link Rectangle}s create this lazily, so the returned instance
+	 * should be re-fetched after this {@link Rectangle} is modified.
+	 * @return The {@link Polygon} for this {@link Rectangle}
+	 */
 	@Override
 	public Polygon getPolygon() {
-		return polygon;
+		return syncPolygon();
 	}
 
 	@Override
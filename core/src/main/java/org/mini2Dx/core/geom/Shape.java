@@ -79,6 +79,63 @@ public abstract class Shape implements Sizeable {
 		return intersectsLineSegment(lineSegment.getPointA(), lineSegment.getPointB());
 	}
 
+	/**
+	 * Returns if this {@link Shape} intersects another {@link Shape} and
+	 * stores the contact normal and minimum translation vector in a
+	 * {@link CollisionResult}. Convex shapes are tested using the separating
+	 * axis theorem. If either shape is a concave {@link Polygon}, only the
+	 * intersection is determined and the {@link CollisionResult} is reset.
+	 *
+	 * @param shape
+	 *            The {@link Shape} to check
+	 * @param result
+	 *            The {@link CollisionResult} to store the result in. The
+	 *            contact normal points from this {@link Shape} towards the
+	 *            other {@link Shape}. Not modified if there is no intersection.
+	 *            May be null if only a boolean result is required.
+	 * @return True if the two {@link Shape}s intersect
+	 */
+	public boolean intersects(Shape shape, CollisionResult result) {
+		if (isCircle()) {
+			if (shape.isCircle()) {
+				return Intersector.intersectCircles((Circle) this, (Circle) shape, result);
+			}
+			final Polygon polygon = shape.getPolygon();
+			if (!polygon.isConvex()) {
+				return intersectsConcave(shape, result);
+			}
+			if (!Intersector.intersectConvexPolygonCircle(polygon, (Circle) this, result)) {
+				return false;
+			}
+			if (result != null) {
+				result.flip();
+			}
+			return true;
+		}
+		final Polygon polygon = getPolygon();
+		if (!polygon.isConvex()) {
+			return intersectsConcave(shape, result);
+		}
+		if (shape.isCircle()) {
+			return Intersector.intersectConvexPolygonCircle(polygon, (Circle) shape, result);
+		}
+		final Polygon otherPolygon = shape.getPolygon();
+		if (!otherPolygon.isConvex()) {
+			return intersectsConcave(shape, result);
+		}
+		return Intersector.intersectConvexPolygons(polygon, otherPolygon, result);
+	}
+
+	private boolean intersectsConcave(Shape shape, CollisionResult result) {
+		if (!intersects(shape)) {
+			return false;
+		}
+		if (result != null) {
+			result.reset();
+		}
+		return true;
+	}
+
 	/**
 	 * Returns the distance from this {@link Shape} to a {@link Positionable}
 	 *
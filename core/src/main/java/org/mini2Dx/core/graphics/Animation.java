@@ -18,13 +18,21 @@ package org.mini2Dx.core.graphics;
 import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.gdx.utils.Array;
+import org.mini2Dx.gdx.utils.FloatArray;
 
 /**
- * Implements an animation with frames of variable or fixed duration
+ * Implements an animation with frames of variable or fixed duration.
+ *
+ * Frame durations are stored with their cumulative end times so that the current frame
+ * can be found by binary search. Large numbers of animations can be advanced together by an {@link AnimationSystem}.
+ * Frames are drawn with this animation's origin, rotation, flip and tint without modifying the frame {@link Sprite}s,
+ * so the same frames can be shared between multiple animations.
  */
 public class Animation<T extends Sprite> {
 	private Array<T> frames;
-	private Array<Float> durations;
+	private FloatArray durations;
+	private FloatArray frameEndTimes;
+	private float totalDuration;
 	private int currentFrameIndex;
 	private float elapsed;
 	private boolean looping;
@@ -41,7 +49,9 @@ public class Animation<T extends Sprite> {
 	public Animation() {
 		currentFrameIndex = 0;
 		frames = new Array<T>(true, 2);
-		durations = new Array<Float>(true, 2);
+		durations = new FloatArray(true, 2);
+		frameEndTimes = new FloatArray(true, 2);
+		totalDuration = 0f;
 		elapsed = 0f;
 		looping = false;
 	}
@@ -56,6 +66,8 @@ public class Animation<T extends Sprite> {
 	 */
 	public void addFrame(T frame, float duration) {
 		durations.add(duration);
+		totalDuration += duration;
+		frameEndTimes.add(totalDuration);
 		frames.add(frame);
 		if(color == null)
 			color = frame.getTint();
@@ -72,6 +84,19 @@ public class Animation<T extends Sprite> {
 	public void removeFrame(int index) {
 		durations.removeIndex(index);
 		frames.removeIndex(index);
+
+		frameEndTimes.clear();
+		totalDuration = 0f;
+		for(int i = 0; i < durations.size; i++) {
+			totalDuration += durations.get(i);
+			frameEndTimes.add(totalDuration);
+		}
+		if(currentFrameIndex >= frames.size) {
+			currentFrameIndex = Math.max(0, frames.size - 1);
+		}
+		if(!looping && elapsed > totalDuration) {
+			elapsed = totalDuration;
+		}
 	}
 
 	/**
@@ -90,23 +115,47 @@ public class Animation<T extends Sprite> {
 	 *            The time in seconds since the last update
 	 */
 	public void update(float delta) {
-		elapsed += delta;
-
-		if(durations.size == 0)
+		if(durations.size == 0) {
+			elapsed += delta;
 			return;
+		}
+		float elapsed = this.elapsed + delta;
+		if(elapsed >= totalDuration) {
+			if(looping) {
+				elapsed = totalDuration > 0f ? elapsed % totalDuration : 0f;
+			} else {
+				elapsed = totalDuration;
+			}
+		}
+		this.elapsed = elapsed;
+		currentFrameIndex = findFrameIndex(elapsed);
+	}
+
+	private int findFrameIndex(float time) {
+		final float[] endTimes = frameEndTimes.items;
+		final int lastIndex = frameEndTimes.size - 1;
+
+		//Most updates stay on the current frame or move to the next
+		int index = currentFrameIndex;
+		if(index <= lastIndex && time < endTimes[index] && (index == 0 || time >= endTimes[index - 1])) {
+			return index;
+		}
+		index++;
+		if(index <= lastIndex && time < endTimes[index] && time >= endTimes[index - 1]) {
+			return index;
+		}
 
-		float duration = durations.get(currentFrameIndex);
-		while (elapsed >= duration) {
-			elapsed = elapsed - duration;
-			if(currentFrameIndex == frames.size - 1) {
-				if(looping) {
-					currentFrameIndex = 0;
-				}
+		int low = 0;
+		int high = lastIndex;
+		while(low < high) {
+			final int mid = (low + high) >>> 1;
+			if(endTimes[mid] > time) {
+				high = mid;
 			} else {
-				currentFrameIndex++;
+				low = mid + 1;
 			}
-			duration = durations.get(currentFrameIndex);
 		}
+		return low;
 	}
 
 	/**
@@ -119,13 +168,8 @@ public class Animation<T extends Sprite> {
 		if(currentFrameIndex >= frames.size)
 			return;
 
-		T sprite = getCurrentFrame();
-		sprite.setOrigin(originX, originY);
-		sprite.setRotation(rotation);
-		sprite.setTint(color);
-		sprite.setFlip(flipX, flipY);
-		g.drawSprite(sprite);
-		sprite.setRotation(0f);
+		final T sprite = getCurrentFrame();
+		draw(g, sprite, sprite.getX(), sprite.getY());
 	}
 
 	/**
@@ -142,13 +186,18 @@ public class Animation<T extends Sprite> {
 		if(currentFrameIndex >= frames.size)
 			return;
 
-		T sprite = getCurrentFrame();
-		sprite.setOrigin(originX, originY);
-		sprite.setRotation(rotation);
-		sprite.setTint(color);
-		sprite.setFlip(flipX, flipY);
-		g.drawSprite(sprite, x, y);
-		sprite.setRotation(0f);
+		draw(g, getCurrentFrame(), x, y);
+	}
+
+	private void draw(Graphics g, T sprite, float x, float y) {
+		//Frames are scaled around the origin, matching how a scaled Sprite is drawn
+		final float scaleX = sprite.getScaleX();
+		final float scaleY = sprite.getScaleY();
+		final float scaledOriginX = originX * scaleX;
+		final float scaledOriginY = originY * scaleY;
+		g.drawTextureRegion(sprite, x + originX - scaledOriginX, y + originY - scaledOriginY,
+				sprite.getWidth() * scaleX, sprite.getHeight() * scaleY, scaledOriginX, scaledOriginY, rotation,
+				flipX != sprite.isFlipX(), flipY != sprite.isFlipY(), color);
 	}
 
 	/**
@@ -352,7 +401,32 @@ public class Animation<T extends Sprite> {
 		}
 		if(currentFrameIndex != frames.size - 1)
 			return false;
-		return elapsed >= durations.get(currentFrameIndex);
+		return elapsed >= totalDuration;
+	}
+
+	/**
+	 * Returns the duration of a frame
+	 * @param index The frame's index
+	 * @return The duration in seconds
+	 */
+	public float getFrameDuration(int index) {
+		return durations.get(index);
+	}
+
+	/**
+	 * Returns the total duration of all frames
+	 * @return The duration in seconds
+	 */
+	public float getTotalDuration() {
+		return totalDuration;
+	}
+
+	/**
+	 * Returns the time elapsed since the start of the animation
+	 * @return A value between 0 and {@link #getTotalDuration()}
+	 */
+	public float getElapsed() {
+		return elapsed;
 	}
 }
 
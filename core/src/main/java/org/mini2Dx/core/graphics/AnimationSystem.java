@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics;
+
+import org.mini2Dx.core.util.ParallelRange;
+import org.mini2Dx.gdx.utils.Array;
+
+/**
+ * Advances many {@link Animation}s in a single loop rather than each being updated separately.
+ * Optionally splits the update across threads when the number of animations is large.
+ */
+public class AnimationSystem {
+	private final Array<Animation> animations = new Array<Animation>(true, 16, Animation.class);
+
+	private int parallelThreshold = 0;
+	private float parallelDelta;
+	private final ParallelRange parallelRange = new ParallelRange(new ParallelRange.RangeProcessor() {
+		@Override
+		public void process(int from, int to) {
+			update(animations.items, from, to, parallelDelta);
+		}
+	});
+
+	/**
+	 * Adds an {@link Animation} to be advanced by this system
+	 * @param animation The {@link Animation} to add
+	 */
+	public void add(Animation<?> animation) {
+		animations.add(animation);
+	}
+
+	/**
+	 * Removes an {@link Animation} from this system
+	 * @param animation The {@link Animation} to remove
+	 * @return False if the {@link Animation} was not in this system
+	 */
+	public boolean remove(Animation<?> animation) {
+		return animations.removeValue(animation, true);
+	}
+
+	/**
+	 * Returns if an {@link Animation} is advanced by this system
+	 * @param animation The {@link Animation} to check
+	 * @return True if the {@link Animation} is in this system
+	 */
+	public boolean contains(Animation<?> animation) {
+		return animations.contains(animation, true);
+	}
+
+	/**
+	 * Removes all {@link Animation}s from this system
+	 */
+	public void clear() {
+		animations.clear();
+	}
+
+	/**
+	 * Returns the number of {@link Animation}s in this system
+	 * @return 0 if there are no {@link Animation}s
+	 */
+	public int size() {
+		return animations.size;
+	}
+
+	/**
+	 * Advances all {@link Animation}s
+	 * @param delta The time in seconds since the last update
+	 */
+	public void update(float delta) {
+		final int total = animations.size;
+		if(parallelThreshold > 0 && total >= parallelThreshold) {
+			parallelDelta = delta;
+			parallelRange.execute(total);
+		} else {
+			update(animations.items, 0, total, delta);
+		}
+	}
+
+	private static void update(Animation [] animations, int from, int to, float delta) {
+		for(int i = from; i < to; i++) {
+			animations[i].update(delta);
+		}
+	}
+
+	/**
+	 * Returns the minimum number of {@link Animation}s required before updates are split across threads
+	 * @return 0 if updates are always single-threaded
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of {@link Animation}s required before updates are split across
+	 * threads via a {@link ParallelRange}. Set to 0 to always update on the calling thread.
+	 * @param parallelThreshold The threshold
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+}
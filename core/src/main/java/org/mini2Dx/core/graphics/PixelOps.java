@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics;
+
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.exception.MdxException;
+import org.mini2Dx.core.util.ParallelRange;
+
+import java.nio.Buffer;
+import java.nio.IntBuffer;
+
+/**
+ * Bulk pixel operations over RGBA8888 int arrays (one int per pixel, rows stored contiguously).
+ *
+ * Procedural images (e.g. fog of war, minimaps) can be composed into an int array using these operations
+ * and then transferred to a {@link Pixmap} in one bulk copy via {@link #write(int[], int, Pixmap, int, int, int, int)}
+ * instead of drawing each pixel individually. All regions are clipped to the bounds of the arrays.
+ *
+ * Operations covering at least {@link #getParallelThreshold()} pixels are split by row across threads
+ * via a {@link ParallelRange}. Instances are not thread-safe; each thread should use its own instance.
+ */
+public class PixelOps {
+	private static final int OP_FILL = 0;
+	private static final int OP_COPY = 1;
+	private static final int OP_BLEND = 2;
+
+	private int parallelThreshold = 0;
+	private final ParallelRange parallelRange = new ParallelRange(new ParallelRange.RangeProcessor() {
+		@Override
+		public void process(int from, int to) {
+			execute(from, to);
+		}
+	});
+
+	private int op;
+	private int [] src, dst;
+	private int srcStride, dstStride;
+	private int srcX, srcY, dstX, dstY;
+	private int width, height;
+	private int color;
+	private boolean overlapping;
+
+	/**
+	 * Fills a region of an int array with a color
+	 * @param dst The pixels to fill
+	 * @param dstStride The width (in pixels) of each row in the array
+	 * @param x The x coordinate of the region
+	 * @param y The y coordinate of the region
+	 * @param width The width of the region
+	 * @param height The height of the region
+	 * @param rgba8888 The color in RGBA8888 format
+	 */
+	public void fill(int [] dst, int dstStride, int x, int y, int width, int height, int rgba8888) {
+		checkStride(dst, dstStride);
+		if(!clip(x, y, Integer.MAX_VALUE, Integer.MAX_VALUE, x, y, dstStride, dst.length / dstStride, width, height)) {
+			return;
+		}
+		this.op = OP_FILL;
+		this.dst = dst;
+		this.dstStride = dstStride;
+		this.color = rgba8888;
+		this.overlapping = false;
+		execute();
+	}
+
+	/**
+	 * Copies a region from one int array to another, replacing the destination pixels.
+	 * The source and destination may be the same array with overlapping regions, in which case
+	 * the copy behaves as if the source region was first copied to a temporary array and
+	 * always runs on the calling thread.
+	 * @param src The source pixels
+	 * @param srcStride The width (in pixels) of each row in the source array
+	 * @param srcX The x coordinate of the region in the source
+	 * @param srcY The y coordinate of the region in the source
+	 * @param dst The destination pixels
+	 * @param dstStride The width (in pixels) of each row in the destination array
+	 * @param dstX The x coordinate to copy to in the destination
+	 * @param dstY The y coordinate to copy to in the destination
+	 * @param width The width of the region
+	 * @param height The height of the region
+	 */
+	public void copy(int [] src, int srcStride, int srcX, int srcY, int [] dst, int dstStride, int dstX, int dstY, int width, int height) {
+		checkStride(src, srcStride);
+		checkStride(dst, dstStride);
+		checkAliasedStride(src, srcStride, dst, dstStride);
+		if(!clip(srcX, srcY, srcStride, src.length / srcStride, dstX, dstY, dstStride, dst.length / dstStride, width, height)) {
+			return;
+		}
+		this.op = OP_COPY;
+		this.src = src;
+		this.srcStride = srcStride;
+		this.dst = dst;
+		this.dstStride = dstStride;
+		this.overlapping = isOverlapping();
+		execute();
+	}
+
+	/**
+	 * Alpha blends a region from one int array over another using
+	 * the same source-over compositing as {@link PixmapBlending#SOURCE_OVER}.
+	 * The source and destination may be the same array with overlapping regions, in which case
+	 * each source pixel is read before it is blended over and the operation always runs on the calling thread.
+	 * @param src The source pixels
+	 * @param srcStride The width (in pixels) of each row in the source array
+	 * @param srcX The x coordinate of the region in the source
+	 * @param srcY The y coordinate of the region in the source
+	 * @param dst The destination pixels
+	 * @param dstStride The width (in pixels) of each row in the destination array
+	 * @param dstX The x coordinate to blend to in the destination
+	 * @param dstY The y coordinate to blend to in the destination
+	 * @param width The width of the region
+	 * @param height The height of the region
+	 */
+	public void blend(int [] src, int srcStride, int srcX, int srcY, int [] dst, int dstStride, int dstX, int dstY, int width, int height) {
+		checkStride(src, srcStride);
+		checkStride(dst, dstStride);
+		checkAliasedStride(src, srcStride, dst, dstStride);
+		if(!clip(srcX, srcY, srcStride, src.length / srcStride, dstX, dstY, dstStride, dst.length / dstStride, width, height)) {
+			return;
+		}
+		this.op = OP_BLEND;
+		this.src = src;
+		this.srcStride = srcStride;
+		this.dst = dst;
+		this.dstStride = dstStride;
+		this.overlapping = isOverlapping();
+		execute();
+	}
+
+	/**
+	 * Copies a region of a {@link PixmapFormat#RGBA8888} {@link Pixmap} into an int array
+	 * @param pixmap The {@link Pixmap} to read from
+	 * @param x The x coordinate of the region in the {@link Pixmap}
+	 * @param y The y coordinate of the region in the {@link Pixmap}
+	 * @param width The width of the region
+	 * @param height The height of the region
+	 * @param dst The array to copy to
+	 * @param dstStride The width (in pixels) of each row in the array
+	 */
+	public void read(Pixmap pixmap, int x, int y, int width, int height, int [] dst, int dstStride) {
+		final IntBuffer buffer = pixmap.getIntPixelBuffer();
+		final int pixmapWidth = pixmap.getWidth();
+		checkStride(dst, dstStride);
+		if(!clip(x, y, pixmapWidth, pixmap.getHeight(), 0, 0, dstStride, dst.length / dstStride, width, height)) {
+			return;
+		}
+		for(int row = 0; row < this.height; row++) {
+			((Buffer) buffer).position(((this.srcY + row) * pixmapWidth) + this.srcX);
+			buffer.get(dst, ((this.dstY + row) * dstStride) + this.dstX, this.width);
+		}
+		((Buffer) buffer).clear();
+	}
+
+	/**
+	 * Copies a region of an int array into a {@link PixmapFormat#RGBA8888} {@link Pixmap}, replacing its pixels.
+	 * If the {@link Pixmap} only provides a read-only copy of its pixels, they are drawn individually instead.
+	 * @param src The array to copy from
+	 * @param srcStride The width (in pixels) of each row in the array
+	 * @param pixmap The {@link Pixmap} to write to
+	 * @param x The x coordinate to copy to in the {@link Pixmap}
+	 * @param y The y coordinate to copy to in the {@link Pixmap}
+	 * @param width The width of the region
+	 * @param height The height of the region
+	 */
+	public void write(int [] src, int srcStride, Pixmap pixmap, int x, int y, int width, int height) {
+		final IntBuffer buffer = pixmap.getIntPixelBuffer();
+		final int pixmapWidth = pixmap.getWidth();
+		checkStride(src, srcStride);
+		if(!clip(0, 0, srcStride, src.length / srcStride, x, y, pixmapWidth, pixmap.getHeight(), width, height)) {
+			return;
+		}
+		if(buffer.isReadOnly()) {
+			drawPixels(src, srcStride, pixmap);
+			return;
+		}
+		for(int row = 0; row < this.height; row++) {
+			((Buffer) buffer).position(((this.dstY + row) * pixmapWidth) + this.dstX);
+			buffer.put(src, ((this.srcY + row) * srcStride) + this.srcX, this.width);
+		}
+		((Buffer) buffer).clear();
+	}
+
+	private void drawPixels(int [] src, int srcStride, Pixmap pixmap) {
+		final PixmapBlending blending = pixmap.getBlending();
+		final Color color = Mdx.graphics.newColor(0f, 0f, 0f, 0f);
+		pixmap.setBlending(PixmapBlending.NONE);
+		for(int row = 0; row < this.height; row++) {
+			final int srcOffset = ((this.srcY + row) * srcStride) + this.srcX;
+			for(int column = 0; column < this.width; column++) {
+				final int rgba8888 = src[srcOffset + column];
+				color.set((byte) (rgba8888 >>> 24), (byte) (rgba8888 >>> 16), (byte) (rgba8888 >>> 8), (byte) rgba8888);
+				pixmap.drawPixel(this.dstX + column, this.dstY + row, color);
+			}
+		}
+		pixmap.setBlending(blending);
+	}
+
+	/**
+	 * Blends two RGBA8888 colors using source-over compositing
+	 * @param src The source color
+	 * @param dst The destination color
+	 * @return The resulting RGBA8888 color
+	 */
+	public static int blend(int src, int dst) {
+		final int srcA = src & 0xff;
+		if(srcA == 0xff) {
+			return src;
+		}
+		if(srcA == 0) {
+			return dst;
+		}
+		int dstA = dst & 0xff;
+		dstA -= (dstA * srcA) / 255;
+		final int a = dstA + srcA;
+		final int r = ((((dst >>> 24) & 0xff) * dstA) + (((src >>> 24) & 0xff) * srcA)) / a;
+		final int g = ((((dst >>> 16) & 0xff) * dstA) + (((src >>> 16) & 0xff) * srcA)) / a;
+		final int b = ((((dst >>> 8) & 0xff) * dstA) + (((src >>> 8) & 0xff) * srcA)) / a;
+		return (r << 24) | (g << 16) | (b << 8) | a;
+	}
+
+	private boolean clip(int srcX, int srcY, int srcWidth, int srcHeight,
+						 int dstX, int dstY, int dstWidth, int dstHeight, int width, int height) {
+		final int offsetX = Math.max(0, Math.max(-srcX, -dstX));
+		srcX += offsetX;
+		dstX += offsetX;
+		width -= offsetX;
+
+		final int offsetY = Math.max(0, Math.max(-srcY, -dstY));
+		srcY += offsetY;
+		dstY += offsetY;
+		height -= offsetY;
+
+		width = Math.min(width, Math.min(srcWidth - srcX, dstWidth - dstX));
+		height = Math.min(height, Math.min(srcHeight - srcY, dstHeight - dstY));
+		if(width <= 0 || height <= 0) {
+			return false;
+		}
+		this.srcX = srcX;
+		this.srcY = srcY;
+		this.dstX = dstX;
+		this.dstY = dstY;
+		this.width = width;
+		this.height = height;
+		return true;
+	}
+
+	private static void checkStride(int [] pixels, int stride) {
+		if(stride <= 0) {
+			throw new MdxException("Row stride must be greater than 0");
+		}
+		if(pixels.length % stride != 0) {
+			throw new MdxException("Array length " + pixels.length + " is not a multiple of the row stride " + stride);
+		}
+	}
+
+	private boolean isOverlapping() {
+		return src == dst && Math.abs(dstY - srcY) < height && Math.abs(dstX - srcX) < width;
+	}
+
+	private static void checkAliasedStride(int [] src, int srcStride, int [] dst, int dstStride) {
+		if(src == dst && srcStride != dstStride) {
+			throw new MdxException("Source and destination are the same array but have different row strides");
+		}
+	}
+
+	private void execute() {
+		try {
+			if(overlapping) {
+				//Rows are visited in the opposite direction to the shift so that source rows are read before they are overwritten
+				if(dstY > srcY) {
+					for(int row = height - 1; row >= 0; row--) {
+						execute(row, row + 1);
+					}
+				} else {
+					execute(0, height);
+				}
+			} else if(parallelThreshold > 0 && width * height >= parallelThreshold) {
+				parallelRange.execute(height);
+			} else {
+				execute(0, height);
+			}
+		} finally {
+			clearReferences();
+		}
+	}
+
+	private void execute(int fromRow, int toRow) {
+		final int [] src = this.src;
+		final int [] dst = this.dst;
+		final int width = this.width;
+
+		for(int row = fromRow; row < toRow; row++) {
+			final int dstOffset = ((dstY + row) * dstStride) + dstX;
+			switch(op) {
+			case OP_FILL: {
+				final int color = this.color;
+				for(int i = dstOffset, end = dstOffset + width; i < end; i++) {
+					dst[i] = color;
+				}
+				break;
+			}
+			case OP_COPY:
+				System.arraycopy(src, ((srcY + row) * srcStride) + srcX, dst, dstOffset, width);
+				break;
+			case OP_BLEND: {
+				final int srcOffset = ((srcY + row) * srcStride) + srcX;
+				if(src == dst && srcOffset < dstOffset) {
+					for(int i = width - 1; i >= 0; i--) {
+						dst[dstOffset + i] = blend(src[srcOffset + i], dst[dstOffset + i]);
+					}
+				} else {
+					for(int i = 0; i < width; i++) {
+						dst[dstOffset + i] = blend(src[srcOffset + i], dst[dstOffset + i]);
+					}
+				}
+				break;
+			}
+			}
+		}
+	}
+
+	private void clearReferences() {
+		src = null;
+		dst = null;
+	}
+
+	/**
+	 * Returns the minimum number of pixels an operation must cover before it is split across threads
+	 * @return 0 if operations are always single-threaded
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of pixels an operation must cover before it is split by row across
+	 * threads via a {@link ParallelRange}. Set to 0 to always run operations on the calling thread.
+	 * @param parallelThreshold The threshold
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+}
@@ -17,6 +17,9 @@ package org.mini2Dx.core.graphics;
 
 import org.mini2Dx.gdx.utils.Disposable;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
 public interface Pixmap extends Disposable {
 
 	/**
@@ -162,6 +165,27 @@ public interface Pixmap extends Disposable {
 	 */
 	public byte [] getPixels();
 
+	/**
+	 * Returns a direct view of the pixel memory without copying. The byte layout is the same as {@link #getPixels()}
+	 * and changes made via the buffer are applied directly to this Pixmap. Only the buffer's position and limit
+	 * are shared with subsequent calls, so callers should not rely on them. Platforms that cannot expose their
+	 * pixel memory return a read-only copy instead (see {@link ByteBuffer#isReadOnly()}).
+	 *
+	 * @return A {@link ByteBuffer} backed by the pixel memory
+	 */
+	public ByteBuffer getPixelBuffer();
+
+	/**
+	 * Returns a direct view of the pixel memory of a {@link PixmapFormat#RGBA8888} Pixmap without copying,
+	 * with one RGBA8888 int per pixel in row-major order. Use {@link PixelOps} for bulk operations.
+	 * Platforms that cannot expose their pixel memory return a read-only copy instead
+	 * (see {@link IntBuffer#isReadOnly()}).
+	 *
+	 * @return An {@link IntBuffer} backed by the pixel memory
+	 * @throws org.mini2Dx.core.exception.MdxException if the Pixmap format is not {@link PixmapFormat#RGBA8888}
+	 */
+	public IntBuffer getIntPixelBuffer();
+
 	/**
 	 * @return The width of the Pixmap in pixels.
 	 */
@@ -22,28 +22,27 @@ public interface TextureAtlas extends Disposable {
 
 	/**
 	 * Returns all regions in the atlas.
+	 * The returned {@link Array} is shared between calls and must not be modified.
 	 */
 	public Array<TextureAtlasRegion> getRegions();
 
 	/**
-	 * Returns the first region found with the specified name. This method uses string comparison to find the region, so the result
-	 * should be cached rather than calling this method multiple times.
+	 * Returns the first region found with the specified name
 	 *
 	 * @return The region, or null.
 	 */
 	public TextureAtlasRegion findRegion(String name);
 
 	/**
-	 * Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times.
+	 * Returns the first region found with the specified name and index
 	 *
 	 * @return The region, or null.
 	 */
 	public TextureAtlasRegion findRegion(String name, int index);
 
 	/**
-	 * Returns all regions with the specified name, ordered by smallest to largest index. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple times.
+	 * Returns all regions with the specified name, ordered by smallest to largest index.
+	 * The returned {@link Array} is shared between calls and must not be modified.
 	 */
 	public Array<TextureAtlasRegion> findRegions(String name);
 }
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics;
+
+import org.mini2Dx.core.util.ReadOnlyArray;
+import org.mini2Dx.gdx.utils.Array;
+import org.mini2Dx.gdx.utils.IntMap;
+import org.mini2Dx.gdx.utils.ObjectMap;
+
+/**
+ * Indexes {@link TextureAtlasRegion}s by name and index for constant time lookups
+ * in {@link TextureAtlas} implementations
+ */
+public class TextureAtlasRegionIndex {
+	private static final Array<TextureAtlasRegion> EMPTY = new ReadOnlyArray<TextureAtlasRegion>(true, 1).seal();
+
+	private final ObjectMap<String, NamedRegions> regionsByName = new ObjectMap<String, NamedRegions>();
+
+	public TextureAtlasRegionIndex() {
+		super();
+	}
+
+	/**
+	 * Constructor
+	 * @param regions The regions to index in atlas order
+	 */
+	public TextureAtlasRegionIndex(Array<TextureAtlasRegion> regions) {
+		super();
+		for(int i = 0; i < regions.size; i++) {
+			add(regions.get(i));
+		}
+	}
+
+	/**
+	 * Adds a region to the index
+	 * @param region The {@link TextureAtlasRegion} to add
+	 */
+	public void add(TextureAtlasRegion region) {
+		NamedRegions namedRegions = regionsByName.get(region.getName());
+		if(namedRegions == null) {
+			namedRegions = new NamedRegions();
+			regionsByName.put(region.getName(), namedRegions);
+		}
+		namedRegions.add(region);
+	}
+
+	/**
+	 * Removes all regions from the index
+	 */
+	public void clear() {
+		regionsByName.clear();
+	}
+
+	/**
+	 * Returns the first region with the specified name
+	 * @param name The region name
+	 * @return Null if no region exists
+	 */
+	public TextureAtlasRegion findRegion(String name) {
+		final NamedRegions namedRegions = regionsByName.get(name);
+		if(namedRegions == null) {
+			return null;
+		}
+		return namedRegions.first;
+	}
+
+	/**
+	 * Returns the first region with the specified name and index
+	 * @param name The region name
+	 * @param index The region index
+	 * @return Null if no region exists
+	 */
+	public TextureAtlasRegion findRegion(String name, int index) {
+		final NamedRegions namedRegions = regionsByName.get(name);
+		if(namedRegions == null) {
+			return null;
+		}
+		return namedRegions.byIndex.get(index);
+	}
+
+	/**
+	 * Returns all regions with the specified name ordered by smallest to largest index.
+	 * The result is cached and read-only.
+	 * @param name The region name
+	 * @return An empty array if no regions exist
+	 */
+	public Array<TextureAtlasRegion> findRegions(String name) {
+		final NamedRegions namedRegions = regionsByName.get(name);
+		if(namedRegions == null) {
+			return EMPTY;
+		}
+		return namedRegions.getSortedRegions();
+	}
+
+	private static class NamedRegions {
+		final IntMap<TextureAtlasRegion> byIndex = new IntMap<TextureAtlasRegion>(4);
+		final Array<TextureAtlasRegion> regions = new Array<TextureAtlasRegion>(true, 1);
+		TextureAtlasRegion first;
+		ReadOnlyArray<TextureAtlasRegion> sortedRegions;
+
+		void add(TextureAtlasRegion region) {
+			if(first == null) {
+				first = region;
+			}
+			if(!byIndex.containsKey(region.getIndex())) {
+				byIndex.put(region.getIndex(), region);
+			}
+			regions.add(region);
+			sortedRegions = null;
+		}
+
+		ReadOnlyArray<TextureAtlasRegion> getSortedRegions() {
+			if(sortedRegions != null) {
+				return sortedRegions;
+			}
+			final ReadOnlyArray<TextureAtlasRegion> result = new ReadOnlyArray<TextureAtlasRegion>(true, regions.size);
+			for(int i = 0; i < regions.size; i++) {
+				final TextureAtlasRegion region = regions.get(i);
+				int insertIndex = result.size;
+				while(insertIndex > 0 && result.get(insertIndex - 1).getIndex() > region.getIndex()) {
+					insertIndex--;
+				}
+				result.insert(insertIndex, region);
+			}
+			sortedRegions = result.seal();
+			return sortedRegions;
+		}
+	}
+}
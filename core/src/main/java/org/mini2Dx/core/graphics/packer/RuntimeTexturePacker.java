@@ -0,0 +1,395 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics.packer;
+
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.executor.AsyncResult;
+import org.mini2Dx.core.graphics.Pixmap;
+import org.mini2Dx.core.graphics.PixmapBlending;
+import org.mini2Dx.core.graphics.PixmapFormat;
+import org.mini2Dx.core.graphics.Texture;
+import org.mini2Dx.core.graphics.TextureRegion;
+import org.mini2Dx.gdx.utils.Array;
+import org.mini2Dx.gdx.utils.Disposable;
+import org.mini2Dx.gdx.utils.ObjectMap;
+
+/**
+ * Packs {@link Pixmap}s into shared texture pages at runtime so that images loaded separately
+ * (e.g. tileset images) can be drawn without switching textures.
+ *
+ * Images are placed using a {@link SkylinePacker} and copied into a CPU-side page {@link Pixmap}.
+ * {@link #packAsync(String, Pixmap)} does this on a {@link org.mini2Dx.core.TaskExecutor} thread and
+ * {@link #update()} then uploads the packed images on the GL thread.
+ *
+ * Each call to {@link #pack(String, Pixmap)} or {@link #packAsync(String, Pixmap)} acquires a reference
+ * to the image which must be given back via {@link #release(String)}. When all pages are full, the least
+ * recently used page without referenced images is evicted. If no page can be evicted or the image is larger
+ * than a page, packing fails and the image should be drawn from its own {@link Texture} instead.
+ */
+public class RuntimeTexturePacker implements Disposable {
+	private static final String LOGGING_TAG = RuntimeTexturePacker.class.getSimpleName();
+
+	public static final int DEFAULT_PAGE_SIZE = 2048;
+	public static final int DEFAULT_PADDING = 2;
+	public static final int DEFAULT_MAX_PAGES = 4;
+
+	private final int pageWidth, pageHeight, padding, maxPages;
+	private final Array<Page> pages = new Array<Page>();
+	private final ObjectMap<String, PackedTexture> packedTextures = new ObjectMap<String, PackedTexture>();
+	private final Array<PackedTexture> pendingUploads = new Array<PackedTexture>();
+	private final Array<Texture> texturesToDispose = new Array<Texture>();
+	private final int[] placement = new int[2];
+
+	private long accessCounter;
+	private int totalPacking;
+	private int totalEvictions;
+
+	public RuntimeTexturePacker() {
+		this(DEFAULT_PAGE_SIZE, DEFAULT_PAGE_SIZE, DEFAULT_PADDING, DEFAULT_MAX_PAGES);
+	}
+
+	/**
+	 * Constructor
+	 * @param pageWidth The width of each texture page
+	 * @param pageHeight The height of each texture page
+	 * @param padding The amount of pixels to leave between packed images
+	 * @param maxPages The maximum amount of pages before unreferenced pages are evicted
+	 */
+	public RuntimeTexturePacker(int pageWidth, int pageHeight, int padding, int maxPages) {
+		super();
+		this.pageWidth = pageWidth;
+		this.pageHeight = pageHeight;
+		this.padding = Math.max(0, padding);
+		this.maxPages = Math.max(1, maxPages);
+	}
+
+	/**
+	 * Packs an image and uploads it immediately. Must be called on the GL thread.
+	 * @param name The unique name of the image
+	 * @param pixmap The image. This is copied and can be disposed afterwards.
+	 * @return Null if the image could not be packed
+	 */
+	public TextureRegion pack(String name, Pixmap pixmap) {
+		final PackedTexture result;
+		synchronized(this) {
+			final PackedTexture existing = packedTextures.get(name);
+			if(existing != null) {
+				existing.references++;
+				if(existing.region != null) {
+					existing.page.lastAccess = ++accessCounter;
+					return existing.region;
+				}
+				result = existing;
+			} else {
+				result = new PackedTexture(name, pixmap);
+				packedTextures.put(name, result);
+				place(result);
+			}
+		}
+		return finishPacking(result);
+	}
+
+	/**
+	 * Packs an image on a {@link org.mini2Dx.core.TaskExecutor} thread. The result is available once
+	 * {@link #update()} has uploaded it.
+	 * @param name The unique name of the image
+	 * @param pixmap The image. This must not be disposed until the result is finished.
+	 * @return An {@link AsyncResult} for the {@link TextureRegion} of the packed image. The result is null if the
+	 * image could not be packed.
+	 */
+	public AsyncResult<TextureRegion> packAsync(String name, Pixmap pixmap) {
+		final PackedTexture result;
+		synchronized(this) {
+			final PackedTexture existing = packedTextures.get(name);
+			if(existing != null) {
+				existing.references++;
+				return existing;
+			}
+			result = new PackedTexture(name, pixmap);
+			packedTextures.put(name, result);
+			totalPacking++;
+		}
+		Mdx.executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				synchronized(RuntimeTexturePacker.this) {
+					totalPacking--;
+					if(result.evicted) {
+						return;
+					}
+					try {
+						place(result);
+					} catch (Exception e) {
+						result.failed = true;
+						packedTextures.remove(result.name);
+						Mdx.log.error(LOGGING_TAG, e.getMessage(), e);
+					}
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Waits for an image to be packed and uploads it. Must be called on the GL thread.
+	 * @param result The {@link AsyncResult} returned by {@link #packAsync(String, Pixmap)}
+	 * @return Null if the image could not be packed
+	 */
+	public TextureRegion finishPacking(AsyncResult<TextureRegion> result) {
+		while(!result.isFinished()) {
+			update();
+			if(!result.isFinished()) {
+				Thread.yield();
+			}
+		}
+		return result.getResult();
+	}
+
+	private void place(PackedTexture packedTexture) {
+		if(placeOnPage(packedTexture)) {
+			return;
+		}
+		packedTexture.failed = true;
+		packedTextures.remove(packedTexture.name);
+		Mdx.log.debug(LOGGING_TAG, "Could not pack " + packedTexture.name + " (" + packedTexture.width + "x" +
+				packedTexture.height + ") into " + pages.size + " page(s) of " + pageWidth + "x" + pageHeight);
+	}
+
+	private boolean placeOnPage(PackedTexture packedTexture) {
+		final int packWidth = packedTexture.width;
+		final int packHeight = packedTexture.height;
+		if(packWidth > pageWidth || packHeight > pageHeight) {
+			return false;
+		}
+
+		Page page = null;
+		for(int i = 0; i < pages.size; i++) {
+			if(pages.get(i).packer.insert(packWidth, packHeight, placement)) {
+				page = pages.get(i);
+				break;
+			}
+		}
+		if(page == null) {
+			if(pages.size >= maxPages && !evictLeastRecentlyUsedPage()) {
+				return false;
+			}
+			page = new Page(Mdx.graphics.newPixmap(pageWidth, pageHeight, PixmapFormat.RGBA8888),
+					new SkylinePacker(pageWidth, pageHeight, padding));
+			pages.add(page);
+			page.packer.insert(packWidth, packHeight, placement);
+		}
+
+		packedTexture.page = page;
+		packedTexture.x = placement[0];
+		packedTexture.y = placement[1];
+		page.pixmap.drawPixmap(packedTexture.source, packedTexture.x, packedTexture.y);
+		page.packedTextures.add(packedTexture);
+		page.lastAccess = ++accessCounter;
+		pendingUploads.add(packedTexture);
+		return true;
+	}
+
+	/**
+	 * Uploads packed images to their texture pages. Must be called on the GL thread.
+	 * @return True if there are no images waiting to be packed or uploaded
+	 */
+	public synchronized boolean update() {
+		for(int i = 0; i < texturesToDispose.size; i++) {
+			texturesToDispose.get(i).dispose();
+		}
+		texturesToDispose.clear();
+
+		for(int i = 0; i < pendingUploads.size; i++) {
+			final PackedTexture packedTexture = pendingUploads.get(i);
+			final Page page = packedTexture.page;
+			if(page.texture == null) {
+				page.texture = Mdx.graphics.newTexture(page.pixmap);
+			} else {
+				page.texture.draw(packedTexture.source, packedTexture.x, packedTexture.y);
+			}
+			packedTexture.source = null;
+			packedTexture.region = Mdx.graphics.newTextureRegion(page.texture, packedTexture.x, packedTexture.y,
+					packedTexture.width, packedTexture.height);
+		}
+		pendingUploads.clear();
+		return totalPacking == 0;
+	}
+
+	/**
+	 * Returns the {@link TextureRegion} of a packed image
+	 * @param name The name of the image
+	 * @return Null if the image has not been packed and uploaded or its page was evicted
+	 */
+	public synchronized TextureRegion findRegion(String name) {
+		final PackedTexture packedTexture = packedTextures.get(name);
+		if(packedTexture == null || packedTexture.region == null) {
+			return null;
+		}
+		packedTexture.page.lastAccess = ++accessCounter;
+		return packedTexture.region;
+	}
+
+	/**
+	 * Releases a reference acquired by {@link #pack(String, Pixmap)} or {@link #packAsync(String, Pixmap)}.
+	 * The image stays packed but its page may be evicted once none of its images are referenced.
+	 * @param name The name of the image
+	 */
+	public synchronized void release(String name) {
+		final PackedTexture packedTexture = packedTextures.get(name);
+		if(packedTexture == null || packedTexture.references <= 0) {
+			return;
+		}
+		packedTexture.references--;
+	}
+
+	/**
+	 * Returns if an image has been packed or is waiting to be packed
+	 * @param name The name of the image
+	 * @return False if the image is unknown or its page was evicted
+	 */
+	public synchronized boolean contains(String name) {
+		return packedTextures.containsKey(name);
+	}
+
+	private boolean evictLeastRecentlyUsedPage() {
+		int leastRecentlyUsed = -1;
+		for(int i = 0; i < pages.size; i++) {
+			if(pages.get(i).isReferenced()) {
+				continue;
+			}
+			if(leastRecentlyUsed < 0 || pages.get(i).lastAccess < pages.get(leastRecentlyUsed).lastAccess) {
+				leastRecentlyUsed = i;
+			}
+		}
+		if(leastRecentlyUsed < 0) {
+			return false;
+		}
+		evictPage(leastRecentlyUsed);
+		return true;
+	}
+
+	/**
+	 * Evicts a texture page regardless of whether its images are still referenced.
+	 * All {@link TextureRegion}s on the page become invalid.
+	 * @param pageIndex The index of the page
+	 */
+	public synchronized void evictPage(int pageIndex) {
+		final Page page = pages.removeIndex(pageIndex);
+		for(int i = 0; i < page.packedTextures.size; i++) {
+			final PackedTexture packedTexture = page.packedTextures.get(i);
+			packedTexture.evicted = true;
+			packedTexture.region = null;
+			packedTexture.source = null;
+			packedTextures.remove(packedTexture.name);
+			pendingUploads.removeValue(packedTexture, true);
+		}
+		page.packedTextures.clear();
+		page.pixmap.dispose();
+		if(page.texture != null) {
+			texturesToDispose.add(page.texture);
+		}
+		totalEvictions++;
+	}
+
+	public synchronized int getTotalPages() {
+		return pages.size;
+	}
+
+	/**
+	 * Returns the {@link Texture} of a page
+	 * @param pageIndex The index of the page
+	 * @return Null if the page has not been uploaded yet
+	 */
+	public synchronized Texture getPageTexture(int pageIndex) {
+		return pages.get(pageIndex).texture;
+	}
+
+	/**
+	 * Returns the ratio of a page's area covered by packed images
+	 * @param pageIndex The index of the page
+	 * @return A value between 0 and 1
+	 */
+	public synchronized float getPageOccupancy(int pageIndex) {
+		return pages.get(pageIndex).packer.getOccupancy();
+	}
+
+	public synchronized int getTotalEvictions() {
+		return totalEvictions;
+	}
+
+	/**
+	 * Disposes all texture pages. Must be called on the GL thread.
+	 */
+	@Override
+	public synchronized void dispose() {
+		while(pages.size > 0) {
+			evictPage(pages.size - 1);
+		}
+		totalEvictions = 0;
+		update();
+	}
+
+	private static class Page {
+		final Pixmap pixmap;
+		final SkylinePacker packer;
+		final Array<PackedTexture> packedTextures = new Array<PackedTexture>();
+		Texture texture;
+		long lastAccess;
+
+		Page(Pixmap pixmap, SkylinePacker packer) {
+			this.pixmap = pixmap;
+			this.packer = packer;
+			pixmap.setBlending(PixmapBlending.NONE);
+		}
+
+		boolean isReferenced() {
+			for(int i = 0; i < packedTextures.size; i++) {
+				if(packedTextures.get(i).references > 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static class PackedTexture implements AsyncResult<TextureRegion> {
+		final String name;
+		final int width, height;
+		Pixmap source;
+		Page page;
+		int x, y;
+		int references = 1;
+		volatile TextureRegion region;
+		volatile boolean failed, evicted;
+
+		PackedTexture(String name, Pixmap source) {
+			this.name = name;
+			this.source = source;
+			this.width = source.getWidth();
+			this.height = source.getHeight();
+		}
+
+		@Override
+		public boolean isFinished() {
+			return region != null || failed || evicted;
+		}
+
+		@Override
+		public TextureRegion getResult() {
+			return region;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics.packer;
+
+import org.mini2Dx.gdx.utils.IntArray;
+
+/**
+ * Packs rectangles into a fixed size area using the skyline bottom-left heuristic.
+ * The skyline is stored as parallel arrays of segment x, y and width values.
+ *
+ * Optional padding is kept to the right of and below each rectangle. Padding is only needed
+ * between rectangles so it may extend past the edges of the area.
+ */
+public class SkylinePacker {
+	private final int width, height, padding;
+	private final IntArray segmentX = new IntArray();
+	private final IntArray segmentY = new IntArray();
+	private final IntArray segmentWidth = new IntArray();
+
+	private long usedArea;
+
+	/**
+	 * Constructor
+	 * @param width The width of the area to pack into
+	 * @param height The height of the area to pack into
+	 */
+	public SkylinePacker(int width, int height) {
+		this(width, height, 0);
+	}
+
+	/**
+	 * Constructor
+	 * @param width The width of the area to pack into
+	 * @param height The height of the area to pack into
+	 * @param padding The amount of space to leave between packed rectangles
+	 */
+	public SkylinePacker(int width, int height, int padding) {
+		super();
+		this.width = width;
+		this.height = height;
+		this.padding = Math.max(0, padding);
+		reset();
+	}
+
+	/**
+	 * Removes all packed rectangles
+	 */
+	public void reset() {
+		segmentX.clear();
+		segmentY.clear();
+		segmentWidth.clear();
+
+		segmentX.add(0);
+		segmentY.add(0);
+		segmentWidth.add(width + padding);
+		usedArea = 0;
+	}
+
+	/**
+	 * Packs a rectangle
+	 * @param rectWidth The width of the rectangle
+	 * @param rectHeight The height of the rectangle
+	 * @param result An array of at least length 2 to store the packed x and y coordinate in
+	 * @return False if there was not enough space for the rectangle
+	 */
+	public boolean insert(int rectWidth, int rectHeight, int[] result) {
+		if(rectWidth <= 0 || rectHeight <= 0 || rectWidth > width || rectHeight > height) {
+			return false;
+		}
+
+		final int paddedWidth = rectWidth + padding;
+		final int paddedHeight = rectHeight + padding;
+		int bestIndex = -1;
+		int bestY = 0;
+		int bestBottom = Integer.MAX_VALUE;
+		int bestSegmentWidth = Integer.MAX_VALUE;
+
+		for(int i = 0; i < segmentX.size; i++) {
+			final int y = fit(i, paddedWidth, paddedHeight);
+			if(y < 0) {
+				continue;
+			}
+			final int bottom = y + paddedHeight;
+			if(bottom < bestBottom || (bottom == bestBottom && segmentWidth.get(i) < bestSegmentWidth)) {
+				bestIndex = i;
+				bestY = y;
+				bestBottom = bottom;
+				bestSegmentWidth = segmentWidth.get(i);
+			}
+		}
+		if(bestIndex < 0) {
+			return false;
+		}
+
+		final int x = segmentX.get(bestIndex);
+		addSegment(bestIndex, x, bestBottom, paddedWidth);
+		usedArea += (long) rectWidth * rectHeight;
+
+		result[0] = x;
+		result[1] = bestY;
+		return true;
+	}
+
+	private int fit(int index, int rectWidth, int rectHeight) {
+		if(segmentX.get(index) + rectWidth > width + padding) {
+			return -1;
+		}
+		int remainingWidth = rectWidth;
+		int y = 0;
+		for(int i = index; remainingWidth > 0; i++) {
+			y = Math.max(y, segmentY.get(i));
+			if(y + rectHeight > height + padding) {
+				return -1;
+			}
+			remainingWidth -= segmentWidth.get(i);
+		}
+		return y;
+	}
+
+	private void addSegment(int index, int x, int y, int segmentWidth) {
+		segmentX.insert(index, x);
+		segmentY.insert(index, y);
+		this.segmentWidth.insert(index, segmentWidth);
+
+		for(int i = index + 1; i < segmentX.size;) {
+			final int previousEnd = segmentX.get(i - 1) + this.segmentWidth.get(i - 1);
+			if(segmentX.get(i) >= previousEnd) {
+				break;
+			}
+			final int overlap = previousEnd - segmentX.get(i);
+			if(this.segmentWidth.get(i) <= overlap) {
+				removeSegment(i);
+				continue;
+			}
+			segmentX.incr(i, overlap);
+			this.segmentWidth.incr(i, -overlap);
+			break;
+		}
+
+		for(int i = 0; i < segmentX.size - 1;) {
+			if(segmentY.get(i) == segmentY.get(i + 1)) {
+				this.segmentWidth.incr(i, this.segmentWidth.get(i + 1));
+				removeSegment(i + 1);
+			} else {
+				i++;
+			}
+		}
+	}
+
+	private void removeSegment(int index) {
+		segmentX.removeIndex(index);
+		segmentY.removeIndex(index);
+		segmentWidth.removeIndex(index);
+	}
+
+	/**
+	 * Returns the ratio of the area covered by packed rectangles
+	 * @return A value between 0 and 1
+	 */
+	public float getOccupancy() {
+		return usedArea / (float) ((long) width * height);
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
@@ -0,0 +1,509 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.input;
+
+import org.mini2Dx.gdx.InputProcessor;
+import org.mini2Dx.gdx.utils.Array;
+
+/**
+ * A lock-free single-producer, single-consumer ring buffer of timestamped input events.
+ *
+ * The backend's input thread pushes keyboard, pointer and {@link GamePad} events as they
+ * arrive and the game thread drains them at the start of each fixed update. Events are
+ * stored as primitives in parallel arrays so that pushing and draining never allocates.
+ * If the buffer is full, new events are dropped and counted by {@link #getDroppedEvents()}.
+ * Drained events can be captured by an {@link InputRecorder} and later replayed by an {@link InputPlayer}.
+ *
+ * The meaning of each event's source, code, x, y and value depends on its type:
+ * <ul>
+ * <li>{@link #KEY_DOWN}, {@link #KEY_UP}, {@link #KEY_TYPED} - code is the keycode (or character)</li>
+ * <li>{@link #TOUCH_DOWN}, {@link #TOUCH_UP} - source is the pointer, code is the button, x/y is the screen position</li>
+ * <li>{@link #TOUCH_DRAGGED} - source is the pointer, x/y is the screen position</li>
+ * <li>{@link #MOUSE_MOVED} - x/y is the screen position</li>
+ * <li>{@link #SCROLLED} - code is the scroll amount</li>
+ * <li>{@link #GAMEPAD_CONNECTED}, {@link #GAMEPAD_DISCONNECTED} - source is the registered {@link GamePad}</li>
+ * <li>{@link #GAMEPAD_BUTTON_DOWN}, {@link #GAMEPAD_BUTTON_UP} - source is the registered {@link GamePad}, code is the button</li>
+ * <li>{@link #GAMEPAD_AXIS} - source is the registered {@link GamePad}, code is the axis, value is the axis value</li>
+ * <li>{@link #GAMEPAD_POV} - source is the registered {@link GamePad}, code is the POV, x is the {@link PovState} ordinal</li>
+ * </ul>
+ */
+public class InputEventBuffer {
+	public static final int KEY_DOWN = 0;
+	public static final int KEY_UP = 1;
+	public static final int KEY_TYPED = 2;
+	public static final int TOUCH_DOWN = 3;
+	public static final int TOUCH_UP = 4;
+	public static final int TOUCH_DRAGGED = 5;
+	public static final int MOUSE_MOVED = 6;
+	public static final int SCROLLED = 7;
+	public static final int GAMEPAD_CONNECTED = 8;
+	public static final int GAMEPAD_DISCONNECTED = 9;
+	public static final int GAMEPAD_BUTTON_DOWN = 10;
+	public static final int GAMEPAD_BUTTON_UP = 11;
+	public static final int GAMEPAD_AXIS = 12;
+	public static final int GAMEPAD_POV = 13;
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private static final PovState[] POV_STATES = PovState.values();
+
+	private final int capacity;
+	private final int mask;
+
+	private final int[] types;
+	private final int[] sources;
+	private final int[] codes;
+	private final int[] xs;
+	private final int[] ys;
+	private final float[] values;
+	private final long[] timestamps;
+
+	private final Array<GamePad> gamePads = new Array<GamePad>();
+	private final Array<GamePadListener> gamePadTargets = new Array<GamePadListener>();
+
+	private volatile long writeIndex = 0L;
+	private volatile long readIndex = 0L;
+	private volatile int droppedEvents = 0;
+
+	private InputProcessor inputProcessor;
+	private InputRecorder recorder;
+	private volatile boolean inputEnabled = true;
+
+	private int eventType, eventSource, eventCode, eventX, eventY;
+	private float eventValue;
+	private long eventTimestamp;
+
+	/**
+	 * Constructor with a capacity of {@link #DEFAULT_CAPACITY}
+	 */
+	public InputEventBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor
+	 * @param capacity The maximum number of undrained events. Rounded up to the next power of two.
+	 */
+	public InputEventBuffer(int capacity) {
+		if(capacity < 1) {
+			throw new IllegalArgumentException("capacity must be greater than 0");
+		}
+		int size = 1;
+		while(size < capacity) {
+			size <<= 1;
+		}
+		this.capacity = size;
+		this.mask = size - 1;
+
+		types = new int[size];
+		sources = new int[size];
+		codes = new int[size];
+		xs = new int[size];
+		ys = new int[size];
+		values = new float[size];
+		timestamps = new long[size];
+	}
+
+	/**
+	 * Registers a {@link GamePad} so that its events can be pushed to this buffer.
+	 * Must be called on the game thread.
+	 * @param gamePad The {@link GamePad} the events originate from
+	 * @param target The {@link GamePadListener} to dispatch the {@link GamePad}'s events to when drained
+	 * @return The source identifier to push the {@link GamePad}'s events with
+	 */
+	public int registerGamePad(GamePad gamePad, GamePadListener target) {
+		final int existing = gamePads.indexOf(gamePad, true);
+		if(existing >= 0) {
+			gamePadTargets.set(existing, target);
+			return existing;
+		}
+		gamePads.add(gamePad);
+		gamePadTargets.add(target);
+		return gamePads.size - 1;
+	}
+
+	/**
+	 * Pushes an event onto the buffer. Must only be called from the producer thread.
+	 * @param type The event type
+	 * @param source The event source
+	 * @param code The event code
+	 * @param x The event x value
+	 * @param y The event y value
+	 * @param value The event float value
+	 * @param timestamp The time of the event in nanoseconds
+	 * @return False if the buffer was full or input is disabled and the event was dropped
+	 */
+	public boolean push(int type, int source, int code, int x, int y, float value, long timestamp) {
+		if(!inputEnabled) {
+			return false;
+		}
+		return write(type, source, code, x, y, value, timestamp);
+	}
+
+	boolean write(int type, int source, int code, int x, int y, float value, long timestamp) {
+		final long write = writeIndex;
+		if(write - readIndex >= capacity) {
+			droppedEvents++;
+			return false;
+		}
+		final int index = (int) (write & mask);
+		types[index] = type;
+		sources[index] = source;
+		codes[index] = code;
+		xs[index] = x;
+		ys[index] = y;
+		values[index] = value;
+		timestamps[index] = timestamp;
+		writeIndex = write + 1;
+		return true;
+	}
+
+	public boolean pushKeyDown(int keycode) {
+		return push(KEY_DOWN, 0, keycode, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushKeyUp(int keycode) {
+		return push(KEY_UP, 0, keycode, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushKeyTyped(char character) {
+		return push(KEY_TYPED, 0, character, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushTouchDown(int screenX, int screenY, int pointer, int button) {
+		return push(TOUCH_DOWN, pointer, button, screenX, screenY, 0f, System.nanoTime());
+	}
+
+	public boolean pushTouchUp(int screenX, int screenY, int pointer, int button) {
+		return push(TOUCH_UP, pointer, button, screenX, screenY, 0f, System.nanoTime());
+	}
+
+	public boolean pushTouchDragged(int screenX, int screenY, int pointer) {
+		return push(TOUCH_DRAGGED, pointer, 0, screenX, screenY, 0f, System.nanoTime());
+	}
+
+	public boolean pushMouseMoved(int screenX, int screenY) {
+		return push(MOUSE_MOVED, 0, 0, screenX, screenY, 0f, System.nanoTime());
+	}
+
+	public boolean pushScrolled(int amount) {
+		return push(SCROLLED, 0, amount, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushGamePadConnected(int source) {
+		return push(GAMEPAD_CONNECTED, source, 0, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushGamePadDisconnected(int source) {
+		return push(GAMEPAD_DISCONNECTED, source, 0, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushButtonDown(int source, int buttonCode) {
+		return push(GAMEPAD_BUTTON_DOWN, source, buttonCode, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushButtonUp(int source, int buttonCode) {
+		return push(GAMEPAD_BUTTON_UP, source, buttonCode, 0, 0, 0f, System.nanoTime());
+	}
+
+	public boolean pushAxisChanged(int source, int axisCode, float axisValue) {
+		return push(GAMEPAD_AXIS, source, axisCode, 0, 0, axisValue, System.nanoTime());
+	}
+
+	public boolean pushPovChanged(int source, int povCode, PovState povState) {
+		return push(GAMEPAD_POV, source, povCode, povState.ordinal(), 0, 0f, System.nanoTime());
+	}
+
+	/**
+	 * Reads the next event into the current event fields. Must only be called from the consumer thread.
+	 * @return False if there were no events to read
+	 */
+	public boolean poll() {
+		return poll(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Reads the next event into the current event fields if it occurred at or before a given time.
+	 * Must only be called from the consumer thread.
+	 * @param maxTimestamp The latest event time (in nanoseconds) to read
+	 * @return False if there were no events to read at or before the time
+	 */
+	public boolean poll(long maxTimestamp) {
+		final long read = readIndex;
+		if(read >= writeIndex) {
+			return false;
+		}
+		final int index = (int) (read & mask);
+		if(timestamps[index] > maxTimestamp) {
+			return false;
+		}
+		eventType = types[index];
+		eventSource = sources[index];
+		eventCode = codes[index];
+		eventX = xs[index];
+		eventY = ys[index];
+		eventValue = values[index];
+		eventTimestamp = timestamps[index];
+		readIndex = read + 1;
+
+		if(recorder != null) {
+			recorder.recordEvent(eventType, eventSource, eventCode, eventX, eventY, eventValue, eventTimestamp);
+		}
+		return true;
+	}
+
+	/**
+	 * Drains all pending events and marks the end of input for a fixed update.
+	 * Called by {@link org.mini2Dx.core.game.GameContainer} at the start of each update.
+	 * @param delta The timestep of the update
+	 */
+	public void update(float delta) {
+		drain();
+		if(recorder != null) {
+			recorder.recordTick(delta);
+		}
+	}
+
+	/**
+	 * Drains all pending events, dispatching each to the {@link InputProcessor} or registered {@link GamePad} target
+	 * @return The number of events drained
+	 */
+	public int drain() {
+		return drain(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Drains all pending events that occurred at or before a given time,
+	 * dispatching each to the {@link InputProcessor} or registered {@link GamePad} target
+	 * @param maxTimestamp The latest event time (in nanoseconds) to drain
+	 * @return The number of events drained
+	 */
+	public int drain(long maxTimestamp) {
+		int result = 0;
+		while(poll(maxTimestamp)) {
+			dispatch();
+			result++;
+		}
+		return result;
+	}
+
+	/**
+	 * Dispatches the most recently polled event to the {@link InputProcessor} or registered {@link GamePad} target
+	 */
+	public void dispatch() {
+		dispatch(eventType, eventSource, eventCode, eventX, eventY, eventValue);
+	}
+
+	/**
+	 * Dispatches an event to the {@link InputProcessor} or registered {@link GamePad} target without buffering it
+	 * @param type The event type
+	 * @param source The event source
+	 * @param code The event code
+	 * @param x The event x value
+	 * @param y The event y value
+	 * @param value The event float value
+	 */
+	public void dispatch(int type, int source, int code, int x, int y, float value) {
+		switch(type) {
+		case KEY_DOWN:
+		case KEY_UP:
+		case KEY_TYPED:
+		case TOUCH_DOWN:
+		case TOUCH_UP:
+		case TOUCH_DRAGGED:
+		case MOUSE_MOVED:
+		case SCROLLED:
+			dispatchToInputProcessor(type, source, code, x, y);
+			break;
+		default:
+			dispatchToGamePad(type, source, code, x, value);
+			break;
+		}
+	}
+
+	private void dispatchToInputProcessor(int type, int source, int code, int x, int y) {
+		final InputProcessor inputProcessor = this.inputProcessor;
+		if(inputProcessor == null) {
+			return;
+		}
+		switch(type) {
+		case KEY_DOWN:
+			inputProcessor.keyDown(code);
+			break;
+		case KEY_UP:
+			inputProcessor.keyUp(code);
+			break;
+		case KEY_TYPED:
+			inputProcessor.keyTyped((char) code);
+			break;
+		case TOUCH_DOWN:
+			inputProcessor.touchDown(x, y, source, code);
+			break;
+		case TOUCH_UP:
+			inputProcessor.touchUp(x, y, source, code);
+			break;
+		case TOUCH_DRAGGED:
+			inputProcessor.touchDragged(x, y, source);
+			break;
+		case MOUSE_MOVED:
+			inputProcessor.mouseMoved(x, y);
+			break;
+		case SCROLLED:
+			inputProcessor.scrolled(code);
+			break;
+		}
+	}
+
+	private void dispatchToGamePad(int type, int source, int code, int x, float value) {
+		if(source < 0 || source >= gamePads.size) {
+			return;
+		}
+		final GamePad gamePad = gamePads.get(source);
+		final GamePadListener target = gamePadTargets.get(source);
+		switch(type) {
+		case GAMEPAD_CONNECTED:
+			target.onConnect(gamePad);
+			break;
+		case GAMEPAD_DISCONNECTED:
+			target.onDisconnect(gamePad);
+			break;
+		case GAMEPAD_BUTTON_DOWN:
+			target.onButtonDown(gamePad, code);
+			break;
+		case GAMEPAD_BUTTON_UP:
+			target.onButtonUp(gamePad, code);
+			break;
+		case GAMEPAD_AXIS:
+			target.onAxisChanged(gamePad, code, value);
+			break;
+		case GAMEPAD_POV:
+			target.onPovChanged(gamePad, code, POV_STATES[x]);
+			break;
+		}
+	}
+
+	/**
+	 * Discards all pending events. Must only be called from the consumer thread.
+	 */
+	public void clear() {
+		readIndex = writeIndex;
+	}
+
+	/**
+	 * Returns the number of pending events
+	 * @return 0 if there are no events to drain
+	 */
+	public int size() {
+		return (int) (writeIndex - readIndex);
+	}
+
+	public boolean isEmpty() {
+		return writeIndex == readIndex;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of events dropped because the buffer was full
+	 * @return 0 if no events have been dropped
+	 */
+	public int getDroppedEvents() {
+		return droppedEvents;
+	}
+
+	public boolean isInputEnabled() {
+		return inputEnabled;
+	}
+
+	/**
+	 * Sets if events pushed by the backend are accepted. Disabled while replaying so that
+	 * only events from the {@link InputPlayer} reach the game.
+	 * @param inputEnabled False to drop all pushed events
+	 */
+	public void setInputEnabled(boolean inputEnabled) {
+		this.inputEnabled = inputEnabled;
+	}
+
+	public InputRecorder getRecorder() {
+		return recorder;
+	}
+
+	/**
+	 * Sets the {@link InputRecorder} to record drained events and updates to. Must be called on the game thread.
+	 * @param recorder Null to stop recording
+	 */
+	public void setRecorder(InputRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	public InputProcessor getInputProcessor() {
+		return inputProcessor;
+	}
+
+	/**
+	 * Sets the {@link InputProcessor} to dispatch keyboard and pointer events to. Must be called on the game thread.
+	 * @param inputProcessor Null if keyboard and pointer events should be discarded
+	 */
+	public void setInputProcessor(InputProcessor inputProcessor) {
+		this.inputProcessor = inputProcessor;
+	}
+
+	/**
+	 * Returns the {@link GamePad} registered with a source identifier
+	 * @param source The source identifier returned by {@link #registerGamePad(GamePad, GamePadListener)}
+	 * @return Null if no {@link GamePad} is registered with the identifier
+	 */
+	public GamePad getGamePad(int source) {
+		if(source < 0 || source >= gamePads.size) {
+			return null;
+		}
+		return gamePads.get(source);
+	}
+
+	public int getEventType() {
+		return eventType;
+	}
+
+	public int getEventSource() {
+		return eventSource;
+	}
+
+	public int getEventCode() {
+		return eventCode;
+	}
+
+	public int getEventX() {
+		return eventX;
+	}
+
+	public int getEventY() {
+		return eventY;
+	}
+
+	public float getEventValue() {
+		return eventValue;
+	}
+
+	/**
+	 * Returns the time of the most recently polled event
+	 * @return The time in nanoseconds
+	 */
+	public long getEventTimestamp() {
+		return eventTimestamp;
+	}
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.input;
+
+import org.mini2Dx.core.exception.MdxException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replays a recording made by {@link InputRecorder} one fixed update at a time.
+ *
+ * Each call to {@link #nextTick(InputEventBuffer)} pushes the events recorded before the next update
+ * into an {@link InputEventBuffer} so that they are drained by the update exactly as they were during recording.
+ * {@link GamePad} events are replayed to the {@link GamePad}s registered with the buffer in the same order as
+ * during recording.
+ */
+public class InputPlayer {
+	private final DataInputStream inputStream;
+
+	private long previousTimestamp = Long.MIN_VALUE;
+	private float tickDelta = 0f;
+	private int totalTicks = 0;
+	private boolean finished = false;
+
+	/**
+	 * Constructor. Reads the recording header immediately.
+	 * @param inputStream The {@link InputStream} to read the recording from
+	 */
+	public InputPlayer(InputStream inputStream) {
+		this.inputStream = new DataInputStream(new BufferedInputStream(inputStream));
+		try {
+			if(this.inputStream.readInt() != InputRecorder.MAGIC) {
+				throw new MdxException("Not an input recording");
+			}
+			final int version = this.inputStream.readUnsignedByte();
+			if(version != InputRecorder.VERSION) {
+				throw new MdxException("Unsupported input recording version " + version);
+			}
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Pushes the events of the next recorded update into an {@link InputEventBuffer}
+	 * @param buffer The {@link InputEventBuffer} to push the events into
+	 * @return False if the recording has no more updates
+	 */
+	public boolean nextTick(InputEventBuffer buffer) {
+		if(finished) {
+			return false;
+		}
+		try {
+			while(true) {
+				final int record = inputStream.readUnsignedByte();
+				switch(record) {
+				case InputRecorder.RECORD_TICK:
+					tickDelta = inputStream.readFloat();
+					totalTicks++;
+					return true;
+				case InputRecorder.RECORD_END:
+					finished = true;
+					return false;
+				default:
+					readEvent(record, buffer);
+					break;
+				}
+			}
+		} catch (EOFException e) {
+			finished = true;
+			return false;
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	private void readEvent(int type, InputEventBuffer buffer) throws IOException {
+		final int source = readVarInt(inputStream);
+		final int code = readVarInt(inputStream);
+		final int x = readVarInt(inputStream);
+		final int y = readVarInt(inputStream);
+		final float value = type == InputEventBuffer.GAMEPAD_AXIS ? inputStream.readFloat() : 0f;
+		final long timestampDelta = readVarLong(inputStream);
+		final long timestamp = previousTimestamp == Long.MIN_VALUE ? timestampDelta : previousTimestamp + timestampDelta;
+		previousTimestamp = timestamp;
+
+		if(!buffer.write(type, source, code, x, y, value, timestamp)) {
+			throw new MdxException("InputEventBuffer capacity exceeded during replay");
+		}
+	}
+
+	/**
+	 * Closes the underlying {@link InputStream}
+	 */
+	public void close() {
+		finished = true;
+		try {
+			inputStream.close();
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Returns the timestep recorded for the most recent update returned by {@link #nextTick(InputEventBuffer)}
+	 * @return The timestep in seconds
+	 */
+	public float getTickDelta() {
+		return tickDelta;
+	}
+
+	/**
+	 * Returns the number of updates replayed
+	 * @return 0 if no updates have been replayed
+	 */
+	public int getTotalTicks() {
+		return totalTicks;
+	}
+
+	/**
+	 * Returns if the end of the recording has been reached
+	 * @return True if there are no more updates to replay
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	private static int readVarInt(DataInputStream inputStream) throws IOException {
+		int result = 0;
+		for(int shift = 0; shift < 35; shift += 7) {
+			final int b = inputStream.readUnsignedByte();
+			result |= (b & 0x7F) << shift;
+			if((b & 0x80) == 0) {
+				return (result >>> 1) ^ -(result & 1);
+			}
+		}
+		throw new MdxException("Malformed input recording");
+	}
+
+	private static long readVarLong(DataInputStream inputStream) throws IOException {
+		long result = 0L;
+		for(int shift = 0; shift < 70; shift += 7) {
+			final int b = inputStream.readUnsignedByte();
+			result |= (long) (b & 0x7F) << shift;
+			if((b & 0x80) == 0) {
+				return (result >>> 1) ^ -(result & 1L);
+			}
+		}
+		throw new MdxException("Malformed input recording");
+	}
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.input;
+
+import org.mini2Dx.core.exception.MdxException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Records the events drained from an {@link InputEventBuffer} and the fixed updates they were drained in
+ * to a compact binary stream that can be replayed by an {@link InputPlayer}.
+ *
+ * Each event is stored as its type followed by variable-length encoded fields and the time since
+ * the previous event. Each update is stored as a marker followed by its timestep.
+ *
+ * Recorded data is flushed every {@link #getFlushInterval()} updates so that a recording is still
+ * usable up to the last flush if the game exits without calling {@link #close()}.
+ */
+public class InputRecorder {
+	static final int MAGIC = 0x4D445849;
+	static final int VERSION = 1;
+
+	static final int RECORD_TICK = 0x7F;
+	static final int RECORD_END = 0x7E;
+
+	/**
+	 * The default number of updates between flushes
+	 */
+	public static final int DEFAULT_FLUSH_INTERVAL = 60;
+
+	private final DataOutputStream outputStream;
+
+	private long previousTimestamp = Long.MIN_VALUE;
+	private int totalTicks = 0;
+	private int totalEvents = 0;
+	private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+	private boolean closed = false;
+
+	/**
+	 * Constructor. Writes the recording header immediately.
+	 * @param outputStream The {@link OutputStream} to write the recording to
+	 */
+	public InputRecorder(OutputStream outputStream) {
+		this.outputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+		try {
+			this.outputStream.writeInt(MAGIC);
+			this.outputStream.writeByte(VERSION);
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Records an event
+	 * @param type The event type
+	 * @param source The event source
+	 * @param code The event code
+	 * @param x The event x value
+	 * @param y The event y value
+	 * @param value The event float value
+	 * @param timestamp The time of the event in nanoseconds
+	 */
+	public void recordEvent(int type, int source, int code, int x, int y, float value, long timestamp) {
+		if(closed) {
+			return;
+		}
+		try {
+			outputStream.writeByte(type);
+			writeVarInt(outputStream, source);
+			writeVarInt(outputStream, code);
+			writeVarInt(outputStream, x);
+			writeVarInt(outputStream, y);
+			if(type == InputEventBuffer.GAMEPAD_AXIS) {
+				outputStream.writeFloat(value);
+			}
+			writeVarLong(outputStream, previousTimestamp == Long.MIN_VALUE ? timestamp : timestamp - previousTimestamp);
+			previousTimestamp = timestamp;
+			totalEvents++;
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Records the end of a fixed update. Events recorded before this call are replayed before the update.
+	 * @param delta The timestep of the update
+	 */
+	public void recordTick(float delta) {
+		if(closed) {
+			return;
+		}
+		try {
+			outputStream.writeByte(RECORD_TICK);
+			outputStream.writeFloat(delta);
+			totalTicks++;
+			if(flushInterval > 0 && totalTicks % flushInterval == 0) {
+				outputStream.flush();
+			}
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Flushes buffered data to the underlying {@link OutputStream}
+	 */
+	public void flush() {
+		try {
+			outputStream.flush();
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Writes the end of the recording and closes the underlying {@link OutputStream}
+	 */
+	public void close() {
+		if(closed) {
+			return;
+		}
+		closed = true;
+		try {
+			outputStream.writeByte(RECORD_END);
+			outputStream.close();
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Returns the number of updates recorded between each flush to the underlying {@link OutputStream}
+	 * @return 0 if data is only flushed when the buffer fills or the recorder is closed
+	 */
+	public int getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * Sets the number of updates recorded between each flush to the underlying {@link OutputStream}
+	 * @param flushInterval 0 to only flush when the buffer fills or the recorder is closed
+	 */
+	public void setFlushInterval(int flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * Returns the number of updates recorded
+	 * @return 0 if no updates have been recorded
+	 */
+	public int getTotalTicks() {
+		return totalTicks;
+	}
+
+	/**
+	 * Returns the number of events recorded
+	 * @return 0 if no events have been recorded
+	 */
+	public int getTotalEvents() {
+		return totalEvents;
+	}
+
+	private static void writeVarInt(DataOutputStream outputStream, int value) throws IOException {
+		int zigZag = (value << 1) ^ (value >> 31);
+		while((zigZag & ~0x7F) != 0) {
+			outputStream.writeByte((zigZag & 0x7F) | 0x80);
+			zigZag >>>= 7;
+		}
+		outputStream.writeByte(zigZag);
+	}
+
+	private static void writeVarLong(DataOutputStream outputStream, long value) throws IOException {
+		long zigZag = (value << 1) ^ (value >> 63);
+		while((zigZag & ~0x7FL) != 0L) {
+			outputStream.writeByte((int) ((zigZag & 0x7F) | 0x80));
+			zigZag >>>= 7;
+		}
+		outputStream.writeByte((int) zigZag);
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.input;
+
+import org.mini2Dx.core.exception.MdxException;
+import org.mini2Dx.gdx.utils.LongArray;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Stores the time taken by each update while replaying an {@link InputPlayer} recording
+ * so that a recorded session can be used as a repeatable benchmark
+ */
+public class InputReplayTimings {
+	private final LongArray tickTimes = new LongArray();
+
+	/**
+	 * Adds the time taken by an update
+	 * @param nanos The time in nanoseconds
+	 */
+	public void add(long nanos) {
+		tickTimes.add(nanos);
+	}
+
+	/**
+	 * Returns the time taken by an update
+	 * @param tick The index of the update
+	 * @return The time in nanoseconds
+	 */
+	public long get(int tick) {
+		return tickTimes.get(tick);
+	}
+
+	/**
+	 * Returns the number of updates timed
+	 * @return 0 if no updates have been timed
+	 */
+	public int size() {
+		return tickTimes.size;
+	}
+
+	public void clear() {
+		tickTimes.clear();
+	}
+
+	/**
+	 * Returns the total time taken by all updates
+	 * @return The time in nanoseconds
+	 */
+	public long getTotal() {
+		long result = 0L;
+		for(int i = 0; i < tickTimes.size; i++) {
+			result += tickTimes.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the shortest time taken by an update
+	 * @return 0 if no updates have been timed
+	 */
+	public long getMinimum() {
+		if(tickTimes.size == 0) {
+			return 0L;
+		}
+		long result = Long.MAX_VALUE;
+		for(int i = 0; i < tickTimes.size; i++) {
+			result = Math.min(result, tickTimes.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the longest time taken by an update
+	 * @return 0 if no updates have been timed
+	 */
+	public long getMaximum() {
+		long result = 0L;
+		for(int i = 0; i < tickTimes.size; i++) {
+			result = Math.max(result, tickTimes.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the mean time taken by an update
+	 * @return 0 if no updates have been timed
+	 */
+	public double getMean() {
+		if(tickTimes.size == 0) {
+			return 0.0;
+		}
+		return getTotal() / (double) tickTimes.size;
+	}
+
+	/**
+	 * Returns the time that a percentage of updates completed within (nearest-rank)
+	 * @param percentile The percentile between 0 and 100
+	 * @return 0 if no updates have been timed
+	 */
+	public long getPercentile(float percentile) {
+		if(tickTimes.size == 0) {
+			return 0L;
+		}
+		final LongArray sorted = new LongArray(tickTimes);
+		sorted.sort();
+		final int rank = (int) Math.ceil((Math.max(0f, Math.min(100f, percentile)) / 100f) * sorted.size);
+		return sorted.get(Math.max(0, rank - 1));
+	}
+
+	/**
+	 * Writes the time of each update as CSV rows of tick index and nanoseconds
+	 * @param writer The {@link Writer} to write to
+	 */
+	public void writeCsv(Writer writer) {
+		try {
+			writer.write("tick,nanos\n");
+			for(int i = 0; i < tickTimes.size; i++) {
+				writer.write(i + "," + tickTimes.get(i) + "\n");
+			}
+			writer.flush();
+		} catch (IOException e) {
+			throw new MdxException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "InputReplayTimings [ticks=" + tickTimes.size + ", mean=" + getMean() + "ns, min=" + getMinimum()
+				+ "ns, p50=" + getPercentile(50f) + "ns, p99=" + getPercentile(99f) + "ns, max=" + getMaximum() + "ns]";
+	}
+}
@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.util;
+
+import org.mini2Dx.gdx.math.MathUtils;
+import org.mini2Dx.gdx.utils.IntArray;
+
+/**
+ * Stores previous, current and render values of interpolated objects in packed arrays
+ * so that all moved objects can be interpolated in a single tight loop.
+ *
+ * Each slot holds 4 values (x, y, width, height). Only slots that have been updated since
+ * they last settled are visited during {@link #preUpdate()} and {@link #interpolate(float)}.
+ * Storage is allocated in fixed-size blocks that are never reallocated so slots can be
+ * updated while other slots are being allocated.
+ */
+public class InterpolationBuffer {
+	private static final int BLOCK_SHIFT = 10;
+	private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+	private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+	private static final int VALUES_PER_SLOT = 4;
+
+	private final IntArray freeSlots = new IntArray(false, 64);
+	private final IntArray activeSlots = new IntArray(false, 512);
+
+	private float [][] previous = new float[1][];
+	private float [][] current = new float[1][];
+	private int [][] render = new int[1][];
+	private boolean [][] active = new boolean[1][];
+	private boolean [][] allocated = new boolean[1][];
+	private int totalSlots, totalBlocks;
+
+	private int parallelThreshold = 0;
+	private float parallelAlpha;
+	private final ParallelRange parallelRange = new ParallelRange(new ParallelRange.RangeProcessor() {
+		@Override
+		public void process(int from, int to) {
+			interpolate(activeSlots.items, from, to, parallelAlpha);
+		}
+	});
+
+	/**
+	 * Allocates a slot and initialises its previous, current and render values
+	 * @param x The x value
+	 * @param y The y value
+	 * @param width The width value
+	 * @param height The height value
+	 * @return The slot index
+	 */
+	public synchronized int allocate(float x, float y, float width, float height) {
+		final int slot;
+		if(freeSlots.size > 0) {
+			slot = freeSlots.pop();
+		} else {
+			slot = totalSlots++;
+			ensureBlock(slot >> BLOCK_SHIFT);
+		}
+		allocated[slot >> BLOCK_SHIFT][slot & BLOCK_MASK] = true;
+		forceTo(slot, x, y, width, height);
+		return slot;
+	}
+
+	/**
+	 * Releases a slot so it can be re-used. Releasing an already released slot has no effect.
+	 * @param slot The slot index
+	 */
+	public synchronized void release(int slot) {
+		final int block = slot >> BLOCK_SHIFT;
+		final int index = slot & BLOCK_MASK;
+		if(!allocated[block][index]) {
+			return;
+		}
+		allocated[block][index] = false;
+		active[block][index] = false;
+		freeSlots.add(slot);
+	}
+
+	private void ensureBlock(int block) {
+		if(block < totalBlocks) {
+			return;
+		}
+		if(block >= previous.length) {
+			final int newLength = Math.max(block + 1, previous.length * 2);
+			previous = copyOf(previous, new float[newLength][]);
+			current = copyOf(current, new float[newLength][]);
+			render = copyOf(render, new int[newLength][]);
+			active = copyOf(active, new boolean[newLength][]);
+			allocated = copyOf(allocated, new boolean[newLength][]);
+		}
+		previous[block] = new float[BLOCK_SIZE * VALUES_PER_SLOT];
+		current[block] = new float[BLOCK_SIZE * VALUES_PER_SLOT];
+		render[block] = new int[BLOCK_SIZE * VALUES_PER_SLOT];
+		active[block] = new boolean[BLOCK_SIZE];
+		allocated[block] = new boolean[BLOCK_SIZE];
+		totalBlocks = block + 1;
+	}
+
+	private static <T> T [] copyOf(T [] source, T [] destination) {
+		System.arraycopy(source, 0, destination, 0, source.length);
+		return destination;
+	}
+
+	/**
+	 * Updates the current values of a slot and flags it for interpolation.
+	 * Has no effect if the slot has been released.
+	 * @param slot The slot index
+	 * @param x The x value
+	 * @param y The y value
+	 * @param width The width value
+	 * @param height The height value
+	 */
+	public void update(int slot, float x, float y, float width, float height) {
+		final int block = slot >> BLOCK_SHIFT;
+		final int index = slot & BLOCK_MASK;
+		if(!allocated[block][index]) {
+			return;
+		}
+		final float [] current = this.current[block];
+		final int offset = index * VALUES_PER_SLOT;
+		current[offset] = x;
+		current[offset + 1] = y;
+		current[offset + 2] = width;
+		current[offset + 3] = height;
+
+		final boolean [] active = this.active[block];
+		if(active[index]) {
+			return;
+		}
+		synchronized(this) {
+			if(active[index] || !allocated[block][index]) {
+				return;
+			}
+			active[index] = true;
+			activeSlots.add(slot);
+		}
+	}
+
+	/**
+	 * Sets the previous, current and render values of a slot without interpolation.
+	 * Has no effect if the slot has been released.
+	 * @param slot The slot index
+	 * @param x The x value
+	 * @param y The y value
+	 * @param width The width value
+	 * @param height The height value
+	 */
+	public void forceTo(int slot, float x, float y, float width, float height) {
+		final int block = slot >> BLOCK_SHIFT;
+		final int index = slot & BLOCK_MASK;
+		if(!allocated[block][index]) {
+			return;
+		}
+		final int offset = index * VALUES_PER_SLOT;
+		final float [] previous = this.previous[block];
+		final float [] current = this.current[block];
+		final int [] render = this.render[block];
+
+		previous[offset] = current[offset] = x;
+		previous[offset + 1] = current[offset + 1] = y;
+		previous[offset + 2] = current[offset + 2] = width;
+		previous[offset + 3] = current[offset + 3] = height;
+		render[offset] = MathUtils.round(x);
+		render[offset + 1] = MathUtils.round(y);
+		render[offset + 2] = MathUtils.round(width);
+		render[offset + 3] = MathUtils.round(height);
+		active[block][index] = false;
+	}
+
+	/**
+	 * Stores the current values of all flagged slots as their previous values
+	 */
+	public void preUpdate() {
+		final int [] slots = activeSlots.items;
+		for(int i = activeSlots.size - 1; i >= 0; i--) {
+			preUpdate(slots[i]);
+		}
+	}
+
+	/**
+	 * Stores the current values of a slot as its previous values
+	 * @param slot The slot index
+	 */
+	public void preUpdate(int slot) {
+		final int block = slot >> BLOCK_SHIFT;
+		final int offset = (slot & BLOCK_MASK) * VALUES_PER_SLOT;
+		System.arraycopy(current[block], offset, previous[block], offset, VALUES_PER_SLOT);
+	}
+
+	/**
+	 * Interpolates all flagged slots. Slots are un-flagged once their render values
+	 * match their current values.
+	 * @param alpha The value (between 0.0 and 1.0) representing the progress between the previous and current values
+	 */
+	public void interpolate(float alpha) {
+		final int totalActive = activeSlots.size;
+		if(parallelThreshold > 0 && totalActive >= parallelThreshold) {
+			parallelAlpha = alpha;
+			parallelRange.execute(totalActive);
+		} else {
+			interpolate(activeSlots.items, 0, totalActive, alpha);
+		}
+
+		synchronized(this) {
+			final int [] slots = activeSlots.items;
+			for(int i = activeSlots.size - 1; i >= 0; i--) {
+				final int slot = slots[i];
+				if(active[slot >> BLOCK_SHIFT][slot & BLOCK_MASK]) {
+					continue;
+				}
+				activeSlots.removeIndex(i);
+			}
+		}
+	}
+
+	private void interpolate(int [] slots, int from, int to, float alpha) {
+		for(int i = from; i < to; i++) {
+			interpolate(slots[i], alpha);
+		}
+	}
+
+	/**
+	 * Interpolates a single slot if it is flagged for interpolation
+	 * @param slot The slot index
+	 * @param alpha The value (between 0.0 and 1.0) representing the progress between the previous and current values
+	 */
+	public void interpolate(int slot, float alpha) {
+		final int block = slot >> BLOCK_SHIFT;
+		final int index = slot & BLOCK_MASK;
+		final boolean [] active = this.active[block];
+		if(!active[index]) {
+			return;
+		}
+		final float [] previous = this.previous[block];
+		final float [] current = this.current[block];
+		final int [] render = this.render[block];
+		final int offset = index * VALUES_PER_SLOT;
+
+		boolean settled = true;
+		for(int i = offset; i < offset + VALUES_PER_SLOT; i++) {
+			final float previousValue = previous[i];
+			final float currentValue = current[i];
+			render[i] = MathUtils.round(previousValue + ((currentValue - previousValue) * alpha));
+			settled &= previousValue == currentValue && render[i] == MathUtils.round(currentValue);
+		}
+		if(settled) {
+			active[index] = false;
+		}
+	}
+
+	/**
+	 * Un-flags all slots so that no interpolation occurs until they are next updated
+	 */
+	public synchronized void clearActive() {
+		final int [] slots = activeSlots.items;
+		for(int i = 0; i < activeSlots.size; i++) {
+			active[slots[i] >> BLOCK_SHIFT][slots[i] & BLOCK_MASK] = false;
+		}
+		activeSlots.clear();
+	}
+
+	/**
+	 * Returns if a slot is flagged for interpolation
+	 * @param slot The slot index
+	 * @return True if the slot's render values do not yet match its current values
+	 */
+	public boolean isInterpolateRequired(int slot) {
+		return active[slot >> BLOCK_SHIFT][slot & BLOCK_MASK];
+	}
+
+	/**
+	 * Returns the rounded interpolated x value of a slot
+	 * @param slot The slot index
+	 * @return The render x value
+	 */
+	public int getRenderX(int slot) {
+		return render[slot >> BLOCK_SHIFT][(slot & BLOCK_MASK) * VALUES_PER_SLOT];
+	}
+
+	/**
+	 * Returns the rounded interpolated y value of a slot
+	 * @param slot The slot index
+	 * @return The render y value
+	 */
+	public int getRenderY(int slot) {
+		return render[slot >> BLOCK_SHIFT][((slot & BLOCK_MASK) * VALUES_PER_SLOT) + 1];
+	}
+
+	/**
+	 * Returns the rounded interpolated width value of a slot
+	 * @param slot The slot index
+	 * @return The render width value
+	 */
+	public int getRenderWidth(int slot) {
+		return render[slot >> BLOCK_SHIFT][((slot & BLOCK_MASK) * VALUES_PER_SLOT) + 2];
+	}
+
+	/**
+	 * Returns the rounded interpolated height value of a slot
+	 * @param slot The slot index
+	 * @return The render height value
+	 */
+	public int getRenderHeight(int slot) {
+		return render[slot >> BLOCK_SHIFT][((slot & BLOCK_MASK) * VALUES_PER_SLOT) + 3];
+	}
+
+	/**
+	 * Returns the number of slots currently flagged for interpolation
+	 * @return 0 if no slots require interpolation
+	 */
+	public int getTotalActive() {
+		return activeSlots.size;
+	}
+
+	/**
+	 * Returns the minimum number of flagged slots required before interpolation is split across threads
+	 * @return 0 if interpolation is always single-threaded
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of flagged slots required before interpolation is split across
+	 * threads via a {@link ParallelRange}. Set to 0 to always interpolate on the calling thread.
+	 * @param parallelThreshold The threshold
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+}
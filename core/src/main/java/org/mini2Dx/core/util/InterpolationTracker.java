@@ -18,18 +18,23 @@ package org.mini2Dx.core.util;
 import org.mini2Dx.gdx.utils.OrderedSet;
 
 /**
- * Tracks {@link Interpolatable} objects and auto-interpolates them each frame
+ * Tracks {@link Interpolatable} objects and auto-interpolates them each frame.
+ * Objects storing their state in the shared {@link InterpolationBuffer} are
+ * interpolated in bulk and do not need to be registered.
  */
 public class InterpolationTracker {
 	private static final OrderedSet<Interpolatable> INTERPOLATABLES = new OrderedSet<Interpolatable>(512);
+	private static final InterpolationBuffer BUFFER = new InterpolationBuffer();
 
 	public static void preUpdate() {
+		BUFFER.preUpdate();
 		for(Interpolatable interpolatable : INTERPOLATABLES.orderedItems()) {
 			interpolatable.preUpdate();
 		}
 	}
 
 	public static void interpolate(float alpha) {
+		BUFFER.interpolate(alpha);
 		for(Interpolatable interpolatable : INTERPOLATABLES.orderedItems()) {
 			interpolatable.interpolate(alpha);
 		}
@@ -49,5 +54,14 @@ public class InterpolationTracker {
 
 	public static synchronized void deregisterAll() {
 		INTERPOLATABLES.clear();
+		BUFFER.clearActive();
+	}
+
+	/**
+	 * Returns the shared {@link InterpolationBuffer} interpolated each frame
+	 * @return The {@link InterpolationBuffer} instance
+	 */
+	public static InterpolationBuffer getBuffer() {
+		return BUFFER;
 	}
 }
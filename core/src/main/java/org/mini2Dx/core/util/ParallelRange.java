@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Splits a range of indices into contiguous chunks and processes the chunks across threads. The calling
+ * thread processes the first chunk and then waits for the remaining chunks to complete.
+ *
+ * Chunks run on a dedicated pool of daemon worker threads shared by all instances so that a saturated
+ * {@link org.mini2Dx.core.Mdx#executor} (e.g. texture packing or audio decoding) never delays the caller.
+ * Calls made from a worker thread run on that thread to avoid waiting on the pool from inside it.
+ *
+ * If any chunk throws, the first {@link Throwable} is rethrown on the calling thread once all chunks
+ * have completed.
+ *
+ * Tasks are reused between calls. Instances are not thread-safe; each owner should use its own instance.
+ */
+public class ParallelRange {
+	private static final AtomicInteger WORKER_ID = new AtomicInteger();
+	private static ExecutorService workers;
+
+	private final RangeProcessor processor;
+	private final int totalChunks;
+	private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+	private ChunkTask [] chunkTasks;
+
+	/**
+	 * Constructor. Splits ranges into one chunk per available processor.
+	 * @param processor The {@link RangeProcessor} to invoke for each chunk
+	 */
+	public ParallelRange(RangeProcessor processor) {
+		this(processor, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructor
+	 * @param processor The {@link RangeProcessor} to invoke for each chunk
+	 * @param totalChunks The number of chunks to split ranges into
+	 */
+	public ParallelRange(RangeProcessor processor, int totalChunks) {
+		super();
+		this.processor = processor;
+		this.totalChunks = totalChunks;
+	}
+
+	/**
+	 * Processes the range 0 (inclusive) to total (exclusive). Runs entirely on the calling thread if
+	 * there is only one chunk or the calling thread is a {@link ParallelRange} worker.
+	 * @param total The size of the range
+	 */
+	public void execute(int total) {
+		if(totalChunks < 2 || Thread.currentThread() instanceof WorkerThread) {
+			processor.process(0, total);
+			return;
+		}
+		if(chunkTasks == null) {
+			chunkTasks = new ChunkTask[totalChunks];
+			for(int i = 0; i < totalChunks; i++) {
+				chunkTasks[i] = new ChunkTask();
+			}
+		}
+		final ExecutorService workers = getWorkers();
+		final int chunkSize = (total + totalChunks - 1) / totalChunks;
+		final CountDownLatch latch = new CountDownLatch(totalChunks - 1);
+
+		for(int i = 1; i < totalChunks; i++) {
+			final ChunkTask task = chunkTasks[i];
+			task.from = Math.min(total, i * chunkSize);
+			task.to = Math.min(total, task.from + chunkSize);
+			task.latch = latch;
+			workers.execute(task);
+		}
+		try {
+			processor.process(0, Math.min(total, chunkSize));
+		} catch (Throwable e) {
+			failure.compareAndSet(null, e);
+		}
+		awaitUninterruptibly(latch);
+
+		final Throwable result = failure.getAndSet(null);
+		if(result instanceof RuntimeException) {
+			throw (RuntimeException) result;
+		} else if(result instanceof Error) {
+			throw (Error) result;
+		} else if(result != null) {
+			throw new RuntimeException(result);
+		}
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while(true) {
+			try {
+				latch.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if(interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static synchronized ExecutorService getWorkers() {
+		if(workers == null) {
+			final int totalWorkers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+			workers = Executors.newFixedThreadPool(totalWorkers, new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable runnable) {
+					return new WorkerThread(runnable);
+				}
+			});
+		}
+		return workers;
+	}
+
+	/**
+	 * Processes a chunk of a {@link ParallelRange}. Chunks are processed concurrently so implementations
+	 * must only write to state belonging to the indices in their chunk.
+	 */
+	public interface RangeProcessor {
+		/**
+		 * Processes a chunk of the range
+		 * @param from The first index (inclusive)
+		 * @param to The last index (exclusive)
+		 */
+		public void process(int from, int to);
+	}
+
+	private class ChunkTask implements Runnable {
+		int from, to;
+		CountDownLatch latch;
+
+		@Override
+		public void run() {
+			try {
+				processor.process(from, to);
+			} catch (Throwable e) {
+				failure.compareAndSet(null, e);
+			} finally {
+				latch.countDown();
+			}
+		}
+	}
+
+	private static class WorkerThread extends Thread {
+		WorkerThread(Runnable runnable) {
+			super(runnable, "mini2Dx-parallel-range-" + WORKER_ID.getAndIncrement());
+			setDaemon(true);
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.util;
+
+import org.mini2Dx.gdx.utils.Array;
+
+import java.util.Comparator;
+
+/**
+ * An {@link Array} that throws {@link UnsupportedOperationException} from its mutating methods once sealed.
+ * Used to share cached results without callers being able to modify them. Note that {@link #items} remains
+ * publicly accessible and must not be written to.
+ * @param <T> The element type
+ */
+public class ReadOnlyArray<T> extends Array<T> {
+	private boolean sealed = false;
+
+	public ReadOnlyArray() {
+		super();
+	}
+
+	public ReadOnlyArray(boolean ordered, int capacity) {
+		super(ordered, capacity);
+	}
+
+	/**
+	 * Prevents any further modification of this array
+	 * @return This instance for chaining
+	 */
+	public ReadOnlyArray<T> seal() {
+		sealed = true;
+		return this;
+	}
+
+	/**
+	 * Returns if this array can no longer be modified
+	 * @return True if {@link #seal()} has been called
+	 */
+	public boolean isSealed() {
+		return sealed;
+	}
+
+	private void checkModifiable() {
+		if(sealed) {
+			throw new UnsupportedOperationException("Array is read-only");
+		}
+	}
+
+	@Override
+	public void add(T value) {
+		checkModifiable();
+		super.add(value);
+	}
+
+	@Override
+	public void add(T value1, T value2) {
+		checkModifiable();
+		super.add(value1, value2);
+	}
+
+	@Override
+	public void add(T value1, T value2, T value3) {
+		checkModifiable();
+		super.add(value1, value2, value3);
+	}
+
+	@Override
+	public void add(T value1, T value2, T value3, T value4) {
+		checkModifiable();
+		super.add(value1, value2, value3, value4);
+	}
+
+	@Override
+	public void addAll(Array<? extends T> array, int start, int count) {
+		checkModifiable();
+		super.addAll(array, start, count);
+	}
+
+	@Override
+	public void addAll(T[] array, int start, int count) {
+		checkModifiable();
+		super.addAll(array, start, count);
+	}
+
+	@Override
+	public void set(int index, T value) {
+		checkModifiable();
+		super.set(index, value);
+	}
+
+	@Override
+	public void insert(int index, T value) {
+		checkModifiable();
+		super.insert(index, value);
+	}
+
+	@Override
+	public void swap(int first, int second) {
+		checkModifiable();
+		super.swap(first, second);
+	}
+
+	@Override
+	public boolean removeValue(T value, boolean identity) {
+		checkModifiable();
+		return super.removeValue(value, identity);
+	}
+
+	@Override
+	public T removeIndex(int index) {
+		checkModifiable();
+		return super.removeIndex(index);
+	}
+
+	@Override
+	public void removeRange(int start, int end) {
+		checkModifiable();
+		super.removeRange(start, end);
+	}
+
+	@Override
+	public boolean removeAll(Array<? extends T> array, boolean identity) {
+		checkModifiable();
+		return super.removeAll(array, identity);
+	}
+
+	@Override
+	public T pop() {
+		checkModifiable();
+		return super.pop();
+	}
+
+	@Override
+	public void clear() {
+		checkModifiable();
+		super.clear();
+	}
+
+	@Override
+	public T[] shrink() {
+		checkModifiable();
+		return super.shrink();
+	}
+
+	@Override
+	public T[] ensureCapacity(int additionalCapacity) {
+		checkModifiable();
+		return super.ensureCapacity(additionalCapacity);
+	}
+
+	@Override
+	public T[] setSize(int newSize) {
+		checkModifiable();
+		return super.setSize(newSize);
+	}
+
+	@Override
+	public void sort() {
+		checkModifiable();
+		super.sort();
+	}
+
+	@Override
+	public void sort(Comparator<? super T> comparator) {
+		checkModifiable();
+		super.sort(comparator);
+	}
+
+	@Override
+	public void reverse() {
+		checkModifiable();
+		super.reverse();
+	}
+
+	@Override
+	public void shuffle() {
+		checkModifiable();
+		super.shuffle();
+	}
+
+	@Override
+	public void truncate(int newSize) {
+		checkModifiable();
+		super.truncate(newSize);
+	}
+}
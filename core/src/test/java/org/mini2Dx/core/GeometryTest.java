@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.mini2Dx.core.geom.Rectangle;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for {@link Geometry}
+ */
+public class GeometryTest {
+
+	@Test
+	public void testPoolHitsAndMisses() {
+		final Geometry geometry = new Geometry(16);
+		final Geometry.PoolStats stats = geometry.getThreadStats();
+		final long initialAllocations = stats.getAllocations();
+
+		final Rectangle [] rectangles = new Rectangle[Geometry.DEFAULT_POOL_SIZE + 1];
+		for(int i = 0; i < rectangles.length; i++) {
+			rectangles[i] = geometry.rectangle();
+		}
+		Assert.assertEquals(Geometry.DEFAULT_POOL_SIZE, stats.getHits());
+		Assert.assertEquals(1, stats.getMisses());
+		Assert.assertEquals(initialAllocations + 1, geometry.getTotalAllocations());
+
+		for(int i = 0; i < rectangles.length; i++) {
+			rectangles[i].dispose();
+		}
+		Assert.assertSame(rectangles[rectangles.length - 1], geometry.rectangle());
+	}
+
+	@Test
+	public void testPoolIsBounded() {
+		final Geometry geometry = new Geometry(Geometry.DEFAULT_POOL_SIZE);
+		final Rectangle [] rectangles = new Rectangle[Geometry.DEFAULT_POOL_SIZE * 2];
+		for(int i = 0; i < rectangles.length; i++) {
+			rectangles[i] = geometry.rectangle();
+		}
+		for(int i = 0; i < rectangles.length; i++) {
+			rectangles[i].dispose();
+		}
+		Assert.assertEquals(Geometry.DEFAULT_POOL_SIZE, geometry.getTotalDiscards());
+	}
+
+	@Test
+	public void testReleaseFromAnotherThread() throws InterruptedException {
+		final Geometry geometry = new Geometry();
+		final AtomicReference<Rectangle> allocated = new AtomicReference<Rectangle>();
+
+		final Thread worker = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				allocated.set(geometry.rectangle());
+			}
+		});
+		worker.start();
+		worker.join();
+
+		final long mainThreadHits = geometry.getThreadStats().getHits();
+		allocated.get().dispose();
+		Assert.assertEquals(1, geometry.getTotalHits() - mainThreadHits);
+		Assert.assertSame(allocated.get(), geometry.rectangle());
+	}
+}
@@ -69,6 +69,20 @@ public class CollisionBoxTest implements PositionChangeListener<CollisionBox>, S
 		Assert.assertEquals(0, positionNotificationReceived);
 	}
 
+	@Test
+	public void testDisposedBoxDoesNotMoveReusedSlot() {
+		rectangle1 = new CollisionBox(10f, 10f, 50f, 50f);
+		rectangle1.dispose();
+		rectangle2 = new CollisionBox(20f, 20f, 50f, 50f);
+
+		rectangle1.forceTo(500f, 500f);
+		rectangle1.preUpdate();
+		rectangle1.interpolate(1f);
+		Assert.assertEquals(500, rectangle1.getRenderX());
+		Assert.assertEquals(20, rectangle2.getRenderX());
+		Assert.assertEquals(20, rectangle2.getRenderY());
+	}
+
 	@Test
 	public void testManyRectangles() {
 		Random random = new Random();
@@ -55,6 +55,8 @@ public class MonospaceFontGlyphLayoutTest {
 				allowing(graphicsUtils).newColor(0f, 0f, 0f, 1f);
 				will(returnValue(color));
 				allowing(color).set(with(any(Color.class)));
+				allowing(color).rgba8888();
+				will(returnValue(0x000000ff));
 			}
 		});
 
@@ -102,9 +104,9 @@ public class MonospaceFontGlyphLayoutTest {
 				expectedY += FONT_LINE_HEIGHT;
 				continue;
 			}
-			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().get(i).x, 0.01f);
-			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().get(i).y, 0.01f);
-			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().get(i).glyphChar);
+			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().getX(i), 0.01f);
+			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().getY(i), 0.01f);
+			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().getChar(i));
 
 			expectedX += FONT_CHARACTER_WIDTH + FONT_SPACING;
 		}
@@ -127,9 +129,9 @@ public class MonospaceFontGlyphLayoutTest {
 				expectedY += FONT_LINE_HEIGHT;
 				continue;
 			}
-			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().get(i).x, 0.01f);
-			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().get(i).y, 0.01f);
-			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().get(i).glyphChar);
+			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().getX(i), 0.01f);
+			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().getY(i), 0.01f);
+			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().getChar(i));
 
 			expectedX += FONT_CHARACTER_WIDTH + FONT_SPACING;
 		}
@@ -164,9 +166,9 @@ public class MonospaceFontGlyphLayoutTest {
 				continue;
 			}
 
-			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().get(i).x, 0.01f);
-			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().get(i).y, 0.01f);
-			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().get(i).glyphChar);
+			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().getX(i), 0.01f);
+			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().getY(i), 0.01f);
+			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().getChar(i));
 
 			expectedX += FONT_CHARACTER_WIDTH + FONT_SPACING;
 			if(str.charAt(i) == '\n') {
@@ -195,9 +197,9 @@ public class MonospaceFontGlyphLayoutTest {
 				expectedY += FONT_LINE_HEIGHT;
 				continue;
 			}
-			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().get(i).x, 0.01f);
-			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().get(i).y, 0.01f);
-			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().get(i).glyphChar);
+			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().getX(i), 0.01f);
+			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().getY(i), 0.01f);
+			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().getChar(i));
 
 			expectedX += FONT_CHARACTER_WIDTH + FONT_SPACING;
 		}
@@ -233,9 +235,9 @@ public class MonospaceFontGlyphLayoutTest {
 				continue;
 			}
 
-			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().get(i).x, 0.01f);
-			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().get(i).y, 0.01f);
-			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().get(i).glyphChar);
+			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().getX(i), 0.01f);
+			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().getY(i), 0.01f);
+			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().getChar(i));
 
 			expectedX += FONT_CHARACTER_WIDTH + FONT_SPACING;
 		}
@@ -260,9 +262,9 @@ public class MonospaceFontGlyphLayoutTest {
 				expectedY += FONT_LINE_HEIGHT;
 				continue;
 			}
-			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().get(i).x, 0.01f);
-			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().get(i).y, 0.01f);
-			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().get(i).glyphChar);
+			Assert.assertEquals(expectedX, glyphLayout.getGlyphs().getX(i), 0.01f);
+			Assert.assertEquals(expectedY, glyphLayout.getGlyphs().getY(i), 0.01f);
+			Assert.assertEquals(str.charAt(i), glyphLayout.getGlyphs().getChar(i));
 
 			expectedX += FONT_CHARACTER_WIDTH + FONT_SPACING;
 		}
@@ -280,4 +282,35 @@ public class MonospaceFontGlyphLayoutTest {
 		Assert.assertEquals(FONT_CHARACTER_WIDTH - 1f, glyphLayout.getWidth(), 0.01f);
 		Assert.assertEquals(FONT_LINE_HEIGHT * 2f, glyphLayout.getHeight(), 0.01f);
 	}
+
+	@Test
+	public void testLayoutSkippedForUnchangedText() {
+		glyphLayout.setText("abc def", color, -1f, Align.left, true);
+		final float width = glyphLayout.getWidth();
+
+		glyphLayout.getGlyphs().set(0, 'z', 100f, 100f, 0, -1);
+		glyphLayout.setText(new StringBuilder("abc def"), color, -1f, Align.left, true);
+		Assert.assertEquals('z', glyphLayout.getGlyphs().getChar(0));
+		Assert.assertEquals(width, glyphLayout.getWidth(), 0.01f);
+
+		glyphLayout.setText("abc deg", color, -1f, Align.left, true);
+		Assert.assertEquals('a', glyphLayout.getGlyphs().getChar(0));
+		Assert.assertEquals(0f, glyphLayout.getGlyphs().getX(0), 0.01f);
+		Assert.assertEquals('g', glyphLayout.getGlyphs().getChar(6));
+
+		glyphLayout.setText("abc deg", color, -1f, Align.right, true);
+		Assert.assertEquals(7, glyphLayout.getGlyphs().getSize());
+		Assert.assertEquals(FONT_CHARACTER_WIDTH + FONT_SPACING, glyphLayout.getGlyphs().getX(1), 0.01f);
+	}
+
+	@Test
+	public void testLayoutShrinksToTextLength() {
+		glyphLayout.setText("abcdef");
+		Assert.assertEquals(6, glyphLayout.getGlyphs().getSize());
+
+		glyphLayout.setText("ab");
+		Assert.assertEquals(2, glyphLayout.getGlyphs().getSize());
+		Assert.assertEquals((int) 'a', glyphLayout.getGlyphs().getRegionIndex(0));
+		Assert.assertEquals((int) 'b', glyphLayout.getGlyphs().getRegionIndex(1));
+	}
 }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.font;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MonospaceGlyphBuffer}
+ */
+public class MonospaceGlyphBufferTest {
+
+	@Test
+	public void testSetSizeRetainsGlyphs() {
+		final MonospaceGlyphBuffer buffer = new MonospaceGlyphBuffer(2);
+		buffer.setSize(2);
+		buffer.set(0, 'a', 1f, 2f, 0xff0000ff, 97);
+		buffer.set(1, 'b', 3f, 4f, 0x00ff00ff, 98);
+
+		buffer.setSize(100);
+		Assert.assertEquals(100, buffer.getSize());
+		Assert.assertEquals('a', buffer.getChar(0));
+		Assert.assertEquals(3f, buffer.getX(1), 0.01f);
+		Assert.assertEquals(4f, buffer.getY(1), 0.01f);
+		Assert.assertEquals(0x00ff00ff, buffer.getColor(1));
+		Assert.assertEquals(98, buffer.getRegionIndex(1));
+	}
+
+	@Test
+	public void testAppend() {
+		final MonospaceGlyphBuffer source = new MonospaceGlyphBuffer();
+		source.setSize(2);
+		source.set(0, 'a', 0f, 0f, 0xff0000ff, 97);
+		source.set(1, 'b', 17f, 0f, 0xff0000ff, 98);
+
+		final MonospaceGlyphBuffer result = new MonospaceGlyphBuffer(1);
+		result.append(source, 10f, 20f);
+		result.append(source, 100f, 200f);
+
+		Assert.assertEquals(4, result.getSize());
+		Assert.assertEquals(27f, result.getX(1), 0.01f);
+		Assert.assertEquals(20f, result.getY(1), 0.01f);
+		Assert.assertEquals('a', result.getChar(2));
+		Assert.assertEquals(100f, result.getX(2), 0.01f);
+		Assert.assertEquals(200f, result.getY(2), 0.01f);
+		Assert.assertEquals(98, result.getRegionIndex(3));
+	}
+
+	@Test
+	public void testSetAllAlphas() {
+		final MonospaceGlyphBuffer buffer = new MonospaceGlyphBuffer();
+		buffer.setSize(2);
+		buffer.set(0, 'a', 0f, 0f, 0xff0000ff, 97);
+		buffer.set(1, 'b', 0f, 0f, 0x00ff0080, 98);
+
+		buffer.setAllAlphas(0f);
+		Assert.assertEquals(0xff000000, buffer.getColor(0));
+		Assert.assertEquals(0x00ff0000, buffer.getColor(1));
+
+		buffer.setAllAlphas(1f);
+		Assert.assertEquals(0xff0000ff, buffer.getColor(0));
+
+		buffer.setAllColors(0x12345678);
+		Assert.assertEquals(0x12345678, buffer.getColor(1));
+	}
+}
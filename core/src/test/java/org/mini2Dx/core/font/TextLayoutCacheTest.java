@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.font;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mini2Dx.core.GraphicsUtils;
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.graphics.Color;
+import org.mini2Dx.core.util.Align;
+
+/**
+ * Unit tests for {@link TextLayoutCache}
+ */
+public class TextLayoutCacheTest {
+	private static final int FONT_CHARACTER_WIDTH = 16;
+	private static final int FONT_LINE_HEIGHT = 24;
+
+	private final Mockery mockery = new Mockery();
+
+	private MonospaceGameFont.FontParameters fontParameters;
+	private MonospaceGameFont font;
+	private TextLayoutCache cache;
+
+	@Before
+	public void setUp() {
+		final Color color = mockery.mock(Color.class);
+		final GraphicsUtils graphicsUtils = mockery.mock(GraphicsUtils.class);
+		Mdx.graphics = graphicsUtils;
+
+		mockery.checking(new Expectations() {
+			{
+				allowing(graphicsUtils).newColor(0f, 0f, 0f, 1f);
+				will(returnValue(color));
+				allowing(color).rgba8888();
+				will(returnValue(0x000000ff));
+			}
+		});
+
+		fontParameters = new MonospaceGameFont.FontParameters();
+		fontParameters.frameWidth = 32;
+		fontParameters.frameHeight = 32;
+		fontParameters.characterWidth = FONT_CHARACTER_WIDTH;
+		fontParameters.lineHeight = FONT_LINE_HEIGHT;
+		font = new MonospaceGameFont(fontParameters);
+
+		cache = new TextLayoutCache(2);
+	}
+
+	@After
+	public void teardown() {
+		mockery.assertIsSatisfied();
+	}
+
+	@Test
+	public void testMeasureCachesResult() {
+		final TextLayoutCache.TextMeasurement measurement = cache.measure(font, "abc");
+		Assert.assertEquals((FONT_CHARACTER_WIDTH * 3f) + 2f, measurement.getWidth(), 0.01f);
+		Assert.assertEquals(FONT_LINE_HEIGHT, measurement.getHeight(), 0.01f);
+
+		Assert.assertSame(measurement, cache.measure(font, new String("abc")));
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+		Assert.assertEquals(0.5f, cache.getHitRate(), 0.01f);
+	}
+
+	@Test
+	public void testParametersArePartOfKey() {
+		final float targetWidth = (FONT_CHARACTER_WIDTH * 3f) + 2f;
+		final TextLayoutCache.TextMeasurement wrapped = cache.measure(font, "abc def", targetWidth, Align.LEFT, true);
+		final TextLayoutCache.TextMeasurement unwrapped = cache.measure(font, "abc def", targetWidth, Align.LEFT, false);
+
+		Assert.assertNotSame(wrapped, unwrapped);
+		Assert.assertEquals(FONT_LINE_HEIGHT * 2f, wrapped.getHeight(), 0.01f);
+		Assert.assertEquals(FONT_LINE_HEIGHT, unwrapped.getHeight(), 0.01f);
+		Assert.assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	public void testLineHeightIsPartOfKey() {
+		final TextLayoutCache.TextMeasurement unscaled = cache.measure(font, "abc");
+		fontParameters.lineHeight = FONT_LINE_HEIGHT * 2;
+		final TextLayoutCache.TextMeasurement scaled = cache.measure(font, "abc");
+
+		Assert.assertNotSame(unscaled, scaled);
+		Assert.assertEquals(0, cache.getHits());
+		Assert.assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		final TextLayoutCache.TextMeasurement a = cache.measure(font, "a");
+		cache.measure(font, "b");
+		cache.measure(font, "a");
+		cache.measure(font, "c");
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(1, cache.getEvictions());
+		Assert.assertSame(a, cache.measure(font, "a"));
+
+		cache.measure(font, "b");
+		Assert.assertEquals(4, cache.getMisses());
+	}
+
+	@Test
+	public void testInvalidate() {
+		final TextLayoutCache.TextMeasurement a = cache.measure(font, "a");
+		cache.invalidate(font);
+		Assert.assertEquals(0, cache.size());
+		Assert.assertNotSame(a, cache.measure(font, "a"));
+
+		cache.resetStatistics();
+		Assert.assertEquals(0f, cache.getHitRate(), 0.01f);
+	}
+}
@@ -55,4 +55,94 @@ public class IntersectorTest {
 		
 		Assert.assertEquals(true, Intersector.intersectLines(line1Start, line1End, line2Start, line2End, new Vector2()));
 	}
+
+	@Test
+	public void testIntersectConvexPolygonsWithMinimumTranslation() {
+		Rectangle rectangle1 = new Rectangle(0f, 0f, 50f, 50f);
+		Rectangle rectangle2 = new Rectangle(40f, 10f, 50f, 50f);
+		rectangle2.setRotation(45f);
+		CollisionResult result = new CollisionResult();
+
+		Assert.assertEquals(true, Intersector.intersectConvexPolygons(rectangle1.getPolygon(), rectangle2.getPolygon(), result));
+		Assert.assertEquals(true, result.getDepth() > 0f);
+
+		rectangle1.translate(result.getTranslationX(), result.getTranslationY());
+		rectangle1.translate(-result.getNormalX() * 0.01f, -result.getNormalY() * 0.01f);
+		Assert.assertEquals(false, Intersector.intersectConvexPolygons(rectangle1.getPolygon(), rectangle2.getPolygon(), null));
+	}
+
+	@Test
+	public void testIntersectConvexPolygonsWithContainedPolygon() {
+		Polygon outer = new Polygon(new float[] { 0f, 0f, 100f, 0f, 100f, 100f, 0f, 100f });
+		Triangle inner = new Triangle(40f, 40f, 60f, 40f, 50f, 60f);
+		CollisionResult result = new CollisionResult();
+
+		Assert.assertEquals(true, Intersector.intersectConvexPolygons(outer, inner.getPolygon(), result));
+		Assert.assertEquals(true, result.getDepth() >= 40f);
+		Assert.assertEquals(true, outer.intersects(inner));
+		Assert.assertEquals(true, inner.intersects(outer));
+	}
+
+	@Test
+	public void testIntersectConvexPolygonCircle() {
+		Rectangle rectangle = new Rectangle(0f, 0f, 50f, 50f);
+		Circle circle = new Circle(55f, 25f, 10f);
+		CollisionResult result = new CollisionResult();
+
+		Assert.assertEquals(true, rectangle.intersects(circle, result));
+		Assert.assertEquals(1f, result.getNormalX(), 0.001f);
+		Assert.assertEquals(0f, result.getNormalY(), 0.001f);
+		Assert.assertEquals(5f, result.getDepth(), 0.001f);
+
+		Assert.assertEquals(true, circle.intersects(rectangle, result));
+		Assert.assertEquals(-1f, result.getNormalX(), 0.001f);
+		Assert.assertEquals(5f, result.getDepth(), 0.001f);
+
+		circle.setX(100f);
+		Assert.assertEquals(false, rectangle.intersects(circle, result));
+	}
+
+	@Test
+	public void testIntersectCircles() {
+		Circle circle1 = new Circle(0f, 0f, 10f);
+		Circle circle2 = new Circle(0f, 15f, 10f);
+		CollisionResult result = new CollisionResult();
+
+		Assert.assertEquals(true, circle1.intersects(circle2, result));
+		Assert.assertEquals(0f, result.getNormalX(), 0.001f);
+		Assert.assertEquals(1f, result.getNormalY(), 0.001f);
+		Assert.assertEquals(5f, result.getDepth(), 0.001f);
+		Assert.assertEquals(-5f, result.getTranslationY(), 0.001f);
+	}
+
+	@Test
+	public void testIntersectAxisAlignedRectangles() {
+		Rectangle rectangle1 = new Rectangle(0f, 0f, 50f, 50f);
+		Rectangle rectangle2 = new Rectangle(45f, 10f, 50f, 50f);
+		CollisionResult result = new CollisionResult();
+
+		Assert.assertEquals(true, rectangle1.intersects(rectangle2, result));
+		Assert.assertEquals(1f, result.getNormalX(), 0.001f);
+		Assert.assertEquals(0f, result.getNormalY(), 0.001f);
+		Assert.assertEquals(5f, result.getDepth(), 0.001f);
+		Assert.assertEquals(-5f, result.getTranslationX(), 0.001f);
+
+		rectangle2.setY(-45f);
+		rectangle2.setX(10f);
+		Assert.assertEquals(true, rectangle1.intersects(rectangle2, result));
+		Assert.assertEquals(0f, result.getNormalX(), 0.001f);
+		Assert.assertEquals(-1f, result.getNormalY(), 0.001f);
+		Assert.assertEquals(5f, result.getDepth(), 0.001f);
+	}
+
+	@Test
+	public void testIntersectShapesWithoutCollisionResult() {
+		Rectangle rectangle = new Rectangle(0f, 0f, 50f, 50f);
+		Circle circle = new Circle(55f, 25f, 10f);
+		Polygon concave = new Polygon(new float[] { 0f, 0f, 10f, 0f, 5f, 5f, 10f, 10f, 0f, 10f });
+
+		Assert.assertEquals(true, circle.intersects(rectangle, null));
+		Assert.assertEquals(true, rectangle.intersects(circle, null));
+		Assert.assertEquals(true, concave.intersects(rectangle, null));
+	}
 }
@@ -815,9 +815,22 @@ public class PolygonTest {
 		Assert.assertEquals(false, polygon1.equals(polygon2));
 	}
 	
+	@Test
+	public void testIsConvex() {
+		Polygon square = new Polygon(new float[] { 0f, 0f, 10f, 0f, 10f, 10f, 0f, 10f });
+		Assert.assertEquals(true, square.isConvex());
+
+		Polygon concave = new Polygon(new float[] { 0f, 0f, 10f, 0f, 5f, 5f, 10f, 10f, 0f, 10f });
+		Assert.assertEquals(false, concave.isConvex());
+
+		Polygon star = new Polygon(new float[] { 50f, 0f, 79.4f, 90.5f, 2.5f, 34.5f, 97.5f, 34.5f, 20.6f, 90.5f });
+		Assert.assertEquals(false, star.isConvex());
+	}
+
 	private void clearDirtyBit(Polygon polygon) {
 		polygon.getMaxX();
 		polygon.getTriangles();
 		polygon.getCenterX();
+		polygon.getEdgeNormals();
 	}
 }
@@ -421,4 +421,40 @@ public class RectangleTest {
 		rectangle2 = new Rectangle(0.001f, 0, 50, 50);
 		Assert.assertEquals(false, rectangle1.equals(rectangle2));
 	}
+
+	@Test
+	public void testContainsMatchesPolygon() {
+		rectangle1 = new Rectangle(10f, 20f, 30f, 40f);
+		Polygon polygon = new Polygon(new float[] { 10f, 20f, 40f, 20f, 40f, 60f, 10f, 60f });
+
+		for(float x = 0f; x <= 50f; x += 2.5f) {
+			for(float y = 10f; y <= 70f; y += 2.5f) {
+				Assert.assertEquals(polygon.contains(x, y), rectangle1.contains(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testLazyPolygonSync() {
+		rectangle1 = new Rectangle(0f, 0f, 10f, 20f);
+		rectangle1.set(5f, 5f, 15f, 25f);
+		rectangle1.translate(5f, 5f);
+
+		float [] vertices = rectangle1.getVertices();
+		Assert.assertEquals(10f, vertices[0]);
+		Assert.assertEquals(10f, vertices[1]);
+		Assert.assertEquals(25f, vertices[4]);
+		Assert.assertEquals(35f, vertices[5]);
+
+		rectangle1.getPolygon().translate(-10f, -10f);
+		Assert.assertEquals(0f, rectangle1.getX());
+		Assert.assertEquals(0f, rectangle1.getY());
+		Assert.assertEquals(15f, rectangle1.getMaxX());
+
+		rectangle1.rotate(90f);
+		rectangle1.rotate(-90f);
+		Assert.assertEquals(0f, rectangle1.getRotation());
+		Assert.assertEquals(0f, rectangle1.getX(), MathUtils.FLOAT_ROUNDING_ERROR);
+		Assert.assertEquals(25f, rectangle1.getMaxY(), MathUtils.FLOAT_ROUNDING_ERROR);
+	}
 }
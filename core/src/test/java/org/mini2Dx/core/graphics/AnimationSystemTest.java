@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics;
+
+import junit.framework.Assert;
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AnimationSystem}
+ */
+public class AnimationSystemTest {
+	private final AnimationSystem animationSystem = new AnimationSystem();
+	private Mockery mockery;
+	private Sprite sprite;
+
+	@Before
+	public void setup() {
+		mockery = new Mockery();
+		mockery.setImposteriser(ClassImposteriser.INSTANCE);
+		sprite = mockery.mock(Sprite.class);
+
+		mockery.checking(new Expectations() {
+			{
+				allowing(sprite).getOriginX();
+				will(returnValue(0f));
+				allowing(sprite).getOriginY();
+				will(returnValue(0f));
+				allowing(sprite).getTint();
+				will(returnValue(null));
+			}
+		});
+	}
+
+	@Test
+	public void testUpdateVariableDurations() {
+		final Animation<Sprite> animation = createAnimation(true, 0.125f, 0.25f, 0.0625f, 0.5625f);
+		animationSystem.add(animation);
+		Assert.assertEquals(1, animationSystem.size());
+
+		animationSystem.update(0.25f);
+		Assert.assertEquals(1, animation.getCurrentFrameIndex());
+		animationSystem.update(0.1875f);
+		Assert.assertEquals(3, animation.getCurrentFrameIndex());
+		animationSystem.update(0.5f);
+		Assert.assertEquals(3, animation.getCurrentFrameIndex());
+		animationSystem.update(0.125f);
+		Assert.assertEquals(0, animation.getCurrentFrameIndex());
+
+		Assert.assertEquals(true, animationSystem.remove(animation));
+		animationSystem.update(0.2f);
+		Assert.assertEquals(0, animation.getCurrentFrameIndex());
+		Assert.assertEquals(false, animationSystem.contains(animation));
+	}
+
+	@Test
+	public void testUpdateParallel() {
+		animationSystem.setParallelThreshold(10);
+
+		final Animation<Sprite> [] animations = new Animation[100];
+		for(int i = 0; i < animations.length; i++) {
+			animations[i] = createAnimation(false, 1f, 1f, 1f);
+			animationSystem.add(animations[i]);
+		}
+		animationSystem.update(1.5f);
+		animationSystem.update(1f);
+		for(int i = 0; i < animations.length; i++) {
+			Assert.assertEquals(2, animations[i].getCurrentFrameIndex());
+			Assert.assertEquals(false, animations[i].isFinished());
+		}
+		animationSystem.update(1f);
+		for(int i = 0; i < animations.length; i++) {
+			Assert.assertEquals(true, animations[i].isFinished());
+		}
+	}
+
+	private Animation<Sprite> createAnimation(boolean looping, float... durations) {
+		final Animation<Sprite> result = new Animation<Sprite>();
+		for(int i = 0; i < durations.length; i++) {
+			result.addFrame(sprite, durations[i]);
+		}
+		result.setLooping(looping);
+		return result;
+	}
+}
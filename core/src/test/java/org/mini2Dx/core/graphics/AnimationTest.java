@@ -23,6 +23,7 @@ import org.jmock.lib.legacy.ClassImposteriser;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mini2Dx.core.Graphics;
 
 /**
  * Unit tests for {@link Animation}
@@ -106,4 +107,92 @@ public class AnimationTest {
 		animation.update(1f);
 		Assert.assertEquals(1, animation.getCurrentFrameIndex());
 	}
+
+	@Test
+	public void testIsFinishedNoLooping() {
+		animation.setLooping(false);
+
+		animation.update(2.4f);
+		Assert.assertEquals(4, animation.getCurrentFrameIndex());
+		Assert.assertEquals(false, animation.isFinished());
+		animation.update(0.1f);
+		Assert.assertEquals(true, animation.isFinished());
+		animation.update(10f);
+		Assert.assertEquals(4, animation.getCurrentFrameIndex());
+		Assert.assertEquals(2.5f, animation.getElapsed());
+	}
+
+	@Test
+	public void testUpdateLoopingWrapsLargeDelta() {
+		animation.setLooping(true);
+
+		animation.update(26f);
+		Assert.assertEquals(2, animation.getCurrentFrameIndex());
+		Assert.assertEquals(false, animation.isFinished());
+	}
+
+	@Test
+	public void testRemoveFrame() {
+		Assert.assertEquals(2.5f, animation.getTotalDuration());
+		animation.update(2.2f);
+		Assert.assertEquals(4, animation.getCurrentFrameIndex());
+
+		animation.removeFrame(4);
+		Assert.assertEquals(4, animation.getNumberOfFrames());
+		Assert.assertEquals(2f, animation.getTotalDuration());
+		Assert.assertEquals(3, animation.getCurrentFrameIndex());
+		Assert.assertEquals(true, animation.isFinished());
+	}
+
+	@Test
+	public void testDrawDoesNotModifyFrame() {
+		final Graphics g = mockery.mock(Graphics.class);
+		animation.setRotation(45f);
+		animation.flip(true, false);
+		animation.update(0.5f);
+
+		mockery.checking(new Expectations(){
+			{
+				atLeast(1).of(sprite).getWidth();
+				will(returnValue(16f));
+				atLeast(1).of(sprite).getHeight();
+				will(returnValue(24f));
+				atLeast(1).of(sprite).isFlipX();
+				will(returnValue(false));
+				atLeast(1).of(sprite).isFlipY();
+				will(returnValue(true));
+				atLeast(1).of(sprite).getScaleX();
+				will(returnValue(1f));
+				atLeast(1).of(sprite).getScaleY();
+				will(returnValue(1f));
+				oneOf(g).drawTextureRegion(sprite, 10f, 20f, 16f, 24f, 1f, 1f, 45f, true, true, color);
+			}
+		});
+		animation.draw(g, 10f, 20f);
+	}
+
+	@Test
+	public void testDrawAppliesFrameScaleAroundOrigin() {
+		final Graphics g = mockery.mock(Graphics.class);
+		animation.update(0.5f);
+
+		mockery.checking(new Expectations(){
+			{
+				atLeast(1).of(sprite).getWidth();
+				will(returnValue(16f));
+				atLeast(1).of(sprite).getHeight();
+				will(returnValue(24f));
+				atLeast(1).of(sprite).isFlipX();
+				will(returnValue(false));
+				atLeast(1).of(sprite).isFlipY();
+				will(returnValue(false));
+				atLeast(1).of(sprite).getScaleX();
+				will(returnValue(2f));
+				atLeast(1).of(sprite).getScaleY();
+				will(returnValue(0.5f));
+				oneOf(g).drawTextureRegion(sprite, 9f, 20.5f, 32f, 12f, 2f, 0.5f, 0f, false, false, color);
+			}
+		});
+		animation.draw(g, 10f, 20f);
+	}
 }
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mini2Dx.core.GraphicsUtils;
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.exception.MdxException;
+
+import java.nio.IntBuffer;
+
+/**
+ * Unit tests for {@link PixelOps}
+ */
+public class PixelOpsTest {
+	private static final int RED = 0xff0000ff;
+	private static final int BLUE = 0x0000ffff;
+
+	private final Mockery mockery = new Mockery();
+	private final PixelOps pixelOps = new PixelOps();
+
+	@After
+	public void teardown() {
+		mockery.assertIsSatisfied();
+	}
+
+	@Test
+	public void testFillClipsToBounds() {
+		final int [] pixels = new int[4 * 3];
+		pixelOps.fill(pixels, 4, -1, 1, 3, 5, RED);
+
+		for(int y = 0; y < 3; y++) {
+			for(int x = 0; x < 4; x++) {
+				final int expected = y >= 1 && x < 2 ? RED : 0;
+				Assert.assertEquals(expected, pixels[(y * 4) + x]);
+			}
+		}
+	}
+
+	@Test
+	public void testCopy() {
+		final int [] src = new int[] {
+				1, 2, 3,
+				4, 5, 6
+		};
+		final int [] dst = new int[4 * 4];
+		pixelOps.copy(src, 3, 1, 0, dst, 4, 2, 1, 2, 2);
+
+		Assert.assertArrayEquals(new int[] {
+				0, 0, 0, 0,
+				0, 0, 2, 3,
+				0, 0, 5, 6,
+				0, 0, 0, 0
+		}, dst);
+
+		pixelOps.copy(src, 3, 0, 0, dst, 4, 3, 3, 3, 2);
+		Assert.assertEquals(1, dst[15]);
+	}
+
+	@Test
+	public void testCopyOverlappingRegions() {
+		pixelOps.setParallelThreshold(1);
+
+		final int [] pixels = new int[] {
+				1, 2, 3, 4,
+				5, 6, 7, 8,
+				9, 10, 11, 12,
+				13, 14, 15, 16
+		};
+		pixelOps.copy(pixels, 4, 0, 0, pixels, 4, 1, 1, 3, 3);
+		Assert.assertArrayEquals(new int[] {
+				1, 2, 3, 4,
+				5, 1, 2, 3,
+				9, 5, 6, 7,
+				13, 9, 10, 11
+		}, pixels);
+
+		pixelOps.copy(pixels, 4, 1, 1, pixels, 4, 0, 0, 3, 3);
+		Assert.assertArrayEquals(new int[] {
+				1, 2, 3, 4,
+				5, 6, 7, 3,
+				9, 10, 11, 7,
+				13, 9, 10, 11
+		}, pixels);
+	}
+
+	@Test
+	public void testCopyWithMismatchedStridesOnSameArray() {
+		final int [] pixels = new int[4 * 4];
+		try {
+			pixelOps.copy(pixels, 4, 0, 0, pixels, 2, 1, 1, 1, 1);
+			Assert.fail("Expected MdxException");
+		} catch (MdxException e) {
+		}
+	}
+
+	@Test
+	public void testBlendOverlappingRow() {
+		final int [] pixels = new int[] { RED, 0xff000080, BLUE, BLUE };
+		pixelOps.blend(pixels, 4, 0, 0, pixels, 4, 1, 0, 3, 1);
+		Assert.assertArrayEquals(new int[] { RED, RED, 0x80007fff, BLUE }, pixels);
+	}
+
+	@Test
+	public void testBlend() {
+		Assert.assertEquals(RED, PixelOps.blend(RED, BLUE));
+		Assert.assertEquals(BLUE, PixelOps.blend(0xff000000, BLUE));
+		Assert.assertEquals(0x80007fff, PixelOps.blend(0xff000080, BLUE));
+
+		final int [] src = new int[] { 0xff000080, 0 };
+		final int [] dst = new int[] { BLUE, BLUE };
+		pixelOps.blend(src, 2, 0, 0, dst, 2, 0, 0, 2, 1);
+		Assert.assertArrayEquals(new int[] { 0x80007fff, BLUE }, dst);
+	}
+
+	@Test
+	public void testParallelFill() {
+		pixelOps.setParallelThreshold(16);
+
+		final int [] pixels = new int[257 * 129];
+		pixelOps.fill(pixels, 257, 0, 0, 257, 129, BLUE);
+		for(int i = 0; i < pixels.length; i++) {
+			Assert.assertEquals(BLUE, pixels[i]);
+		}
+	}
+
+	@Test
+	public void testReadAndWrite() {
+		final IntBuffer buffer = IntBuffer.allocate(4 * 2);
+		final Pixmap pixmap = mockery.mock(Pixmap.class);
+		mockery.checking(new Expectations() {
+			{
+				allowing(pixmap).getIntPixelBuffer();
+				will(returnValue(buffer));
+				allowing(pixmap).getWidth();
+				will(returnValue(4));
+				allowing(pixmap).getHeight();
+				will(returnValue(2));
+			}
+		});
+
+		final int [] src = new int[] {
+				1, 2,
+				3, 4
+		};
+		pixelOps.write(src, 2, pixmap, 1, 0, 2, 2);
+		Assert.assertArrayEquals(new int[] { 0, 1, 2, 0, 0, 3, 4, 0 }, buffer.array());
+		Assert.assertEquals(0, buffer.position());
+
+		final int [] dst = new int[3 * 2];
+		pixelOps.read(pixmap, 0, 0, 4, 2, dst, 3);
+		Assert.assertArrayEquals(new int[] { 0, 1, 2, 0, 3, 4 }, dst);
+	}
+
+	@Test
+	public void testWriteToReadOnlyBuffer() {
+		final IntBuffer buffer = IntBuffer.allocate(4 * 2).asReadOnlyBuffer();
+		final Pixmap pixmap = mockery.mock(Pixmap.class);
+		final GraphicsUtils graphicsUtils = mockery.mock(GraphicsUtils.class);
+		final Color color = mockery.mock(Color.class);
+		Mdx.graphics = graphicsUtils;
+		mockery.checking(new Expectations() {
+			{
+				allowing(pixmap).getIntPixelBuffer();
+				will(returnValue(buffer));
+				allowing(pixmap).getWidth();
+				will(returnValue(4));
+				allowing(pixmap).getHeight();
+				will(returnValue(2));
+				allowing(pixmap).getBlending();
+				will(returnValue(PixmapBlending.SOURCE_OVER));
+				oneOf(graphicsUtils).newColor(0f, 0f, 0f, 0f);
+				will(returnValue(color));
+				oneOf(pixmap).setBlending(PixmapBlending.NONE);
+				oneOf(color).set((byte) 0, (byte) 0, (byte) 0, (byte) 0);
+				oneOf(pixmap).drawPixel(2, 1, color);
+				oneOf(color).set((byte) 0xff, (byte) 0, (byte) 0, (byte) 0xff);
+				oneOf(pixmap).drawPixel(3, 1, color);
+				oneOf(pixmap).setBlending(PixmapBlending.SOURCE_OVER);
+			}
+		});
+
+		pixelOps.write(new int[] { 0, RED }, 2, pixmap, 2, 1, 2, 1);
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mini2Dx.gdx.utils.Array;
+
+/**
+ * Unit tests for {@link TextureAtlasRegionIndex}
+ */
+public class TextureAtlasRegionIndexTest {
+	private final Mockery mockery = new Mockery();
+	private int totalRegions = 0;
+
+	@Test
+	public void testFindRegion() {
+		final TextureAtlasRegion walk1 = newRegion("walk", 1);
+		final TextureAtlasRegion walk0 = newRegion("walk", 0);
+		final TextureAtlasRegion duplicateWalk0 = newRegion("walk", 0);
+		final TextureAtlasRegion idle = newRegion("idle", -1);
+
+		final Array<TextureAtlasRegion> regions = new Array<TextureAtlasRegion>();
+		regions.add(walk1);
+		regions.add(idle);
+		regions.add(walk0);
+		regions.add(duplicateWalk0);
+		final TextureAtlasRegionIndex index = new TextureAtlasRegionIndex(regions);
+
+		Assert.assertSame(walk1, index.findRegion("walk"));
+		Assert.assertSame(walk0, index.findRegion("walk", 0));
+		Assert.assertSame(walk1, index.findRegion("walk", 1));
+		Assert.assertSame(idle, index.findRegion("idle", -1));
+		Assert.assertNull(index.findRegion("walk", 2));
+		Assert.assertNull(index.findRegion("run"));
+	}
+
+	@Test
+	public void testFindRegionsIsSortedAndCached() {
+		final TextureAtlasRegion walk2 = newRegion("walk", 2);
+		final TextureAtlasRegion walk0 = newRegion("walk", 0);
+		final TextureAtlasRegion walk1 = newRegion("walk", 1);
+
+		final TextureAtlasRegionIndex index = new TextureAtlasRegionIndex();
+		index.add(walk2);
+		index.add(walk0);
+		index.add(walk1);
+
+		final Array<TextureAtlasRegion> result = index.findRegions("walk");
+		Assert.assertEquals(3, result.size);
+		Assert.assertSame(walk0, result.get(0));
+		Assert.assertSame(walk1, result.get(1));
+		Assert.assertSame(walk2, result.get(2));
+		Assert.assertSame(result, index.findRegions("walk"));
+		Assert.assertEquals(0, index.findRegions("run").size);
+
+		try {
+			result.add(walk0);
+			Assert.fail("Expected cached regions to be read-only");
+		} catch (UnsupportedOperationException e) {
+		}
+
+		final TextureAtlasRegion walk3 = newRegion("walk", 3);
+		index.add(walk3);
+		Assert.assertEquals(4, index.findRegions("walk").size);
+		Assert.assertEquals(3, result.size);
+	}
+
+	private TextureAtlasRegion newRegion(final String name, final int index) {
+		final TextureAtlasRegion result = mockery.mock(TextureAtlasRegion.class, name + index + "_" + (totalRegions++));
+		mockery.checking(new Expectations() {
+			{
+				allowing(result).getName();
+				will(returnValue(name));
+				allowing(result).getIndex();
+				will(returnValue(index));
+			}
+		});
+		return result;
+	}
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics.packer;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mini2Dx.core.GraphicsUtils;
+import org.mini2Dx.core.Logger;
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.graphics.Pixmap;
+import org.mini2Dx.core.graphics.PixmapBlending;
+import org.mini2Dx.core.graphics.PixmapFormat;
+import org.mini2Dx.core.graphics.Texture;
+import org.mini2Dx.core.graphics.TextureRegion;
+
+/**
+ * Unit tests for {@link RuntimeTexturePacker}
+ */
+public class RuntimeTexturePackerTest {
+	private static final int PAGE_SIZE = 64;
+
+	private final Mockery mockery = new Mockery();
+
+	private GraphicsUtils graphicsUtils;
+	private RuntimeTexturePacker packer;
+	private int totalMocks = 0;
+
+	@Before
+	public void setUp() {
+		graphicsUtils = mockery.mock(GraphicsUtils.class);
+		Mdx.graphics = graphicsUtils;
+
+		final Logger logger = mockery.mock(Logger.class);
+		mockery.checking(new Expectations() {
+			{
+				ignoring(logger);
+			}
+		});
+		Mdx.log = logger;
+		packer = new RuntimeTexturePacker(PAGE_SIZE, PAGE_SIZE, 0, 2);
+	}
+
+	@After
+	public void teardown() {
+		mockery.assertIsSatisfied();
+	}
+
+	@Test
+	public void testPackUploadsPageOnce() {
+		final Pixmap page = expectPage();
+		final Texture texture = expectPageTexture(page);
+		final Pixmap first = newImage(32, 32);
+		final Pixmap second = newImage(32, 32);
+		final TextureRegion firstRegion = expectRegion(texture, 0, 0, 32, 32);
+		final TextureRegion secondRegion = expectRegion(texture, 32, 0, 32, 32);
+
+		mockery.checking(new Expectations() {
+			{
+				oneOf(page).drawPixmap(first, 0, 0);
+				oneOf(page).drawPixmap(second, 32, 0);
+				oneOf(texture).draw(second, 32, 0);
+			}
+		});
+
+		Assert.assertSame(firstRegion, packer.pack("first", first));
+		Assert.assertSame(secondRegion, packer.pack("second", second));
+		Assert.assertSame(firstRegion, packer.pack("first", first));
+		Assert.assertSame(secondRegion, packer.findRegion("second"));
+		Assert.assertEquals(1, packer.getTotalPages());
+		Assert.assertEquals(0.5f, packer.getPageOccupancy(0), 0.001f);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedPageEvicted() {
+		final Pixmap firstPage = expectPage();
+		final Texture firstTexture = expectPageTexture(firstPage);
+		final Pixmap secondPage = expectPage();
+		final Texture secondTexture = expectPageTexture(secondPage);
+		final Pixmap thirdPage = expectPage();
+		final Texture thirdTexture = expectPageTexture(thirdPage);
+
+		final Pixmap a = newImage(PAGE_SIZE, PAGE_SIZE);
+		final Pixmap b = newImage(PAGE_SIZE, PAGE_SIZE);
+		final Pixmap c = newImage(PAGE_SIZE, PAGE_SIZE);
+		expectRegion(firstTexture, 0, 0, PAGE_SIZE, PAGE_SIZE);
+		expectRegion(secondTexture, 0, 0, PAGE_SIZE, PAGE_SIZE);
+		expectRegion(thirdTexture, 0, 0, PAGE_SIZE, PAGE_SIZE);
+
+		mockery.checking(new Expectations() {
+			{
+				oneOf(firstPage).drawPixmap(a, 0, 0);
+				oneOf(secondPage).drawPixmap(b, 0, 0);
+				oneOf(thirdPage).drawPixmap(c, 0, 0);
+				oneOf(secondPage).dispose();
+				oneOf(secondTexture).dispose();
+			}
+		});
+
+		packer.pack("a", a);
+		packer.pack("b", b);
+		packer.release("a");
+		packer.release("b");
+		Assert.assertNotNull(packer.findRegion("a"));
+		packer.pack("c", c);
+
+		Assert.assertEquals(2, packer.getTotalPages());
+		Assert.assertEquals(1, packer.getTotalEvictions());
+		Assert.assertNull(packer.findRegion("b"));
+		Assert.assertFalse(packer.contains("b"));
+		Assert.assertNotNull(packer.findRegion("a"));
+		Assert.assertNotNull(packer.findRegion("c"));
+	}
+
+	@Test
+	public void testReferencedPagesNotEvicted() {
+		final Pixmap firstPage = expectPage();
+		final Texture firstTexture = expectPageTexture(firstPage);
+		final Pixmap secondPage = expectPage();
+		final Texture secondTexture = expectPageTexture(secondPage);
+		final Pixmap thirdPage = expectPage();
+		final Texture thirdTexture = expectPageTexture(thirdPage);
+
+		final Pixmap a = newImage(PAGE_SIZE, PAGE_SIZE);
+		final Pixmap b = newImage(PAGE_SIZE, PAGE_SIZE);
+		final Pixmap c = newImage(PAGE_SIZE, PAGE_SIZE);
+		expectRegion(firstTexture, 0, 0, PAGE_SIZE, PAGE_SIZE);
+		expectRegion(secondTexture, 0, 0, PAGE_SIZE, PAGE_SIZE);
+		final TextureRegion cRegion = expectRegion(thirdTexture, 0, 0, PAGE_SIZE, PAGE_SIZE);
+
+		mockery.checking(new Expectations() {
+			{
+				oneOf(firstPage).drawPixmap(a, 0, 0);
+				oneOf(secondPage).drawPixmap(b, 0, 0);
+				oneOf(thirdPage).drawPixmap(c, 0, 0);
+				oneOf(firstPage).dispose();
+				oneOf(firstTexture).dispose();
+			}
+		});
+
+		packer.pack("a", a);
+		packer.pack("b", b);
+		packer.pack("a", a);
+
+		Assert.assertNull(packer.pack("c", c));
+		Assert.assertFalse(packer.contains("c"));
+		Assert.assertEquals(0, packer.getTotalEvictions());
+
+		packer.release("a");
+		Assert.assertNull(packer.pack("c", c));
+		packer.release("a");
+		Assert.assertSame(cRegion, packer.pack("c", c));
+
+		Assert.assertEquals(1, packer.getTotalEvictions());
+		Assert.assertNull(packer.findRegion("a"));
+		Assert.assertNotNull(packer.findRegion("b"));
+	}
+
+	@Test
+	public void testPackImageLargerThanPage() {
+		Assert.assertNull(packer.pack("large", newImage(PAGE_SIZE + 1, 1)));
+		Assert.assertFalse(packer.contains("large"));
+		Assert.assertEquals(0, packer.getTotalPages());
+	}
+
+	private Pixmap newImage(final int width, final int height) {
+		final Pixmap result = mockery.mock(Pixmap.class, "image" + (totalMocks++));
+		mockery.checking(new Expectations() {
+			{
+				allowing(result).getWidth();
+				will(returnValue(width));
+				allowing(result).getHeight();
+				will(returnValue(height));
+			}
+		});
+		return result;
+	}
+
+	private Pixmap expectPage() {
+		final Pixmap result = mockery.mock(Pixmap.class, "page" + (totalMocks++));
+		mockery.checking(new Expectations() {
+			{
+				oneOf(graphicsUtils).newPixmap(PAGE_SIZE, PAGE_SIZE, PixmapFormat.RGBA8888);
+				will(returnValue(result));
+				oneOf(result).setBlending(PixmapBlending.NONE);
+			}
+		});
+		return result;
+	}
+
+	private Texture expectPageTexture(final Pixmap page) {
+		final Texture result = mockery.mock(Texture.class, "texture" + (totalMocks++));
+		mockery.checking(new Expectations() {
+			{
+				oneOf(graphicsUtils).newTexture(page);
+				will(returnValue(result));
+			}
+		});
+		return result;
+	}
+
+	private TextureRegion expectRegion(final Texture texture, final int x, final int y, final int width, final int height) {
+		final TextureRegion result = mockery.mock(TextureRegion.class, "region" + (totalMocks++));
+		mockery.checking(new Expectations() {
+			{
+				oneOf(graphicsUtils).newTextureRegion(texture, x, y, width, height);
+				will(returnValue(result));
+			}
+		});
+		return result;
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.graphics.packer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SkylinePacker}
+ */
+public class SkylinePackerTest {
+	private final int[] result = new int[2];
+
+	@Test
+	public void testInsertFillsRowsBottomLeft() {
+		final SkylinePacker packer = new SkylinePacker(100, 100);
+
+		Assert.assertTrue(packer.insert(50, 20, result));
+		assertPosition(0, 0);
+		Assert.assertTrue(packer.insert(50, 30, result));
+		assertPosition(50, 0);
+		Assert.assertTrue(packer.insert(50, 10, result));
+		assertPosition(0, 20);
+		Assert.assertTrue(packer.insert(100, 10, result));
+		assertPosition(0, 30);
+	}
+
+	@Test
+	public void testInsertRejectsWhenFull() {
+		final SkylinePacker packer = new SkylinePacker(64, 64);
+		for(int i = 0; i < 16; i++) {
+			Assert.assertTrue(packer.insert(16, 16, result));
+		}
+		Assert.assertEquals(1f, packer.getOccupancy(), 0.001f);
+		Assert.assertFalse(packer.insert(1, 1, result));
+		Assert.assertFalse(new SkylinePacker(64, 64).insert(65, 1, result));
+
+		packer.reset();
+		Assert.assertEquals(0f, packer.getOccupancy(), 0.001f);
+		Assert.assertTrue(packer.insert(64, 64, result));
+		assertPosition(0, 0);
+	}
+
+	@Test
+	public void testPackedRectanglesDoNotOverlap() {
+		final SkylinePacker packer = new SkylinePacker(256, 256);
+		final int[][] rects = new int[200][];
+		int total = 0;
+		for(int i = 0; i < rects.length; i++) {
+			final int width = 4 + ((i * 7) % 29);
+			final int height = 4 + ((i * 13) % 23);
+			if(!packer.insert(width, height, result)) {
+				continue;
+			}
+			Assert.assertTrue(result[0] + width <= 256);
+			Assert.assertTrue(result[1] + height <= 256);
+			rects[total++] = new int[] { result[0], result[1], width, height };
+		}
+		Assert.assertTrue(total > 50);
+
+		for(int i = 0; i < total; i++) {
+			for(int j = i + 1; j < total; j++) {
+				final int[] a = rects[i];
+				final int[] b = rects[j];
+				final boolean overlaps = a[0] < b[0] + b[2] && b[0] < a[0] + a[2] &&
+						a[1] < b[1] + b[3] && b[1] < a[1] + a[3];
+				Assert.assertFalse(overlaps);
+			}
+		}
+	}
+
+	@Test
+	public void testPaddingOnlyBetweenRectangles() {
+		final SkylinePacker packer = new SkylinePacker(64, 64, 2);
+		Assert.assertTrue(packer.insert(63, 10, result));
+		assertPosition(0, 0);
+		Assert.assertTrue(packer.insert(31, 10, result));
+		assertPosition(0, 12);
+		Assert.assertTrue(packer.insert(31, 10, result));
+		assertPosition(33, 12);
+		Assert.assertFalse(packer.insert(1, 43, result));
+		Assert.assertTrue(packer.insert(1, 40, result));
+		assertPosition(0, 24);
+
+		Assert.assertTrue(new SkylinePacker(64, 64, 2).insert(64, 64, result));
+		assertPosition(0, 0);
+		Assert.assertFalse(new SkylinePacker(64, 64, 2).insert(65, 1, result));
+	}
+
+	private void assertPosition(int x, int y) {
+		Assert.assertEquals(x, result[0]);
+		Assert.assertEquals(y, result[1]);
+	}
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.input;
+
+import junit.framework.Assert;
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Test;
+import org.mini2Dx.gdx.InputAdapter;
+import org.mini2Dx.gdx.utils.Array;
+
+/**
+ * Unit tests for {@link InputEventBuffer}
+ */
+public class InputEventBufferTest {
+	private final InputEventBuffer buffer = new InputEventBuffer(8);
+	private final Array<String> events = new Array<String>();
+
+	@Test
+	public void testCapacityRoundedToPowerOfTwo() {
+		Assert.assertEquals(8, buffer.getCapacity());
+		Assert.assertEquals(16, new InputEventBuffer(9).getCapacity());
+	}
+
+	@Test
+	public void testDrainDispatchesInOrder() {
+		buffer.setInputProcessor(new RecordingInputProcessor());
+		buffer.pushKeyDown(10);
+		buffer.pushTouchDown(5, 6, 1, 2);
+		buffer.pushTouchDragged(7, 8, 1);
+		buffer.pushKeyTyped('a');
+		buffer.pushScrolled(-1);
+		buffer.pushKeyUp(10);
+		Assert.assertEquals(6, buffer.size());
+
+		Assert.assertEquals(6, buffer.drain());
+		Assert.assertEquals(true, buffer.isEmpty());
+		Assert.assertEquals("keyDown 10", events.get(0));
+		Assert.assertEquals("touchDown 5 6 1 2", events.get(1));
+		Assert.assertEquals("touchDragged 7 8 1", events.get(2));
+		Assert.assertEquals("keyTyped a", events.get(3));
+		Assert.assertEquals("scrolled -1", events.get(4));
+		Assert.assertEquals("keyUp 10", events.get(5));
+	}
+
+	@Test
+	public void testDrainUpToTimestamp() {
+		buffer.setInputProcessor(new RecordingInputProcessor());
+		buffer.push(InputEventBuffer.KEY_DOWN, 0, 1, 0, 0, 0f, 100L);
+		buffer.push(InputEventBuffer.KEY_DOWN, 0, 2, 0, 0, 0f, 200L);
+		buffer.push(InputEventBuffer.KEY_DOWN, 0, 3, 0, 0, 0f, 300L);
+
+		Assert.assertEquals(2, buffer.drain(200L));
+		Assert.assertEquals(1, buffer.size());
+		Assert.assertEquals(true, buffer.poll());
+		Assert.assertEquals(InputEventBuffer.KEY_DOWN, buffer.getEventType());
+		Assert.assertEquals(3, buffer.getEventCode());
+		Assert.assertEquals(300L, buffer.getEventTimestamp());
+		Assert.assertEquals(false, buffer.poll());
+	}
+
+	@Test
+	public void testFullBufferDropsEvents() {
+		for(int i = 0; i < buffer.getCapacity(); i++) {
+			Assert.assertEquals(true, buffer.pushKeyDown(i));
+		}
+		Assert.assertEquals(false, buffer.pushKeyDown(99));
+		Assert.assertEquals(1, buffer.getDroppedEvents());
+
+		buffer.clear();
+		Assert.assertEquals(true, buffer.isEmpty());
+		Assert.assertEquals(true, buffer.pushKeyDown(99));
+	}
+
+	@Test
+	public void testGamePadEventsDispatchedToRegisteredTarget() {
+		final Mockery mockery = new Mockery();
+		mockery.setImposteriser(ClassImposteriser.INSTANCE);
+		final GamePad gamePad = mockery.mock(GamePad.class);
+		final GamePadListener target = mockery.mock(GamePadListener.class);
+
+		final int source = buffer.registerGamePad(gamePad, target);
+		Assert.assertEquals(source, buffer.registerGamePad(gamePad, target));
+		Assert.assertEquals(gamePad, buffer.getGamePad(source));
+
+		mockery.checking(new Expectations() {
+			{
+				oneOf(target).onButtonDown(gamePad, 3);
+				oneOf(target).onAxisChanged(gamePad, 1, 0.5f);
+				oneOf(target).onPovChanged(gamePad, 0, PovState.NORTH_WEST);
+				oneOf(target).onButtonUp(gamePad, 3);
+				oneOf(target).onDisconnect(gamePad);
+			}
+		});
+		buffer.pushButtonDown(source, 3);
+		buffer.pushAxisChanged(source, 1, 0.5f);
+		buffer.pushPovChanged(source, 0, PovState.NORTH_WEST);
+		buffer.pushButtonUp(source, 3);
+		buffer.pushGamePadDisconnected(source);
+		buffer.pushButtonDown(source + 1, 4);
+
+		Assert.assertEquals(6, buffer.drain());
+		mockery.assertIsSatisfied();
+	}
+
+	@Test
+	public void testConcurrentProducer() throws Exception {
+		final int totalEvents = 100000;
+		final InputEventBuffer concurrentBuffer = new InputEventBuffer(64);
+		final Thread producer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for(int i = 0; i < totalEvents; i++) {
+					while(!concurrentBuffer.push(InputEventBuffer.KEY_DOWN, 0, i, i, -i, i, i)) {
+						Thread.yield();
+					}
+				}
+			}
+		});
+		producer.start();
+
+		int expected = 0;
+		while(expected < totalEvents) {
+			if(!concurrentBuffer.poll()) {
+				Thread.yield();
+				continue;
+			}
+			Assert.assertEquals(expected, concurrentBuffer.getEventCode());
+			Assert.assertEquals(expected, concurrentBuffer.getEventX());
+			Assert.assertEquals(-expected, concurrentBuffer.getEventY());
+			Assert.assertEquals((long) expected, concurrentBuffer.getEventTimestamp());
+			expected++;
+		}
+		producer.join();
+		Assert.assertEquals(true, concurrentBuffer.isEmpty());
+	}
+
+	private class RecordingInputProcessor extends InputAdapter {
+		@Override
+		public boolean keyDown(int keycode) {
+			events.add("keyDown " + keycode);
+			return true;
+		}
+
+		@Override
+		public boolean keyUp(int keycode) {
+			events.add("keyUp " + keycode);
+			return true;
+		}
+
+		@Override
+		public boolean keyTyped(char character) {
+			events.add("keyTyped " + character);
+			return true;
+		}
+
+		@Override
+		public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+			events.add("touchDown " + screenX + " " + screenY + " " + pointer + " " + button);
+			return true;
+		}
+
+		@Override
+		public boolean touchDragged(int screenX, int screenY, int pointer) {
+			events.add("touchDragged " + screenX + " " + screenY + " " + pointer);
+			return true;
+		}
+
+		@Override
+		public boolean scrolled(int amount) {
+			events.add("scrolled " + amount);
+			return true;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.input;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.mini2Dx.core.exception.MdxException;
+import org.mini2Dx.gdx.InputAdapter;
+import org.mini2Dx.gdx.utils.Array;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+/**
+ * Unit tests for {@link InputRecorder}, {@link InputPlayer} and {@link InputReplayTimings}
+ */
+public class InputRecorderTest {
+	private final Array<String> events = new Array<String>();
+
+	@Test
+	public void testRecordAndReplay() {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final InputEventBuffer recordBuffer = new InputEventBuffer(16);
+		final InputRecorder recorder = new InputRecorder(outputStream);
+		recordBuffer.setRecorder(recorder);
+
+		recordBuffer.push(InputEventBuffer.KEY_DOWN, 0, 29, 0, 0, 0f, 1000000000L);
+		recordBuffer.push(InputEventBuffer.TOUCH_DOWN, 1, 0, 320, -12, 0f, 1000000500L);
+		recordBuffer.update(0.016f);
+		recordBuffer.update(0.016f);
+		recordBuffer.push(InputEventBuffer.GAMEPAD_AXIS, 0, 2, 0, 0, -0.75f, 1033000000L);
+		recordBuffer.push(InputEventBuffer.KEY_UP, 0, 29, 0, 0, 0f, 1033000100L);
+		recordBuffer.update(0.02f);
+		recorder.close();
+
+		Assert.assertEquals(3, recorder.getTotalTicks());
+		Assert.assertEquals(4, recorder.getTotalEvents());
+
+		final InputEventBuffer replayBuffer = new InputEventBuffer(16);
+		replayBuffer.setInputEnabled(false);
+		final InputPlayer player = new InputPlayer(new ByteArrayInputStream(outputStream.toByteArray()));
+
+		Assert.assertEquals(true, player.nextTick(replayBuffer));
+		Assert.assertEquals(0.016f, player.getTickDelta());
+		Assert.assertEquals(2, replayBuffer.size());
+		Assert.assertEquals(true, replayBuffer.poll());
+		Assert.assertEquals(InputEventBuffer.KEY_DOWN, replayBuffer.getEventType());
+		Assert.assertEquals(29, replayBuffer.getEventCode());
+		Assert.assertEquals(1000000000L, replayBuffer.getEventTimestamp());
+		Assert.assertEquals(true, replayBuffer.poll());
+		Assert.assertEquals(InputEventBuffer.TOUCH_DOWN, replayBuffer.getEventType());
+		Assert.assertEquals(1, replayBuffer.getEventSource());
+		Assert.assertEquals(320, replayBuffer.getEventX());
+		Assert.assertEquals(-12, replayBuffer.getEventY());
+		Assert.assertEquals(1000000500L, replayBuffer.getEventTimestamp());
+
+		Assert.assertEquals(true, player.nextTick(replayBuffer));
+		Assert.assertEquals(true, replayBuffer.isEmpty());
+
+		Assert.assertEquals(true, player.nextTick(replayBuffer));
+		Assert.assertEquals(0.02f, player.getTickDelta());
+		Assert.assertEquals(true, replayBuffer.poll());
+		Assert.assertEquals(InputEventBuffer.GAMEPAD_AXIS, replayBuffer.getEventType());
+		Assert.assertEquals(2, replayBuffer.getEventCode());
+		Assert.assertEquals(-0.75f, replayBuffer.getEventValue());
+		Assert.assertEquals(true, replayBuffer.poll());
+		Assert.assertEquals(InputEventBuffer.KEY_UP, replayBuffer.getEventType());
+		Assert.assertEquals(1033000100L, replayBuffer.getEventTimestamp());
+
+		Assert.assertEquals(false, player.nextTick(replayBuffer));
+		Assert.assertEquals(true, player.isFinished());
+		Assert.assertEquals(3, player.getTotalTicks());
+	}
+
+	@Test
+	public void testReplayDispatchesWhileLiveInputDisabled() {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final InputRecorder recorder = new InputRecorder(outputStream);
+		recorder.recordEvent(InputEventBuffer.KEY_TYPED, 0, 'x', 0, 0, 0f, 5L);
+		recorder.recordTick(0.016f);
+		recorder.close();
+
+		final InputEventBuffer replayBuffer = new InputEventBuffer(4);
+		replayBuffer.setInputProcessor(new InputAdapter() {
+			@Override
+			public boolean keyTyped(char character) {
+				events.add("keyTyped " + character);
+				return true;
+			}
+		});
+		replayBuffer.setInputEnabled(false);
+		Assert.assertEquals(false, replayBuffer.pushKeyTyped('y'));
+
+		final InputPlayer player = new InputPlayer(new ByteArrayInputStream(outputStream.toByteArray()));
+		Assert.assertEquals(true, player.nextTick(replayBuffer));
+		replayBuffer.update(player.getTickDelta());
+		Assert.assertEquals(1, events.size);
+		Assert.assertEquals("keyTyped x", events.get(0));
+	}
+
+	@Test
+	public void testTruncatedRecordingFinishes() {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final InputRecorder recorder = new InputRecorder(outputStream);
+		recorder.recordTick(0.016f);
+		recorder.flush();
+
+		final InputPlayer player = new InputPlayer(new ByteArrayInputStream(outputStream.toByteArray()));
+		final InputEventBuffer buffer = new InputEventBuffer(4);
+		Assert.assertEquals(true, player.nextTick(buffer));
+		Assert.assertEquals(false, player.nextTick(buffer));
+		Assert.assertEquals(true, player.isFinished());
+	}
+
+	@Test
+	public void testRecordingFlushedEveryInterval() {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final InputRecorder recorder = new InputRecorder(outputStream);
+		recorder.setFlushInterval(2);
+		recorder.recordTick(0.016f);
+		Assert.assertEquals(0, outputStream.size());
+		recorder.recordTick(0.016f);
+		recorder.recordTick(0.016f);
+
+		final InputPlayer player = new InputPlayer(new ByteArrayInputStream(outputStream.toByteArray()));
+		final InputEventBuffer buffer = new InputEventBuffer(4);
+		Assert.assertEquals(true, player.nextTick(buffer));
+		Assert.assertEquals(true, player.nextTick(buffer));
+		Assert.assertEquals(false, player.nextTick(buffer));
+		Assert.assertEquals(2, player.getTotalTicks());
+	}
+
+	@Test(expected = MdxException.class)
+	public void testInvalidRecording() {
+		new InputPlayer(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 }));
+	}
+
+	@Test
+	public void testReplayTimings() {
+		final InputReplayTimings timings = new InputReplayTimings();
+		Assert.assertEquals(0L, timings.getPercentile(50f));
+		for(int i = 10; i >= 1; i--) {
+			timings.add(i * 100L);
+		}
+		Assert.assertEquals(10, timings.size());
+		Assert.assertEquals(100L, timings.getMinimum());
+		Assert.assertEquals(1000L, timings.getMaximum());
+		Assert.assertEquals(550.0, timings.getMean());
+		Assert.assertEquals(500L, timings.getPercentile(50f));
+		Assert.assertEquals(1000L, timings.getPercentile(99f));
+		Assert.assertEquals(100L, timings.getPercentile(0f));
+
+		final StringWriter writer = new StringWriter();
+		timings.writeCsv(writer);
+		Assert.assertEquals(true, writer.toString().startsWith("tick,nanos\n0,1000\n1,900\n"));
+	}
+}
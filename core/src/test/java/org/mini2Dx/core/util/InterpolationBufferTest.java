@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.util;
+
+import junit.framework.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link InterpolationBuffer}
+ */
+public class InterpolationBufferTest {
+	private final InterpolationBuffer buffer = new InterpolationBuffer();
+
+	@Test
+	public void testInterpolateMovedSlotsOnly() {
+		final int slot1 = buffer.allocate(0f, 0f, 10f, 10f);
+		final int slot2 = buffer.allocate(100f, 100f, 10f, 10f);
+		Assert.assertEquals(0, buffer.getTotalActive());
+
+		buffer.preUpdate();
+		buffer.update(slot1, 10f, 20f, 10f, 10f);
+		Assert.assertEquals(1, buffer.getTotalActive());
+		Assert.assertEquals(true, buffer.isInterpolateRequired(slot1));
+		Assert.assertEquals(false, buffer.isInterpolateRequired(slot2));
+
+		buffer.interpolate(0.5f);
+		Assert.assertEquals(5, buffer.getRenderX(slot1));
+		Assert.assertEquals(10, buffer.getRenderY(slot1));
+		Assert.assertEquals(100, buffer.getRenderX(slot2));
+
+		buffer.preUpdate();
+		buffer.interpolate(0.5f);
+		Assert.assertEquals(10, buffer.getRenderX(slot1));
+		Assert.assertEquals(20, buffer.getRenderY(slot1));
+		Assert.assertEquals(false, buffer.isInterpolateRequired(slot1));
+		Assert.assertEquals(0, buffer.getTotalActive());
+	}
+
+	@Test
+	public void testSettledAtFullAlphaKeepsPreviousInSync() {
+		final int slot = buffer.allocate(0f, 0f, 10f, 10f);
+		buffer.preUpdate();
+		buffer.update(slot, 10f, 0f, 10f, 10f);
+		buffer.interpolate(1f);
+		Assert.assertEquals(10, buffer.getRenderX(slot));
+
+		buffer.preUpdate();
+		buffer.interpolate(1f);
+		buffer.preUpdate();
+		buffer.update(slot, 20f, 0f, 10f, 10f);
+		buffer.interpolate(0.5f);
+		Assert.assertEquals(15, buffer.getRenderX(slot));
+	}
+
+	@Test
+	public void testForceToAndRelease() {
+		final int slot = buffer.allocate(0f, 0f, 10f, 10f);
+		buffer.update(slot, 50f, 50f, 20f, 20f);
+		buffer.forceTo(slot, 50f, 50f, 20f, 20f);
+		Assert.assertEquals(false, buffer.isInterpolateRequired(slot));
+		Assert.assertEquals(20, buffer.getRenderWidth(slot));
+		Assert.assertEquals(20, buffer.getRenderHeight(slot));
+
+		buffer.release(slot);
+		buffer.release(slot);
+		Assert.assertEquals(slot, buffer.allocate(0f, 0f, 1f, 1f));
+		Assert.assertEquals(slot + 1, buffer.allocate(0f, 0f, 1f, 1f));
+	}
+
+	@Test
+	public void testUpdateReleasedSlot() {
+		final int slot = buffer.allocate(0f, 0f, 10f, 10f);
+		buffer.release(slot);
+		buffer.update(slot, 50f, 50f, 20f, 20f);
+		buffer.forceTo(slot, 50f, 50f, 20f, 20f);
+		Assert.assertEquals(false, buffer.isInterpolateRequired(slot));
+		Assert.assertEquals(0, buffer.getTotalActive());
+		Assert.assertEquals(0, buffer.getRenderX(slot));
+		Assert.assertEquals(10, buffer.getRenderWidth(slot));
+	}
+
+	@Test
+	public void testParallelInterpolate() {
+		buffer.setParallelThreshold(16);
+
+		final int totalSlots = 5000;
+		for(int i = 0; i < totalSlots; i++) {
+			buffer.allocate(i, 0f, 1f, 1f);
+		}
+		buffer.preUpdate();
+		for(int i = 0; i < totalSlots; i++) {
+			buffer.update(i, i + 10f, 0f, 1f, 1f);
+		}
+		buffer.interpolate(0.5f);
+		for(int i = 0; i < totalSlots; i++) {
+			Assert.assertEquals(i + 5, buffer.getRenderX(i));
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Unit tests for {@link ParallelRange}
+ */
+public class ParallelRangeTest {
+	private static final int TOTAL_CHUNKS = 4;
+
+	private AtomicIntegerArray counts;
+
+	private final ParallelRange.RangeProcessor countingProcessor = new ParallelRange.RangeProcessor() {
+		@Override
+		public void process(int from, int to) {
+			for(int i = from; i < to; i++) {
+				counts.incrementAndGet(i);
+			}
+		}
+	};
+
+	@Test
+	public void testExecuteSingleChunk() {
+		assertEachIndexProcessedOnce(new ParallelRange(countingProcessor, 1), 100);
+	}
+
+	@Test
+	public void testExecuteParallel() {
+		final ParallelRange parallelRange = new ParallelRange(countingProcessor, TOTAL_CHUNKS);
+		assertEachIndexProcessedOnce(parallelRange, 1001);
+		assertEachIndexProcessedOnce(parallelRange, 1);
+		assertEachIndexProcessedOnce(parallelRange, 0);
+	}
+
+	@Test
+	public void testWorkerFailureRethrownAfterAllChunksComplete() {
+		final int total = 100;
+		counts = new AtomicIntegerArray(total);
+		final ParallelRange parallelRange = new ParallelRange(new ParallelRange.RangeProcessor() {
+			@Override
+			public void process(int from, int to) {
+				countingProcessor.process(from, to);
+				if(to == total) {
+					throw new IllegalStateException();
+				}
+			}
+		}, TOTAL_CHUNKS);
+
+		try {
+			parallelRange.execute(total);
+			Assert.fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+		}
+		for(int i = 0; i < total; i++) {
+			Assert.assertEquals(1, counts.get(i));
+		}
+		assertEachIndexProcessedOnce(new ParallelRange(countingProcessor, TOTAL_CHUNKS), total);
+	}
+
+	@Test
+	public void testCallerFailureRethrownAfterAllChunksComplete() {
+		final int total = 100;
+		counts = new AtomicIntegerArray(total);
+		final ParallelRange parallelRange = new ParallelRange(new ParallelRange.RangeProcessor() {
+			@Override
+			public void process(int from, int to) {
+				if(from == 0) {
+					throw new IllegalArgumentException();
+				}
+				countingProcessor.process(from, to);
+			}
+		}, TOTAL_CHUNKS);
+
+		try {
+			parallelRange.execute(total);
+			Assert.fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+		}
+		for(int i = total / TOTAL_CHUNKS; i < total; i++) {
+			Assert.assertEquals(1, counts.get(i));
+		}
+	}
+
+	@Test
+	public void testNestedExecuteRunsOnWorkerThread() {
+		final int total = 100;
+		counts = new AtomicIntegerArray(total * total);
+		final ParallelRange parallelRange = new ParallelRange(new ParallelRange.RangeProcessor() {
+			@Override
+			public void process(final int outerFrom, final int outerTo) {
+				for(int i = outerFrom; i < outerTo; i++) {
+					final int offset = i * total;
+					final Thread outerThread = Thread.currentThread();
+					new ParallelRange(new ParallelRange.RangeProcessor() {
+						@Override
+						public void process(int from, int to) {
+							if(Thread.currentThread() == outerThread) {
+								countingProcessor.process(offset + from, offset + to);
+							}
+						}
+					}, TOTAL_CHUNKS).execute(total);
+				}
+			}
+		}, TOTAL_CHUNKS);
+
+		parallelRange.execute(total);
+		for(int i = total / TOTAL_CHUNKS * total; i < total * total; i++) {
+			Assert.assertEquals(1, counts.get(i));
+		}
+	}
+
+	@Test
+	public void testExecuteCompletesWhenInterrupted() {
+		final int total = 100;
+		counts = new AtomicIntegerArray(total);
+		final ParallelRange parallelRange = new ParallelRange(new ParallelRange.RangeProcessor() {
+			@Override
+			public void process(int from, int to) {
+				if(from > 0) {
+					try {
+						Thread.sleep(50);
+					} catch (InterruptedException e) {
+					}
+				}
+				countingProcessor.process(from, to);
+			}
+		}, TOTAL_CHUNKS);
+
+		Thread.currentThread().interrupt();
+		parallelRange.execute(total);
+		Assert.assertEquals(true, Thread.interrupted());
+		for(int i = 0; i < total; i++) {
+			Assert.assertEquals(1, counts.get(i));
+		}
+	}
+
+	private void assertEachIndexProcessedOnce(ParallelRange parallelRange, int total) {
+		counts = new AtomicIntegerArray(total);
+		parallelRange.execute(total);
+		for(int i = 0; i < total; i++) {
+			Assert.assertEquals(1, counts.get(i));
+		}
+	}
+}
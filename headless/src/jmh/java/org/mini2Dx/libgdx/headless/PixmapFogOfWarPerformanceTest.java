@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import org.mini2Dx.core.graphics.Color;
+import org.mini2Dx.core.graphics.PixelOps;
+import org.mini2Dx.core.graphics.Pixmap;
+import org.mini2Dx.libgdx.graphics.LibgdxColor;
+import org.mini2Dx.libgdx.graphics.LibgdxPixmap;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares updating a fog of war {@link Pixmap} per-pixel against composing it with {@link PixelOps}
+ */
+@Threads(value=1)
+public class PixmapFogOfWarPerformanceTest {
+	private static final int SIZE = 512;
+	private static final int FOG = 0x000000e0;
+	private static final int CLEAR = 0x00000000;
+
+	@State(Scope.Thread)
+	public static class TestState {
+		@Param({"0", "65536"})
+		public int parallelThreshold;
+
+		private Pixmap pixmap;
+		private final PixelOps pixelOps = new PixelOps();
+		private final int [] fog = new int[SIZE * SIZE];
+		private final int [] reveal = new int[64 * 64];
+		private final Color fogColor = new LibgdxColor(FOG);
+		private final Color clearColor = new LibgdxColor(CLEAR);
+		private int frame;
+
+		@Setup(Level.Trial)
+		public void initialiseTrial() {
+			GdxNativesLoader.load();
+			pixmap = new LibgdxPixmap(new com.badlogic.gdx.graphics.Pixmap(SIZE, SIZE, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888));
+			pixelOps.setParallelThreshold(parallelThreshold);
+
+			for(int y = 0; y < 64; y++) {
+				for(int x = 0; x < 64; x++) {
+					final int dx = x - 32;
+					final int dy = y - 32;
+					reveal[(y * 64) + x] = (dx * dx) + (dy * dy) < 32 * 32 ? CLEAR : FOG;
+				}
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void disposeTrial() {
+			pixmap.dispose();
+		}
+
+		private int nextRevealX() {
+			frame++;
+			return (frame * 37) % (SIZE - 64);
+		}
+	}
+
+	@Benchmark
+	public void perPixel(TestState state) {
+		final int revealX = state.nextRevealX();
+		for(int y = 0; y < SIZE; y++) {
+			for(int x = 0; x < SIZE; x++) {
+				final int dx = x - revealX - 32;
+				final int dy = y - 224 - 32;
+				final boolean revealed = (dx * dx) + (dy * dy) < 32 * 32;
+				state.pixmap.drawPixel(x, y, revealed ? state.clearColor : state.fogColor);
+			}
+		}
+	}
+
+	@Benchmark
+	public void bulk(TestState state) {
+		final int revealX = state.nextRevealX();
+		state.pixelOps.fill(state.fog, SIZE, 0, 0, SIZE, SIZE, FOG);
+		state.pixelOps.copy(state.reveal, 64, 0, 0, state.fog, SIZE, revealX, 224, 64, 64);
+		state.pixelOps.write(state.fog, SIZE, state.pixmap, 0, 0, SIZE, SIZE);
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.mini2Dx.libgdx.graphics.SpriteVertices;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the vertex work of drawing a map of flipped/rotated tiles by modifying and restoring
+ * shared tile {@link Sprite}s against computing each tile's vertices directly with {@link SpriteVertices}
+ */
+@Threads(value=1)
+public class TileVerticesPerformanceTest {
+	private static final int MAP_SIZE = 128;
+	private static final int TILE_SIZE = 32;
+	private static final int TOTAL_TILE_IMAGES = 16;
+
+	@State(Scope.Thread)
+	public static class TestState {
+		private final Sprite [] tileSprites = new Sprite[TOTAL_TILE_IMAGES];
+		private final TextureRegion [] tileRegions = new TextureRegion[TOTAL_TILE_IMAGES];
+		private final int [] tiles = new int[MAP_SIZE * MAP_SIZE];
+		private final float [] vertices = new float[SpriteVertices.SIZE];
+		private final float packedColor = Color.WHITE.toFloatBits();
+		private Texture texture;
+
+		@Setup(Level.Trial)
+		public void initialiseTrial() {
+			Gdx.gl = Gdx.gl20 = new HeadlessGL20();
+
+			texture = new Texture(new TileTextureData(TILE_SIZE * TOTAL_TILE_IMAGES, TILE_SIZE));
+			for(int i = 0; i < TOTAL_TILE_IMAGES; i++) {
+				tileSprites[i] = new Sprite(texture, i * TILE_SIZE, 0, TILE_SIZE, TILE_SIZE);
+				tileRegions[i] = new TextureRegion(texture, i * TILE_SIZE, 0, TILE_SIZE, TILE_SIZE);
+			}
+			//Tile id in the low bits, Tiled's H/V/D flip flags in the high bits
+			for(int i = 0; i < tiles.length; i++) {
+				tiles[i] = (i % TOTAL_TILE_IMAGES) | (((i * 7) % 8) << 8);
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void disposeTrial() {
+			texture.dispose();
+		}
+	}
+
+	@Benchmark
+	public float modifySharedSprite(TestState state) {
+		float result = 0f;
+		for(int i = 0; i < state.tiles.length; i++) {
+			final int tile = state.tiles[i];
+			final Sprite sprite = state.tileSprites[tile & 0xFF];
+			final boolean flipH = (tile & 0x100) != 0;
+			final boolean flipV = (tile & 0x200) != 0;
+			final boolean flipD = (tile & 0x400) != 0;
+			final boolean previousFlipX = sprite.isFlipX();
+			final boolean previousFlipY = sprite.isFlipY();
+
+			if(flipD) {
+				if(flipH && flipV) {
+					sprite.setRotation(90f);
+					sprite.setFlip(true, previousFlipY);
+				} else if(flipH) {
+					sprite.setRotation(90f);
+				} else if(flipV) {
+					sprite.setRotation(270f);
+				} else {
+					sprite.setRotation(90f);
+					sprite.setFlip(previousFlipX, true);
+				}
+			} else {
+				sprite.setFlip(flipH, flipV);
+			}
+			sprite.setPosition((i % MAP_SIZE) * TILE_SIZE, (i / MAP_SIZE) * TILE_SIZE);
+			result += sprite.getVertices()[0];
+
+			sprite.setRotation(0f);
+			sprite.setFlip(previousFlipX, previousFlipY);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public float computeVertices(TestState state) {
+		float result = 0f;
+		for(int i = 0; i < state.tiles.length; i++) {
+			final int tile = state.tiles[i];
+			final TextureRegion region = state.tileRegions[tile & 0xFF];
+			final boolean flipH = (tile & 0x100) != 0;
+			final boolean flipV = (tile & 0x200) != 0;
+			final boolean flipD = (tile & 0x400) != 0;
+
+			float rotation = 0f;
+			boolean flipX = flipH, flipY = flipV;
+			if(flipD) {
+				rotation = flipV && !flipH ? 270f : 90f;
+				flipX = flipH && flipV;
+				flipY = !flipH && !flipV;
+			}
+			SpriteVertices.compute(state.vertices, 0, region, (i % MAP_SIZE) * TILE_SIZE, (i / MAP_SIZE) * TILE_SIZE,
+					TILE_SIZE, TILE_SIZE, TILE_SIZE * 0.5f, TILE_SIZE * 0.5f, rotation, flipX, flipY, state.packedColor);
+			result += state.vertices[0];
+		}
+		return result;
+	}
+
+	/**
+	 * Texture data without pixels so that tile textures can be created without native libraries
+	 */
+	private static class TileTextureData implements TextureData {
+		private final int width, height;
+
+		public TileTextureData(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public TextureDataType getType() {
+			return TextureDataType.Custom;
+		}
+
+		@Override
+		public boolean isPrepared() {
+			return true;
+		}
+
+		@Override
+		public void prepare() {
+		}
+
+		@Override
+		public Pixmap consumePixmap() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean disposePixmap() {
+			return false;
+		}
+
+		@Override
+		public void consumeCustomData(int target) {
+		}
+
+		@Override
+		public int getWidth() {
+			return width;
+		}
+
+		@Override
+		public int getHeight() {
+			return height;
+		}
+
+		@Override
+		public Pixmap.Format getFormat() {
+			return Pixmap.Format.RGBA8888;
+		}
+
+		@Override
+		public boolean useMipMaps() {
+			return false;
+		}
+
+		@Override
+		public boolean isManaged() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+import com.badlogic.gdx.graphics.g2d.LibgdxSpriteBatchWrapper;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import org.mini2Dx.core.DependencyInjection;
+import org.mini2Dx.core.Graphics;
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.game.GameContainer;
+import org.mini2Dx.libgdx.LibgdxGraphics;
+import org.mini2Dx.libgdx.desktop.DesktopComponentScanner;
+import org.mini2Dx.libgdx.desktop.DesktopPlayerData;
+import org.mini2Dx.libgdx.game.GameWrapper;
+
+/**
+ * Headless implementation of {@link GameWrapper}
+ */
+public class HeadlessGameWrapper extends GameWrapper {
+	private LibgdxSpriteBatchWrapper spriteBatch;
+	private PolygonSpriteBatch polygonSpriteBatch;
+
+	public HeadlessGameWrapper(GameContainer gc, String gameIdentifier) {
+		super(gc, gameIdentifier);
+	}
+
+	@Override
+	public void initialise(String gameIdentifier) {
+		Mdx.di = new DependencyInjection(new DesktopComponentScanner());
+		Mdx.playerData = new DesktopPlayerData(gameIdentifier);
+	}
+
+	@Override
+	protected Graphics createGraphicsContext() {
+		spriteBatch = new LibgdxSpriteBatchWrapper();
+		polygonSpriteBatch = new PolygonSpriteBatch();
+		ShapeRenderer shapeRenderer = new ShapeRenderer();
+
+		return new LibgdxGraphics(this, spriteBatch, polygonSpriteBatch, shapeRenderer);
+	}
+
+	/**
+	 * Returns the total number of times the sprite batches have flushed
+	 * @return 0 if the graphics context has not been created
+	 */
+	public int getTotalBatchFlushes() {
+		if(spriteBatch == null) {
+			return 0;
+		}
+		return spriteBatch.totalRenderCalls + polygonSpriteBatch.totalRenderCalls;
+	}
+
+	@Override
+	public boolean isGameWindowReady() {
+		return true;
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Extends {@link HeadlessApplicationConfiguration} to include mini2Dx options and defaults
+ */
+public class HeadlessMini2DxConfig extends HeadlessApplicationConfiguration {
+	public final String gameIdentifier;
+	/**
+	 * The target framerate
+	 */
+	public int targetFPS = 60;
+	/**
+	 * The fixed timestep passed to each update. Frames are not synced to real time.
+	 */
+	public float targetTimestep = (1f / targetFPS);
+	/**
+	 * The simulated window width
+	 */
+	public int width = 800;
+	/**
+	 * The simulated window height
+	 */
+	public int height = 600;
+	/**
+	 * True if the game loop should run on its own thread. If false, the game is initialised
+	 * on the calling thread and frames are advanced by calling {@link HeadlessMini2DxGame#step()}
+	 */
+	public boolean runGame = true;
+	/**
+	 * The number of frames to run before exiting when {@link #runGame} is true. -1 runs until exit is called.
+	 */
+	public long maxFrames = -1;
+	/**
+	 * The path of an {@link org.mini2Dx.core.input.InputRecorder} recording to replay. Each frame replays one
+	 * recorded update and the game exits when the recording ends. Set to null (default) to disable replay.
+	 */
+	public String inputReplayFile = null;
+	/**
+	 * The path to write the time taken by each replayed frame to as CSV when the replay ends.
+	 * Set to null (default) to only log a summary.
+	 */
+	public String inputReplayTimingsFile = null;
+
+	public HeadlessMini2DxConfig(String gameIdentifier) {
+		this.gameIdentifier = gameIdentifier;
+	}
+}
@@ -0,0 +1,465 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+import com.badlogic.gdx.*;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationLogger;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.HeadlessNativesLoader;
+import com.badlogic.gdx.backends.headless.HeadlessNet;
+import com.badlogic.gdx.backends.headless.HeadlessPreferences;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import com.badlogic.gdx.utils.*;
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.game.GameContainer;
+import org.mini2Dx.core.input.InputEventBuffer;
+import org.mini2Dx.core.input.InputPlayer;
+import org.mini2Dx.core.input.InputReplayTimings;
+
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Launches mini2Dx games without a display or GPU. Rendering is recorded by {@link HeadlessGL20}
+ * and the game loop advances by a fixed timestep as fast as possible rather than in real time.
+ * Based on <a href=
+ * "https://github.com/libgdx/libgdx/blob/master/backends/gdx-backend-headless/src/com/badlogic/gdx/backends/headless/HeadlessApplication.java">
+ * LibGDX's HeadlessApplication class</a>
+ */
+public class HeadlessMini2DxGame implements Application {
+	private static final String LOGGING_TAG = HeadlessMini2DxGame.class.getSimpleName();
+
+	protected final HeadlessMini2DxConfig config;
+	protected final HeadlessGL20 gl;
+	protected final HeadlessMini2DxGraphics graphics;
+	protected final MockAudio audio;
+	protected final HeadlessFiles files;
+	protected final MockInput input;
+	protected final HeadlessNet net;
+	protected final HeadlessGameWrapper listener;
+	protected Thread mainLoopThread;
+	protected volatile boolean running = true;
+	protected final Array<Runnable> runnables = new Array<Runnable>(Runnable.class);
+	protected final Array<Runnable> executedRunnables = new Array<Runnable>(Runnable.class);
+	protected final SnapshotArray<LifecycleListener> lifecycleListeners = new SnapshotArray<LifecycleListener>(LifecycleListener.class);
+	protected int logLevel = LOG_INFO;
+	protected ApplicationLogger applicationLogger;
+	protected String preferencesdir;
+
+	private final ObjectMap<String, Preferences> preferences = new ObjectMap<String, Preferences>();
+	private long totalFrames = 0;
+
+	private InputPlayer inputPlayer;
+	private InputEventBuffer inputEventBuffer;
+	private InputReplayTimings inputReplayTimings;
+
+	public HeadlessMini2DxGame(GameContainer game, HeadlessMini2DxConfig config) {
+		HeadlessNativesLoader.load();
+		setApplicationLogger(new HeadlessApplicationLogger());
+
+		this.config = config;
+		listener = new HeadlessGameWrapper(game, config.gameIdentifier);
+
+		this.gl = new HeadlessGL20();
+		this.graphics = new HeadlessMini2DxGraphics(config, gl);
+		this.audio = new MockAudio();
+		this.files = new HeadlessFiles();
+		this.input = new MockInput();
+		this.net = new HeadlessNet();
+		this.preferencesdir = config.preferencesDirectory;
+
+		initialiseLibGDX();
+		if (config.runGame) {
+			launchGame();
+		} else {
+			initialiseGame();
+		}
+	}
+
+	protected void initialiseLibGDX() {
+		Gdx.app = this;
+		Gdx.graphics = graphics;
+		Gdx.audio = audio;
+		Gdx.files = files;
+		Gdx.input = input;
+		Gdx.net = net;
+		Gdx.gl = gl;
+		Gdx.gl20 = gl;
+		Gdx.gl30 = null;
+	}
+
+	private void launchGame() {
+		mainLoopThread = new Thread("Headless Application") {
+			@Override
+			public void run() {
+				try {
+					HeadlessMini2DxGame.this.executeGame();
+				} catch (Throwable t) {
+					if (t instanceof RuntimeException)
+						throw (RuntimeException) t;
+					else
+						throw new GdxRuntimeException(t);
+				}
+			}
+		};
+		mainLoopThread.start();
+	}
+
+	private void initialiseGame() {
+		listener.create();
+		listener.resize(graphics.getWidth(), graphics.getHeight());
+
+		if (config.inputReplayFile != null) {
+			try {
+				startReplay(new InputPlayer(new FileInputStream(config.inputReplayFile)));
+			} catch (IOException e) {
+				throw new GdxRuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * Starts replaying an input recording. Each subsequent frame replays one recorded update.
+	 * @param inputPlayer The {@link InputPlayer} to replay
+	 */
+	public void startReplay(InputPlayer inputPlayer) {
+		this.inputPlayer = inputPlayer;
+		this.inputReplayTimings = new InputReplayTimings();
+
+		inputEventBuffer = Mdx.input.getInputEventBuffer();
+		if (inputEventBuffer == null) {
+			inputEventBuffer = new InputEventBuffer();
+			Mdx.input.setInputEventBuffer(inputEventBuffer);
+		}
+		inputEventBuffer.setInputEnabled(false);
+	}
+
+	private void finishReplay() {
+		inputPlayer.close();
+		inputPlayer = null;
+		inputEventBuffer.setInputEnabled(true);
+		running = false;
+
+		log(LOGGING_TAG, inputReplayTimings.toString());
+		if (config.inputReplayTimingsFile == null) {
+			return;
+		}
+		try {
+			final Writer writer = new FileWriter(config.inputReplayTimingsFile);
+			try {
+				inputReplayTimings.writeCsv(writer);
+			} finally {
+				writer.close();
+			}
+		} catch (IOException e) {
+			error(LOGGING_TAG, "Could not write " + config.inputReplayTimingsFile, e);
+		}
+	}
+
+	void executeGame() {
+		initialiseGame();
+
+		while (running) {
+			if (config.maxFrames >= 0 && totalFrames >= config.maxFrames) {
+				break;
+			}
+			step();
+		}
+
+		synchronized (lifecycleListeners) {
+			for (LifecycleListener listener : lifecycleListeners) {
+				listener.pause();
+				listener.dispose();
+			}
+		}
+		listener.pause();
+		listener.dispose();
+	}
+
+	/**
+	 * Advances the game by a single frame: one update of {@link HeadlessMini2DxConfig#targetTimestep}
+	 * followed by a render. The rendered state always matches the most recent update.
+	 * While replaying, the update uses the next recorded input and timestep instead.
+	 */
+	public void step() {
+		executeRunnables();
+		if (!running) {
+			return;
+		}
+		float delta = config.targetTimestep;
+		if (inputPlayer != null) {
+			if (!inputPlayer.nextTick(inputEventBuffer)) {
+				finishReplay();
+				return;
+			}
+			delta = inputPlayer.getTickDelta();
+		}
+		final long frameStart = System.nanoTime();
+		gl.beginFrame();
+		graphics.incrementFrameId();
+
+		listener.update(delta);
+		listener.interpolate(1f);
+
+		final int previousBatchFlushes = listener.getTotalBatchFlushes();
+		listener.render();
+		gl.recordBatchFlushes(listener.getTotalBatchFlushes() - previousBatchFlushes);
+		totalFrames++;
+
+		if (inputReplayTimings != null && inputPlayer != null) {
+			inputReplayTimings.add(System.nanoTime() - frameStart);
+		}
+	}
+
+	/**
+	 * Advances the game by multiple frames
+	 * @param frames The number of frames to run
+	 */
+	public void step(int frames) {
+		for (int i = 0; i < frames; i++) {
+			step();
+		}
+	}
+
+	/**
+	 * Returns the statistics recorded during the most recent frame
+	 * @return The {@link HeadlessRenderStatistics} for the last frame
+	 */
+	public HeadlessRenderStatistics getFrameStatistics() {
+		return gl.getFrameStatistics();
+	}
+
+	/**
+	 * Returns the statistics recorded since the game started or {@link HeadlessGL20#resetStatistics()} was called
+	 * @return The accumulated {@link HeadlessRenderStatistics}
+	 */
+	public HeadlessRenderStatistics getTotalStatistics() {
+		return gl.getTotalStatistics();
+	}
+
+	/**
+	 * Returns the total number of frames run
+	 * @return 0 if no frames have been run
+	 */
+	public long getTotalFrames() {
+		return totalFrames;
+	}
+
+	/**
+	 * Returns the time taken by each frame of the current or most recent input replay
+	 * @return Null if no input recording has been replayed
+	 */
+	public InputReplayTimings getInputReplayTimings() {
+		return inputReplayTimings;
+	}
+
+	/**
+	 * Returns if an input recording is currently being replayed
+	 * @return False if no recording was replayed or the recording has ended
+	 */
+	public boolean isReplaying() {
+		return inputPlayer != null;
+	}
+
+	public boolean executeRunnables() {
+		synchronized (runnables) {
+			for (int i = runnables.size - 1; i >= 0; i--) {
+				executedRunnables.add(runnables.get(i));
+			}
+			runnables.clear();
+		}
+		if (executedRunnables.size == 0) {
+			return false;
+		}
+		do {
+			executedRunnables.pop().run();
+		} while (executedRunnables.size > 0);
+		return true;
+	}
+
+	@Override
+	public ApplicationListener getApplicationListener() {
+		return listener;
+	}
+
+	@Override
+	public Audio getAudio() {
+		return audio;
+	}
+
+	@Override
+	public Files getFiles() {
+		return files;
+	}
+
+	@Override
+	public HeadlessMini2DxGraphics getGraphics() {
+		return graphics;
+	}
+
+	@Override
+	public Input getInput() {
+		return input;
+	}
+
+	@Override
+	public Net getNet() {
+		return net;
+	}
+
+	@Override
+	public ApplicationType getType() {
+		return ApplicationType.HeadlessDesktop;
+	}
+
+	@Override
+	public int getVersion() {
+		return 0;
+	}
+
+	public void stop() {
+		running = false;
+		if (mainLoopThread == null) {
+			return;
+		}
+		try {
+			mainLoopThread.join();
+		} catch (Exception ex) {
+		}
+	}
+
+	@Override
+	public long getJavaHeap() {
+		return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+	}
+
+	@Override
+	public long getNativeHeap() {
+		return getJavaHeap();
+	}
+
+	@Override
+	public Preferences getPreferences(String name) {
+		if (preferences.containsKey(name)) {
+			return preferences.get(name);
+		} else {
+			Preferences prefs = new HeadlessPreferences(name, this.preferencesdir);
+			preferences.put(name, prefs);
+			return prefs;
+		}
+	}
+
+	@Override
+	public Clipboard getClipboard() {
+		return null;
+	}
+
+	@Override
+	public void postRunnable(Runnable runnable) {
+		synchronized (runnables) {
+			runnables.add(runnable);
+		}
+	}
+
+	@Override
+	public void debug(String tag, String message) {
+		if (logLevel >= LOG_DEBUG) {
+			getApplicationLogger().debug(tag, message);
+		}
+	}
+
+	@Override
+	public void debug(String tag, String message, Throwable exception) {
+		if (logLevel >= LOG_DEBUG) {
+			getApplicationLogger().debug(tag, message, exception);
+		}
+	}
+
+	@Override
+	public void log(String tag, String message) {
+		if (logLevel >= LOG_INFO) {
+			getApplicationLogger().log(tag, message);
+		}
+	}
+
+	@Override
+	public void log(String tag, String message, Throwable exception) {
+		if (logLevel >= LOG_INFO) {
+			getApplicationLogger().log(tag, message, exception);
+		}
+	}
+
+	@Override
+	public void error(String tag, String message) {
+		if (logLevel >= LOG_ERROR) {
+			getApplicationLogger().error(tag, message);
+		}
+	}
+
+	@Override
+	public void error(String tag, String message, Throwable exception) {
+		if (logLevel >= LOG_ERROR) {
+			getApplicationLogger().error(tag, message, exception);
+		}
+	}
+
+	@Override
+	public void setLogLevel(int logLevel) {
+		this.logLevel = logLevel;
+	}
+
+	@Override
+	public int getLogLevel() {
+		return logLevel;
+	}
+
+	@Override
+	public void setApplicationLogger(ApplicationLogger applicationLogger) {
+		this.applicationLogger = applicationLogger;
+	}
+
+	@Override
+	public ApplicationLogger getApplicationLogger() {
+		return applicationLogger;
+	}
+
+	@Override
+	public void exit() {
+		postRunnable(new Runnable() {
+			@Override
+			public void run() {
+				running = false;
+			}
+		});
+	}
+
+	@Override
+	public void addLifecycleListener(LifecycleListener listener) {
+		synchronized (lifecycleListeners) {
+			lifecycleListeners.add(listener);
+		}
+	}
+
+	@Override
+	public void removeLifecycleListener(LifecycleListener listener) {
+		synchronized (lifecycleListeners) {
+			lifecycleListeners.removeValue(listener, true);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * A {@link com.badlogic.gdx.Graphics} implementation with a fixed window size and timestep
+ * that renders via {@link HeadlessGL20}
+ */
+public class HeadlessMini2DxGraphics extends MockGraphics {
+	private final HeadlessGL20 gl;
+	private final float timestep;
+
+	private int width, height;
+	private long frameId = -1;
+
+	public HeadlessMini2DxGraphics(HeadlessMini2DxConfig config, HeadlessGL20 gl) {
+		super();
+		this.gl = gl;
+		this.timestep = config.targetTimestep;
+		this.width = config.width;
+		this.height = config.height;
+	}
+
+	@Override
+	public GL20 getGL20() {
+		return gl;
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public int getBackBufferWidth() {
+		return width;
+	}
+
+	@Override
+	public int getBackBufferHeight() {
+		return height;
+	}
+
+	@Override
+	public boolean setWindowedMode(int width, int height) {
+		this.width = width;
+		this.height = height;
+		return true;
+	}
+
+	@Override
+	public long getFrameId() {
+		return frameId;
+	}
+
+	@Override
+	public void incrementFrameId() {
+		frameId++;
+	}
+
+	@Override
+	public void updateTime() {
+	}
+
+	@Override
+	public float getDeltaTime() {
+		return timestep;
+	}
+
+	@Override
+	public float getRawDeltaTime() {
+		return timestep;
+	}
+
+	@Override
+	public int getFramesPerSecond() {
+		return Math.round(1f / timestep);
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+/**
+ * Rendering statistics recorded by {@link HeadlessGL20}
+ */
+public class HeadlessRenderStatistics {
+	int drawCalls;
+	int batchFlushes;
+	int textureBinds;
+	int shaderBinds;
+	int frameBufferBinds;
+	long verticesDrawn;
+
+	/**
+	 * Resets all statistics to zero
+	 */
+	public void reset() {
+		drawCalls = 0;
+		batchFlushes = 0;
+		textureBinds = 0;
+		shaderBinds = 0;
+		frameBufferBinds = 0;
+		verticesDrawn = 0;
+	}
+
+	/**
+	 * Returns the number of glDrawArrays/glDrawElements calls. Each sprite batch or shape renderer flush issues one draw call.
+	 * @return The number of draw calls
+	 */
+	public int getDrawCalls() {
+		return drawCalls;
+	}
+
+	/**
+	 * Returns the number of times a sprite batch flushed its vertices
+	 * @return The number of batch flushes
+	 */
+	public int getBatchFlushes() {
+		return batchFlushes;
+	}
+
+	/**
+	 * Returns the number of glBindTexture calls
+	 * @return The number of texture binds
+	 */
+	public int getTextureBinds() {
+		return textureBinds;
+	}
+
+	/**
+	 * Returns the number of glUseProgram calls
+	 * @return The number of shader binds
+	 */
+	public int getShaderBinds() {
+		return shaderBinds;
+	}
+
+	/**
+	 * Returns the number of glBindFramebuffer calls
+	 * @return The number of frame buffer binds
+	 */
+	public int getFrameBufferBinds() {
+		return frameBufferBinds;
+	}
+
+	/**
+	 * Returns the total number of vertices (or indices for indexed draws) submitted in draw calls
+	 * @return The number of vertices drawn
+	 */
+	public long getVerticesDrawn() {
+		return verticesDrawn;
+	}
+
+	@Override
+	public String toString() {
+		return "HeadlessRenderStatistics [drawCalls=" + drawCalls + ", batchFlushes=" + batchFlushes + ", textureBinds=" + textureBinds + ", shaderBinds="
+				+ shaderBinds + ", frameBufferBinds=" + frameBufferBinds + ", verticesDrawn=" + verticesDrawn + "]";
+	}
+}
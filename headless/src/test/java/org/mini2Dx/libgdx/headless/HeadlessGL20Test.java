@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BufferUtils;
+import junit.framework.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.IntBuffer;
+
+/**
+ * Unit tests for {@link HeadlessGL20}
+ */
+public class HeadlessGL20Test {
+	private HeadlessGL20 gl;
+
+	@Before
+	public void setUp() {
+		gl = new HeadlessGL20();
+	}
+
+	@Test
+	public void testGeneratedHandlesAreUnique() {
+		final int texture = gl.glGenTexture();
+		final int buffer = gl.glGenBuffer();
+		final int program = gl.glCreateProgram();
+		Assert.assertTrue(texture > 0);
+		Assert.assertTrue(texture != buffer);
+		Assert.assertTrue(buffer != program);
+
+		final IntBuffer handles = BufferUtils.newIntBuffer(3);
+		gl.glGenTextures(3, handles);
+		Assert.assertTrue(handles.get(0) > program);
+		Assert.assertEquals(handles.get(0) + 1, handles.get(1));
+		Assert.assertEquals(handles.get(1) + 1, handles.get(2));
+	}
+
+	@Test
+	public void testRecordsDrawCallsAndBinds() {
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glUseProgram(2);
+		gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, 0);
+		gl.glDrawArrays(GL20.GL_LINES, 0, 4);
+		gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 3);
+
+		final HeadlessRenderStatistics statistics = gl.getFrameStatistics();
+		Assert.assertEquals(2, statistics.getDrawCalls());
+		Assert.assertEquals(10, statistics.getVerticesDrawn());
+		Assert.assertEquals(1, statistics.getTextureBinds());
+		Assert.assertEquals(1, statistics.getShaderBinds());
+		Assert.assertEquals(1, statistics.getFrameBufferBinds());
+	}
+
+	@Test
+	public void testFrameStatisticsResetIndependentlyOfTotal() {
+		gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+		gl.recordBatchFlushes(2);
+		gl.beginFrame();
+		gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+
+		Assert.assertEquals(1, gl.getFrameStatistics().getDrawCalls());
+		Assert.assertEquals(0, gl.getFrameStatistics().getBatchFlushes());
+		Assert.assertEquals(2, gl.getTotalStatistics().getDrawCalls());
+		Assert.assertEquals(2, gl.getTotalStatistics().getBatchFlushes());
+
+		gl.resetStatistics();
+		Assert.assertEquals(0, gl.getFrameStatistics().getDrawCalls());
+		Assert.assertEquals(0, gl.getTotalStatistics().getDrawCalls());
+	}
+
+	@Test
+	public void testShadersCompileAndLink() {
+		final IntBuffer result = BufferUtils.newIntBuffer(1);
+		final int shader = gl.glCreateShader(GL20.GL_VERTEX_SHADER);
+		gl.glGetShaderiv(shader, GL20.GL_COMPILE_STATUS, result);
+		Assert.assertEquals(GL20.GL_TRUE, result.get(0));
+
+		final int program = gl.glCreateProgram();
+		gl.glGetProgramiv(program, GL20.GL_LINK_STATUS, result);
+		Assert.assertEquals(GL20.GL_TRUE, result.get(0));
+
+		Assert.assertEquals(GL20.GL_FRAMEBUFFER_COMPLETE, gl.glCheckFramebufferStatus(GL20.GL_FRAMEBUFFER));
+	}
+
+	@Test
+	public void testUniformLocationsAreStable() {
+		final int projection = gl.glGetUniformLocation(1, "u_projTrans");
+		final int texture = gl.glGetUniformLocation(1, "u_texture");
+		Assert.assertTrue(projection >= 0);
+		Assert.assertTrue(projection != texture);
+		Assert.assertEquals(projection, gl.glGetUniformLocation(1, "u_projTrans"));
+	}
+}
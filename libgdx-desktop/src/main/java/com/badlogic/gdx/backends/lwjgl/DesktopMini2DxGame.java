@@ -17,15 +17,27 @@ package com.badlogic.gdx.backends.lwjgl;
 
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.backends.lwjgl.audio.Mini2DxOpenALAudio;
+import com.badlogic.gdx.backends.lwjgl.audio.SoundPcmCache;
 import com.badlogic.gdx.utils.*;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.opengl.Display;
+import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.game.GameContainer;
+import org.mini2Dx.core.input.InputEventBuffer;
+import org.mini2Dx.core.input.InputPlayer;
+import org.mini2Dx.core.input.InputRecorder;
+import org.mini2Dx.core.input.InputReplayTimings;
 import org.mini2Dx.libgdx.desktop.DesktopGameWrapper;
 import org.mini2Dx.libgdx.desktop.DesktopMini2DxConfig;
 import org.mini2Dx.libgdx.game.ApplicationListener;
 
 import java.awt.*;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
 
 /**
  * Launches desktop-based mini2Dx games. Based on <a href=
@@ -41,6 +53,9 @@ public class DesktopMini2DxGame implements Application {
 	protected final LwjglNet net;
 	protected final ApplicationListener listener;
 	protected Thread mainLoopThread;
+	protected InputEventBuffer inputEventBuffer;
+	protected InputPlayer inputPlayer;
+	protected InputReplayTimings inputReplayTimings;
 	protected boolean running = true;
 	protected final Array<Runnable> runnables = new Array<Runnable>(Runnable.class);
 	protected final Array<Runnable> executedRunnables = new Array<Runnable>(Runnable.class);
@@ -81,7 +96,11 @@ public class DesktopMini2DxGame implements Application {
 		if (!LwjglApplicationConfiguration.disableAudio) {
 			try {
 				audio = new Mini2DxOpenALAudio(config.audioDeviceSimultaneousSources, config.audioDeviceBufferCount,
-						config.audioDeviceBufferSize);
+						config.audioDeviceBufferSize, config.musicBufferSize, config.musicBufferCount,
+						config.musicStreamBufferCount);
+				if (config.soundCacheDirectory != null) {
+					audio.setSoundCache(new SoundPcmCache(new File(config.soundCacheDirectory)));
+				}
 			} catch (Throwable t) {
 				log("LwjglApplication", "Couldn't initialize audio, disabling audio", t);
 				LwjglApplicationConfiguration.disableAudio = true;
@@ -128,6 +147,7 @@ public class DesktopMini2DxGame implements Application {
 		}
 
 		listener.create();
+		initialiseInput();
 		graphics.resize = true;
 
 		int lastWidth = graphics.getWidth();
@@ -228,6 +248,14 @@ public class DesktopMini2DxGame implements Application {
 					delta = maximumDelta;
 				}
 
+				if (inputPlayer != null) {
+					input.update();
+					input.processEvents();
+					replayFrame();
+					Display.update(false);
+					continue;
+				}
+
 				accumulator += delta;
 
 				while (accumulator >= targetTimestep) {
@@ -267,6 +295,9 @@ public class DesktopMini2DxGame implements Application {
 		}
 		listener.pause();
 		listener.dispose();
+		if (inputEventBuffer != null && inputEventBuffer.getRecorder() != null) {
+			inputEventBuffer.getRecorder().close();
+		}
 		Display.destroy();
 		if (audio != null) {
 			audio.dispose();
@@ -276,6 +307,71 @@ public class DesktopMini2DxGame implements Application {
 		}
 	}
 
+	private void initialiseInput() {
+		if (config.inputEventBufferSize <= 0 && config.inputRecordFile == null && config.inputReplayFile == null) {
+			return;
+		}
+		inputEventBuffer = new InputEventBuffer(config.inputEventBufferSize > 0 ? config.inputEventBufferSize :
+				InputEventBuffer.DEFAULT_CAPACITY);
+		Mdx.input.setInputEventBuffer(inputEventBuffer);
+
+		try {
+			if (config.inputReplayFile != null) {
+				inputPlayer = new InputPlayer(new FileInputStream(config.inputReplayFile));
+				inputReplayTimings = new InputReplayTimings();
+				inputEventBuffer.setInputEnabled(false);
+			} else if (config.inputRecordFile != null) {
+				inputEventBuffer.setRecorder(new InputRecorder(new FileOutputStream(config.inputRecordFile)));
+			}
+		} catch (IOException e) {
+			throw new GdxRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Replays a single recorded update and renders it without waiting for real time
+	 */
+	private void replayFrame() {
+		if (!inputPlayer.nextTick(inputEventBuffer)) {
+			finishReplay();
+			return;
+		}
+		final long frameStart = System.nanoTime();
+		listener.update(inputPlayer.getTickDelta());
+		listener.interpolate(1f);
+		listener.render();
+		inputReplayTimings.add(System.nanoTime() - frameStart);
+	}
+
+	private void finishReplay() {
+		inputPlayer.close();
+		inputPlayer = null;
+		inputEventBuffer.setInputEnabled(true);
+
+		log("DesktopMini2DxGame", inputReplayTimings.toString());
+		if (config.inputReplayTimingsFile != null) {
+			try {
+				final Writer writer = new FileWriter(config.inputReplayTimingsFile);
+				try {
+					inputReplayTimings.writeCsv(writer);
+				} finally {
+					writer.close();
+				}
+			} catch (IOException e) {
+				error("DesktopMini2DxGame", "Could not write " + config.inputReplayTimingsFile, e);
+			}
+		}
+		exit();
+	}
+
+	/**
+	 * Returns the time taken by each frame of the current or most recent input replay
+	 * @return Null if no input recording has been replayed
+	 */
+	public InputReplayTimings getInputReplayTimings() {
+		return inputReplayTimings;
+	}
+
 	public boolean executeRunnables() {
 		synchronized (runnables) {
 			for (int i = runnables.size - 1; i >= 0; i--) {
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.lwjgl.audio;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fully decoded 16-bit PCM audio held in a direct buffer, ready to be uploaded to OpenAL
+ */
+public class DecodedPcm {
+	private static final int MIN_CAPACITY = 4096;
+
+	private ByteBuffer data;
+	private int channels, sampleRate;
+
+	/**
+	 * Constructor
+	 * @param expectedBytes The estimated total bytes of PCM data
+	 */
+	public DecodedPcm(int expectedBytes) {
+		data = allocate(Math.max(MIN_CAPACITY, expectedBytes));
+	}
+
+	DecodedPcm(ByteBuffer data, int channels, int sampleRate) {
+		this.data = data;
+		this.channels = channels;
+		this.sampleRate = sampleRate;
+	}
+
+	public void setFormat(int channels, int sampleRate) {
+		this.channels = channels;
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Appends decoded bytes, growing the buffer if the estimated size was too small
+	 * @param bytes The source bytes
+	 * @param offset The offset in the source bytes
+	 * @param length The number of bytes to append
+	 */
+	public void write(byte[] bytes, int offset, int length) {
+		if (data.remaining() < length) {
+			final ByteBuffer previous = data;
+			data = allocate(Math.max(previous.position() + length, previous.capacity() + (previous.capacity() >> 1)));
+			((Buffer) previous).flip();
+			data.put(previous);
+		}
+		data.put(bytes, offset, length);
+	}
+
+	/**
+	 * Marks the data as complete and trims it to whole sample frames
+	 * @return This instance for chaining
+	 */
+	public DecodedPcm finish() {
+		final int frameSize = channels > 1 ? 4 : 2;
+		((Buffer) data).flip();
+		((Buffer) data).limit(data.limit() - (data.limit() % frameSize));
+		return this;
+	}
+
+	/**
+	 * Returns the PCM data between position 0 and the limit
+	 */
+	public ByteBuffer getData() {
+		return data;
+	}
+
+	public int getChannels() {
+		return channels;
+	}
+
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+	public float getDuration() {
+		return (data.limit() / (2 * channels)) / (float) sampleRate;
+	}
+
+	static ByteBuffer allocate(int capacity) {
+		return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+	}
+}
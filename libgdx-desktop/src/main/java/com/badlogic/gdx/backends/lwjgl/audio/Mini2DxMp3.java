@@ -15,7 +15,6 @@
  ******************************************************************************/
 package com.badlogic.gdx.backends.lwjgl.audio;
 
-import java.io.ByteArrayOutputStream;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -109,22 +108,26 @@ public class Mini2DxMp3 extends Mp3 {
 		public Sound (Mini2DxOpenALAudio audio, FileHandle file) {
 			super(audio);
 			if (audio.noDevice) return;
-			ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
+			load(file);
+		}
 
+		@Override
+		protected DecodedPcm decode (FileHandle file) {
 			Bitstream bitstream = new Bitstream(file.read());
 			MP3Decoder decoder = new MP3Decoder();
 
 			try {
+				DecodedPcm result = null;
 				OutputBuffer outputBuffer = null;
-				int sampleRate = -1, channels = -1;
 				while (true) {
 					Header header = bitstream.readFrame();
 					if (header == null) break;
 					if (outputBuffer == null) {
-						channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
+						int channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
 						outputBuffer = new OutputBuffer(channels, false);
 						decoder.setOutputBuffer(outputBuffer);
-						sampleRate = header.getSampleRate();
+						result = new DecodedPcm(getExpectedBytes(file, header, channels));
+						result.setFormat(channels, header.getSampleRate());
 					}
 					try {
 						decoder.decodeFrame(header, bitstream);
@@ -132,13 +135,21 @@ public class Mini2DxMp3 extends Mp3 {
 						// JLayer's decoder throws ArrayIndexOutOfBoundsException sometimes!?
 					}
 					bitstream.closeFrame();
-					output.write(outputBuffer.getBuffer(), 0, outputBuffer.reset());
+					result.write(outputBuffer.getBuffer(), 0, outputBuffer.reset());
 				}
 				bitstream.close();
-				setup(output.toByteArray(), channels, sampleRate);
+				if (result == null) throw new GdxRuntimeException("Empty MP3");
+				return result.finish();
 			} catch (Throwable ex) {
 				throw new GdxRuntimeException("Error reading audio data.", ex);
 			}
 		}
+
+		private static int getExpectedBytes (FileHandle file, Header header, int channels) {
+			final int bitrate = header.bitrate();
+			if (bitrate <= 0) return 0;
+			final double seconds = (file.length() * 8.0) / bitrate;
+			return (int) Math.min(Integer.MAX_VALUE / 2, seconds * header.getSampleRate() * channels * 2 * 1.05);
+		}
 	}
 }
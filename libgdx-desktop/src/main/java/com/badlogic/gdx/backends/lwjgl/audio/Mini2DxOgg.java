@@ -15,8 +15,6 @@
  ******************************************************************************/
 package com.badlogic.gdx.backends.lwjgl.audio;
 
-import java.io.ByteArrayOutputStream;
-
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.StreamUtils;
 
@@ -60,22 +58,31 @@ public class Mini2DxOgg extends Ogg {
 	}
 
 	static public class Sound extends Mini2DxOpenALSound {
+		/** Typical ratio of decoded PCM size to Ogg Vorbis file size, used to pre-size the decode buffer */
+		private static final int EXPECTED_COMPRESSION_RATIO = 10;
+
 		public Sound(Mini2DxOpenALAudio audio, FileHandle file) {
 			super(audio);
 			if (audio.noDevice)
 				return;
+			load(file);
+		}
+
+		@Override
+		protected DecodedPcm decode(FileHandle file) {
 			OggInputStream input = null;
 			try {
 				input = new OggInputStream(file.read());
-				ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
-				byte[] buffer = new byte[2048];
+				final DecodedPcm result = new DecodedPcm((int) Math.min(Integer.MAX_VALUE / 2, file.length() * EXPECTED_COMPRESSION_RATIO));
+				result.setFormat(input.getChannels(), input.getSampleRate());
+				final byte[] buffer = new byte[16384];
 				while (!input.atEnd()) {
 					int length = input.read(buffer);
-					if (length == -1)
+					if (length <= 0)
 						break;
-					output.write(buffer, 0, length);
+					result.write(buffer, 0, length);
 				}
-				setup(output.toByteArray(), input.getChannels(), input.getSampleRate());
+				return result.finish();
 			} finally {
 				StreamUtils.closeQuietly(input);
 			}
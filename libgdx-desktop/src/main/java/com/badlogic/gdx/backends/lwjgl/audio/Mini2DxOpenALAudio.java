@@ -36,17 +36,26 @@ import static org.lwjgl.openal.AL10.*;
  * Modified version of {@link OpenALAudio} to support sound completion events
  */
 public class Mini2DxOpenALAudio implements Audio {
+	public static final int DEFAULT_MUSIC_BUFFER_SIZE = 4096 * 10;
+	//8 buffers queues ~1.9 seconds of 44.1kHz stereo audio so that a slow frame does not starve the source
+	public static final int DEFAULT_MUSIC_BUFFER_COUNT = 8;
+	public static final int DEFAULT_MUSIC_STREAM_BUFFER_COUNT = 16;
+
 	private final int deviceBufferSize;
 	private final int deviceBufferCount;
-	private IntArray idleSources, allSources;
-	private LongMap<Integer> soundIdToSource;
-	private IntMap<Long> sourceToSoundId;
-	private long nextSoundId = 0;
+	private final int musicBufferSize;
+	private final int musicBufferCount;
+	private final int musicStreamBufferCount;
+	private final Array<Mini2DxOpenALSound> pendingUploads = new Array<Mini2DxOpenALSound>(false, 16, Mini2DxOpenALSound.class);
+	private final Array<Mini2DxOpenALSound> uploads = new Array<Mini2DxOpenALSound>(false, 16, Mini2DxOpenALSound.class);
+	private MusicStreamingThread musicStreamingThread;
+	private volatile SoundPcmCache soundCache;
+	private volatile int musicUnderruns;
+	private IntArray allSources;
+	private VoiceManager voices;
+	private final LongArray completedSoundIds = new LongArray();
 	private ObjectMap<String, Class<? extends Mini2DxOpenALSound>> extensionToSoundClass = new ObjectMap();
 	private ObjectMap<String, Class<? extends Mini2DxOpenALMusic>> extensionToMusicClass = new ObjectMap();
-	private LongArray recentSoundIds;
-	private Mini2DxOpenALSound[] recentSounds;
-	private int mostRecetSound = -1;
 
 	Array<Mini2DxOpenALMusic> music = new Array(false, 1, Mini2DxOpenALMusic.class);
 	boolean noDevice = false;
@@ -56,8 +65,26 @@ public class Mini2DxOpenALAudio implements Audio {
 	}
 
 	public Mini2DxOpenALAudio(int simultaneousSources, int deviceBufferCount, int deviceBufferSize) {
+		this(simultaneousSources, deviceBufferCount, deviceBufferSize, DEFAULT_MUSIC_BUFFER_SIZE,
+				DEFAULT_MUSIC_BUFFER_COUNT, DEFAULT_MUSIC_STREAM_BUFFER_COUNT);
+	}
+
+	/**
+	 * Constructor
+	 * @param simultaneousSources The maximum number of OpenAL sources
+	 * @param deviceBufferCount The number of buffers for {@link AudioDevice} instances
+	 * @param deviceBufferSize The buffer size for {@link AudioDevice} instances
+	 * @param musicBufferSize The size in bytes of each buffer used to stream music
+	 * @param musicBufferCount The number of OpenAL buffers queued per playing music track
+	 * @param musicStreamBufferCount The number of decoded buffers held ahead of playback per music track
+	 */
+	public Mini2DxOpenALAudio(int simultaneousSources, int deviceBufferCount, int deviceBufferSize,
+							  int musicBufferSize, int musicBufferCount, int musicStreamBufferCount) {
 		this.deviceBufferSize = deviceBufferSize;
 		this.deviceBufferCount = deviceBufferCount;
+		this.musicBufferSize = musicBufferSize;
+		this.musicBufferCount = musicBufferCount;
+		this.musicStreamBufferCount = musicStreamBufferCount;
 
 		registerSound("ogg", Mini2DxOgg.Sound.class);
 		registerMusic("ogg", Mini2DxOgg.Music.class);
@@ -81,9 +108,7 @@ public class Mini2DxOpenALAudio implements Audio {
 				break;
 			allSources.add(sourceID);
 		}
-		idleSources = new IntArray(allSources);
-		soundIdToSource = new LongMap<Integer>();
-		sourceToSoundId = new IntMap<Long>();
+		voices = new VoiceManager(allSources);
 
 		FloatBuffer orientation = (FloatBuffer) BufferUtils.createFloatBuffer(6)
 				.put(new float[] { 0.0f, 0.0f, -1.0f, 0.0f, 1.0f, 0.0f }).flip();
@@ -94,9 +119,6 @@ public class Mini2DxOpenALAudio implements Audio {
 		FloatBuffer position = (FloatBuffer) BufferUtils.createFloatBuffer(3).put(new float[] { 0.0f, 0.0f, 0.0f })
 				.flip();
 		alListener(AL_POSITION, position);
-
-		recentSounds = new Mini2DxOpenALSound[simultaneousSources];
-		recentSoundIds = new LongArray(simultaneousSources);
 	}
 
 	public void registerSound(String extension, Class<? extends Mini2DxOpenALSound> soundClass) {
@@ -146,97 +168,49 @@ public class Mini2DxOpenALAudio implements Audio {
 	int obtainSource(boolean isMusic) {
 		if (noDevice)
 			return 0;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceId = idleSources.get(i);
-			int state = alGetSourcei(sourceId, AL_SOURCE_STATE);
-			if (state != AL_PLAYING && state != AL_PAUSED) {
-				if (isMusic) {
-					idleSources.removeIndex(i);
-				} else {
-					if (sourceToSoundId.containsKey(sourceId)) {
-						long soundId = sourceToSoundId.get(sourceId);
-						sourceToSoundId.remove(sourceId);
-						soundIdToSource.remove(soundId);
-					}
-
-					long soundId = nextSoundId++;
-					sourceToSoundId.put(sourceId, soundId);
-					soundIdToSource.put(soundId, sourceId);
-				}
-				alSourceStop(sourceId);
-				alSourcei(sourceId, AL_BUFFER, 0);
-				AL10.alSourcef(sourceId, AL10.AL_GAIN, 1);
-				AL10.alSourcef(sourceId, AL10.AL_PITCH, 1);
-				AL10.alSource3f(sourceId, AL10.AL_POSITION, 0, 0, 1f);
-				return sourceId;
-			}
-		}
-		return -1;
+		return voices.obtainMusicSource();
+	}
+
+	/**
+	 * Obtains a voice for a sound, stealing a lower priority voice if none are free
+	 * @param sound The sound to play
+	 * @param volume The volume the sound will play at
+	 * @return The sound id or -1 if the sound should not be played
+	 */
+	long obtainSoundVoice(Mini2DxOpenALSound sound, float volume) {
+		if (noDevice)
+			return 0;
+		return voices.obtainSoundVoice(sound, volume);
 	}
 
 	void freeSource(int sourceID) {
 		if (noDevice)
 			return;
-		alSourceStop(sourceID);
-		alSourcei(sourceID, AL_BUFFER, 0);
-		if (sourceToSoundId.containsKey(sourceID)) {
-			long soundId = sourceToSoundId.remove(sourceID);
-			soundIdToSource.remove(soundId);
-		}
-		idleSources.add(sourceID);
+		voices.freeSource(sourceID);
 	}
 
-	void freeBuffer(int bufferID) {
+	void freeSound(Mini2DxOpenALSound sound) {
 		if (noDevice)
 			return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (sourceToSoundId.containsKey(sourceID)) {
-					long soundId = sourceToSoundId.remove(sourceID);
-					soundIdToSource.remove(soundId);
-				}
-				alSourceStop(sourceID);
-				alSourcei(sourceID, AL_BUFFER, 0);
-			}
-		}
+		voices.stop(sound, true, completedSoundIds);
 	}
 
-	void stopSourcesWithBuffer(int bufferID) {
+	void stopSound(Mini2DxOpenALSound sound) {
 		if (noDevice)
 			return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (sourceToSoundId.containsKey(sourceID)) {
-					long soundId = sourceToSoundId.remove(sourceID);
-					soundIdToSource.remove(soundId);
-				}
-				alSourceStop(sourceID);
-			}
-		}
+		voices.stop(sound, false, completedSoundIds);
 	}
 
-	void pauseSourcesWithBuffer(int bufferID) {
+	void pauseSound(Mini2DxOpenALSound sound) {
 		if (noDevice)
 			return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID)
-				alSourcePause(sourceID);
-		}
+		voices.pause(sound);
 	}
 
-	void resumeSourcesWithBuffer(int bufferID) {
+	void resumeSound(Mini2DxOpenALSound sound) {
 		if (noDevice)
 			return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
-			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (alGetSourcei(sourceID, AL_SOURCE_STATE) == AL_PAUSED)
-					alSourcePlay(sourceID);
-			}
-		}
+		voices.resume(sound);
 	}
 
 	public void update() {
@@ -245,91 +219,228 @@ public class Mini2DxOpenALAudio implements Audio {
 		}
 		final LibgdxAudio gdxAudio = (LibgdxAudio) Mdx.audio;
 
+		synchronized (pendingUploads) {
+			uploads.addAll(pendingUploads);
+			pendingUploads.clear();
+		}
+		for (int i = 0; i < uploads.size; i++) {
+			uploads.items[i].upload();
+		}
+		uploads.clear();
+
 		for (int i = 0; i < music.size; i++) {
 			music.items[i].update();
 		}
-		for (int i = recentSoundIds.size - 1; i >= 0; i--) {
-			long soundId = recentSoundIds.items[i];
-			if (isSoundPlaying(soundId)) {
-				continue;
-			}
-			recentSoundIds.removeIndex(i);
-			gdxAudio.notifySoundCompletionListeners(soundId);
+		voices.update(completedSoundIds);
+		for (int i = 0; i < completedSoundIds.size; i++) {
+			gdxAudio.notifySoundCompletionListeners(completedSoundIds.items[i]);
 		}
+		completedSoundIds.clear();
 	}
 
-	public void appendRecentSoundId(long soundId) {
-		recentSoundIds.add(soundId);
+	void queueUpload(Mini2DxOpenALSound sound) {
+		synchronized (pendingUploads) {
+			pendingUploads.add(sound);
+		}
 	}
 
-	public boolean isSoundPlaying(long soundId) {
-		if (!soundIdToSource.containsKey(soundId)) {
-			return false;
+	/**
+	 * Returns the on-disk cache of decoded sound data
+	 * @return Null if no cache is used
+	 */
+	public SoundPcmCache getSoundCache() {
+		return soundCache;
+	}
+
+	/**
+	 * Sets the on-disk cache of decoded sound data used when constructing sounds
+	 * @param soundCache Null to always decode sounds
+	 */
+	public void setSoundCache(SoundPcmCache soundCache) {
+		this.soundCache = soundCache;
+	}
+
+	MusicStreamingThread getMusicStreamingThread() {
+		if (musicStreamingThread == null) {
+			musicStreamingThread = new MusicStreamingThread();
 		}
-		int sourceId = soundIdToSource.get(soundId);
-		int soundState = AL10.alGetSourcei(sourceId, AL10.AL_SOURCE_STATE);
+		return musicStreamingThread;
+	}
+
+	void notifyMusicUnderrun() {
+		musicUnderruns++;
+	}
+
+	/**
+	 * Returns the total number of times music playback stalled because decoding fell behind
+	 * @return 0 if no underruns have occurred
+	 */
+	public int getMusicUnderruns() {
+		return musicUnderruns;
+	}
+
+	public int getMusicBufferSize() {
+		return musicBufferSize;
+	}
+
+	public int getMusicBufferCount() {
+		return musicBufferCount;
+	}
+
+	public int getMusicStreamBufferCount() {
+		return musicStreamBufferCount;
+	}
+
+	/**
+	 * Sets the maximum number of sounds in a group that can play at once. When the limit is reached
+	 * the lowest priority (then quietest, then oldest) sound in the group is replaced if its priority is not higher.
+	 * @param group The group (see {@link Mini2DxOpenALSound#setGroup(int)})
+	 * @param maxInstances The maximum number of instances or -1 for no limit
+	 */
+	public void setSoundGroupLimit(int group, int maxInstances) {
+		if (noDevice)
+			return;
+		voices.setGroupLimit(group, maxInstances);
+	}
+
+	public int getSoundGroupLimit(int group) {
+		if (noDevice)
+			return -1;
+		return voices.getGroupLimit(group);
+	}
+
+	/**
+	 * Sets the volume below which sounds are culled instead of played, e.g. sounds attenuated by distance
+	 * @param minimumVolume The minimum volume (0 to play all sounds)
+	 */
+	public void setMinimumSoundVolume(float minimumVolume) {
+		if (noDevice)
+			return;
+		voices.setMinimumVolume(minimumVolume);
+	}
+
+	public float getMinimumSoundVolume() {
+		if (noDevice)
+			return 0f;
+		return voices.getMinimumVolume();
+	}
+
+	/**
+	 * Returns the total number of voices (OpenAL sources)
+	 */
+	public int getTotalVoices() {
+		return noDevice ? 0 : voices.getTotalVoices();
+	}
+
+	/**
+	 * Returns the number of voices currently assigned to sounds or music
+	 */
+	public int getActiveVoices() {
+		return noDevice ? 0 : voices.getActiveVoices();
+	}
+
+	/**
+	 * Returns the highest number of voices in use at once since the last {@link #resetVoiceStatistics()}
+	 */
+	public int getPeakActiveVoices() {
+		return noDevice ? 0 : voices.getPeakActiveVoices();
+	}
+
+	/**
+	 * Returns the number of playing sounds stopped to free a voice for another sound or music
+	 */
+	public long getTotalStolenVoices() {
+		return noDevice ? 0 : voices.getTotalStolen();
+	}
 
-		switch (soundState) {
-		case AL10.AL_PLAYING:
-			return true;
-		default:
+	/**
+	 * Returns the number of sounds not played because their volume was below the minimum sound volume
+	 */
+	public long getTotalCulledSounds() {
+		return noDevice ? 0 : voices.getTotalCulled();
+	}
+
+	/**
+	 * Returns the number of sounds not played because no voice of equal or lower priority was available
+	 */
+	public long getTotalRejectedSounds() {
+		return noDevice ? 0 : voices.getTotalRejected();
+	}
+
+	public void resetVoiceStatistics() {
+		if (noDevice)
+			return;
+		voices.resetStatistics();
+	}
+
+	public boolean isSoundPlaying(long soundId) {
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return false;
-		}
+		return alGetSourcei(sourceId, AL_SOURCE_STATE) == AL_PLAYING;
+	}
+
+	int getSourceId(long soundId) {
+		if (noDevice)
+			return -1;
+		return voices.getSourceId(soundId);
 	}
 
 	public long getSoundId(int sourceId) {
-		if (!sourceToSoundId.containsKey(sourceId))
+		if (noDevice)
 			return -1;
-		return sourceToSoundId.get(sourceId);
+		return voices.getSoundId(sourceId);
 	}
 
 	public void stopSound(long soundId) {
-		if (!soundIdToSource.containsKey(soundId))
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return;
-		int sourceId = soundIdToSource.get(soundId);
 		alSourceStop(sourceId);
 	}
 
 	public void pauseSound(long soundId) {
-		if (!soundIdToSource.containsKey(soundId))
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return;
-		int sourceId = soundIdToSource.get(soundId);
 		alSourcePause(sourceId);
 	}
 
 	public void resumeSound(long soundId) {
-		if (!soundIdToSource.containsKey(soundId))
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return;
-		int sourceId = soundIdToSource.get(soundId);
 		if (alGetSourcei(sourceId, AL_SOURCE_STATE) == AL_PAUSED)
 			alSourcePlay(sourceId);
 	}
 
 	public void setSoundGain(long soundId, float volume) {
-		if (!soundIdToSource.containsKey(soundId))
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return;
-		int sourceId = soundIdToSource.get(soundId);
+		voices.setVolume(soundId, volume);
 		AL10.alSourcef(sourceId, AL10.AL_GAIN, volume);
 	}
 
 	public void setSoundLooping(long soundId, boolean looping) {
-		if (!soundIdToSource.containsKey(soundId))
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return;
-		int sourceId = soundIdToSource.get(soundId);
 		alSourcei(sourceId, AL10.AL_LOOPING, looping ? AL10.AL_TRUE : AL10.AL_FALSE);
 	}
 
 	public void setSoundPitch(long soundId, float pitch) {
-		if (!soundIdToSource.containsKey(soundId))
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return;
-		int sourceId = soundIdToSource.get(soundId);
 		AL10.alSourcef(sourceId, AL10.AL_PITCH, pitch);
 	}
 
 	public void setSoundPan(long soundId, float pan, float volume) {
-		if (!soundIdToSource.containsKey(soundId))
+		int sourceId = getSourceId(soundId);
+		if (sourceId == -1)
 			return;
-		int sourceId = soundIdToSource.get(soundId);
+		voices.setVolume(soundId, volume);
 
 		AL10.alSource3f(sourceId, AL10.AL_POSITION, MathUtils.cos((pan - 1) * MathUtils.PI / 2), 0,
 				MathUtils.sin((pan + 1) * MathUtils.PI / 2));
@@ -337,6 +448,10 @@ public class Mini2DxOpenALAudio implements Audio {
 	}
 
 	public void dispose() {
+		if (musicStreamingThread != null) {
+			musicStreamingThread.dispose();
+			musicStreamingThread = null;
+		}
 		if (noDevice)
 			return;
 		for (int i = 0, n = allSources.size; i < n; i++) {
@@ -347,9 +462,6 @@ public class Mini2DxOpenALAudio implements Audio {
 			alDeleteSources(sourceID);
 		}
 
-		sourceToSoundId.clear();
-		soundIdToSource.clear();
-
 		AL.destroy();
 		while (AL.isCreated()) {
 			try {
@@ -405,30 +517,4 @@ public class Mini2DxOpenALAudio implements Audio {
 			};
 		return new JavaSoundAudioRecorder(samplingRate, isMono);
 	}
-
-	/**
-	 * Retains a list of the most recently played sounds and stops the sound played
-	 * least recently if necessary for a new sound to play
-	 */
-	protected void retain(Mini2DxOpenALSound sound, boolean stop) {
-		// Move the pointer ahead and wrap
-		mostRecetSound++;
-		mostRecetSound %= recentSounds.length;
-
-		if (stop) {
-			// Stop the least recent sound (the one we are about to bump off the buffer)
-			if (recentSounds[mostRecetSound] != null)
-				recentSounds[mostRecetSound].stop();
-		}
-
-		recentSounds[mostRecetSound] = sound;
-	}
-
-	/** Removes the disposed sound from the least recently played list */
-	public void forget(Mini2DxOpenALSound sound) {
-		for (int i = 0; i < recentSounds.length; i++) {
-			if (recentSounds[i] == sound)
-				recentSounds[i] = null;
-		}
-	}
 }
@@ -24,32 +24,42 @@ import org.lwjgl.openal.AL11;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import org.mini2Dx.core.Mdx;
 
 import static org.lwjgl.openal.AL10.*;
 
 /**
- * Modified version of {@link OpenALMusic} to support sound completion events
+ * Modified version of {@link OpenALMusic} to support sound completion events.
+ *
+ * Decoding happens on the {@link Mini2DxOpenALAudio}'s music streaming thread into a {@link PcmRingBuffer}.
+ * {@link #update()} only uploads already decoded chunks to OpenAL.
  */
 public abstract class Mini2DxOpenALMusic implements Music {
-	static private final int bufferSize = 4096 * 10;
-	static private final int bufferCount = 3;
+	static private final String LOGGING_TAG = Mini2DxOpenALMusic.class.getSimpleName();
 	static private final int bytesPerSample = 2;
-	static private final byte[] tempBytes = new byte[bufferSize];
-	static private final ByteBuffer tempBuffer = BufferUtils.createByteBuffer(bufferSize);
 
-	private FloatArray renderedSecondsQueue = new FloatArray(bufferCount);
+	private final int bufferSize;
+	private final int bufferCount;
+	private final FloatArray renderedSecondsQueue;
+	private final IntArray freeBuffers;
+	private PcmRingBuffer ringBuffer;
+	private ByteBuffer uploadBuffer;
+	private final Object decodeLock = new Object();
 
 	private final Mini2DxOpenALAudio audio;
 	private IntBuffer buffers;
 	private int sourceID = -1;
-	private int format, sampleRate;
-	private boolean isLooping, isPlaying;
+	private volatile int format, sampleRate;
+	private volatile boolean isLooping, isStreaming;
+	private boolean isPlaying, isUnderrun;
 	private float volume = 1;
 	private float pan = 0;
-	private float renderedSeconds, maxSecondsPerBuffer;
+	private float renderedSeconds;
+	private volatile float maxSecondsPerBuffer;
+	private int underruns;
 
 	protected final FileHandle file;
 	protected int bufferOverhead = 0;
@@ -60,6 +70,11 @@ public abstract class Mini2DxOpenALMusic implements Music {
 		this.audio = audio;
 		this.file = file;
 		this.onCompletionListener = null;
+
+		bufferSize = audio.getMusicBufferSize();
+		bufferCount = audio.getMusicBufferCount();
+		renderedSecondsQueue = new FloatArray(bufferCount);
+		freeBuffers = new IntArray(bufferCount);
 	}
 
 	protected void setup (int channels, int sampleRate) {
@@ -77,6 +92,8 @@ public abstract class Mini2DxOpenALMusic implements Music {
 			audio.music.add(this);
 
 			if (buffers == null) {
+				ringBuffer = new PcmRingBuffer(Math.max(bufferCount, audio.getMusicStreamBufferCount()), bufferSize);
+				uploadBuffer = BufferUtils.createByteBuffer(bufferSize);
 				buffers = BufferUtils.createIntBuffer(bufferCount);
 				alGenBuffers(buffers);
 				int errorCode = alGetError();
@@ -86,13 +103,10 @@ public abstract class Mini2DxOpenALMusic implements Music {
 			alSourcei(sourceID, AL_LOOPING, AL_FALSE);
 			setPan(pan, volume);
 
-			boolean filled = false; // Check if there's anything to actually play.
-			for (int i = 0; i < bufferCount; i++) {
-				int bufferID = buffers.get(i);
-				if (!fill(bufferID)) break;
-				filled = true;
-				alSourceQueueBuffers(sourceID, bufferID);
-			}
+			isStreaming = true;
+			decode(bufferCount);
+			boolean filled = queueBuffers(); // Check if there's anything to actually play.
+			audio.getMusicStreamingThread().add(this);
 			if (!filled && onCompletionListener != null) onCompletionListener.onCompletion(this);
 
 			if (alGetError() != AL_NO_ERROR) {
@@ -103,6 +117,7 @@ public abstract class Mini2DxOpenALMusic implements Music {
 		if (!isPlaying) {
 			alSourcePlay(sourceID);
 			isPlaying = true;
+			isUnderrun = false;
 		}
 	}
 
@@ -110,7 +125,13 @@ public abstract class Mini2DxOpenALMusic implements Music {
 		if (audio.noDevice) return;
 		if (sourceID == -1) return;
 		audio.music.removeValue(this, true);
-		reset();
+		audio.getMusicStreamingThread().remove(this);
+		synchronized (decodeLock) {
+			isStreaming = false;
+			reset();
+			ringBuffer.clear();
+		}
+		freeBuffers.clear();
 		audio.freeSource(sourceID);
 		sourceID = -1;
 		renderedSeconds = 0;
@@ -164,35 +185,49 @@ public abstract class Mini2DxOpenALMusic implements Music {
 		boolean wasPlaying = isPlaying;
 		isPlaying = false;
 		alSourceStop(sourceID);
-		alSourceUnqueueBuffers(sourceID, buffers);
+		for (int queued = alGetSourcei(sourceID, AL_BUFFERS_QUEUED); queued > 0; queued--) {
+			alSourceUnqueueBuffers(sourceID);
+		}
+		freeBuffers.clear();
 		while (renderedSecondsQueue.size > 0) {
 			renderedSeconds = renderedSecondsQueue.pop();
 		}
-		if (position <= renderedSeconds) {
-			reset();
-			renderedSeconds = 0;
-		}
-		while (renderedSeconds < (position - maxSecondsPerBuffer)) {
-			if (read(tempBytes) <= 0) break;
-			renderedSeconds += maxSecondsPerBuffer;
-		}
-		renderedSecondsQueue.add(renderedSeconds);
-		boolean filled = false;
-		for (int i = 0; i < bufferCount; i++) {
-			int bufferID = buffers.get(i);
-			if (!fill(bufferID)) break;
-			filled = true;
-			alSourceQueueBuffers(sourceID, bufferID);
+
+		boolean filled;
+		synchronized (decodeLock) {
+			// Chunks decoded ahead of playback move the decoder position past the last queued buffer
+			for (int i = 0, n = ringBuffer.size(); i < n; i++) {
+				if (ringBuffer.isLoopStart(i)) renderedSeconds = 0;
+				renderedSeconds += getSeconds(ringBuffer.getLength(i));
+			}
+			ringBuffer.clear();
+
+			if (position <= renderedSeconds) {
+				reset();
+				renderedSeconds = 0;
+			}
+			final byte[] skipBuffer = ringBuffer.getWriteChunk();
+			while (renderedSeconds < (position - maxSecondsPerBuffer)) {
+				if (read(skipBuffer) <= 0) break;
+				renderedSeconds += maxSecondsPerBuffer;
+			}
+			renderedSecondsQueue.add(renderedSeconds);
+			decode(bufferCount);
+			filled = queueBuffers();
+			renderedSecondsQueue.pop();
 		}
-		renderedSecondsQueue.pop();
+		audio.getMusicStreamingThread().wake();
+
 		if (!filled) {
 			stop();
 			if (onCompletionListener != null) onCompletionListener.onCompletion(this);
+			return;
 		}
 		alSourcef(sourceID, AL11.AL_SEC_OFFSET, position - renderedSeconds);
 		if (wasPlaying) {
 			alSourcePlay(sourceID);
 			isPlaying = true;
+			isUnderrun = false;
 		}
 	}
 
@@ -203,7 +238,7 @@ public abstract class Mini2DxOpenALMusic implements Music {
 	}
 
 	/** Fills as much of the buffer as possible and returns the number of bytes filled. Returns &lt;= 0 to indicate the end of the
-	 * stream. */
+	 * stream. Called from the music streaming thread. */
 	abstract public int read (byte[] buffer);
 
 	/** Resets the stream to the beginning. */
@@ -226,56 +261,125 @@ public abstract class Mini2DxOpenALMusic implements Music {
 		if (audio.noDevice) return;
 		if (sourceID == -1) return;
 
-		boolean end = false;
-		int buffers = alGetSourcei(sourceID, AL_BUFFERS_PROCESSED);
-		while (buffers-- > 0) {
+		int processed = alGetSourcei(sourceID, AL_BUFFERS_PROCESSED);
+		while (processed-- > 0) {
 			int bufferID = alSourceUnqueueBuffers(sourceID);
 			if (bufferID == AL_INVALID_VALUE) break;
 			renderedSeconds = renderedSecondsQueue.pop();
-			if (end) continue;
-			if (fill(bufferID))
-				alSourceQueueBuffers(sourceID, bufferID);
-			else
-				end = true;
+			freeBuffers.add(bufferID);
 		}
+		while (freeBuffers.size > 0) {
+			int bufferID = freeBuffers.peek();
+			if (!fill(bufferID)) break;
+			freeBuffers.pop();
+			alSourceQueueBuffers(sourceID, bufferID);
+		}
+		audio.getMusicStreamingThread().wake();
+
+		// End of stream is published after the final chunk so must be read first, otherwise
+		// a chunk committed between the two reads would be dropped
+		final boolean endOfStream = ringBuffer.isEndOfStream();
+		boolean end = endOfStream && ringBuffer.isEmpty();
 		if (end && alGetSourcei(sourceID, AL_BUFFERS_QUEUED) == 0) {
 			stop();
 			if (onCompletionListener != null) onCompletionListener.onCompletion(this);
+			return;
 		}
 
 		// A buffer underflow will cause the source to stop.
-		if (isPlaying && alGetSourcei(sourceID, AL_SOURCE_STATE) != AL_PLAYING) alSourcePlay(sourceID);
+		if (isPlaying && alGetSourcei(sourceID, AL_SOURCE_STATE) != AL_PLAYING) {
+			if (!isUnderrun) {
+				isUnderrun = true;
+				underruns++;
+				audio.notifyMusicUnderrun();
+			}
+			if (alGetSourcei(sourceID, AL_BUFFERS_QUEUED) > 0) {
+				alSourcePlay(sourceID);
+				isUnderrun = false;
+			}
+		}
 	}
 
-	private boolean fill (int bufferID) {
-		tempBuffer.clear();
-		int length = read(tempBytes);
-		if (length <= 0) {
-			if (isLooping) {
-				loop();
-				length = read(tempBytes);
-				if (length <= 0) return false;
-				if (renderedSecondsQueue.size > 0) {
-					renderedSecondsQueue.set(0, 0);
+	/**
+	 * Decodes chunks into the ring buffer until it is full or the stream ends
+	 * @param maxChunks The maximum number of chunks to decode
+	 * @return The number of chunks decoded
+	 */
+	int decode (int maxChunks) {
+		synchronized (decodeLock) {
+			int result = 0;
+			if (!isStreaming) return result;
+			try {
+				while (result < maxChunks && !ringBuffer.isFull() && !ringBuffer.isEndOfStream()) {
+					final byte[] chunk = ringBuffer.getWriteChunk();
+					boolean loopStart = false;
+					int length = read(chunk);
+					if (length <= 0) {
+						if (!isLooping) {
+							ringBuffer.setEndOfStream();
+							break;
+						}
+						loop();
+						loopStart = true;
+						length = read(chunk);
+						if (length <= 0) {
+							ringBuffer.setEndOfStream();
+							break;
+						}
+					}
+					ringBuffer.commit(length, loopStart);
+					result++;
 				}
-			} else
-				return false;
+			} catch (Exception e) {
+				Mdx.log.error(LOGGING_TAG, "Error decoding " + file, e);
+				ringBuffer.setEndOfStream();
+			}
+			return result;
+		}
+	}
+
+	private boolean queueBuffers () {
+		boolean filled = false;
+		for (int i = 0; i < bufferCount; i++) {
+			int bufferID = buffers.get(i);
+			if (freeBuffers.size == 0 && fill(bufferID)) {
+				filled = true;
+				alSourceQueueBuffers(sourceID, bufferID);
+			} else {
+				freeBuffers.add(bufferID);
+			}
+		}
+		return filled;
+	}
+
+	private boolean fill (int bufferID) {
+		if (ringBuffer.isEmpty()) return false;
+		final int length = ringBuffer.getReadLength();
+		if (ringBuffer.isReadLoopStart() && renderedSecondsQueue.size > 0) {
+			renderedSecondsQueue.set(0, 0);
 		}
 		float previousLoadedSeconds = renderedSecondsQueue.size > 0 ? renderedSecondsQueue.first() : 0;
-		float currentBufferSeconds = maxSecondsPerBuffer * (float)length / (float)bufferSize;
-		renderedSecondsQueue.insert(0, previousLoadedSeconds + currentBufferSeconds);
+		renderedSecondsQueue.insert(0, previousLoadedSeconds + getSeconds(length));
 
-		tempBuffer.put(tempBytes, 0, length).flip();
-		alBufferData(bufferID, format, tempBuffer, sampleRate);
+		uploadBuffer.clear();
+		uploadBuffer.put(ringBuffer.getReadChunk(), 0, length).flip();
+		ringBuffer.advance();
+		alBufferData(bufferID, format, uploadBuffer, sampleRate);
 		return true;
 	}
 
+	private float getSeconds (int length) {
+		return maxSecondsPerBuffer * (float)length / (float)bufferSize;
+	}
+
 	public void dispose () {
 		stop();
 		if (audio.noDevice) return;
 		if (buffers == null) return;
 		alDeleteBuffers(buffers);
 		buffers = null;
+		ringBuffer = null;
+		uploadBuffer = null;
 		onCompletionListener = null;
 	}
 
@@ -286,4 +390,12 @@ public abstract class Mini2DxOpenALMusic implements Music {
 	public int getSourceId () {
 		return sourceID;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the number of times playback of this music stalled because decoding fell behind
+	 * @return 0 if no underruns have occurred
+	 */
+	public int getUnderruns () {
+		return underruns;
+	}
+}
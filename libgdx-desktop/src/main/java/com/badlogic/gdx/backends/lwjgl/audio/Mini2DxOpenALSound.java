@@ -15,39 +15,82 @@
  ******************************************************************************/
 package com.badlogic.gdx.backends.lwjgl.audio;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import static org.lwjgl.openal.AL10.*;
 
 /**
- * Modified version of {@link OpenALSound} to support sound completion events
+ * Modified version of {@link OpenALSound} to support sound completion events.
+ *
+ * Sounds can be constructed on any thread. Decoding happens during construction while the
+ * OpenAL upload is deferred to the game thread (see {@link Mini2DxOpenALAudio#update()}) or the first playback.
  */
 public class Mini2DxOpenALSound implements Sound {
 	private int bufferID = -1;
 	private final Mini2DxOpenALAudio audio;
 	private float duration;
+	private volatile DecodedPcm pendingUpload;
+	private int priority = 0;
+	private int group = 0;
 
 	public Mini2DxOpenALSound (Mini2DxOpenALAudio audio) {
 		this.audio = audio;
 	}
 
 	void setup (byte[] pcm, int channels, int sampleRate) {
-		int bytes = pcm.length - (pcm.length % (channels > 1 ? 4 : 2));
-		int samples = bytes / (2 * channels);
-		duration = samples / (float)sampleRate;
-
-		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes);
-		buffer.order(ByteOrder.nativeOrder());
-		buffer.put(pcm, 0, bytes);
-		buffer.flip();
-
-		if (bufferID == -1) {
-			bufferID = alGenBuffers();
-			alBufferData(bufferID, channels > 1 ? AL_FORMAT_STEREO16 : AL_FORMAT_MONO16, buffer.asShortBuffer(), sampleRate);
+		final DecodedPcm result = new DecodedPcm(pcm.length);
+		result.setFormat(channels, sampleRate);
+		result.write(pcm, 0, pcm.length);
+		setup(result.finish());
+	}
+
+	void setup (DecodedPcm pcm) {
+		duration = pcm.getDuration();
+		if (bufferID != -1 || pendingUpload != null) return;
+		pendingUpload = pcm;
+		audio.queueUpload(this);
+	}
+
+	/**
+	 * Decodes a file (or loads it from the {@link SoundPcmCache} if one is set) and sets up this sound with the result
+	 * @param file The encoded sound file
+	 */
+	protected void load (FileHandle file) {
+		final SoundPcmCache cache = audio.getSoundCache();
+		if (cache == null) {
+			setup(decode(file));
+			return;
+		}
+		final String key = cache.getKey(file);
+		DecodedPcm pcm = cache.load(key);
+		if (pcm == null) {
+			pcm = decode(file);
+			cache.save(key, pcm);
 		}
+		setup(pcm);
+	}
+
+	/**
+	 * Decodes a file into 16-bit PCM data. Subclasses using {@link #load(FileHandle)} must override this method.
+	 * @param file The encoded sound file
+	 * @return The finished {@link DecodedPcm}
+	 */
+	protected DecodedPcm decode (FileHandle file) {
+		throw new GdxRuntimeException(getClass().getName() + " does not support decoding " + file);
+	}
+
+	/**
+	 * Uploads pending PCM data to OpenAL. Must be called on the game thread.
+	 */
+	synchronized void upload () {
+		final DecodedPcm pcm = pendingUpload;
+		if (pcm == null) return;
+		pendingUpload = null;
+		if (audio.noDevice || bufferID != -1) return;
+		bufferID = alGenBuffers();
+		alBufferData(bufferID, pcm.getChannels() > 1 ? AL_FORMAT_STEREO16 : AL_FORMAT_MONO16, pcm.getData(), pcm.getSampleRate());
 	}
 
 	public long play () {
@@ -56,21 +99,8 @@ public class Mini2DxOpenALSound implements Sound {
 
 	public long play (float volume) {
 		if (audio.noDevice) return 0;
-		int sourceID = audio.obtainSource(false);
-		if (sourceID == -1) {
-			// Attempt to recover by stopping the least recently played sound
-			audio.retain(this, true);
-			sourceID = audio.obtainSource(false);
-		} else audio.retain(this, false);
-		// In case it still didn't work
-		if (sourceID == -1) return -1;
-		long soundId = audio.getSoundId(sourceID);
-		alSourcei(sourceID, AL_BUFFER, bufferID);
-		alSourcei(sourceID, AL_LOOPING, AL_FALSE);
-		alSourcef(sourceID, AL_GAIN, volume);
-		audio.appendRecentSoundId(soundId);
-		alSourcePlay(sourceID);
-		return soundId;
+		if (pendingUpload != null) upload();
+		return start(volume, false);
 	}
 
 	public long loop () {
@@ -80,11 +110,16 @@ public class Mini2DxOpenALSound implements Sound {
 	@Override
 	public long loop (float volume) {
 		if (audio.noDevice) return 0;
-		int sourceID = audio.obtainSource(false);
-		if (sourceID == -1) return -1;
-		long soundId = audio.getSoundId(sourceID);
+		if (pendingUpload != null) upload();
+		return start(volume, true);
+	}
+
+	private long start (float volume, boolean looping) {
+		long soundId = audio.obtainSoundVoice(this, volume);
+		if (soundId == -1) return -1;
+		int sourceID = audio.getSourceId(soundId);
 		alSourcei(sourceID, AL_BUFFER, bufferID);
-		alSourcei(sourceID, AL_LOOPING, AL_TRUE);
+		alSourcei(sourceID, AL_LOOPING, looping ? AL_TRUE : AL_FALSE);
 		alSourcef(sourceID, AL_GAIN, volume);
 		alSourcePlay(sourceID);
 		return soundId;
@@ -92,16 +127,16 @@ public class Mini2DxOpenALSound implements Sound {
 
 	public void stop () {
 		if (audio.noDevice) return;
-		audio.stopSourcesWithBuffer(bufferID);
+		audio.stopSound(this);
 	}
 
 	public void dispose () {
+		pendingUpload = null;
 		if (audio.noDevice) return;
 		if (bufferID == -1) return;
-		audio.freeBuffer(bufferID);
+		audio.freeSound(this);
 		alDeleteBuffers(bufferID);
 		bufferID = -1;
-		audio.forget(this);
 	}
 
 	@Override
@@ -113,7 +148,7 @@ public class Mini2DxOpenALSound implements Sound {
 	@Override
 	public void pause () {
 		if (audio.noDevice) return;
-		audio.pauseSourcesWithBuffer(bufferID);
+		audio.pauseSound(this);
 	}
 
 	@Override
@@ -125,7 +160,7 @@ public class Mini2DxOpenALSound implements Sound {
 	@Override
 	public void resume () {
 		if (audio.noDevice) return;
-		audio.resumeSourcesWithBuffer(bufferID);
+		audio.resumeSound(this);
 	}
 
 	@Override
@@ -160,7 +195,7 @@ public class Mini2DxOpenALSound implements Sound {
 
 	@Override
 	public long play (float volume, float pitch, float pan) {
-		long id = play();
+		long id = play(volume);
 		setPitch(id, pitch);
 		setPan(id, pan, volume);
 		return id;
@@ -168,12 +203,38 @@ public class Mini2DxOpenALSound implements Sound {
 
 	@Override
 	public long loop (float volume, float pitch, float pan) {
-		long id = loop();
+		long id = loop(volume);
 		setPitch(id, pitch);
 		setPan(id, pan, volume);
 		return id;
 	}
 
+	public int getPriority () {
+		return priority;
+	}
+
+	/**
+	 * Sets the priority of this sound when competing for voices. When no voice is free, a new instance
+	 * replaces the playing instance with the lowest priority (then lowest volume, then oldest) whose priority is lower,
+	 * or whose priority is equal and volume is lower than the new instance.
+	 * @param priority The priority (default 0)
+	 */
+	public void setPriority (int priority) {
+		this.priority = priority;
+	}
+
+	public int getGroup () {
+		return group;
+	}
+
+	/**
+	 * Sets the group this sound belongs to for instance limits (see {@link Mini2DxOpenALAudio#setSoundGroupLimit(int, int)})
+	 * @param group The group (default 0)
+	 */
+	public void setGroup (int group) {
+		this.group = group;
+	}
+
 	/** Returns the length of the sound in seconds. */
 	public float duration () {
 		return duration;
@@ -60,11 +60,22 @@ public class Mini2DxWav extends Wav {
 		public Sound (Mini2DxOpenALAudio audio, FileHandle file) {
 			super(audio);
 			if (audio.noDevice) return;
+			load(file);
+		}
 
+		@Override
+		protected DecodedPcm decode (FileHandle file) {
 			WavInputStream input = null;
 			try {
 				input = new WavInputStream(file);
-				setup(StreamUtils.copyStreamToByteArray(input, input.dataRemaining), input.channels, input.sampleRate);
+				final DecodedPcm result = new DecodedPcm(input.dataRemaining);
+				result.setFormat(input.channels, input.sampleRate);
+				final byte[] buffer = new byte[16384];
+				int length;
+				while ((length = input.read(buffer)) > 0) {
+					result.write(buffer, 0, length);
+				}
+				return result.finish();
 			} catch (IOException ex) {
 				throw new GdxRuntimeException("Error reading WAV file: " + file, ex);
 			} finally {
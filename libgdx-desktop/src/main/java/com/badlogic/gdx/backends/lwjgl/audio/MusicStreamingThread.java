@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.lwjgl.audio;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Decodes all playing {@link Mini2DxOpenALMusic} instances ahead of playback so that
+ * the game thread only needs to upload already decoded chunks to OpenAL.
+ * Tracks are decoded one chunk at a time in round-robin order.
+ */
+class MusicStreamingThread implements Runnable {
+	private static final long IDLE_WAIT_MILLIS = 10L;
+
+	private final Array<Mini2DxOpenALMusic> streams = new Array<Mini2DxOpenALMusic>(false, 4, Mini2DxOpenALMusic.class);
+	private final Array<Mini2DxOpenALMusic> snapshot = new Array<Mini2DxOpenALMusic>(false, 4, Mini2DxOpenALMusic.class);
+	private final Object wakeLock = new Object();
+	private final Thread thread;
+
+	private volatile boolean running = true;
+	private boolean wakeRequested = false;
+
+	MusicStreamingThread() {
+		thread = new Thread(this, "mini2Dx-music-streaming");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	void add(Mini2DxOpenALMusic music) {
+		synchronized (streams) {
+			if (!streams.contains(music, true)) {
+				streams.add(music);
+			}
+		}
+		wake();
+	}
+
+	void remove(Mini2DxOpenALMusic music) {
+		synchronized (streams) {
+			streams.removeValue(music, true);
+		}
+	}
+
+	/**
+	 * Notifies the thread that chunks have been consumed and can be decoded again
+	 */
+	void wake() {
+		synchronized (wakeLock) {
+			wakeRequested = true;
+			wakeLock.notify();
+		}
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			synchronized (streams) {
+				snapshot.clear();
+				snapshot.addAll(streams);
+			}
+
+			boolean decoded = false;
+			for (int i = 0; i < snapshot.size; i++) {
+				if (snapshot.items[i].decode(1) > 0) {
+					decoded = true;
+				}
+			}
+			snapshot.clear();
+
+			if (decoded) {
+				continue;
+			}
+			synchronized (wakeLock) {
+				if (!wakeRequested && running) {
+					try {
+						wakeLock.wait(IDLE_WAIT_MILLIS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+				wakeRequested = false;
+			}
+		}
+	}
+
+	void dispose() {
+		running = false;
+		wake();
+		synchronized (streams) {
+			streams.clear();
+		}
+	}
+}
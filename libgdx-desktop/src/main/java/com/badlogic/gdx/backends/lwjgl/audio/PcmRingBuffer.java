@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.lwjgl.audio;
+
+/**
+ * A single-producer single-consumer ring of fixed-size decoded PCM chunks.
+ * The streaming thread decodes into the write chunk and commits it; the game thread
+ * uploads the read chunk to OpenAL and advances.
+ */
+class PcmRingBuffer {
+	private final byte[][] chunks;
+	private final int[] lengths;
+	private final boolean[] loopStarts;
+
+	private volatile int readIndex, writeIndex;
+	private volatile boolean endOfStream;
+
+	PcmRingBuffer(int totalChunks, int chunkSize) {
+		chunks = new byte[totalChunks][chunkSize];
+		lengths = new int[totalChunks];
+		loopStarts = new boolean[totalChunks];
+	}
+
+	int size() {
+		return writeIndex - readIndex;
+	}
+
+	boolean isEmpty() {
+		return writeIndex == readIndex;
+	}
+
+	boolean isFull() {
+		return writeIndex - readIndex >= chunks.length;
+	}
+
+	boolean isEndOfStream() {
+		return endOfStream;
+	}
+
+	void setEndOfStream() {
+		endOfStream = true;
+	}
+
+	/**
+	 * Producer side. Returns the chunk to decode into next. Only valid when not full.
+	 */
+	byte[] getWriteChunk() {
+		return chunks[writeIndex % chunks.length];
+	}
+
+	/**
+	 * Producer side. Publishes the write chunk to the consumer.
+	 * @param length The number of bytes decoded into the chunk
+	 * @param loopStart True if the chunk is the first chunk after the stream looped
+	 */
+	void commit(int length, boolean loopStart) {
+		final int index = writeIndex % chunks.length;
+		lengths[index] = length;
+		loopStarts[index] = loopStart;
+		writeIndex++;
+	}
+
+	/**
+	 * Consumer side. Returns the oldest unconsumed chunk. Only valid when not empty.
+	 */
+	byte[] getReadChunk() {
+		return chunks[readIndex % chunks.length];
+	}
+
+	int getReadLength() {
+		return getLength(0);
+	}
+
+	boolean isReadLoopStart() {
+		return isLoopStart(0);
+	}
+
+	/**
+	 * Consumer side. Returns the length of an unconsumed chunk
+	 * @param offset The offset from the oldest unconsumed chunk
+	 */
+	int getLength(int offset) {
+		return lengths[(readIndex + offset) % chunks.length];
+	}
+
+	boolean isLoopStart(int offset) {
+		return loopStarts[(readIndex + offset) % chunks.length];
+	}
+
+	/**
+	 * Consumer side. Releases the oldest unconsumed chunk back to the producer.
+	 */
+	void advance() {
+		readIndex++;
+	}
+
+	/**
+	 * Discards all chunks. Must only be called while the producer is not decoding.
+	 */
+	void clear() {
+		readIndex = 0;
+		writeIndex = 0;
+		endOfStream = false;
+	}
+}
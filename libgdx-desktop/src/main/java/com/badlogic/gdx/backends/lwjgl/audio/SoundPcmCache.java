@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.lwjgl.audio;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An on-disk cache of decoded sound PCM data keyed by a hash of the source file contents.
+ * A cache hit skips decoding entirely and reads the PCM straight into a direct buffer.
+ *
+ * Entries are written to a temporary file and renamed so that sounds decoded in parallel never observe partial entries.
+ */
+public class SoundPcmCache {
+	private static final int MAGIC = 0x4D445850;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 20;
+	private static final String EXTENSION = ".pcm";
+
+	private final File directory;
+
+	/**
+	 * Constructor
+	 * @param directory The directory to store decoded PCM data in. Created if it does not exist.
+	 */
+	public SoundPcmCache(File directory) {
+		this.directory = directory;
+		if (!directory.exists() && !directory.mkdirs()) {
+			throw new GdxRuntimeException("Unable to create sound cache directory " + directory);
+		}
+	}
+
+	/**
+	 * Computes the cache key for a file
+	 * @param file The encoded sound file
+	 * @return A hex string of the SHA-1 hash of the file contents
+	 */
+	public String getKey(FileHandle file) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new GdxRuntimeException(e);
+		}
+		final byte[] buffer = new byte[8192];
+		InputStream input = null;
+		try {
+			input = file.read();
+			int length;
+			while ((length = input.read(buffer)) > 0) {
+				digest.update(buffer, 0, length);
+			}
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Error reading " + file, e);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+
+		final byte[] hash = digest.digest();
+		final StringBuilder result = new StringBuilder(hash.length * 2);
+		for (int i = 0; i < hash.length; i++) {
+			result.append(Character.forDigit((hash[i] >> 4) & 0xf, 16));
+			result.append(Character.forDigit(hash[i] & 0xf, 16));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Loads cached PCM data
+	 * @param key The key returned by {@link #getKey(FileHandle)}
+	 * @return Null if there is no (valid) entry for the key
+	 */
+	public DecodedPcm load(String key) {
+		final File file = new File(directory, key + EXTENSION);
+		if (!file.exists()) {
+			return null;
+		}
+		FileInputStream input = null;
+		try {
+			input = new FileInputStream(file);
+			final FileChannel channel = input.getChannel();
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+			readFully(channel, header);
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+				return null;
+			}
+			final int channels = header.getInt(8);
+			final int sampleRate = header.getInt(12);
+			final int length = header.getInt(16);
+			if (length < 0 || channel.size() != HEADER_SIZE + (long) length) {
+				return null;
+			}
+			final ByteBuffer data = DecodedPcm.allocate(length);
+			readFully(channel, data);
+			((Buffer) data).flip();
+			return new DecodedPcm(data, channels, sampleRate);
+		} catch (IOException e) {
+			return null;
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	/**
+	 * Stores decoded PCM data. Failures are ignored since the cache is only an optimisation.
+	 * @param key The key returned by {@link #getKey(FileHandle)}
+	 * @param pcm The finished PCM data
+	 */
+	public void save(String key, DecodedPcm pcm) {
+		final File file = new File(directory, key + EXTENSION);
+		final File tmpFile = new File(directory, key + "." + Thread.currentThread().getId() + ".tmp");
+		final ByteBuffer data = pcm.getData().duplicate();
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+		header.putInt(MAGIC).putInt(VERSION).putInt(pcm.getChannels()).putInt(pcm.getSampleRate()).putInt(data.remaining());
+		((Buffer) header).flip();
+
+		FileOutputStream output = null;
+		try {
+			output = new FileOutputStream(tmpFile);
+			final FileChannel channel = output.getChannel();
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+			while (data.hasRemaining()) {
+				channel.write(data);
+			}
+		} catch (IOException e) {
+			StreamUtils.closeQuietly(output);
+			tmpFile.delete();
+			return;
+		} finally {
+			StreamUtils.closeQuietly(output);
+		}
+		if (!tmpFile.renameTo(file)) {
+			tmpFile.delete();
+		}
+	}
+
+	public File getDirectory() {
+		return directory;
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new IOException("Unexpected end of file");
+			}
+		}
+	}
+}
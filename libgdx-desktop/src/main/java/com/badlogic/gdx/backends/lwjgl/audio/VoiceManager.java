@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.lwjgl.audio;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.LongArray;
+
+import static org.lwjgl.openal.AL10.*;
+
+/**
+ * Assigns OpenAL sources (voices) to sounds and music.
+ *
+ * Sound ids encode the voice index in their lower bits so that id lookups need no map.
+ * When no voice is free, the voice to steal is chosen deterministically: lowest priority first,
+ * then lowest volume, then the oldest sound. Voices are never stolen by lower priority sounds,
+ * a voice with equal priority is only stolen if it is quieter than the incoming sound,
+ * and music voices are never stolen by sounds.
+ */
+class VoiceManager {
+	static final int VOICE_BITS = 12;
+	static final int VOICE_MASK = (1 << VOICE_BITS) - 1;
+
+	private final int[] sources;
+	private final long[] soundIds;
+	private final Mini2DxOpenALSound[] owners;
+	private final int[] priorities, groups;
+	private final float[] volumes;
+	private final boolean[] music;
+	private final IntIntMap sourceToVoice;
+	private final IntIntMap groupLimits = new IntIntMap();
+	private final LongArray completedSoundIds = new LongArray();
+
+	private long nextSerial = 0;
+	private float minimumVolume = 0f;
+	private int activeVoices, peakActiveVoices;
+	private long totalStolen, totalCulled, totalRejected;
+
+	VoiceManager(IntArray sourceIds) {
+		final int totalVoices = Math.min(sourceIds.size, VOICE_MASK + 1);
+		sources = new int[totalVoices];
+		soundIds = new long[totalVoices];
+		owners = new Mini2DxOpenALSound[totalVoices];
+		priorities = new int[totalVoices];
+		groups = new int[totalVoices];
+		volumes = new float[totalVoices];
+		music = new boolean[totalVoices];
+		sourceToVoice = new IntIntMap(totalVoices);
+		for (int i = 0; i < totalVoices; i++) {
+			sources[i] = sourceIds.get(i);
+			soundIds[i] = -1;
+			sourceToVoice.put(sources[i], i);
+		}
+	}
+
+	/**
+	 * Obtains a voice for music, stealing a sound voice if necessary
+	 * @return The OpenAL source id or -1 if every voice is used by music
+	 */
+	int obtainMusicSource() {
+		int voice = findIdleVoice();
+		if (voice == -1) {
+			voice = findVictim(Integer.MAX_VALUE, Float.POSITIVE_INFINITY, -1);
+			if (voice == -1) return -1;
+			steal(voice);
+		}
+		music[voice] = true;
+		activate(voice);
+		return sources[voice];
+	}
+
+	/**
+	 * Obtains a voice for a sound
+	 * @param sound The sound to play
+	 * @param volume The volume the sound will play at
+	 * @return The sound id or -1 if the sound was culled or no voice could be obtained
+	 */
+	long obtainSoundVoice(Mini2DxOpenALSound sound, float volume) {
+		if (volume < minimumVolume) {
+			totalCulled++;
+			return -1;
+		}
+		final int priority = sound.getPriority();
+		final int group = sound.getGroup();
+
+		int voice = -1;
+		final int groupLimit = groupLimits.get(group, -1);
+		if (groupLimit >= 0 && getGroupInstances(group) >= groupLimit) {
+			voice = groupLimit == 0 ? -1 : findVictim(priority, volume, group);
+		} else {
+			voice = findIdleVoice();
+			if (voice == -1) {
+				voice = findVictim(priority, volume, -1);
+			}
+		}
+		if (voice == -1) {
+			totalRejected++;
+			return -1;
+		}
+		if (soundIds[voice] != -1) {
+			steal(voice);
+		}
+
+		final long soundId = (nextSerial++ << VOICE_BITS) | voice;
+		soundIds[voice] = soundId;
+		owners[voice] = sound;
+		priorities[voice] = priority;
+		groups[voice] = group;
+		volumes[voice] = volume;
+		activate(voice);
+		return soundId;
+	}
+
+	private int findIdleVoice() {
+		for (int i = 0; i < sources.length; i++) {
+			if (soundIds[i] == -1 && !music[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int findVictim(int maxPriority, float volume, int group) {
+		int result = -1;
+		for (int i = 0; i < sources.length; i++) {
+			if (soundIds[i] == -1 || priorities[i] > maxPriority) {
+				continue;
+			}
+			if (priorities[i] == maxPriority && volumes[i] >= volume) {
+				continue;
+			}
+			if (group != -1 && groups[i] != group) {
+				continue;
+			}
+			if (result == -1 || priorities[i] < priorities[result]) {
+				result = i;
+			} else if (priorities[i] == priorities[result]) {
+				if (volumes[i] < volumes[result] || (volumes[i] == volumes[result] && soundIds[i] < soundIds[result])) {
+					result = i;
+				}
+			}
+		}
+		return result;
+	}
+
+	private int getGroupInstances(int group) {
+		int result = 0;
+		for (int i = 0; i < sources.length; i++) {
+			if (soundIds[i] != -1 && groups[i] == group) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	private void steal(int voice) {
+		completedSoundIds.add(soundIds[voice]);
+		release(voice);
+		totalStolen++;
+	}
+
+	private void activate(int voice) {
+		final int sourceId = sources[voice];
+		alSourceStop(sourceId);
+		alSourcei(sourceId, AL_BUFFER, 0);
+		alSourcef(sourceId, AL_GAIN, 1);
+		alSourcef(sourceId, AL_PITCH, 1);
+		alSource3f(sourceId, AL_POSITION, 0, 0, 1f);
+		activeVoices++;
+		peakActiveVoices = Math.max(peakActiveVoices, activeVoices);
+	}
+
+	private void release(int voice) {
+		if (soundIds[voice] == -1 && !music[voice]) {
+			return;
+		}
+		soundIds[voice] = -1;
+		owners[voice] = null;
+		music[voice] = false;
+		activeVoices--;
+	}
+
+	/**
+	 * Releases a music voice
+	 * @param sourceId The OpenAL source id
+	 */
+	void freeSource(int sourceId) {
+		final int voice = sourceToVoice.get(sourceId, -1);
+		if (voice == -1) return;
+		alSourceStop(sourceId);
+		alSourcei(sourceId, AL_BUFFER, 0);
+		release(voice);
+	}
+
+	/**
+	 * Polls the state of each sound voice once and releases voices that have finished playing
+	 * @param result The {@link LongArray} to add the ids of completed sounds to
+	 */
+	void update(LongArray result) {
+		result.addAll(completedSoundIds);
+		completedSoundIds.clear();
+
+		for (int i = 0; i < sources.length; i++) {
+			if (soundIds[i] == -1) {
+				continue;
+			}
+			final int state = alGetSourcei(sources[i], AL_SOURCE_STATE);
+			if (state == AL_PLAYING || state == AL_PAUSED) {
+				continue;
+			}
+			result.add(soundIds[i]);
+			release(i);
+		}
+	}
+
+	/**
+	 * Returns the OpenAL source id for a sound id
+	 * @param soundId The sound id
+	 * @return -1 if the sound is no longer assigned a voice
+	 */
+	int getSourceId(long soundId) {
+		if (soundId < 0) return -1;
+		final int voice = (int) (soundId & VOICE_MASK);
+		if (voice >= sources.length || soundIds[voice] != soundId) return -1;
+		return sources[voice];
+	}
+
+	long getSoundId(int sourceId) {
+		final int voice = sourceToVoice.get(sourceId, -1);
+		if (voice == -1) return -1;
+		return soundIds[voice];
+	}
+
+	void setVolume(long soundId, float volume) {
+		if (getSourceId(soundId) == -1) return;
+		volumes[(int) (soundId & VOICE_MASK)] = volume;
+	}
+
+	/**
+	 * Stops (and releases if requested) every voice playing a sound
+	 * @param sound The sound
+	 * @param release True if the voices should be released and have their buffer detached
+	 * @param result The {@link LongArray} to add the ids of released sounds to
+	 */
+	void stop(Mini2DxOpenALSound sound, boolean release, LongArray result) {
+		for (int i = 0; i < sources.length; i++) {
+			if (owners[i] != sound) continue;
+			alSourceStop(sources[i]);
+			if (!release) continue;
+			alSourcei(sources[i], AL_BUFFER, 0);
+			result.add(soundIds[i]);
+			release(i);
+		}
+	}
+
+	void pause(Mini2DxOpenALSound sound) {
+		for (int i = 0; i < sources.length; i++) {
+			if (owners[i] == sound) alSourcePause(sources[i]);
+		}
+	}
+
+	void resume(Mini2DxOpenALSound sound) {
+		for (int i = 0; i < sources.length; i++) {
+			if (owners[i] != sound) continue;
+			if (alGetSourcei(sources[i], AL_SOURCE_STATE) == AL_PAUSED) alSourcePlay(sources[i]);
+		}
+	}
+
+	void setGroupLimit(int group, int maxInstances) {
+		if (maxInstances < 0) {
+			groupLimits.remove(group, -1);
+		} else {
+			groupLimits.put(group, maxInstances);
+		}
+	}
+
+	int getGroupLimit(int group) {
+		return groupLimits.get(group, -1);
+	}
+
+	float getMinimumVolume() {
+		return minimumVolume;
+	}
+
+	void setMinimumVolume(float minimumVolume) {
+		this.minimumVolume = minimumVolume;
+	}
+
+	int getTotalVoices() {
+		return sources.length;
+	}
+
+	int getActiveVoices() {
+		return activeVoices;
+	}
+
+	int getPeakActiveVoices() {
+		return peakActiveVoices;
+	}
+
+	long getTotalStolen() {
+		return totalStolen;
+	}
+
+	long getTotalCulled() {
+		return totalCulled;
+	}
+
+	long getTotalRejected() {
+		return totalRejected;
+	}
+
+	void resetStatistics() {
+		peakActiveVoices = activeVoices;
+		totalStolen = 0;
+		totalCulled = 0;
+		totalRejected = 0;
+	}
+}
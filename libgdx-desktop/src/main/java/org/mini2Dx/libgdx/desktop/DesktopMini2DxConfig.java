@@ -17,6 +17,7 @@ package org.mini2Dx.libgdx.desktop;
 
 import com.badlogic.gdx.LifecycleListener;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl.audio.Mini2DxOpenALAudio;
 
 /**
  * Extends {@link LwjglApplicationConfiguration} to include mini2Dx options and defaults
@@ -40,6 +41,44 @@ public class DesktopMini2DxConfig extends LwjglApplicationConfiguration {
 	 * To stop rendering when not the foreground window, use backgroundFPS -1.
 	 */
 	public boolean pauseWhenBackground = false;
+	/**
+	 * The size in bytes of each buffer used to stream music
+	 */
+	public int musicBufferSize = Mini2DxOpenALAudio.DEFAULT_MUSIC_BUFFER_SIZE;
+	/**
+	 * The number of OpenAL buffers queued per playing music track
+	 */
+	public int musicBufferCount = Mini2DxOpenALAudio.DEFAULT_MUSIC_BUFFER_COUNT;
+	/**
+	 * The number of decoded buffers the music streaming thread holds ahead of playback per music track
+	 */
+	public int musicStreamBufferCount = Mini2DxOpenALAudio.DEFAULT_MUSIC_STREAM_BUFFER_COUNT;
+	/**
+	 * The directory to cache decoded sound data in so that sounds are only decoded on first launch.
+	 * Set to null (default) to always decode sounds.
+	 */
+	public String soundCacheDirectory = null;
+	/**
+	 * The capacity of the {@link org.mini2Dx.core.input.InputEventBuffer} that queues input events
+	 * until the start of the next update. Set to 0 (default) to dispatch input events immediately.
+	 */
+	public int inputEventBufferSize = 0;
+	/**
+	 * The path to record input and updates to with an {@link org.mini2Dx.core.input.InputRecorder}.
+	 * Set to null (default) to disable recording.
+	 */
+	public String inputRecordFile = null;
+	/**
+	 * The path of an {@link org.mini2Dx.core.input.InputRecorder} recording to replay. Each frame replays one
+	 * recorded update without waiting for real time and the game exits when the recording ends.
+	 * Set to null (default) to disable replay.
+	 */
+	public String inputReplayFile = null;
+	/**
+	 * The path to write the time taken by each replayed frame to as CSV when the replay ends.
+	 * Set to null (default) to only log a summary.
+	 */
+	public String inputReplayTimingsFile = null;
 	
 	public DesktopMini2DxConfig(String gameIdentifier) {
 		this.gameIdentifier = gameIdentifier;
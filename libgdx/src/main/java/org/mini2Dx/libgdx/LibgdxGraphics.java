@@ -51,6 +51,7 @@ public class LibgdxGraphics implements Graphics {
 
 	private LibgdxColor color, backgroundColor;
 	private LibgdxColor tint, defaultTint;
+	private final float [] regionVertices = new float[SpriteVertices.SIZE];
 	private OrthographicCamera camera;
 	private GameFont font;
 	private LibgdxShader defaultShader, currentShader;
@@ -134,6 +135,28 @@ public class LibgdxGraphics implements Graphics {
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
 	}
 
+	@Override
+	public void clearContext(Color color) {
+		Gdx.gl.glClearColor(color.rf(), color.gf(), color.bf(), color.af());
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+		Gdx.gl.glClearColor(backgroundColor.rf(), backgroundColor.gf(), backgroundColor.bf(), 1f);
+	}
+
+	/**
+	 * Sets the size of the render target that the projection is fitted to. Called by
+	 * {@link org.mini2Dx.libgdx.graphics.LibgdxFrameBuffer} so that frame buffers are
+	 * rendered to at a 1:1 pixel scale regardless of the window size.
+	 * @param width The width in pixels
+	 * @param height The height in pixels
+	 */
+	public void setRenderTargetSize(int width, int height) {
+		if (rendering) {
+			endRendering();
+		}
+		windowWidth = width;
+		windowHeight = height;
+	}
+
 	/**
 	 * This method allows for translation, scaling, etc. to be set before the
 	 * {@link SpriteBatch} begins
@@ -462,8 +485,25 @@ public class LibgdxGraphics implements Graphics {
 	public void drawTextureRegion(TextureRegion textureRegion, float x, float y, float width, float height,
 	                              float rotation) {
 		beginRendering();
-		final LibgdxTextureRegion gdxTextureRegion = (LibgdxTextureRegion) textureRegion;
-		spriteBatch.draw(gdxTextureRegion.textureRegion, x, y, 0f, 0f, width, height, 1f, 1f, rotation);
+		spriteBatch.draw(toGdxTextureRegion(textureRegion), x, y, 0f, 0f, width, height, 1f, 1f, rotation);
+	}
+
+	@Override
+	public void drawTextureRegion(TextureRegion textureRegion, float x, float y, float width, float height,
+	                              float originX, float originY, float rotation, boolean flipX, boolean flipY, Color tint) {
+		beginRendering();
+		final com.badlogic.gdx.graphics.g2d.TextureRegion gdxTextureRegion = toGdxTextureRegion(textureRegion);
+		final float packedColor = tint == null ? spriteBatch.getPackedColor() : ((LibgdxColor) tint).color.toFloatBits();
+		SpriteVertices.compute(regionVertices, 0, gdxTextureRegion, x, y, width, height, originX, originY, rotation,
+				flipX, flipY, packedColor);
+		spriteBatch.draw(gdxTextureRegion.getTexture(), regionVertices, 0, SpriteVertices.SIZE);
+	}
+
+	private static com.badlogic.gdx.graphics.g2d.TextureRegion toGdxTextureRegion(TextureRegion textureRegion) {
+		if (textureRegion instanceof LibgdxSprite) {
+			return ((LibgdxSprite) textureRegion).sprite;
+		}
+		return ((LibgdxTextureRegion) textureRegion).textureRegion;
 	}
 
 	@Override
@@ -620,81 +660,42 @@ public class LibgdxGraphics implements Graphics {
 
 	@Override
 	public void setBlendFunction(Mini2DxBlendFunction srcFunc, Mini2DxBlendFunction dstFunc) {
-		final int srcF, dstF;
+		spriteBatch.setBlendFunction(toGlBlendFunction(srcFunc), toGlBlendFunction(dstFunc));
+	}
 
-		switch(srcFunc) {
-		default:
-		case ZERO:
-			srcF = GL20.GL_ZERO;
-			break;
-		case ONE:
-			srcF = GL20.GL_ONE;
-			break;
-		case SRC_COLOR:
-			srcF = GL20.GL_SRC_COLOR;
-			break;
-		case ONE_MINUS_SRC_COLOR:
-			srcF = GL20.GL_ONE_MINUS_SRC_COLOR;
-			break;
-		case DST_COLOR:
-			srcF = GL20.GL_DST_COLOR;
-			break;
-		case ONE_MINUS_DST_COLOR:
-			srcF = GL20.GL_ONE_MINUS_DST_COLOR;
-			break;
-		case SRC_ALPHA:
-			srcF = GL20.GL_SRC_ALPHA;
-			break;
-		case ONE_MINUS_SRC_ALPHA:
-			srcF = GL20.GL_ONE_MINUS_SRC_ALPHA;
-			break;
-		case DST_ALPHA:
-			srcF = GL20.GL_DST_ALPHA;
-			break;
-		case ONE_MINUS_DST_ALPHA:
-			srcF = GL20.GL_ONE_MINUS_DST_ALPHA;
-			break;
-		case SRC_ALPHA_SATURATE:
-			srcF = GL20.GL_SRC_ALPHA_SATURATE;
-			break;
-		}
-		switch(dstFunc) {
+	@Override
+	public void setBlendFunction(Mini2DxBlendFunction srcColorFunc, Mini2DxBlendFunction dstColorFunc,
+	                             Mini2DxBlendFunction srcAlphaFunc, Mini2DxBlendFunction dstAlphaFunc) {
+		spriteBatch.setBlendFunctionSeparate(toGlBlendFunction(srcColorFunc), toGlBlendFunction(dstColorFunc),
+				toGlBlendFunction(srcAlphaFunc), toGlBlendFunction(dstAlphaFunc));
+	}
+
+	private static int toGlBlendFunction(Mini2DxBlendFunction function) {
+		switch(function) {
 		default:
 		case ZERO:
-			dstF = GL20.GL_ZERO;
-			break;
+			return GL20.GL_ZERO;
 		case ONE:
-			dstF = GL20.GL_ONE;
-			break;
+			return GL20.GL_ONE;
 		case SRC_COLOR:
-			dstF = GL20.GL_SRC_COLOR;
-			break;
+			return GL20.GL_SRC_COLOR;
 		case ONE_MINUS_SRC_COLOR:
-			dstF = GL20.GL_ONE_MINUS_SRC_COLOR;
-			break;
+			return GL20.GL_ONE_MINUS_SRC_COLOR;
 		case DST_COLOR:
-			dstF = GL20.GL_DST_COLOR;
-			break;
+			return GL20.GL_DST_COLOR;
 		case ONE_MINUS_DST_COLOR:
-			dstF = GL20.GL_ONE_MINUS_DST_COLOR;
-			break;
+			return GL20.GL_ONE_MINUS_DST_COLOR;
 		case SRC_ALPHA:
-			dstF = GL20.GL_SRC_ALPHA;
-			break;
+			return GL20.GL_SRC_ALPHA;
 		case ONE_MINUS_SRC_ALPHA:
-			dstF = GL20.GL_ONE_MINUS_SRC_ALPHA;
-			break;
+			return GL20.GL_ONE_MINUS_SRC_ALPHA;
 		case DST_ALPHA:
-			dstF = GL20.GL_DST_ALPHA;
-			break;
+			return GL20.GL_DST_ALPHA;
 		case ONE_MINUS_DST_ALPHA:
-			dstF = GL20.GL_ONE_MINUS_DST_ALPHA;
-			break;
+			return GL20.GL_ONE_MINUS_DST_ALPHA;
 		case SRC_ALPHA_SATURATE:
-			dstF = GL20.GL_SRC_ALPHA_SATURATE;
-			break;
+			return GL20.GL_SRC_ALPHA_SATURATE;
 		}
-		spriteBatch.setBlendFunction(srcF, dstF);
 	}
 
 	@Override
@@ -21,6 +21,7 @@ import com.badlogic.gdx.controllers.Controller;
 import com.badlogic.gdx.controllers.Controllers;
 import org.mini2Dx.core.Input;
 import org.mini2Dx.core.input.GamePad;
+import org.mini2Dx.core.input.InputEventBuffer;
 import org.mini2Dx.core.input.nswitch.SwitchDualJoyConGamePad;
 import org.mini2Dx.core.input.nswitch.SwitchJoyConLGamePad;
 import org.mini2Dx.core.input.nswitch.SwitchJoyConRGamePad;
@@ -39,6 +40,8 @@ public class LibgdxInput implements Input {
 	private final ObjectMap<String, LibgdxGamePad> gamePadsById = new ObjectMap<String, LibgdxGamePad>();
 
 	private LibgdxInputProcessor gdxInputProcessor = null;
+	private InputProcessor inputProcessor = null;
+	private InputEventBuffer inputEventBuffer = null;
 
 	public void updateGamePads() {
 		final boolean firstRun = gamePads.size == 0;
@@ -78,20 +81,51 @@ public class LibgdxInput implements Input {
 				gamePads.add(gamePad);
 				gamePadsById.put(gamePad.getInstanceId(), gamePad);
 				gamePad.init();
+				gamePad.setInputEventBuffer(inputEventBuffer);
 			}
 		}
 	}
 
 	@Override
 	public void setInputProcessor(InputProcessor inputProcessor) {
+		this.inputProcessor = inputProcessor;
+		if(inputEventBuffer != null) {
+			inputEventBuffer.setInputProcessor(inputProcessor);
+		}
 		if(gdxInputProcessor == null) {
 			gdxInputProcessor = new LibgdxInputProcessor(inputProcessor);
+			gdxInputProcessor.setInputEventBuffer(inputEventBuffer);
 			Gdx.input.setInputProcessor(gdxInputProcessor);
 		} else {
 			gdxInputProcessor.setInputProcessor(inputProcessor);
 		}
 	}
 
+	@Override
+	public InputEventBuffer getInputEventBuffer() {
+		return inputEventBuffer;
+	}
+
+	@Override
+	public void setInputEventBuffer(InputEventBuffer inputEventBuffer) {
+		this.inputEventBuffer = inputEventBuffer;
+		if(inputEventBuffer != null) {
+			inputEventBuffer.setInputProcessor(inputProcessor);
+		}
+		if(gdxInputProcessor == null) {
+			gdxInputProcessor = new LibgdxInputProcessor(inputProcessor);
+			Gdx.input.setInputProcessor(gdxInputProcessor);
+		}
+		gdxInputProcessor.setInputEventBuffer(inputEventBuffer);
+
+		for(int i = 0; i < gamePads.size; i++) {
+			final GamePad gamePad = gamePads.get(i);
+			if(gamePad instanceof LibgdxGamePad) {
+				((LibgdxGamePad) gamePad).setInputEventBuffer(inputEventBuffer);
+			}
+		}
+	}
+
 	@Override
 	public void setOnScreenKeyboardVisible(boolean visible) {
 		Gdx.input.setOnscreenKeyboardVisible(visible);
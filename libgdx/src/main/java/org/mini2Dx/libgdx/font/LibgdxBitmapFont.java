@@ -18,6 +18,7 @@ package org.mini2Dx.libgdx.font;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.utils.Align;
 import org.mini2Dx.core.Graphics;
+import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.assets.AssetManager;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.font.FontGlyphLayout;
@@ -139,6 +140,9 @@ public class LibgdxBitmapFont implements GameFont {
 	@Override
 	public void dispose() {
 		bitmapFont.dispose();
+		if(Mdx.fonts != null) {
+			Mdx.fonts.getTextLayoutCache().invalidate(this);
+		}
 	}
 
 	private static com.badlogic.gdx.utils.Array<com.badlogic.gdx.graphics.g2d.TextureRegion> convert(Array<TextureRegion> pageRegions) {
@@ -16,13 +16,18 @@
 package org.mini2Dx.libgdx.graphics;
 
 import com.badlogic.gdx.graphics.Pixmap;
+import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.graphics.FrameBuffer;
 import org.mini2Dx.core.graphics.Texture;
+import org.mini2Dx.libgdx.LibgdxGraphics;
 
 public class LibgdxFrameBuffer implements FrameBuffer {
 	public final com.badlogic.gdx.graphics.glutils.FrameBuffer frameBuffer;
 	public LibgdxTexture texture = null;
 
+	private LibgdxGraphics graphics;
+	private int previousWidth, previousHeight;
+
 	public LibgdxFrameBuffer(int width, int height) {
 		this.frameBuffer = new com.badlogic.gdx.graphics.glutils.FrameBuffer(
 				Pixmap.Format.RGBA8888, width, height, true);
@@ -30,11 +35,21 @@ public class LibgdxFrameBuffer implements FrameBuffer {
 
 	@Override
 	public void begin() {
+		if (Mdx.graphicsContext instanceof LibgdxGraphics) {
+			graphics = (LibgdxGraphics) Mdx.graphicsContext;
+			previousWidth = graphics.getWindowWidth();
+			previousHeight = graphics.getWindowHeight();
+			graphics.setRenderTargetSize(getWidth(), getHeight());
+		}
 		frameBuffer.begin();
 	}
 
 	@Override
 	public void end() {
+		if (graphics != null) {
+			graphics.setRenderTargetSize(previousWidth, previousHeight);
+			graphics = null;
+		}
 		frameBuffer.end();
 	}
 
@@ -15,11 +15,20 @@
  ******************************************************************************/
 package org.mini2Dx.libgdx.graphics;
 
+import org.mini2Dx.core.exception.MdxException;
 import org.mini2Dx.core.graphics.*;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
 public class LibgdxPixmap implements Pixmap {
 	public final com.badlogic.gdx.graphics.Pixmap pixmap;
 
+	private ByteBuffer pixelBuffer;
+	private IntBuffer intPixelBuffer;
+
 	public LibgdxPixmap(com.badlogic.gdx.graphics.Pixmap pixmap) {
 		this.pixmap = pixmap;
 	}
@@ -94,7 +103,32 @@ public class LibgdxPixmap implements Pixmap {
 
 	@Override
 	public byte[] getPixels() {
-		return null;
+		final ByteBuffer buffer = getPixelBuffer();
+		final byte[] result = new byte[buffer.remaining()];
+		buffer.get(result);
+		((Buffer) buffer).clear();
+		return result;
+	}
+
+	@Override
+	public ByteBuffer getPixelBuffer() {
+		if(pixelBuffer == null) {
+			pixelBuffer = pixmap.getPixels().duplicate();
+		}
+		((Buffer) pixelBuffer).clear();
+		return pixelBuffer;
+	}
+
+	@Override
+	public IntBuffer getIntPixelBuffer() {
+		if(pixmap.getFormat() != com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888) {
+			throw new MdxException("Int pixel buffers are only supported for RGBA8888 pixmaps");
+		}
+		if(intPixelBuffer == null) {
+			intPixelBuffer = pixmap.getPixels().duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+		}
+		((Buffer) intPixelBuffer).clear();
+		return intPixelBuffer;
 	}
 
 	@Override
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.graphics;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Computes the {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} vertices of a transformed {@link TextureRegion}
+ * directly, so that flipped or rotated regions can be drawn without modifying a shared
+ * {@link com.badlogic.gdx.graphics.g2d.Sprite}
+ */
+public final class SpriteVertices {
+	/**
+	 * The number of floats written per region (4 vertices of position, packed color and texture coordinates)
+	 */
+	public static final int SIZE = 20;
+
+	private SpriteVertices() {}
+
+	/**
+	 * Writes the vertices of a transformed region. Matches the vertices produced by
+	 * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch#draw(TextureRegion, float, float, float, float, float, float, float, float, float)}
+	 * @param vertices The array to write {@link #SIZE} floats to
+	 * @param offset The index to start writing at
+	 * @param region The {@link TextureRegion} to draw
+	 * @param x The x coordinate to draw at
+	 * @param y The y coordinate to draw at
+	 * @param width The width to draw
+	 * @param height The height to draw
+	 * @param originX The x coordinate to rotate around (relative to x)
+	 * @param originY The y coordinate to rotate around (relative to y)
+	 * @param rotation The rotation in degrees
+	 * @param flipX True to mirror the region's texture coordinates horizontally
+	 * @param flipY True to mirror the region's texture coordinates vertically
+	 * @param packedColor The packed color to tint with
+	 */
+	public static void compute(float [] vertices, int offset, TextureRegion region, float x, float y,
+	                           float width, float height, float originX, float originY, float rotation,
+	                           boolean flipX, boolean flipY, float packedColor) {
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		final float fx = -originX;
+		final float fy = -originY;
+		final float fx2 = width - originX;
+		final float fy2 = height - originY;
+
+		final float x1, y1, x2, y2, x3, y3, x4, y4;
+		if (rotation != 0f) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * fx - sin * fy;
+			y1 = sin * fx + cos * fy;
+			x2 = cos * fx - sin * fy2;
+			y2 = sin * fx + cos * fy2;
+			x3 = cos * fx2 - sin * fy2;
+			y3 = sin * fx2 + cos * fy2;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = fx;
+			y1 = fy;
+			x2 = fx;
+			y2 = fy2;
+			x3 = fx2;
+			y3 = fy2;
+			x4 = fx2;
+			y4 = fy;
+		}
+
+		final float u = flipX ? region.getU2() : region.getU();
+		final float u2 = flipX ? region.getU() : region.getU2();
+		final float v = flipY ? region.getV() : region.getV2();
+		final float v2 = flipY ? region.getV2() : region.getV();
+
+		int i = offset;
+		vertices[i++] = x1 + worldOriginX;
+		vertices[i++] = y1 + worldOriginY;
+		vertices[i++] = packedColor;
+		vertices[i++] = u;
+		vertices[i++] = v;
+
+		vertices[i++] = x2 + worldOriginX;
+		vertices[i++] = y2 + worldOriginY;
+		vertices[i++] = packedColor;
+		vertices[i++] = u;
+		vertices[i++] = v2;
+
+		vertices[i++] = x3 + worldOriginX;
+		vertices[i++] = y3 + worldOriginY;
+		vertices[i++] = packedColor;
+		vertices[i++] = u2;
+		vertices[i++] = v2;
+
+		vertices[i++] = x4 + worldOriginX;
+		vertices[i++] = y4 + worldOriginY;
+		vertices[i++] = packedColor;
+		vertices[i++] = u2;
+		vertices[i] = v;
+	}
+}
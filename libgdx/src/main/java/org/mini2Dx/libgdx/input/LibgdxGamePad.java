@@ -19,9 +19,11 @@ import com.badlogic.gdx.controllers.Controller;
 import com.badlogic.gdx.controllers.ControllerListener;
 import com.badlogic.gdx.controllers.PovDirection;
 import com.badlogic.gdx.math.Vector3;
+import org.mini2Dx.core.input.BaseGamePadListener;
 import org.mini2Dx.core.input.GamePad;
 import org.mini2Dx.core.input.GamePadListener;
 import org.mini2Dx.core.input.GamePadType;
+import org.mini2Dx.core.input.InputEventBuffer;
 import org.mini2Dx.core.input.PovState;
 import org.mini2Dx.core.input.ps4.PS4GamePad;
 import org.mini2Dx.core.input.xbox360.Xbox360GamePad;
@@ -40,6 +42,41 @@ public class LibgdxGamePad implements GamePad, ControllerListener {
 	private final IntMap<PovState> povs = new IntMap<PovState>();
 	private final IntMap<org.mini2Dx.gdx.math.Vector3> accelerometers = new IntMap<org.mini2Dx.gdx.math.Vector3>();
 
+	private final GamePadListener bufferedEventTarget = new BaseGamePadListener() {
+		@Override
+		public void onConnect(GamePad gamePad) {
+			applyConnected();
+		}
+
+		@Override
+		public void onDisconnect(GamePad gamePad) {
+			applyDisconnected();
+		}
+
+		@Override
+		public void onButtonDown(GamePad gamePad, int buttonCode) {
+			applyButtonDown(buttonCode);
+		}
+
+		@Override
+		public void onButtonUp(GamePad gamePad, int buttonCode) {
+			applyButtonUp(buttonCode);
+		}
+
+		@Override
+		public void onPovChanged(GamePad gamePad, int povCode, PovState povState) {
+			applyPovChanged(povCode, povState);
+		}
+
+		@Override
+		public void onAxisChanged(GamePad gamePad, int axisCode, float axisValue) {
+			applyAxisChanged(axisCode, axisValue);
+		}
+	};
+
+	private InputEventBuffer inputEventBuffer;
+	private int inputEventSource = -1;
+
 	protected GamePadType gamePadType = null;
 	protected boolean connected = true;
 
@@ -53,70 +90,127 @@ public class LibgdxGamePad implements GamePad, ControllerListener {
 
 	@Override
 	public void connected(Controller controller) {
-		connected = true;
-		notifyConnected();
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushGamePadConnected(inputEventSource);
+			return;
+		}
+		applyConnected();
 	}
 
 	@Override
 	public void disconnected(Controller controller) {
-		connected = false;
-		notifyDisconnected();
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushGamePadDisconnected(inputEventSource);
+			return;
+		}
+		applyDisconnected();
 	}
 
 	@Override
 	public boolean buttonDown(Controller controller, int buttonCode) {
-		downButtons.add(buttonCode);
-		notifyButtonDown(buttonCode);
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushButtonDown(inputEventSource, buttonCode);
+			return true;
+		}
+		applyButtonDown(buttonCode);
 		return true;
 	}
 
 	@Override
 	public boolean buttonUp(Controller controller, int buttonCode) {
-		downButtons.remove(buttonCode);
-		notifyButtonUp(buttonCode);
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushButtonUp(inputEventSource, buttonCode);
+			return true;
+		}
+		applyButtonUp(buttonCode);
 		return true;
 	}
 
 	@Override
 	public boolean axisMoved(Controller controller, int axisCode, float value) {
-		axes.put(axisCode, value);
-		notifyAxisChanged(axisCode, value);
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushAxisChanged(inputEventSource, axisCode, value);
+			return true;
+		}
+		applyAxisChanged(axisCode, value);
 		return true;
 	}
 
 	@Override
 	public boolean povMoved(Controller controller, int povCode, PovDirection value) {
+		final PovState povState = toPovState(value);
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushPovChanged(inputEventSource, povCode, povState);
+			return true;
+		}
+		applyPovChanged(povCode, povState);
+		return true;
+	}
+
+	private static PovState toPovState(PovDirection value) {
 		switch(value) {
-		case center:
-			povs.put(povCode, PovState.CENTER);
-			break;
 		case north:
-			povs.put(povCode, PovState.NORTH);
-			break;
+			return PovState.NORTH;
 		case south:
-			povs.put(povCode, PovState.SOUTH);
-			break;
+			return PovState.SOUTH;
 		case east:
-			povs.put(povCode, PovState.EAST);
-			break;
+			return PovState.EAST;
 		case west:
-			povs.put(povCode, PovState.WEST);
-			break;
+			return PovState.WEST;
 		case northEast:
-			povs.put(povCode, PovState.NORTH_EAST);
-			break;
+			return PovState.NORTH_EAST;
 		case southEast:
-			povs.put(povCode, PovState.SOUTH_EAST);
-			break;
+			return PovState.SOUTH_EAST;
 		case northWest:
-			povs.put(povCode, PovState.NORTH_WEST);
-			break;
+			return PovState.NORTH_WEST;
 		case southWest:
-			povs.put(povCode, PovState.SOUTH_WEST);
-			break;
+			return PovState.SOUTH_WEST;
+		default:
+		case center:
+			return PovState.CENTER;
 		}
-		notifyPovChanged(povCode, povs.get(povCode, PovState.CENTER));
-		return true;
+	}
+
+	private void applyConnected() {
+		connected = true;
+		notifyConnected();
+	}
+
+	private void applyDisconnected() {
+		connected = false;
+		notifyDisconnected();
+	}
+
+	private void applyButtonDown(int buttonCode) {
+		downButtons.add(buttonCode);
+		notifyButtonDown(buttonCode);
+	}
+
+	private void applyButtonUp(int buttonCode) {
+		downButtons.remove(buttonCode);
+		notifyButtonUp(buttonCode);
+	}
+
+	private void applyAxisChanged(int axisCode, float value) {
+		axes.put(axisCode, value);
+		notifyAxisChanged(axisCode, value);
+	}
+
+	private void applyPovChanged(int povCode, PovState povState) {
+		povs.put(povCode, povState);
+		notifyPovChanged(povCode, povState);
+	}
+
+	/**
+	 * Sets the {@link InputEventBuffer} to queue this {@link GamePad}'s events in. While set, button, axis
+	 * and POV state is only updated when the events are drained from the buffer.
+	 * @param inputEventBuffer Null to apply and notify events immediately
+	 */
+	public void setInputEventBuffer(InputEventBuffer inputEventBuffer) {
+		if(inputEventBuffer != null) {
+			inputEventSource = inputEventBuffer.registerGamePad(this, bufferedEventTarget);
+		}
+		this.inputEventBuffer = inputEventBuffer;
 	}
 
 	@Override
@@ -15,10 +15,12 @@
  ******************************************************************************/
 package org.mini2Dx.libgdx.input;
 
+import org.mini2Dx.core.input.InputEventBuffer;
 import org.mini2Dx.gdx.InputProcessor;
 
 public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 	private InputProcessor inputProcessor;
+	private InputEventBuffer inputEventBuffer;
 
 	public LibgdxInputProcessor(InputProcessor inputProcessor) {
 		this.inputProcessor = inputProcessor;
@@ -26,6 +28,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean keyDown(int keycode) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushKeyDown(keycode);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -34,6 +40,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean keyUp(int keycode) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushKeyUp(keycode);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -42,6 +52,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean keyTyped(char character) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushKeyTyped(character);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -50,6 +64,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushTouchDown(screenX, screenY, pointer, button);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -58,6 +76,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushTouchUp(screenX, screenY, pointer, button);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -66,6 +88,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean touchDragged(int screenX, int screenY, int pointer) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushTouchDragged(screenX, screenY, pointer);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -74,6 +100,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean mouseMoved(int screenX, int screenY) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushMouseMoved(screenX, screenY);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -82,6 +112,10 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 
 	@Override
 	public boolean scrolled(int amount) {
+		if(inputEventBuffer != null) {
+			inputEventBuffer.pushScrolled(amount);
+			return true;
+		}
 		if(inputProcessor == null) {
 			return false;
 		}
@@ -91,4 +125,8 @@ public class LibgdxInputProcessor implements com.badlogic.gdx.InputProcessor {
 	public void setInputProcessor(InputProcessor inputProcessor) {
 		this.inputProcessor = inputProcessor;
 	}
+
+	public void setInputEventBuffer(InputEventBuffer inputEventBuffer) {
+		this.inputEventBuffer = inputEventBuffer;
+	}
 }
@@ -0,0 +1,350 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.files;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.jmock.api.Invocation;
+import org.jmock.lib.action.CustomAction;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mini2Dx.core.Logger;
+import org.mini2Dx.core.Mdx;
+import org.mini2Dx.core.PlayerData;
+import org.mini2Dx.core.SaveSlot;
+import org.mini2Dx.core.TaskExecutor;
+import org.mini2Dx.core.exception.PlayerDataException;
+import org.mini2Dx.core.files.FileHandle;
+import org.mini2Dx.core.serialization.GameDataSerializable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Unit tests for {@link SaveSlot}
+ */
+public class SaveSlotTest {
+	private final Mockery mockery = new Mockery();
+
+	private TestPlayerData playerData;
+
+	@Before
+	public void setUp() throws IOException {
+		final Logger logger = mockery.mock(Logger.class);
+		mockery.checking(new Expectations() {
+			{
+				ignoring(logger);
+			}
+		});
+		Mdx.log = logger;
+		playerData = new TestPlayerData(Files.createTempDirectory("mdx-save-slot").toFile());
+	}
+
+	@After
+	public void teardown() throws PlayerDataException {
+		Mdx.executor = null;
+		playerData.wipe();
+	}
+
+	@Test
+	public void testPutAndLoad() throws PlayerDataException {
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.load();
+		Assert.assertTrue(saveSlot.put("player", new TestSaveObject(7, "Player")));
+		Assert.assertTrue(saveSlot.put("npc", new TestSaveObject(3, "NPC")));
+		Assert.assertTrue(saveSlot.flush() > 0);
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		assertObject(result, "player", 7, "Player");
+		assertObject(result, "npc", 3, "NPC");
+	}
+
+	@Test
+	public void testFlushOnlyWritesChangedObjects() throws PlayerDataException {
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.load();
+		saveSlot.put("player", new TestSaveObject(7, "Player"));
+		saveSlot.put("npc", new TestSaveObject(3, "NPC"));
+		final int initialBytes = saveSlot.flush();
+
+		Assert.assertFalse(saveSlot.put("player", new TestSaveObject(7, "Player")));
+		Assert.assertTrue(saveSlot.put("npc", new TestSaveObject(4, "NPC")));
+		final int deltaBytes = saveSlot.flush();
+		Assert.assertTrue(deltaBytes > 0);
+		Assert.assertTrue(deltaBytes < initialBytes);
+		Assert.assertEquals(0, saveSlot.flush());
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		assertObject(result, "player", 7, "Player");
+		assertObject(result, "npc", 4, "NPC");
+	}
+
+	@Test
+	public void testRemove() throws PlayerDataException {
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.load();
+		saveSlot.put("player", new TestSaveObject(7, "Player"));
+		saveSlot.put("npc", new TestSaveObject(3, "NPC"));
+		saveSlot.flush();
+		Assert.assertTrue(saveSlot.remove("npc"));
+		Assert.assertFalse(saveSlot.remove("npc"));
+		saveSlot.flush();
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		Assert.assertTrue(result.contains("player"));
+		Assert.assertFalse(result.contains("npc"));
+	}
+
+	@Test
+	public void testCompaction() throws PlayerDataException {
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.setCompactionThreshold(64);
+		saveSlot.load();
+		for (int i = 0; i < 10; i++) {
+			saveSlot.put("player", new TestSaveObject(i, "Player"));
+			saveSlot.put("npc" + i, new TestSaveObject(i, "NPC"));
+			saveSlot.flush();
+		}
+		Assert.assertFalse(saveSlot.isCompacting());
+		Assert.assertTrue(playerData.hasFile("slot1", "snapshot.dat"));
+		Assert.assertFalse(playerData.hasFile("slot1", "delta-0.log"));
+		Assert.assertTrue(saveSlot.getLogSize() < 64);
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		assertObject(result, "player", 9, "Player");
+		for (int i = 0; i < 10; i++) {
+			assertObject(result, "npc" + i, i, "NPC");
+		}
+	}
+
+	@Test
+	public void testLoadWaitsForBackgroundCompaction() throws Exception {
+		final TaskExecutor executor = mockery.mock(TaskExecutor.class);
+		final Runnable [] compactionTask = new Runnable[1];
+		mockery.checking(new Expectations() {
+			{
+				oneOf(executor).execute(with(any(Runnable.class)));
+				will(new CustomAction("capture compaction") {
+					@Override
+					public Object invoke(Invocation invocation) {
+						compactionTask[0] = (Runnable) invocation.getParameter(0);
+						return null;
+					}
+				});
+			}
+		});
+		Mdx.executor = executor;
+
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.load();
+		saveSlot.put("player", new TestSaveObject(7, "Player"));
+		Assert.assertTrue(saveSlot.compactAsync());
+
+		final Exception [] loadFailure = new Exception[1];
+		final Thread loadThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					saveSlot.load();
+				} catch (Exception e) {
+					loadFailure[0] = e;
+				}
+			}
+		});
+		loadThread.start();
+		loadThread.join(200);
+		Assert.assertTrue(loadThread.isAlive());
+
+		compactionTask[0].run();
+		loadThread.join();
+		Assert.assertNull(loadFailure[0]);
+		Assert.assertFalse(playerData.hasFile("slot1", "delta-0.log"));
+
+		saveSlot.put("npc", new TestSaveObject(3, "NPC"));
+		saveSlot.flush();
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		assertObject(result, "player", 7, "Player");
+		assertObject(result, "npc", 3, "NPC");
+	}
+
+	@Test
+	public void testLoadIgnoresPartiallyWrittenRecord() throws Exception {
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.load();
+		saveSlot.put("player", new TestSaveObject(7, "Player"));
+		saveSlot.flush();
+		saveSlot.put("player", new TestSaveObject(8, "Player"));
+		saveSlot.flush();
+
+		final File logFile = new File(playerData.directory, "slot1" + File.separator + "delta-0.log");
+		final RandomAccessFile randomAccessFile = new RandomAccessFile(logFile, "rw");
+		randomAccessFile.setLength(logFile.length() - 3);
+		randomAccessFile.close();
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		assertObject(result, "player", 7, "Player");
+		Assert.assertTrue(playerData.hasFile("slot1", "snapshot.dat"));
+	}
+
+	@Test
+	public void testLoadIgnoresRecordWithCorruptedId() throws Exception {
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.load();
+		saveSlot.put("player", new TestSaveObject(7, "Player"));
+		saveSlot.flush();
+
+		final File logFile = new File(playerData.directory, "slot1" + File.separator + "delta-0.log");
+		final RandomAccessFile randomAccessFile = new RandomAccessFile(logFile, "rw");
+		randomAccessFile.seek(3);
+		randomAccessFile.writeByte('q');
+		randomAccessFile.close();
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		Assert.assertFalse(result.contains("qlayer"));
+		Assert.assertFalse(result.contains("player"));
+	}
+
+	@Test
+	public void testFlushAfterFailedWrite() throws PlayerDataException {
+		final SaveSlot saveSlot = playerData.openSaveSlot("slot1");
+		saveSlot.load();
+		saveSlot.put("player", new TestSaveObject(7, "Player"));
+		saveSlot.flush();
+
+		saveSlot.put("player", new TestSaveObject(8, "Player"));
+		saveSlot.put("npc", new TestSaveObject(3, "NPC"));
+		playerData.failAfterBytes = 10;
+		try {
+			saveSlot.flush();
+			Assert.fail("Expected PlayerDataException");
+		} catch (PlayerDataException e) {
+		}
+		playerData.failAfterBytes = -1;
+		Assert.assertTrue(saveSlot.flush() > 0);
+
+		final SaveSlot result = playerData.openSaveSlot("slot1");
+		result.load();
+		assertObject(result, "player", 8, "Player");
+		assertObject(result, "npc", 3, "NPC");
+	}
+
+	private void assertObject(SaveSlot saveSlot, String id, int expectedValue, String expectedName) throws PlayerDataException {
+		final TestSaveObject result = new TestSaveObject();
+		Assert.assertTrue(saveSlot.read(id, result));
+		Assert.assertEquals(expectedValue, result.value);
+		Assert.assertEquals(expectedName, result.name);
+	}
+
+	private static class TestSaveObject implements GameDataSerializable {
+		private int value;
+		private String name;
+
+		public TestSaveObject() {}
+
+		public TestSaveObject(int value, String name) {
+			this.value = value;
+			this.name = name;
+		}
+
+		@Override
+		public void writeData(DataOutputStream outputStream) throws IOException {
+			outputStream.writeInt(value);
+			outputStream.writeUTF(name);
+		}
+
+		@Override
+		public void readData(DataInputStream inputStream) throws IOException {
+			value = inputStream.readInt();
+			name = inputStream.readUTF();
+		}
+	}
+
+	private static class TestPlayerData extends PlayerData {
+		private final File directory;
+		private int failAfterBytes = -1;
+
+		public TestPlayerData(File directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		public DataOutputStream appendBytes(String... filepath) throws PlayerDataException {
+			final DataOutputStream result = super.appendBytes(filepath);
+			if (failAfterBytes < 0) {
+				return result;
+			}
+			return new DataOutputStream(new FailingOutputStream(result, failAfterBytes));
+		}
+
+		@Override
+		protected FileHandle resolve(String[] filepath) {
+			return new LibgdxFileHandle(new com.badlogic.gdx.files.FileHandle(Paths.get(directory.getAbsolutePath(), filepath).toFile()));
+		}
+
+		@Override
+		protected FileHandle resolveTmp(String[] filepath) {
+			final String [] tmpFilepath = Arrays.copyOf(filepath, filepath.length);
+			tmpFilepath[tmpFilepath.length - 1] = tmpFilepath[tmpFilepath.length - 1] + ".tmp";
+			return resolve(tmpFilepath);
+		}
+
+		@Override
+		protected void ensureDataDirectoryExists() throws IOException {
+			directory.mkdirs();
+		}
+
+		@Override
+		public void wipe() throws PlayerDataException {
+			new com.badlogic.gdx.files.FileHandle(directory).deleteDirectory();
+		}
+	}
+
+	private static class FailingOutputStream extends FilterOutputStream {
+		private int remainingBytes;
+
+		public FailingOutputStream(OutputStream outputStream, int remainingBytes) {
+			super(outputStream);
+			this.remainingBytes = remainingBytes;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (remainingBytes <= 0) {
+				throw new IOException("Simulated write failure");
+			}
+			remainingBytes--;
+			super.write(b);
+		}
+	}
+}
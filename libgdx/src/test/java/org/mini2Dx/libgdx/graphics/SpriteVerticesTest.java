@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.libgdx.graphics;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import junit.framework.Assert;
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SpriteVertices}
+ */
+public class SpriteVerticesTest {
+	private static final float DELTA = 0.0001f;
+
+	private final float [] vertices = new float[SpriteVertices.SIZE + 5];
+
+	private Mockery mockery;
+	private LibgdxTexture texture;
+
+	@Before
+	public void setUp() {
+		mockery = new Mockery();
+		mockery.setImposteriser(ClassImposteriser.INSTANCE);
+
+		texture = mockery.mock(LibgdxTexture.class);
+		mockery.checking(new Expectations(){
+			{
+				allowing(texture).getWidth();
+				will(returnValue(64));
+				allowing(texture).getHeight();
+				will(returnValue(128));
+			}
+		});
+	}
+
+	@Test
+	public void testMatchesUnmodifiedSprite() {
+		final Sprite sprite = new Sprite(texture, 8, 16, 32, 24);
+		sprite.setPosition(100f, 50f);
+
+		SpriteVertices.compute(vertices, 0, new TextureRegion(texture, 8, 16, 32, 24), 100f, 50f, 32f, 24f,
+				sprite.getOriginX(), sprite.getOriginY(), 0f, false, false, Color.WHITE.toFloatBits());
+		assertVertices(sprite.getVertices(), 0);
+	}
+
+	@Test
+	public void testMatchesRotatedAndFlippedSprite() {
+		final float [] rotations = new float[] { 90f, 270f, 33f };
+		for(int i = 0; i < rotations.length; i++) {
+			for(int flip = 0; flip < 4; flip++) {
+				final boolean flipX = (flip & 1) != 0;
+				final boolean flipY = (flip & 2) != 0;
+
+				final Sprite sprite = new Sprite(texture, 8, 16, 32, 24);
+				sprite.setPosition(-20f, 75f);
+				sprite.setOrigin(4f, 10f);
+				sprite.setRotation(rotations[i]);
+				sprite.setFlip(flipX, flipY);
+				sprite.setColor(Color.RED);
+
+				SpriteVertices.compute(vertices, 5, new TextureRegion(texture, 8, 16, 32, 24), -20f, 75f, 32f, 24f,
+						4f, 10f, rotations[i], flipX, flipY, Color.RED.toFloatBits());
+				assertVertices(sprite.getVertices(), 5);
+			}
+		}
+	}
+
+	private void assertVertices(float [] expected, int offset) {
+		for(int i = 0; i < SpriteVertices.SIZE; i++) {
+			Assert.assertEquals("Vertex component " + i, expected[i], vertices[offset + i], DELTA);
+		}
+	}
+}
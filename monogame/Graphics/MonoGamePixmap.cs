@@ -14,6 +14,8 @@
  * limitations under the License.
  ******************************************************************************/
 using System;
+using java.nio;
+using org.mini2Dx.core.exception;
 using org.mini2Dx.core.graphics;
 
 namespace monogame.Graphics
@@ -442,6 +444,32 @@ namespace monogame.Graphics
             return bytes;
         }
 
+        //Pixels are stored in a managed 2D array so no view of them can be exposed without copying.
+        //The buffer is a read-only copy; writes must go through the draw methods to be reflected in this Pixmap.
+        public ByteBuffer getPixelBuffer()
+        {
+            return ByteBuffer.wrap(getPixels()).asReadOnlyBuffer();
+        }
+
+        //See getPixelBuffer()
+        public IntBuffer getIntPixelBuffer()
+        {
+            if (_format != PixmapFormat.RGBA8888)
+            {
+                throw new MdxException("Int pixel buffers are only supported for RGBA8888 pixmaps");
+            }
+
+            var pixels = new int[getWidth() * getHeight()];
+            for (var y = 0; y < getHeight(); y++)
+            {
+                for (var x = 0; x < getWidth(); x++)
+                {
+                    pixels[y * getWidth() + x] = (int) _pixmap[x, y];
+                }
+            }
+            return IntBuffer.wrap(pixels).asReadOnlyBuffer();
+        }
+
         public static int getBytesPerPixel(PixmapFormat format)
         {
             var bytesPerPixel = 2;
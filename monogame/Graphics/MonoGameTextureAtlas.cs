@@ -20,14 +20,16 @@ using monogame.Files;
 using org.mini2Dx.core;
 using org.mini2Dx.core.files;
 using org.mini2Dx.core.graphics;
+using org.mini2Dx.core.util;
 using Array = org.mini2Dx.gdx.utils.Array;
 
 namespace monogame.Graphics
 {
     public class MonoGameTextureAtlas : org.mini2Dx.core.graphics.TextureAtlas
     {
-        Array _atlasImages = new Array(); 
-        
+        ReadOnlyArray _atlasImages = new ReadOnlyArray();
+        readonly TextureAtlasRegionIndex _regionIndex;
+
         public MonoGameTextureAtlas(FileHandle atlasFile, FileHandle imagesDir, bool flip)
         {
             var lines = ((MonoGameFileHandle) atlasFile).readAllLines();
@@ -62,6 +64,8 @@ namespace monogame.Graphics
 
                 i++;
             }
+            _atlasImages.seal();
+            _regionIndex = new TextureAtlasRegionIndex(_atlasImages);
         }
 
         private void readTuple(string s, out int int1, out int int2)
@@ -73,7 +77,7 @@ namespace monogame.Graphics
         
         public void dispose()
         {
-            _atlasImages.clear();
+            _regionIndex.clear();
         }
 
         public Array getRegions()
@@ -83,47 +87,17 @@ namespace monogame.Graphics
 
         public TextureAtlasRegion findRegion(string str)
         {
-            for(int i = 0; i < _atlasImages.size; i++)
-            {
-                TextureAtlasRegion textureAtlasRegion = _atlasImages.get(i) as TextureAtlasRegion;
-                if (textureAtlasRegion.getName().Equals(str))
-                {
-                    return textureAtlasRegion;
-                }
-            }
-            return null;
+            return _regionIndex.findRegion(str);
         }
 
         public TextureAtlasRegion findRegion(string str, int index)
         {
-            for (int i = 0; i < _atlasImages.size; i++)
-            {
-                TextureAtlasRegion textureAtlasRegion = _atlasImages.get(i) as TextureAtlasRegion;
-                if (!textureAtlasRegion.getName().Equals(str))
-                {
-                    continue;
-                }
-                if (textureAtlasRegion.getIndex() != index)
-                {
-                    continue;
-                }
-                return textureAtlasRegion;
-            }
-            return null;
+            return _regionIndex.findRegion(str, index);
         }
 
         public Array findRegions(string str)
         {
-            Array result = new Array();
-            for (int i = 0; i < _atlasImages.size; i++)
-            {
-                TextureAtlasRegion textureAtlasRegion = _atlasImages.get(i) as TextureAtlasRegion;
-                if (textureAtlasRegion.getName().Equals(str))
-                {
-                    result.add(textureAtlasRegion);
-                }
-            }
-            return result;
+            return _regionIndex.findRegions(str);
         }
     }
 }
\ No newline at end of file
@@ -62,6 +62,7 @@ namespace monogame
         private readonly MonoGameShapeRenderer _shapeRenderer;
         private BlendState _currentBlending = _defaultBlending;
         private Mini2DxBlendFunction _srcFunction = Mini2DxBlendFunction.SRC_ALPHA, _dstFunction = Mini2DxBlendFunction.ONE_MINUS_SRC_ALPHA;
+        private Mini2DxBlendFunction _srcAlphaFunction = Mini2DxBlendFunction.SRC_ALPHA, _dstAlphaFunction = Mini2DxBlendFunction.ONE_MINUS_SRC_ALPHA;
         private bool _isBlending;
 
         public MonoGameGraphics(GraphicsDevice graphicsDevice)
@@ -113,7 +114,7 @@ namespace monogame
 
         private void updateBlending()
         {
-            _currentBlending = _isBlending ? MonoGameGraphicsHelpers.convertBlending(_srcFunction, _dstFunction) : _defaultBlending;
+            _currentBlending = _isBlending ? MonoGameGraphicsHelpers.convertBlending(_srcFunction, _dstFunction, _srcAlphaFunction, _dstAlphaFunction) : _defaultBlending;
 
             if (_beginSpriteBatchCalled)
             {
@@ -156,6 +157,11 @@ namespace monogame
             _graphicsDevice.Clear(_backgroundColor);
         }
 
+        public void clearContext(Color color)
+        {
+            _graphicsDevice.Clear(((MonoGameColor) color).toMonoGameColor());
+        }
+
         public void drawLineSegment(float x1, float y1, float x2, float y2)
         {
             _shapeRenderer.drawLine((int) x1, (int) y1, (int) x2, (int) y2);
@@ -297,6 +303,39 @@ namespace monogame
                         (textureRegion.isFlipY() ? SpriteEffects.FlipVertically : SpriteEffects.None), 0f);
         }
 
+        public void drawTextureRegion(TextureRegion textureRegion, float x, float y, float width, float height,
+            float originX, float originY, float rotation, bool flipX, bool flipY, Color tint)
+        {
+            if (textureRegion.getTexture().getUAddressMode() != _currentUMode || textureRegion.getTexture().getVAddressMode() != _currentVMode)
+            {
+                _currentUMode = textureRegion.getTexture().getUAddressMode();
+                _currentVMode = textureRegion.getTexture().getVAddressMode();
+                updateAddressMode();
+            }
+            var sourceRectangle = new Rectangle(textureRegion.getRegionX(), textureRegion.getRegionY(), textureRegion.getRegionWidth(), textureRegion.getRegionHeight());
+            if (textureRegion.isFlipX())
+            {
+                sourceRectangle.X -= sourceRectangle.Width;
+            }
+
+            if (textureRegion.isFlipY())
+            {
+                sourceRectangle.Y -= sourceRectangle.Height;
+            }
+
+            //Same geometry as SpriteVertices: the region is rotated around (x + originX, y + originY)
+            //and flipping only mirrors the texture coordinates relative to the region's flip state
+            var regionScale = new Vector2(width / textureRegion.getRegionWidth(), height / textureRegion.getRegionHeight());
+            var worldOrigin = new Vector2(x + originX, y + originY);
+            var origin = new Vector2(originX, originY) / regionScale;
+            _spriteBatch.Draw(((MonoGameTexture) textureRegion.getTexture()).texture2D,
+                (worldOrigin + _translation - _rotationCenter) * _scale, sourceRectangle,
+                tint == null ? _tint : ((MonoGameColor) tint).toMonoGameColor(),
+                MonoGameMathsUtil.degreeToRadian(rotation), origin, regionScale * _scale,
+                (flipX != textureRegion.isFlipX() ? SpriteEffects.FlipHorizontally : SpriteEffects.None) |
+                (flipY != textureRegion.isFlipY() ? SpriteEffects.FlipVertically : SpriteEffects.None), 0f);
+        }
+
         public void drawShape(Shape shape)
         {
             drawPolygon(shape.getPolygon().getVertices());
@@ -441,13 +480,23 @@ namespace monogame
 
         public void setBlendFunction(Mini2DxBlendFunction srcFunc, Mini2DxBlendFunction dstFunc)
         {
-            _srcFunction = srcFunc;
-            _dstFunction = dstFunc;
+            setBlendFunction(srcFunc, dstFunc, srcFunc, dstFunc);
+        }
+
+        public void setBlendFunction(Mini2DxBlendFunction srcColorFunc, Mini2DxBlendFunction dstColorFunc,
+            Mini2DxBlendFunction srcAlphaFunc, Mini2DxBlendFunction dstAlphaFunc)
+        {
+            _srcFunction = srcColorFunc;
+            _dstFunction = dstColorFunc;
+            _srcAlphaFunction = srcAlphaFunc;
+            _dstAlphaFunction = dstAlphaFunc;
             updateBlending();
         }
 
         public void clearBlendFunction()
         {
+            _srcFunction = _srcAlphaFunction = Mini2DxBlendFunction.SRC_ALPHA;
+            _dstFunction = _dstAlphaFunction = Mini2DxBlendFunction.ONE_MINUS_SRC_ALPHA;
             _currentBlending = _defaultBlending;
             updateBlending();
         }
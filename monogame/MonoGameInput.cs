@@ -27,6 +27,7 @@ using org.mini2Dx.core.input.xboxOne;
 using org.mini2Dx.gdx;
 using Array = org.mini2Dx.gdx.utils.Array;
 using GamePad = org.mini2Dx.core.input.GamePad;
+using InputEventBuffer = org.mini2Dx.core.input.InputEventBuffer;
 using Math = System.Math;
 
 namespace monogame
@@ -59,6 +60,17 @@ namespace monogame
             _inputProcessor = inputProcessor;
         }
 
+        //Input is polled in update() and dispatched immediately so event buffering is not supported
+        public InputEventBuffer getInputEventBuffer()
+        {
+            return null;
+        }
+
+        public void setInputEventBuffer(InputEventBuffer inputEventBuffer)
+        {
+            //Ignored - see getInputEventBuffer()
+        }
+
         public Array getGamePads()
         {
             return _gamePadsArray;
@@ -219,5 +219,15 @@ namespace monogame.Util
 
             return convertedBlendState;
         }
+
+        public static BlendState convertBlending(Mini2DxBlendFunction srcColorFunction, Mini2DxBlendFunction dstColorFunction,
+            Mini2DxBlendFunction srcAlphaFunction, Mini2DxBlendFunction dstAlphaFunction)
+        {
+            var convertedBlendState = convertBlending(srcColorFunction, dstColorFunction);
+            var alphaBlendState = convertBlending(srcAlphaFunction, dstAlphaFunction);
+            convertedBlendState.AlphaSourceBlend = alphaBlendState.AlphaSourceBlend;
+            convertedBlendState.AlphaDestinationBlend = alphaBlendState.AlphaDestinationBlend;
+            return convertedBlendState;
+        }
     }
 }
\ No newline at end of file
@@ -18,9 +18,11 @@ package org.mini2Dx.tiled;
 import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.assets.AssetManager;
+import org.mini2Dx.core.assets.AsyncLoadingCache;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.graphics.Color;
 import org.mini2Dx.core.graphics.TextureAtlas;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.tiled.exception.TiledException;
 import org.mini2Dx.tiled.exception.UnsupportedOrientationException;
@@ -154,6 +156,16 @@ public class TiledMap {
 		tiledMapData.loadTilesetTextures(textureAtlas);
 	}
 
+	/**
+	 * Starts packing all {@link Tileset} textures for this map that are not already loaded.
+	 * {@link #loadTilesetTextures(AssetManager)} then finishes loading them on the game thread.
+	 * @param texturePacker The {@link RuntimeTexturePacker} to pack into
+	 * @param asyncLoadingCache The {@link AsyncLoadingCache} containing the loaded tileset images
+	 */
+	public void packTilesetTextures(RuntimeTexturePacker texturePacker, AsyncLoadingCache asyncLoadingCache) {
+		tiledMapData.packTilesetTextures(texturePacker, asyncLoadingCache);
+	}
+
 	/**
 	 * Loads all {@link Tileset} textures for this map if they are not already loaded
 	 * @param loadObjectTemplateTilesets True if tilesets used by object templates should be loaded
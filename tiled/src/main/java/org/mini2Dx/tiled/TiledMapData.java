@@ -13,9 +13,11 @@ package org.mini2Dx.tiled;
 
 import org.mini2Dx.core.assets.AssetDescriptor;
 import org.mini2Dx.core.assets.AssetManager;
+import org.mini2Dx.core.assets.AsyncLoadingCache;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.graphics.Color;
 import org.mini2Dx.core.graphics.TextureAtlas;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.math.MathUtils;
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.IntSet;
@@ -122,6 +124,16 @@ public class TiledMapData implements TiledParserListener {
 		}
 	}
 
+	public void packTilesetTextures(RuntimeTexturePacker texturePacker, AsyncLoadingCache asyncLoadingCache) {
+		for (int i = 0; i < tilesets.size; i++) {
+			final Tileset tileset = tilesets.get(i);
+			if(tileset.isTextureLoaded()) {
+				continue;
+			}
+			tileset.packTexture(texturePacker, asyncLoadingCache);
+		}
+	}
+
 	public void loadTilesetTextures(TextureAtlas textureAtlas, boolean loadObjectTemplateTilesets) {
 		for (int i = 0; i < tilesets.size; i++) {
 			final Tileset tileset = tilesets.get(i);
@@ -13,6 +13,7 @@ package org.mini2Dx.tiled;
 
 import org.mini2Dx.core.assets.*;
 import org.mini2Dx.core.files.FileHandle;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.Array;
 
 /**
@@ -58,8 +59,13 @@ public class TiledMapLoader implements AsyncAssetLoader<TiledMap> {
 		if(asyncLoadingCache.containsCache(CACHE_TILED_MAP)) {
 			return;
 		}
-		asyncLoadingCache.setCache(CACHE_TILED_MAP, new TiledMap(
-				asyncLoadingCache.getCache(CACHE_TILED_MAP_DATA, TiledMapData.class), false));
+		final TiledMap tiledMap = new TiledMap(asyncLoadingCache.getCache(CACHE_TILED_MAP_DATA, TiledMapData.class), false);
+		final TiledAssetProperties tiledAssetProperties = (TiledAssetProperties) assetDescriptor.getParameters();
+		final RuntimeTexturePacker texturePacker = asyncLoadingCache.getTexturePacker();
+		if(texturePacker != null && (tiledAssetProperties == null || tiledAssetProperties.loadTilesets)) {
+			tiledMap.packTilesetTextures(texturePacker, asyncLoadingCache);
+		}
+		asyncLoadingCache.setCache(CACHE_TILED_MAP, tiledMap);
 	}
 
 	public static class TiledAssetProperties implements AssetProperties<TiledMap> {
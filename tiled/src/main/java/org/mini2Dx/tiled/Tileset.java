@@ -18,8 +18,10 @@ package org.mini2Dx.tiled;
 import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.assets.AssetDescriptor;
 import org.mini2Dx.core.assets.AssetManager;
+import org.mini2Dx.core.assets.AsyncLoadingCache;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.graphics.TextureAtlas;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.Disposable;
 import org.mini2Dx.gdx.utils.ObjectMap;
@@ -175,7 +177,17 @@ public class Tileset implements Disposable {
 	 *            loaded this tileset
 	 */
 	public void loadTexture(AssetManager assetManager, FileHandle tmxPath) {
-		tilesetSource.loadTexture(tmxPath);
+		tilesetSource.loadTexture(assetManager, tmxPath);
+	}
+
+	/**
+	 * Starts packing the tileset image on the current thread
+	 * 
+	 * @param texturePacker The {@link RuntimeTexturePacker} to pack into
+	 * @param asyncLoadingCache The {@link AsyncLoadingCache} containing the loaded dependencies
+	 */
+	public void packTexture(RuntimeTexturePacker texturePacker, AsyncLoadingCache asyncLoadingCache) {
+		tilesetSource.packTexture(texturePacker, asyncLoadingCache);
 	}
 
 	/**
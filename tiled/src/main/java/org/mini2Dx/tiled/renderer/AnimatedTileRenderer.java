@@ -50,7 +50,7 @@ public class AnimatedTileRenderer implements TileRenderer {
 
 	@Override
 	public void draw(Graphics g, int renderX, int renderY) {
-		g.drawSprite(getCurrentTileImage(), renderX, renderY);
+		StaticTileRenderer.drawTileImage(g, getCurrentTileImage(), renderX, renderY);
 	}
 
 	@Override
@@ -35,7 +35,7 @@ public class StaticTileRenderer implements TileRenderer {
 
 	@Override
 	public void draw(Graphics g, int renderX, int renderY) {
-		g.drawSprite(getCurrentTileImage(), renderX, renderY);
+		StaticTileRenderer.drawTileImage(g, getCurrentTileImage(), renderX, renderY);
 	}
 	
 	@Override
@@ -53,29 +53,58 @@ public class StaticTileRenderer implements TileRenderer {
 	public void dispose() {
 	}
 
+	/**
+	 * Draws a tile image without modifying the (shared) tile image
+	 * @param g The {@link Graphics} context to draw with
+	 * @param tileImage The tile image
+	 * @param renderX The x coordinate to draw at
+	 * @param renderY The y coordinate to draw at
+	 */
+	public static void drawTileImage(Graphics g, Sprite tileImage, int renderX, int renderY) {
+		g.drawTextureRegion(tileImage, renderX, renderY, tileImage.getWidth(), tileImage.getHeight(),
+				tileImage.getOriginX(), tileImage.getOriginY(), 0f, false, false, null);
+	}
+
+	/**
+	 * Draws a tile image with Tiled's flip flags applied without modifying the (shared) tile image
+	 * @param g The {@link Graphics} context to draw with
+	 * @param tileImage The tile image
+	 * @param renderX The x coordinate to draw at
+	 * @param renderY The y coordinate to draw at
+	 * @param flipH True if the tile is flipped horizontally
+	 * @param flipV True if the tile is flipped vertically
+	 * @param flipD True if the tile is flipped diagonally
+	 */
 	public static void drawTileImage(Graphics g, Sprite tileImage, int renderX, int renderY,
 	                                 boolean flipH, boolean flipV, boolean flipD) {
-		boolean previousFlipX = tileImage.isFlipX();
-		boolean previousFlipY = tileImage.isFlipY();
+		final float rotation;
+		final boolean flipX, flipY;
 
 		if(flipD) {
 			if (flipH && flipV) {
-				tileImage.setRotation(90f);
-				tileImage.setFlip(true, previousFlipY);
+				rotation = 90f;
+				flipX = !tileImage.isFlipX();
+				flipY = false;
 			} else if (flipH) {
-				tileImage.setRotation(90f);
+				rotation = 90f;
+				flipX = false;
+				flipY = false;
 			} else if (flipV) {
-				tileImage.setRotation(270f);
+				rotation = 270f;
+				flipX = false;
+				flipY = false;
 			} else {
-				tileImage.setRotation(90f);
-				tileImage.setFlip(previousFlipX, true);
+				rotation = 90f;
+				flipX = false;
+				flipY = !tileImage.isFlipY();
 			}
 		} else {
-			tileImage.setFlip(flipH, flipV);
+			rotation = 0f;
+			flipX = flipH != tileImage.isFlipX();
+			flipY = flipV != tileImage.isFlipY();
 		}
 
-		g.drawSprite(tileImage, renderX, renderY);
-		tileImage.setRotation(0f);
-		tileImage.setFlip(previousFlipX, previousFlipY);
+		g.drawTextureRegion(tileImage, renderX, renderY, tileImage.getWidth(), tileImage.getHeight(),
+				tileImage.getOriginX(), tileImage.getOriginY(), rotation, flipX, flipY, null);
 	}
 }
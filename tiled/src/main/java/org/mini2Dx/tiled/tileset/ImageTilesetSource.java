@@ -15,8 +15,11 @@ import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.assets.AssetDescriptor;
 import org.mini2Dx.core.assets.AssetManager;
+import org.mini2Dx.core.assets.AsyncLoadingCache;
+import org.mini2Dx.core.executor.AsyncResult;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.graphics.*;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.IntMap;
 import org.mini2Dx.gdx.utils.ObjectMap;
@@ -39,6 +42,10 @@ public class ImageTilesetSource extends TilesetSource {
 	private Texture backingTexture;
 	private TextureRegion textureRegion;
 
+	private RuntimeTexturePacker texturePacker;
+	private AsyncResult<TextureRegion> packResult;
+	private Pixmap packedPixmap;
+
 	public ImageTilesetSource(int width, int height, int tileWidth, int tileHeight, int spacing, int margin) {
 		super();
 		this.width = width;
@@ -60,6 +67,14 @@ public class ImageTilesetSource extends TilesetSource {
 	}
 	
 	private Texture modifyPixmapWithTransparentColor(Pixmap pixmap) {
+		final Pixmap updatedPixmap = removeTransparentColor(pixmap);
+		final Texture result = Mdx.graphics.newTexture(updatedPixmap);
+		updatedPixmap.dispose();
+		pixmap.dispose();
+		return result;
+	}
+
+	private Pixmap removeTransparentColor(Pixmap pixmap) {
 		float r = Integer.parseInt(transparentColorValue.substring(0, 2), 16) / 255f;
 		float g = Integer.parseInt(transparentColorValue.substring(2, 4), 16) / 255f;
 		float b = Integer.parseInt(transparentColorValue.substring(4, 6), 16) / 155f;
@@ -86,11 +101,7 @@ public class ImageTilesetSource extends TilesetSource {
 			}
 		}
 		colorCache.clear();
-		
-		final Texture result = Mdx.graphics.newTexture(updatedPixmap);
-		updatedPixmap.dispose();
-		pixmap.dispose();
-		return result;
+		return updatedPixmap;
 	}
 	
 	@Override
@@ -123,7 +134,32 @@ public class ImageTilesetSource extends TilesetSource {
 		if(textureRegion != null) {
 			return;
 		}
-		loadTileImages(assetManager.get(tilesetImagePath, Pixmap.class));
+		final RuntimeTexturePacker texturePacker = assetManager.getTexturePacker();
+		if(texturePacker != null) {
+			loadTileImages(texturePacker, assetManager.get(tilesetImagePath, Pixmap.class));
+		} else {
+			loadTileImages(assetManager.get(tilesetImagePath, Pixmap.class));
+		}
+	}
+
+	@Override
+	public void packTexture(RuntimeTexturePacker texturePacker, AsyncLoadingCache asyncLoadingCache) {
+		if(textureRegion != null) {
+			return;
+		}
+		final Pixmap pixmap = asyncLoadingCache.getDependency(tilesetImagePath, Pixmap.class);
+		if(pixmap == null) {
+			return;
+		}
+		packTexture(texturePacker, pixmap);
+	}
+
+	private synchronized void packTexture(RuntimeTexturePacker texturePacker, Pixmap pixmap) {
+		if(packResult != null) {
+			return;
+		}
+		packedPixmap = transparentColorValue != null ? removeTransparentColor(pixmap) : pixmap;
+		packResult = texturePacker.packAsync(tilesetImagePath, packedPixmap);
 	}
 
 	@Override
@@ -162,6 +198,26 @@ public class ImageTilesetSource extends TilesetSource {
 		cutTiles();
 	}
 
+	private void loadTileImages(RuntimeTexturePacker texturePacker, Pixmap pixmap) {
+		packTexture(texturePacker, pixmap);
+		final TextureRegion packedRegion = texturePacker.finishPacking(packResult);
+		if(packedRegion != null) {
+			this.texturePacker = texturePacker;
+			textureRegion = packedRegion;
+		} else {
+			//Image is larger than a page or all pages are in use
+			backingTexture = Mdx.graphics.newTexture(packedPixmap);
+			textureRegion = Mdx.graphics.newTextureRegion(backingTexture);
+		}
+		if(packedPixmap != pixmap) {
+			packedPixmap.dispose();
+		}
+		pixmap.dispose();
+		packedPixmap = null;
+		packResult = null;
+		cutTiles();
+	}
+
 	private void cutTiles() {
 		for (int x = 0; x < getWidthInTiles(); x++) {
 			for (int y = 0; y < getHeightInTiles(); y++) {
@@ -333,6 +389,10 @@ public class ImageTilesetSource extends TilesetSource {
 		}
 		textureRegion = null;
 
+		if(texturePacker != null) {
+			texturePacker.release(tilesetImagePath);
+			texturePacker = null;
+		}
 		if(backingTexture == null) {
 			return;
 		}
@@ -14,9 +14,11 @@ package org.mini2Dx.tiled.tileset;
 import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.assets.AssetDescriptor;
 import org.mini2Dx.core.assets.AssetManager;
+import org.mini2Dx.core.assets.AsyncLoadingCache;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.graphics.Sprite;
 import org.mini2Dx.core.graphics.TextureAtlas;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.Disposable;
 import org.mini2Dx.gdx.utils.ObjectMap;
@@ -112,6 +114,19 @@ public abstract class TilesetSource implements Disposable {
 	 */
 	public abstract void loadTexture(AssetManager assetManager, FileHandle tmxPath);
 
+	/**
+	 * Starts packing the tileset's texture image into a {@link RuntimeTexturePacker}. Called
+	 * from an asset loader's async thread before {@link #loadTexture(AssetManager, FileHandle)}
+	 * finishes loading on the game thread.
+	 * 
+	 * @param texturePacker
+	 *            The {@link RuntimeTexturePacker} to pack into
+	 * @param asyncLoadingCache
+	 *            The {@link AsyncLoadingCache} containing the loaded dependencies
+	 */
+	public void packTexture(RuntimeTexturePacker texturePacker, AsyncLoadingCache asyncLoadingCache) {
+	}
+
 	/**
 	 * Loads the texture from a {@link TextureAtlas}
 	 * @param textureAtlas The {@link TextureAtlas} to use
@@ -15,9 +15,11 @@ import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.assets.AssetDescriptor;
 import org.mini2Dx.core.assets.AssetManager;
+import org.mini2Dx.core.assets.AsyncLoadingCache;
 import org.mini2Dx.core.files.FileHandle;
 import org.mini2Dx.core.graphics.Sprite;
 import org.mini2Dx.core.graphics.TextureAtlas;
+import org.mini2Dx.core.graphics.packer.RuntimeTexturePacker;
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.ObjectMap;
 import org.mini2Dx.tiled.Tile;
@@ -74,6 +76,11 @@ public class TsxTilesetSource extends TilesetSource {
 		tileset.loadTexture(assetManager, tmxPath);
 	}
 
+	@Override
+	public void packTexture(RuntimeTexturePacker texturePacker, AsyncLoadingCache asyncLoadingCache) {
+		tileset.packTexture(texturePacker, asyncLoadingCache);
+	}
+
 	@Override
 	public void loadTexture(TextureAtlas textureAtlas) {
 		tileset.loadTexture(textureAtlas);
@@ -11,15 +11,21 @@
  */
 package org.mini2Dx.ui;
 
-import com.badlogic.gdx.assets.loaders.FileHandleResolver;
-import com.badlogic.gdx.assets.loaders.resolvers.ClasspathFileHandleResolver;
 import org.mini2Dx.core.Graphics;
+import org.mini2Dx.core.assets.AssetManager;
+import org.mini2Dx.core.files.FileHandleResolver;
+import org.mini2Dx.core.files.InternalFileHandleResolver;
 import org.mini2Dx.core.game.BasicGame;
 import org.mini2Dx.core.game.GameContainer;
+import org.mini2Dx.libgdx.headless.HeadlessMini2DxConfig;
+import org.mini2Dx.libgdx.headless.HeadlessMini2DxGame;
 import org.mini2Dx.ui.element.Container;
 import org.mini2Dx.ui.element.Div;
 import org.mini2Dx.ui.element.Label;
 import org.mini2Dx.ui.element.Visibility;
+import org.mini2Dx.ui.layout.HorizontalAlignment;
+import org.mini2Dx.ui.layout.VerticalAlignment;
+import org.mini2Dx.ui.style.UiTheme;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.ArrayList;
@@ -34,38 +40,46 @@ public class RenderTreeLayoutPerformanceTest {
 
 	@State(Scope.Thread)
 	public static class TestState extends BasicGame {
-		private FileHandleResolver fileHandleResolver = new ClasspathFileHandleResolver();
-		//private AssetManager assetManager = new AssetManager(fileHandleResolver);
-		private List<Container> containers = new ArrayList<Container>();
-		
-		//private HeadlessMini2DxGame game;
+		private final List<Container> containers = new ArrayList<Container>();
+
+		private HeadlessMini2DxGame game;
+		private AssetManager assetManager;
 		private UiContainer uiContainer;
-		
-//		{
-//			assetManager.setLoader(UiTheme.class, new UiThemeLoader(fileHandleResolver, true));
-//
-//			HeadlessMini2DxConfig config = new HeadlessMini2DxConfig(RenderTreeLayoutPerformanceTest.class.getName());
-//			config.runGame = false;
-//			game = new HeadlessMini2DxGame(this, config);
-//			uiContainer = new UiContainer(this, assetManager);
-//
-//			assetManager.load(UiTheme.DEFAULT_THEME_FILENAME, UiTheme.class);
-//			assetManager.finishLoading();
-//
-//			uiContainer.setTheme(assetManager.get(UiTheme.DEFAULT_THEME_FILENAME, UiTheme.class));
-//
-//			for(HorizontalAlignment hAlignment : HorizontalAlignment.values()) {
-//				for(VerticalAlignment vAlignment : VerticalAlignment.values()) {
-//					Container modal = new Container();
-//					modal.setFlexLayout("flex-column:xs-4c");
-//					modal.setVisibility(Visibility.VISIBLE);
-//
-//					addNestedElements(modal, 0);
-//					containers.add(modal);
-//				}
-//			}
-//		}
-		
+
+		@Setup(Level.Trial)
+		public void initialiseTrial() {
+			HeadlessMini2DxConfig config = new HeadlessMini2DxConfig(RenderTreeLayoutPerformanceTest.class.getName());
+			config.runGame = false;
+			game = new HeadlessMini2DxGame(this, config);
+
+			FileHandleResolver fileHandleResolver = new InternalFileHandleResolver();
+			assetManager = new AssetManager(fileHandleResolver);
+			assetManager.setAssetLoader(UiTheme.class, new UiThemeLoader(fileHandleResolver, true));
+			uiContainer = new UiContainer(this, assetManager);
+
+			assetManager.load(UiTheme.DEFAULT_THEME_FILENAME, UiTheme.class);
+			assetManager.finishLoading();
+
+			UiContainer.setTheme(assetManager.get(UiTheme.DEFAULT_THEME_FILENAME, UiTheme.class));
+
+			for(HorizontalAlignment hAlignment : HorizontalAlignment.values()) {
+				for(VerticalAlignment vAlignment : VerticalAlignment.values()) {
+					Container modal = new Container();
+					modal.setFlexLayout("flex-column:xs-4c");
+					modal.setVisibility(Visibility.VISIBLE);
+
+					addNestedElements(modal, 0);
+					containers.add(modal);
+				}
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void disposeTrial() {
+			assetManager.dispose();
+			game.stop();
+		}
+
 		@Setup(Level.Iteration)
 		public void setUp() {
 			for(Container container : containers) {
@@ -95,6 +109,7 @@ public class RenderTreeLayoutPerformanceTest {
 				label.setText("Label " + i);
 				label.setResponsive(true);
 				div.add(label);
+				root.add(div);
 				
 				addNestedElements(div, depth + 1);
 			}
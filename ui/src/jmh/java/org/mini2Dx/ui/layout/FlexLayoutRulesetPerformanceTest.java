@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.ui.layout;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance tests for parsing {@link FlexLayoutRuleset}s when building a large screen.
+ * Run with the gc profiler (-prof gc) to measure heap allocated per screen.
+ */
+public class FlexLayoutRulesetPerformanceTest {
+	private static final int TOTAL_ELEMENTS = 5000;
+	private static final String [] LAYOUTS = new String [] {
+			"flex-column:xs-12c",
+			"flex-column:xs-12c sm-6c,xs-auto",
+			"flex-row:xs-12c md-4c xs-offset-1c,xs-auto"
+	};
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("FlexLayoutRuleset_BuildScreen")
+	public void testBuildScreen(Blackhole blackhole) {
+		for(int i = 0; i < TOTAL_ELEMENTS; i++) {
+			blackhole.consume(FlexLayoutRuleset.parse(LAYOUTS[i % LAYOUTS.length]));
+		}
+	}
+}
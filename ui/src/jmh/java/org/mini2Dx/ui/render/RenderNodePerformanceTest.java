@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.ui.render;
+
+import org.mini2Dx.core.util.InterpolationTracker;
+import org.mini2Dx.ui.element.Div;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Performance tests for large trees of {@link RenderNode}s.
+ * Run with the gc profiler (-prof gc) to measure heap allocated per tree.
+ */
+public class RenderNodePerformanceTest {
+	private static final int CHILDREN_PER_NODE = 10;
+	private static final int DEPTH = 4;
+
+	@State(Scope.Thread)
+	public static class TestState {
+		public DivRenderNode root;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			root = createTree();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			InterpolationTracker.deregisterAll();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("RenderNode_CreateTree")
+	public DivRenderNode testCreateTree() {
+		return createTree();
+	}
+
+	@Benchmark
+	@BenchmarkMode(value=Mode.AverageTime)
+	@Group("RenderNode_Frame")
+	public void testFrame(TestState state) {
+		InterpolationTracker.preUpdate();
+		InterpolationTracker.interpolate(0.5f);
+	}
+
+	private static DivRenderNode createTree() {
+		final DivRenderNode root = new DivRenderNode(null, new Div());
+		addChildren(root, 0);
+		return root;
+	}
+
+	private static void addChildren(DivRenderNode parent, int depth) {
+		if(depth >= DEPTH) {
+			return;
+		}
+		for(int i = 0; i < CHILDREN_PER_NODE; i++) {
+			final DivRenderNode child = new DivRenderNode(parent, new Div());
+			parent.addChild(child);
+			addChildren(child, depth + 1);
+		}
+	}
+}
@@ -149,6 +149,20 @@ public class UiContainer extends ParentUiElement implements InputProcessor {
 		return renderTree;
 	}
 
+	/**
+	 * Returns the {@link UiElement} with the given id. Attached elements are
+	 * resolved via the render tree's id index, falling back to searching the
+	 * element tree for elements without a {@link RenderNode}.
+	 */
+	@Override
+	public UiElement getElementById(String id) {
+		final RenderNode<?, ?> renderNode = renderTree.getElementById(id);
+		if (renderNode != null) {
+			return renderNode.getElement();
+		}
+		return super.getElementById(id);
+	}
+
 	/**
 	 * Updates all {@link UiElement}s
 	 * 
@@ -168,7 +182,7 @@ public class UiContainer extends ParentUiElement implements InputProcessor {
 			return;
 		}
 		if(lastThemeId == null || (lastThemeId != null && !lastThemeId.equals(UI_THEME.getId()))) {
-			renderTree.setDirty();
+			renderTree.setSubtreeDirty();
 			initialThemeLayoutComplete = false;
 			Mdx.log.info(LOGGING_TAG, "Applied theme - " + UI_THEME.getId());
 		}
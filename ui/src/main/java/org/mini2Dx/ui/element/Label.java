@@ -17,6 +17,7 @@ package org.mini2Dx.ui.element;
 
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.font.GameFont;
+import org.mini2Dx.core.font.TextLayoutCache;
 import org.mini2Dx.core.graphics.Color;
 import org.mini2Dx.core.serialization.annotation.ConstructorArg;
 import org.mini2Dx.core.serialization.annotation.Field;
@@ -36,7 +37,6 @@ import org.mini2Dx.ui.style.UiTheme;
  * A text label {@link UiElement}
  */
 public class Label extends UiElement {
-	private final Color white = Mdx.graphics.newColor(1f, 1f, 1f, 1f);
 	protected LabelRenderNode renderNode;
 	private Color color = null;
 	
@@ -112,9 +112,9 @@ public class Label extends UiElement {
 		if(font == null) {
 			return;
 		}
-		font.getSharedGlyphLayout().setText(text);
-		setContentWidth(font.getSharedGlyphLayout().getWidth());
-		setContentHeight(font.getSharedGlyphLayout().getHeight());
+		final TextLayoutCache.TextMeasurement measurement = Mdx.fonts.getTextLayoutCache().measure(font, text);
+		setContentWidth(measurement.getWidth());
+		setContentHeight(measurement.getHeight());
 	}
 
 	public void shrinkToTextSize(float maxWidth) {
@@ -135,9 +135,9 @@ public class Label extends UiElement {
 		if(font == null) {
 			return;
 		}
-		font.getSharedGlyphLayout().setText(text, white, maxWidth, Align.LEFT, true);
-		setContentWidth(font.getSharedGlyphLayout().getWidth());
-		setContentHeight(font.getSharedGlyphLayout().getHeight());
+		final TextLayoutCache.TextMeasurement measurement = Mdx.fonts.getTextLayoutCache().measure(font, text, maxWidth, Align.LEFT, true);
+		setContentWidth(measurement.getWidth());
+		setContentHeight(measurement.getHeight());
 	}
 
 	/**
@@ -35,6 +35,8 @@ public abstract class ParentUiElement extends UiElement implements FlexUiElement
 	private String flexLayout = null;
 	@Field(optional = true)
 	private boolean overflowClipped = false;
+	@Field(optional = true)
+	private boolean renderCacheEnabled = false;
 
 	protected ParentRenderNode<?, ?> renderNode;
 
@@ -231,6 +233,7 @@ public abstract class ParentUiElement extends UiElement implements FlexUiElement
 			children.get(i).detach(renderNode);
 		}
 		parentRenderNode.removeChild(renderNode);
+		renderNode.disposeRenderCache();
 		renderNode = null;
 	}
 
@@ -269,6 +272,46 @@ public abstract class ParentUiElement extends UiElement implements FlexUiElement
 		this.overflowClipped = overflowClipped;
 	}
 
+	/**
+	 * Returns if this element and its children are rendered once into an offscreen
+	 * buffer and re-drawn from the buffer until they change
+	 * @return False by default
+	 */
+	public boolean isRenderCacheEnabled() {
+		return renderCacheEnabled;
+	}
+
+	/**
+	 * Sets if this element and its children are rendered once into an offscreen
+	 * buffer and re-drawn from the buffer until they change. The cache is invalidated on
+	 * layout, effects, hover/action state changes and animated content. Element state that
+	 * does not trigger layout (e.g. a {@link Slider} value) requires {@link #invalidateRenderCache()}.
+	 *
+	 * This is intended for static subtrees, e.g. HUD panels that rarely change.
+	 * @param renderCacheEnabled True if rendering should be cached
+	 */
+	public void setRenderCacheEnabled(boolean renderCacheEnabled) {
+		if (this.renderCacheEnabled == renderCacheEnabled) {
+			return;
+		}
+		this.renderCacheEnabled = renderCacheEnabled;
+
+		if (renderNode == null) {
+			return;
+		}
+		renderNode.invalidateRenderCache();
+	}
+
+	/**
+	 * Forces any cached rendering of this element (or its ancestors) to be re-rendered
+	 */
+	public void invalidateRenderCache() {
+		if (renderNode == null) {
+			return;
+		}
+		renderNode.invalidateRenderCache();
+	}
+
 	@Override
 	public void setVisibility(Visibility visibility) {
 		if (this.visibility == visibility) {
@@ -332,6 +332,9 @@ public class RadioButton extends UiElement implements Actionable {
 			return;
 		}
 		this.selectedOptionIndex = selectedOptionIndex;
+		if (renderNode != null) {
+			renderNode.invalidateRenderCache();
+		}
 	}
 
 	public String getSelectedOption() {
@@ -349,12 +352,18 @@ public class RadioButton extends UiElement implements Actionable {
 		} else {
 			selectedOptionIndex = index;
 		}
+		if (renderNode != null) {
+			renderNode.invalidateRenderCache();
+		}
 	}
 	
 	public void selectNextOption() {
 		int selectedOption = getSelectedOptionIndex();
 		selectedOption++;
 		selectedOptionIndex = selectedOption % options.size;
+		if (renderNode != null) {
+			renderNode.invalidateRenderCache();
+		}
 	}
 	
 	public void selectPreviousOption() {
@@ -365,6 +374,9 @@ public class RadioButton extends UiElement implements Actionable {
 		} else {
 			selectedOptionIndex = selectedOption;
 		}
+		if (renderNode != null) {
+			renderNode.invalidateRenderCache();
+		}
 	}
 
 	@Override
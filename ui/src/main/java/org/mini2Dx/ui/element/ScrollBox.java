@@ -17,6 +17,7 @@ package org.mini2Dx.ui.element;
 
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.gdx.utils.Queue;
+import org.mini2Dx.core.exception.MdxException;
 import org.mini2Dx.core.serialization.annotation.ConstructorArg;
 import org.mini2Dx.core.serialization.annotation.Field;
 import org.mini2Dx.ui.UiContainer;
@@ -34,6 +35,7 @@ import org.mini2Dx.ui.render.UiContainerRenderTree;
  */
 public class ScrollBox extends Div {
 	private static final float DEFAULT_SCROLL_FACTOR = 0.005f;
+	private static final float DEFAULT_OVERSCAN = 64f;
 
 	@Field(optional = true)
 	private float scrollFactor = DEFAULT_SCROLL_FACTOR;
@@ -43,10 +45,20 @@ public class ScrollBox extends Div {
 	private float maxHeight = Float.MAX_VALUE;
 	@Field(optional = true)
 	private Visibility scrollTrackVisibility = Visibility.VISIBLE;
+	@Field(optional = true)
+	private boolean virtualized = false;
+	@Field(optional = true)
+	private float overscan = DEFAULT_OVERSCAN;
 
 	private final Queue<ScrollTo> scrollTos = new Queue<ScrollTo>();
 	private Array<ScrollListener> scrollListeners;
 
+	private ScrollBoxAdapter adapter;
+	private float itemHeight;
+	private int firstItemIndex = -1;
+	private boolean adapterDirty;
+	private final Array<UiElement> recycledElements = new Array<UiElement>(false, 4);
+
 	private float scrollContentHeight;
 
 	/**
@@ -109,7 +121,14 @@ public class ScrollBox extends Div {
 		if (renderNode == null) {
 			return;
 		}
-		scrollContentHeight = ((ScrollBoxRenderNode) renderNode).getScrollContentHeight();
+		final ScrollBoxRenderNode scrollBoxRenderNode = (ScrollBoxRenderNode) renderNode;
+		scrollContentHeight = scrollBoxRenderNode.getScrollContentHeight();
+
+		if(adapter != null) {
+			final float viewportHeight = scrollBoxRenderNode.getBoxHeight() > 0f ? scrollBoxRenderNode.getBoxHeight() : getHeight();
+			syncAdapter(scrollBoxRenderNode.getScrollTranslationY(), viewportHeight);
+			scrollBoxRenderNode.setVirtualOffsetY(MathUtils.round(firstItemIndex * itemHeight));
+		}
 
 		if(scrollTos.size == 0) {
 			return;
@@ -120,6 +139,37 @@ public class ScrollBox extends Div {
 		}
 	}
 
+	/**
+	 * Creates, recycles and binds child elements so that only the items
+	 * within the visible area (plus overscan) exist as children
+	 * @param scrollY The current scroll translation
+	 * @param viewportHeight The visible height of this {@link ScrollBox}
+	 */
+	void syncAdapter(float scrollY, float viewportHeight) {
+		final int totalItems = adapter.getTotalItems();
+		final int totalRows = Math.min(totalItems,
+				MathUtils.ceil((viewportHeight + (overscan * 2f)) / itemHeight) + 1);
+		final int firstIndex = MathUtils.clamp(MathUtils.floor((scrollY - overscan) / itemHeight), 0,
+				Math.max(0, totalItems - totalRows));
+
+		boolean rebind = adapterDirty || firstIndex != firstItemIndex;
+		while (children.size < totalRows) {
+			add(recycledElements.size > 0 ? recycledElements.pop() : adapter.createElement());
+			rebind = true;
+		}
+		while (children.size > totalRows) {
+			recycledElements.add(remove(children.size - 1));
+		}
+		if (!rebind) {
+			return;
+		}
+		for (int i = 0; i < children.size; i++) {
+			adapter.bindElement(children.get(i), firstIndex + i);
+		}
+		firstItemIndex = firstIndex;
+		adapterDirty = false;
+	}
+
 	/**
 	 * Moves the scroll thumb until the {@link UiElement} is visible
 	 * 
@@ -316,6 +366,112 @@ public class ScrollBox extends Div {
 		this.scrollTrackVisibility = scrollTrackVisibility;
 	}
 
+	/**
+	 * Returns if only children within the visible area (plus overscan) are rendered
+	 * @return False by default
+	 */
+	public boolean isVirtualized() {
+		return virtualized;
+	}
+
+	/**
+	 * Sets if only children within the visible area (plus overscan) are rendered
+	 * @param virtualized True if children outside the visible area should be skipped
+	 */
+	public void setVirtualized(boolean virtualized) {
+		this.virtualized = virtualized;
+	}
+
+	/**
+	 * Returns the distance in pixels above and below the visible area that children are still rendered or bound within
+	 * @return {@link #DEFAULT_OVERSCAN} by default
+	 */
+	public float getOverscan() {
+		return overscan;
+	}
+
+	/**
+	 * Sets the distance in pixels above and below the visible area that children are still rendered or bound within
+	 * @param overscan The overscan in pixels
+	 */
+	public void setOverscan(float overscan) {
+		this.overscan = Math.max(0f, overscan);
+	}
+
+	/**
+	 * Returns the {@link ScrollBoxAdapter} providing the items of this {@link ScrollBox}
+	 * @return Null if no {@link ScrollBoxAdapter} is set
+	 */
+	public ScrollBoxAdapter getAdapter() {
+		return adapter;
+	}
+
+	/**
+	 * Sets a {@link ScrollBoxAdapter} to provide the items of this {@link ScrollBox}.
+	 * Any existing children are removed and this {@link ScrollBox} becomes virtualized.
+	 * The scroll content height is calculated from the total items and item height.
+	 *
+	 * @param adapter The {@link ScrollBoxAdapter} to use, null to stop using an adapter
+	 * @param itemHeight The height of each item's {@link UiElement}
+	 */
+	public void setAdapter(ScrollBoxAdapter adapter, float itemHeight) {
+		if (adapter != null && itemHeight <= 0f) {
+			throw new MdxException("ScrollBox item height must be greater than 0");
+		}
+		removeAll();
+		recycledElements.clear();
+
+		this.adapter = adapter;
+		this.itemHeight = itemHeight;
+		firstItemIndex = -1;
+		adapterDirty = true;
+		if (adapter != null) {
+			virtualized = true;
+		}
+		if (renderNode == null) {
+			return;
+		}
+		renderNode.setDirty();
+	}
+
+	/**
+	 * Notifies this {@link ScrollBox} that the items of its {@link ScrollBoxAdapter} have changed
+	 */
+	public void notifyItemsChanged() {
+		adapterDirty = true;
+		if (renderNode == null) {
+			return;
+		}
+		renderNode.setDirty();
+	}
+
+	/**
+	 * Returns the height of each item when using a {@link ScrollBoxAdapter}
+	 * @return 0 if no {@link ScrollBoxAdapter} is set
+	 */
+	public float getItemHeight() {
+		return itemHeight;
+	}
+
+	/**
+	 * Returns the index of the item bound to the first child element when using a {@link ScrollBoxAdapter}
+	 * @return -1 if no items have been bound
+	 */
+	public int getFirstItemIndex() {
+		return firstItemIndex;
+	}
+
+	/**
+	 * Scrolls to an item when using a {@link ScrollBoxAdapter}
+	 * @param index The item index
+	 */
+	public void scrollToItem(int index) {
+		if (adapter == null || renderNode == null || scrollContentHeight <= 0f) {
+			return;
+		}
+		((ScrollBoxRenderNode) renderNode).setScrollThumbPosition((index * itemHeight) / scrollContentHeight);
+	}
+
 	/**
 	 * Sets the scroll view height to be equal to the max Y of the child elements
 	 */
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.ui.element;
+
+/**
+ * Provides the items of a virtualized {@link ScrollBox}. Only enough
+ * {@link UiElement}s to fill the visible area are created and they are
+ * re-bound to different items as the {@link ScrollBox} scrolls.
+ *
+ * All elements returned by {@link #createElement()} must have the same height
+ * as the item height passed to {@link ScrollBox#setAdapter(ScrollBoxAdapter, float)}.
+ */
+public interface ScrollBoxAdapter {
+	/**
+	 * Returns the total number of items
+	 * @return 0 if there are no items
+	 */
+	public int getTotalItems();
+
+	/**
+	 * Creates a new {@link UiElement} to display an item
+	 * @return A new {@link UiElement} instance
+	 */
+	public UiElement createElement();
+
+	/**
+	 * Updates a {@link UiElement} to display a specific item
+	 * @param element A {@link UiElement} previously returned by {@link #createElement()}
+	 * @param index The index of the item to display
+	 */
+	public void bindElement(UiElement element, int index);
+}
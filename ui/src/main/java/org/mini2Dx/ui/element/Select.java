@@ -306,6 +306,9 @@ public class Select<V> extends UiElement implements Actionable, FlexUiElement {
 	 */
 	public void setSelectedIndex(int index) {
 		this.selectedIndex = index;
+		if (renderNode != null) {
+			renderNode.invalidateRenderCache();
+		}
 	}
 
 	/**
@@ -316,7 +319,7 @@ public class Select<V> extends UiElement implements Actionable, FlexUiElement {
 		if (selectedIndex >= options.size - 1) {
 			return;
 		}
-		selectedIndex++;
+		setSelectedIndex(selectedIndex + 1);
 	}
 
 	/**
@@ -328,7 +331,7 @@ public class Select<V> extends UiElement implements Actionable, FlexUiElement {
 		if (selectedIndex <= 0) {
 			return;
 		}
-		selectedIndex--;
+		setSelectedIndex(selectedIndex - 1);
 	}
 
 	@Override
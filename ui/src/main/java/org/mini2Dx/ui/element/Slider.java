@@ -253,6 +253,9 @@ public class Slider extends UiElement implements Actionable {
 		} else {
 			this.value = value;
 		}
+		if (renderNode != null) {
+			renderNode.invalidateRenderCache();
+		}
 	}
 
 	/**
@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2018 See AUTHORS file
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of the mini2Dx nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.mini2Dx.ui.layout;
+
+import org.mini2Dx.core.exception.MdxException;
+import org.mini2Dx.core.input.GamePadType;
+import org.mini2Dx.gdx.utils.ObjectMap;
+import org.mini2Dx.ui.InputSource;
+
+/**
+ * The parsed, immutable form of a {@link FlexLayoutRuleset} string.
+ * Instances are cached by rule string so that elements sharing a layout
+ * string, e.g. flex-column:xs-12c, only parse it once.
+ */
+public final class FlexLayoutRules {
+	/**
+	 * The maximum number of distinct rule strings to cache before the cache is reset
+	 */
+	public static final int MAX_CACHED_RULES = 1024;
+
+	private static final String AUTO = "auto";
+	private static final String PIXEL_SUFFIX = "px";
+	private static final String COLUMN_SUFFIX = "c";
+	private static final String EMPTY_STRING = "";
+
+	private static final ScreenSize[] SCREEN_SIZES = ScreenSize.values();
+	private static final ObjectMap<String, FlexLayoutRules> CACHE = new ObjectMap<String, FlexLayoutRules>();
+
+	private final String rules;
+	private final FlexDirection flexDirection;
+	private final SizeRule[] widthRules = new SizeRule[SCREEN_SIZES.length];
+	private final SizeRule[] heightRules = new SizeRule[SCREEN_SIZES.length];
+	private final OffsetRule[] offsetXRules = new OffsetRule[SCREEN_SIZES.length];
+	private final OffsetRule[] offsetYRules = new OffsetRule[SCREEN_SIZES.length];
+	private final boolean[] hiddenByInput = new boolean[InputSource.values().length];
+	private final boolean[] hiddenByGamePadType = new boolean[GamePadType.values().length];
+	private boolean gamePadTypeRulesDefined = false;
+
+	/**
+	 * Constructor
+	 * @param flexDirection The {@link FlexDirection}
+	 * @param rules The ruleset, e.g. flex-column:xs-12c xs-offset-4c sm-500px sm-offset-20px,auto
+	 * @param ruleValue The part of the ruleset after :
+	 */
+	FlexLayoutRules(FlexDirection flexDirection, String rules, String ruleValue) {
+		this.rules = rules;
+		this.flexDirection = flexDirection;
+
+		String [] components = ruleValue.split(",");
+		switch(components.length) {
+		case 1: {
+			//Horizontal only
+			String[] rule = components[0].trim().split(" ");
+			for (int i = 0; i < rule.length; i++) {
+				String[] ruleDetails = rule[i].split("-");
+				switch (ruleDetails.length) {
+				case 1:
+					throw new MdxException("Invalid flex value '" + rule[i] + "'. Perhaps you forgot a size prefix, e.g. xs-");
+				case 2:
+					// e.g. xs-12, hidden-gamepad, visible-touchscreen,
+					// hidden-keyboardmouse
+					storeSizeRule(true, widthRules, ruleDetails);
+					break;
+				case 3:
+					// e.g. xs-offset-12, hidden-gamepad-ps4
+					storeOffsetRule(true, offsetXRules, ruleDetails);
+					break;
+				}
+			}
+			storeSizeRule(false, heightRules, "xs-auto".split("-"));
+			break;
+		}
+		case 2: {
+			{
+				//Horizontal
+				String[] rule = components[0].trim().split(" ");
+				for (int i = 0; i < rule.length; i++) {
+					String[] ruleDetails = rule[i].split("-");
+					switch (ruleDetails.length) {
+					case 1:
+						throw new MdxException("Invalid flex value '" + rule[i] + "'. Perhaps you forgot a size prefix, e.g. xs-");
+					case 2:
+						// e.g. xs-12, hidden-gamepad, visible-touchscreen,
+						// hidden-keyboardmouse
+						storeSizeRule(true, widthRules, ruleDetails);
+						break;
+					case 3:
+						// e.g. xs-offset-12, hidden-gamepad-ps4
+						storeOffsetRule(true, offsetXRules, ruleDetails);
+						break;
+					}
+				}
+			}
+			{
+				//Vertical
+				String[] rule = components[1].trim().split(" ");
+				for (int i = 0; i < rule.length; i++) {
+					String[] ruleDetails = rule[i].split("-");
+					switch (ruleDetails.length) {
+					case 1:
+						throw new MdxException("Invalid flex value '" + rule[i] + "'. Perhaps you forgot a size prefix, e.g. xs-");
+					case 2:
+						// e.g. xs-12, hidden-gamepad, visible-touchscreen,
+						// hidden-keyboardmouse
+						storeSizeRule(false, heightRules, ruleDetails);
+						break;
+					case 3:
+						// e.g. xs-offset-12, hidden-gamepad-ps4
+						storeOffsetRule(false, offsetYRules, ruleDetails);
+						break;
+					}
+				}
+			}
+		}
+		default:
+			break;
+		}
+
+		finaliseRuleset(widthRules, offsetXRules);
+		finaliseRuleset(heightRules, offsetYRules);
+	}
+
+	private void storeSizeRule(boolean horizontalRuleset, SizeRule[] sizeRules, String[] ruleDetails) {
+		switch (ruleDetails[0].toLowerCase()) {
+		case "hidden": {
+			if(!horizontalRuleset) {
+				throw new MdxException("hidden-* rules can only be applied to horizontal rulesets");
+			}
+			switch (InputSource.fromFriendlyString(ruleDetails[1])) {
+			case CONTROLLER:
+				hiddenByInput[InputSource.CONTROLLER.ordinal()] = true;
+				break;
+			case KEYBOARD_MOUSE:
+				hiddenByInput[InputSource.KEYBOARD_MOUSE.ordinal()] = true;
+				break;
+			case TOUCHSCREEN:
+				hiddenByInput[InputSource.TOUCHSCREEN.ordinal()] = true;
+				break;
+			}
+			break;
+		}
+		default:
+			ScreenSize screenSize = ScreenSize.fromString(ruleDetails[0].trim());
+			if (ruleDetails[1].equalsIgnoreCase(AUTO)) {
+				if(horizontalRuleset) {
+					throw new MdxException("Invalid size - cannot use auto size for horizontal size rules. Must end be columns (c) or pixels (px)");
+				}
+				sizeRules[screenSize.ordinal()] = new AutoSizeRule();
+			} else if (ruleDetails[1].endsWith(PIXEL_SUFFIX)) {
+				sizeRules[screenSize.ordinal()] = new AbsoluteSizeRule(Float.parseFloat(ruleDetails[1].replace(PIXEL_SUFFIX, EMPTY_STRING).trim()));
+			} else if (ruleDetails[1].endsWith(COLUMN_SUFFIX)) {
+				if(!horizontalRuleset) {
+					throw new MdxException("Invalid size - cannot use column size for vertical size rules. Must be pixel (px) or auto");
+				}
+				sizeRules[screenSize.ordinal()] = new ResponsiveSizeRule(Integer.parseInt(ruleDetails[1].replace(COLUMN_SUFFIX, EMPTY_STRING).trim()));
+			} else {
+				throw new MdxException("Invalid size - must end with c (columns) or px (pixels");
+			}
+			break;
+		}
+	}
+
+	private void storeOffsetRule(boolean horizontalRuleset, OffsetRule[] offsetRules, String[] ruleDetails) {
+		switch (ruleDetails[0].toLowerCase()) {
+		case "hidden": {
+			if(!horizontalRuleset) {
+				throw new MdxException("hidden-* rules can only be applied to horizontal rulesets");
+			}
+			switch (InputSource.fromFriendlyString(ruleDetails[1])) {
+			case CONTROLLER:
+				GamePadType controllerType = GamePadType.fromFriendlyString(ruleDetails[2]);
+				switch(controllerType) {
+				case UNKNOWN:
+					break;
+				default:
+					hiddenByGamePadType[controllerType.ordinal()] = true;
+					gamePadTypeRulesDefined = true;
+					break;
+				}
+				break;
+			default:
+				throw new MdxException("Invalid rule " + ruleDetails[0] + "-" + ruleDetails[1] + "-" + ruleDetails[2]);
+			}
+		}
+		default: {
+			ScreenSize screenSize = ScreenSize.fromString(ruleDetails[0]);
+			if (ruleDetails[2].endsWith(PIXEL_SUFFIX)) {
+				offsetRules[screenSize.ordinal()] = new AbsoluteOffsetRule(Float.parseFloat(ruleDetails[2].replace(PIXEL_SUFFIX, EMPTY_STRING)));
+			} else if (ruleDetails[2].endsWith(COLUMN_SUFFIX)) {
+				if(!horizontalRuleset) {
+					throw new MdxException("Invalid offset - cannot use column offset for vertical size rules. Must be pixel (px)");
+				}
+				offsetRules[screenSize.ordinal()] = new ResponsiveOffsetRule(Integer.parseInt(ruleDetails[2].replace(COLUMN_SUFFIX, EMPTY_STRING)));
+			} else {
+				throw new MdxException("Invalid offset - must end with c (columns) or px (pixels");
+			}
+		}
+		}
+	}
+
+	private static void finaliseRuleset(SizeRule[] sizeRules, OffsetRule[] offsetRules) {
+		SizeRule lastSizeRule = new ResponsiveSizeRule(12);
+		OffsetRule lastOffsetRule = new AbsoluteOffsetRule(0);
+
+		for (int i = 0; i < SCREEN_SIZES.length; i++) {
+			if (sizeRules[i] == null) {
+				sizeRules[i] = lastSizeRule;
+			} else {
+				lastSizeRule = sizeRules[i];
+			}
+
+			if (offsetRules[i] == null) {
+				offsetRules[i] = lastOffsetRule;
+			} else {
+				lastOffsetRule = offsetRules[i];
+			}
+		}
+	}
+
+	/**
+	 * Returns the cached {@link FlexLayoutRules} for a rule string, parsing it if it has not been seen before
+	 * @param rules The ruleset, e.g. flex-column:xs-12c xs-offset-4c sm-500px sm-offset-20px,auto
+	 * @return The shared {@link FlexLayoutRules} instance
+	 */
+	public static FlexLayoutRules get(String rules) {
+		synchronized (CACHE) {
+			final FlexLayoutRules result = CACHE.get(rules);
+			if (result != null) {
+				return result;
+			}
+		}
+		final FlexLayoutRules result = parse(rules);
+		synchronized (CACHE) {
+			if (CACHE.size >= MAX_CACHED_RULES) {
+				CACHE.clear();
+			}
+			CACHE.put(rules, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Clears all cached {@link FlexLayoutRules}
+	 */
+	public static void clearCache() {
+		synchronized (CACHE) {
+			CACHE.clear();
+		}
+	}
+
+	private static FlexLayoutRules parse(String layout) {
+		final String [] typeAndValue = layout.toLowerCase().split(":");
+		switch(typeAndValue[0]) {
+		case "flex-col":
+		case "flex-column":
+			return new FlexLayoutRules(FlexDirection.COLUMN, layout, typeAndValue[1]);
+		case "flex-r":
+		case "flex-row":
+			return new FlexLayoutRules(FlexDirection.ROW, layout, typeAndValue[1]);
+		case "flex-col-r":
+		case "flex-column-r":
+		case "flex-column-reverse":
+			return new FlexLayoutRules(FlexDirection.COLUMN_REVERSE, layout, typeAndValue[1]);
+		case "flex-r-r":
+		case "flex-row-r":
+		case "flex-row-reverse":
+			return new FlexLayoutRules(FlexDirection.ROW_REVERSE, layout, typeAndValue[1]);
+		case "flex-cen":
+		case "flex-centre":
+		case "flex-center":
+			return new FlexLayoutRules(FlexDirection.CENTER, layout, typeAndValue[1]);
+		}
+		throw new MdxException("Invalid layout type '" + typeAndValue[0] + "'");
+	}
+
+	public boolean isHiddenByInputSource(InputSource inputSource) {
+		return hiddenByInput[inputSource.ordinal()];
+	}
+
+	public boolean isHiddenByGamePadType(GamePadType gamePadType) {
+		return hiddenByGamePadType[gamePadType.ordinal()];
+	}
+
+	/**
+	 * Returns if any hidden-gamepad-* rules were specified
+	 * @return False if visibility for {@link InputSource#CONTROLLER} depends only on the input source
+	 */
+	public boolean isGamePadTypeRulesDefined() {
+		return gamePadTypeRulesDefined;
+	}
+
+	public String getRules() {
+		return rules;
+	}
+
+	public FlexDirection getFlexDirection() {
+		return flexDirection;
+	}
+
+	public SizeRule getWidthRule(ScreenSize screenSize) {
+		return widthRules[screenSize.ordinal()];
+	}
+
+	public SizeRule getHeightRule(ScreenSize screenSize) {
+		return heightRules[screenSize.ordinal()];
+	}
+
+	public OffsetRule getOffsetXRule(ScreenSize screenSize) {
+		return offsetXRules[screenSize.ordinal()];
+	}
+
+	public OffsetRule getOffsetYRule(ScreenSize screenSize) {
+		return offsetYRules[screenSize.ordinal()];
+	}
+}
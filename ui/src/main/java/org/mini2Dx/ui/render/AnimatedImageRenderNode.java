@@ -38,6 +38,7 @@ public class AnimatedImageRenderNode extends RenderNode<AnimatedImage, StyleRule
 		if(timer >= frameDuration) {
 			timer -= frameDuration;
 			incrementFrame();
+			invalidateRenderCache();
 		}
 	}
 
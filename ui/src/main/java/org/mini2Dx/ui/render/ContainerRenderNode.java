@@ -33,7 +33,6 @@ import org.mini2Dx.ui.style.ContainerStyleRule;
 public class ContainerRenderNode extends ParentRenderNode<Div, ContainerStyleRule> implements NavigatableRenderNode {
 	private final IntMap<String> keyboardHotkeys = new IntMap<String>();
 	private final ObjectMap<String, String> controllerHotkeys = new ObjectMap<String, String>();
-	private final ObjectMap<String, RenderNode<?, ?>> elementIdLookupCache = new ObjectMap<String, RenderNode<?, ?>>();
 	
 	public ContainerRenderNode(ParentRenderNode<?, ?> parent, Div div) {
 		super(parent, div);
@@ -41,31 +40,10 @@ public class ContainerRenderNode extends ParentRenderNode<Div, ContainerStyleRul
 	
 	@Override
 	public void layout(LayoutState layoutState) {
-		if(isDirty()) {
-			elementIdLookupCache.clear();
-		}
 		((Container) element).getNavigation().layout(layoutState.getScreenSize());
 		super.layout(layoutState);
 	}
 	
-	@Override
-	public RenderNode<?, ?> getElementById(String id) {
-		if (element.getId().equals(id)) {
-			return this;
-		}
-		if(elementIdLookupCache.containsKey(id)) {
-			return elementIdLookupCache.get(id);
-		}
-		for (RenderLayer layer : layers.values()) {
-			RenderNode<?, ?> result = layer.getElementById(id);
-			if (result != null) {
-				elementIdLookupCache.put(id, result);
-				return result;
-			}
-		}
-		return null;
-	}
-
 	@Override
 	public ActionableRenderNode hotkey(int keycode) {
 		String id = keyboardHotkeys.get(keycode);
@@ -125,6 +125,12 @@ public class CustomUiElementRenderNode extends RenderNode<CustomUiElement, Style
 		return result;
 	}
 
+	@Override
+	protected boolean isPointerCaptured() {
+		//Custom elements are notified of every mouse movement
+		return true;
+	}
+
 	@Override
 	public boolean isEnabled() {
 		return element.isEnabled();
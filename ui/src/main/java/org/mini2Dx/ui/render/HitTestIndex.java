@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.ui.render;
+
+import org.mini2Dx.gdx.utils.Array;
+import org.mini2Dx.gdx.utils.IntArray;
+
+/**
+ * A uniform grid over the pointer hit areas of a {@link RenderLayer}'s children.
+ * Point queries only test the children overlapping the grid cell containing the point.
+ */
+final class HitTestIndex {
+	private static final int MAX_CELLS_PER_AXIS = 32;
+
+	private final Array<IntArray> cells = new Array<IntArray>(true, 1, IntArray.class);
+
+	private Array<RenderNode<?, ?>> children;
+	private int columns, rows;
+	private float minX, minY, maxX, maxY;
+	private float cellWidth, cellHeight;
+
+	/**
+	 * Rebuilds the index from the current hit areas of a list of nodes
+	 * @param children The nodes to index
+	 */
+	public void rebuild(Array<RenderNode<?, ?>> children) {
+		this.children = children;
+		for (int i = 0; i < cells.size; i++) {
+			cells.get(i).clear();
+		}
+		if (children.size == 0) {
+			columns = 0;
+			rows = 0;
+			minX = minY = maxX = maxY = 0f;
+			return;
+		}
+
+		minX = Float.MAX_VALUE;
+		minY = Float.MAX_VALUE;
+		maxX = -Float.MAX_VALUE;
+		maxY = -Float.MAX_VALUE;
+		for (int i = 0; i < children.size; i++) {
+			final RenderNode<?, ?> child = children.get(i);
+			minX = Math.min(minX, child.getHitMinX());
+			minY = Math.min(minY, child.getHitMinY());
+			maxX = Math.max(maxX, child.getHitMaxX());
+			maxY = Math.max(maxY, child.getHitMaxY());
+		}
+
+		final int cellsPerAxis = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, (int) Math.ceil(Math.sqrt(children.size))));
+		columns = maxX > minX ? cellsPerAxis : 1;
+		rows = maxY > minY ? cellsPerAxis : 1;
+		cellWidth = columns > 1 ? (maxX - minX) / columns : 1f;
+		cellHeight = rows > 1 ? (maxY - minY) / rows : 1f;
+
+		final int totalCells = columns * rows;
+		while (cells.size < totalCells) {
+			cells.add(new IntArray());
+		}
+
+		for (int i = 0; i < children.size; i++) {
+			final RenderNode<?, ?> child = children.get(i);
+			final int startColumn = getColumn(child.getHitMinX());
+			final int endColumn = getColumn(child.getHitMaxX());
+			final int startRow = getRow(child.getHitMinY());
+			final int endRow = getRow(child.getHitMaxY());
+
+			for (int row = startRow; row <= endRow; row++) {
+				for (int column = startColumn; column <= endColumn; column++) {
+					cells.get((row * columns) + column).add(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the indices of all children whose hit area contains a point
+	 * @param x The x coordinate
+	 * @param y The y coordinate
+	 * @param result The {@link IntArray} to add child indices to (in ascending order)
+	 */
+	public void query(float x, float y, IntArray result) {
+		if (columns == 0 || x < minX || y < minY || x > maxX || y > maxY) {
+			return;
+		}
+		final IntArray cell = cells.get((getRow(y) * columns) + getColumn(x));
+		for (int i = 0; i < cell.size; i++) {
+			final int childIndex = cell.get(i);
+			final RenderNode<?, ?> child = children.get(childIndex);
+			if (x < child.getHitMinX() || y < child.getHitMinY() || x > child.getHitMaxX() || y > child.getHitMaxY()) {
+				continue;
+			}
+			result.add(childIndex);
+		}
+	}
+
+	private int getColumn(float x) {
+		return Math.max(0, Math.min(columns - 1, (int) ((x - minX) / cellWidth)));
+	}
+
+	private int getRow(float y) {
+		return Math.max(0, Math.min(rows - 1, (int) ((y - minY) / cellHeight)));
+	}
+
+	public float getMinX() {
+		return minX;
+	}
+
+	public float getMinY() {
+		return minY;
+	}
+
+	public float getMaxX() {
+		return maxX;
+	}
+
+	public float getMaxY() {
+		return maxY;
+	}
+
+	public boolean isEmpty() {
+		return columns == 0;
+	}
+}
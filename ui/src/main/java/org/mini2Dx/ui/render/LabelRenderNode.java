@@ -20,7 +20,7 @@ import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.exception.MdxException;
 import org.mini2Dx.core.font.GameFont;
 import org.mini2Dx.core.font.GameFontCache;
-import org.mini2Dx.core.graphics.Color;
+import org.mini2Dx.core.font.TextLayoutCache;
 import org.mini2Dx.ui.animation.NullTextAnimation;
 import org.mini2Dx.ui.element.Label;
 import org.mini2Dx.ui.layout.LayoutState;
@@ -34,7 +34,6 @@ public class LabelRenderNode extends RenderNode<Label, LabelStyleRule> {
 
 	protected GameFont font = Mdx.fonts.defaultFont();
 	protected GameFontCache fontCache = Mdx.fonts.defaultFont().newCache();
-	protected final Color white = Mdx.graphics.newColor(1f, 1f, 1f, 1f);
 
 	protected boolean bitmapCacheReset = false;
 
@@ -54,12 +53,16 @@ public class LabelRenderNode extends RenderNode<Label, LabelStyleRule> {
 						element.getHorizontalAlignment().getAlignValue());
 			}
 			bitmapCacheReset = false;
+			invalidateRenderCache();
 		}
 
 		if (element.getTextAnimation() == null) {
 			nullAnimation.update(fontCache, element.getText(), preferredContentWidth,
 					element.getHorizontalAlignment().getAlignValue(), delta);
 		} else {
+			if (!element.getTextAnimation().isFinished()) {
+				invalidateRenderCache();
+			}
 			element.getTextAnimation().update(fontCache, element.getText(), preferredContentWidth,
 					element.getHorizontalAlignment().getAlignValue(), delta);
 		}
@@ -106,12 +109,12 @@ public class LabelRenderNode extends RenderNode<Label, LabelStyleRule> {
 		if (element.isResponsive()) {
 			return style.getRounding().calculateRounding(availableWidth);
 		} else if(parent.getElement().isFlexLayout()) {
-			font.getSharedGlyphLayout().setText(element.getText());
+			final float textWidth = Mdx.fonts.getTextLayoutCache().measure(font, element.getText()).getWidth();
 
-			if (font.getSharedGlyphLayout().getWidth() > availableWidth) {
+			if (textWidth > availableWidth) {
 				return style.getRounding().calculateRounding(availableWidth);
 			}
-			return style.getRounding().calculateRounding(font.getSharedGlyphLayout().getWidth());
+			return style.getRounding().calculateRounding(textWidth);
 		} else {
 			return style.getRounding().calculateRounding(element.getWidth());
 		}
@@ -119,15 +122,14 @@ public class LabelRenderNode extends RenderNode<Label, LabelStyleRule> {
 
 	@Override
 	protected float determinePreferredContentHeight(LayoutState layoutState) {
-		font.getSharedGlyphLayout().setText(element.getText(), white, preferredContentWidth,
-				element.getHorizontalAlignment().getAlignValue(), true);
-		if (style.getMinHeight() > 0 && font.getSharedGlyphLayout().getHeight() + style.getPaddingTop() + style.getPaddingBottom()
+		final float textHeight = measureText().getHeight();
+		if (style.getMinHeight() > 0 && textHeight + style.getPaddingTop() + style.getPaddingBottom()
 				+ style.getMarginTop() + style.getMarginBottom() < style.getMinHeight()) {
 			return style.getMinHeight() - style.getPaddingTop() - style.getPaddingBottom() - style.getMarginTop()
 					- style.getMarginBottom();
 		}
 		if(parent.getElement().isFlexLayout()) {
-			return font.getSharedGlyphLayout().getHeight();
+			return textHeight;
 		} else {
 			return element.getHeight();
 		}
@@ -185,11 +187,14 @@ public class LabelRenderNode extends RenderNode<Label, LabelStyleRule> {
 		}
 		bitmapCacheReset = true;
 
-		font.getSharedGlyphLayout().setText(element.getText(), white, preferredContentWidth,
-				element.getHorizontalAlignment().getAlignValue(), true);
-		if (font.getSharedGlyphLayout().getHeight() == getPreferredContentHeight()) {
+		if (measureText().getHeight() == getPreferredContentHeight()) {
 			return;
 		}
 		setDirty();
 	}
+
+	private TextLayoutCache.TextMeasurement measureText() {
+		return Mdx.fonts.getTextLayoutCache().measure(font, element.getText(), preferredContentWidth,
+				element.getHorizontalAlignment().getAlignValue(), true);
+	}
 }
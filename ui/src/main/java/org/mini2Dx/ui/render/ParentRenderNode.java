@@ -18,7 +18,11 @@ package org.mini2Dx.ui.render;
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.geom.Rectangle;
 import org.mini2Dx.core.Graphics;
+import org.mini2Dx.core.graphics.Colors;
+import org.mini2Dx.core.graphics.FrameBuffer;
+import org.mini2Dx.core.graphics.Mini2DxBlendFunction;
 import org.mini2Dx.core.util.IntTreeMap;
+import org.mini2Dx.gdx.math.MathUtils;
 import org.mini2Dx.gdx.utils.IntMap;
 import org.mini2Dx.ui.UiContainer;
 import org.mini2Dx.ui.element.ParentUiElement;
@@ -38,10 +42,18 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 
 	protected LayoutRuleset layoutRuleset;
 
-	private boolean cachedDirty;
-	protected boolean cachedDirtyUpdateRequired;
+	private static boolean renderCacheRecording = false;
+
+	private boolean childDirty;
+	private boolean hitBoundsDirty = true;
+	private float hitMinX, hitMinY, hitMaxX, hitMaxY;
 
 	private Rectangle cachedClip;
+	private final Rectangle renderCacheClip = new Rectangle();
+
+	private FrameBuffer renderCache;
+	private boolean renderCacheDirty = true;
+	private float renderCacheScaleX, renderCacheScaleY;
 
 	public ParentRenderNode(ParentRenderNode<?, ?> parent, T element) {
 		super(parent, element);
@@ -68,6 +80,125 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 		}
 	}
 
+	@Override
+	public void render(Graphics g) {
+		if (!element.isRenderCacheEnabled()) {
+			if (renderCache != null) {
+				disposeRenderCache();
+			}
+			super.render(g);
+			return;
+		}
+		if (effects.size > 0 || renderCacheRecording || !isIncludedInRender()) {
+			super.render(g);
+			return;
+		}
+
+		final float scaleX = g.getScaleX();
+		final float scaleY = g.getScaleY();
+		final int cacheWidth = Math.max(1, MathUtils.ceil(getOuterRenderWidth() * scaleX));
+		final int cacheHeight = Math.max(1, MathUtils.ceil(getOuterRenderHeight() * scaleY));
+		if (renderCache != null && (renderCache.getWidth() != cacheWidth || renderCache.getHeight() != cacheHeight)) {
+			disposeRenderCache();
+		}
+		if (renderCache == null) {
+			renderCache = Mdx.graphics.newFrameBuffer(cacheWidth, cacheHeight);
+			renderCacheDirty = true;
+		}
+		if (renderCacheScaleX != scaleX || renderCacheScaleY != scaleY) {
+			renderCacheDirty = true;
+		}
+
+		if (renderCacheDirty) {
+			renderCacheScaleX = scaleX;
+			renderCacheScaleY = scaleY;
+			renderToCache(g);
+		} else {
+			syncWithCachedRender();
+		}
+
+		//The cache holds premultiplied alpha so that translucent content is not blended twice
+		g.enableBlending();
+		g.setBlendFunction(Mini2DxBlendFunction.ONE, Mini2DxBlendFunction.ONE_MINUS_SRC_ALPHA);
+		//Frame buffer textures are stored bottom-up so are drawn without the usual y flip
+		g.drawTexture(renderCache.getTexture(), getOuterRenderX(), getOuterRenderY(),
+				cacheWidth / scaleX, cacheHeight / scaleY, false);
+		g.clearBlendFunction();
+	}
+
+	private void renderToCache(Graphics g) {
+		final float previousTranslationX = g.getTranslationX();
+		final float previousTranslationY = g.getTranslationY();
+
+		g.flush();
+		//Ancestor clips are in world coordinates and would be misplaced inside the cache
+		g.peekClip(renderCacheClip);
+		final boolean clipped = g.removeClip() != null;
+		renderCache.begin();
+		renderCacheRecording = true;
+		try {
+			g.setTranslation(getOuterRenderX(), getOuterRenderY());
+			g.clearContext(Colors.CLEAR());
+			g.enableBlending();
+			g.setBlendFunction(Mini2DxBlendFunction.SRC_ALPHA, Mini2DxBlendFunction.ONE_MINUS_SRC_ALPHA,
+					Mini2DxBlendFunction.ONE, Mini2DxBlendFunction.ONE_MINUS_SRC_ALPHA);
+			super.render(g);
+			g.flush();
+			renderCacheDirty = false;
+		} finally {
+			renderCacheRecording = false;
+			g.clearBlendFunction();
+			g.setTranslation(previousTranslationX, previousTranslationY);
+			renderCache.end();
+			if (clipped) {
+				g.setClip(renderCacheClip);
+			}
+		}
+	}
+
+	@Override
+	void syncWithCachedRender() {
+		if (!isIncludedInRender()) {
+			return;
+		}
+		element.syncWithRender(rootNode);
+		final IntMap.Keys keys = layers.ascendingKeys();
+		keys.reset();
+		while(keys.hasNext) {
+			layers.get(keys.next()).syncWithCachedRender();
+		}
+	}
+
+	@Override
+	public void invalidateRenderCache() {
+		renderCacheDirty = true;
+		super.invalidateRenderCache();
+	}
+
+	/**
+	 * Returns if this node's rendering is currently cached and up to date
+	 * @return False if the next render will re-render this node's subtree
+	 */
+	public boolean isRenderCacheValid() {
+		return renderCache != null && !renderCacheDirty;
+	}
+
+	/**
+	 * Releases the offscreen buffer used to cache rendering of this node and its descendants
+	 */
+	public void disposeRenderCache() {
+		renderCacheDirty = true;
+		if (renderCache != null) {
+			renderCache.dispose();
+			renderCache = null;
+		}
+		final IntMap.Keys keys = layers.ascendingKeys();
+		keys.reset();
+		while(keys.hasNext) {
+			layers.get(keys.next()).disposeRenderCache();
+		}
+	}
+
 	protected void renderBackground(Graphics g) {
 		switch(getState()) {
 		case NORMAL:
@@ -100,9 +231,9 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 			}
 			g.peekClip(cachedClip);
 			if(effects.size == 0) {
-				g.setClip(outerArea);
+				g.setClip(getOuterX(), getOuterY(), getOuterWidth(), getOuterHeight());
 			} else {
-				g.setClip(outerArea.getRenderX(), outerArea.getRenderY(), outerArea.getRenderWidth(), outerArea.getRenderHeight());
+				g.setClip(getOuterRenderX(), getOuterRenderY(), getOuterRenderWidth(), getOuterRenderHeight());
 			}
 		}
 
@@ -122,9 +253,9 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 
 	@Override
 	public void layout(LayoutState layoutState) {
-		if (!isDirty() && !layoutState.isScreenSizeChanged()) {
+		if (!isLayoutRequired(layoutState)) {
 			if (element.isDebugEnabled()) {
-				Mdx.log.debug(LOGGING_TAG, "Layout not triggered - " + isImmediateDirty() + " " + isChildDirty() + " " + cachedDirty);
+				Mdx.log.debug(LOGGING_TAG, "Layout not triggered - " + isImmediateDirty() + " " + childDirty);
 			}
 			return;
 		}
@@ -136,11 +267,12 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 		}
 
 		float parentWidth = layoutState.getParentWidth();
+		beginLayout();
 		rootNode = layoutState.getUiContainerRenderTree();
 		style = determineStyleRule(layoutState);
 
 		if (this.zIndex != element.getZIndex()) {
-			parent.removeChild(this);
+			parent.removeChildFromLayer(this);
 			zIndex = element.getZIndex();
 			parent.addChild(this);
 		}
@@ -169,7 +301,6 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 			preferredContentHeight = determinePreferredContentHeight(layoutState);
 		}
 		clearDirty();
-		cachedDirtyUpdateRequired = true;
 		initialLayoutOccurred = true;
 
 		element.syncWithLayout(rootNode);
@@ -291,41 +422,143 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 			layers.put(zIndex, new RenderLayer(this, zIndex));
 		}
 		layers.get(zIndex).add(child);
+		if (getIndexedRenderTree() != null) {
+			child.registerElementIds(getIndexedRenderTree());
+		}
+		invalidateHitTestIndex(child);
 		setDirty();
 	}
 
 	public void removeChild(RenderNode<?, ?> child) {
+		if (removeChildFromLayer(child)) {
+			child.disposeEffectArea();
+		}
+	}
+
+	/**
+	 * Removes a child from its layer without releasing its effect area, e.g. when it is moving to another layer
+	 * @param child The child node
+	 * @return False if the child's layer does not exist
+	 */
+	boolean removeChildFromLayer(RenderNode<?, ?> child) {
 		if (!layers.containsKey(child.getZIndex())) {
-			return;
+			return false;
 		}
 		layers.get(child.getZIndex()).remove(child);
+		child.unregisterElementIds();
+		invalidateHitTestIndex(child);
 		setDirty();
+		return true;
 	}
 
 	public void clearChildren() {
+		for (RenderLayer layer : layers.values()) {
+			layer.unregisterElementIds();
+			layer.disposeEffectAreas();
+		}
 		layers.clear();
+		invalidateHitTestIndex();
 		setDirty();
 	}
 
-	@Override
-	public boolean isDirty() {
-		if(cachedDirtyUpdateRequired) {
-			cachedDirty = isChildDirty() || super.isDirty();
-			cachedDirtyUpdateRequired = false;
+	/**
+	 * Called when a child's pointer hit area has changed
+	 * @param child The child node
+	 */
+	void invalidateHitTestIndex(RenderNode<?, ?> child) {
+		final RenderLayer layer = layers.get(child.getZIndex());
+		if (layer != null) {
+			layer.invalidateHitTestIndex();
 		}
-		return cachedDirty;
+		invalidateHitTestIndex();
 	}
 
 	@Override
-	public boolean setDirty() {
-		if (layers == null || layers.size == 0) {
-			cachedDirtyUpdateRequired |= super.setDirty();
-		} else {
+	void invalidateHitTestIndex() {
+		hitBoundsDirty = true;
+		super.invalidateHitTestIndex();
+	}
+
+	void onChildStateChanged(RenderNode<?, ?> child) {
+		final RenderLayer layer = layers.get(child.getZIndex());
+		if (layer != null) {
+			layer.updatePointerActive(child);
+		}
+	}
+
+	/**
+	 * Returns if child nodes receive pointer events in the same coordinate space as this node.
+	 * When false, this node's hit area does not include its children.
+	 * @return True by default
+	 */
+	protected boolean isChildHitAreaIncluded() {
+		return true;
+	}
+
+	private void ensureHitBounds() {
+		if (!hitBoundsDirty) {
+			return;
+		}
+		hitMinX = getOwnHitMinX();
+		hitMinY = getOwnHitMinY();
+		hitMaxX = getOwnHitMaxX();
+		hitMaxY = getOwnHitMaxY();
+		if (isChildHitAreaIncluded()) {
 			for (RenderLayer layer : layers.values()) {
-				cachedDirtyUpdateRequired |= layer.setDirty();
+				if (layer.isHitTestIndexEmpty()) {
+					continue;
+				}
+				hitMinX = Math.min(hitMinX, layer.getHitMinX());
+				hitMinY = Math.min(hitMinY, layer.getHitMinY());
+				hitMaxX = Math.max(hitMaxX, layer.getHitMaxX());
+				hitMaxY = Math.max(hitMaxY, layer.getHitMaxY());
 			}
 		}
-		return cachedDirtyUpdateRequired;
+		hitBoundsDirty = false;
+	}
+
+	@Override
+	float getHitMinX() {
+		ensureHitBounds();
+		return hitMinX;
+	}
+
+	@Override
+	float getHitMinY() {
+		ensureHitBounds();
+		return hitMinY;
+	}
+
+	@Override
+	float getHitMaxX() {
+		ensureHitBounds();
+		return hitMaxX;
+	}
+
+	@Override
+	float getHitMaxY() {
+		ensureHitBounds();
+		return hitMaxY;
+	}
+
+	@Override
+	public boolean isDirty() {
+		return childDirty || super.isDirty();
+	}
+
+	@Override
+	protected void clearDirty() {
+		super.clearDirty();
+		childDirty = isChildDirty();
+	}
+
+	@Override
+	public boolean setSubtreeDirty() {
+		boolean result = super.setDirty();
+		for (RenderLayer layer : layers.values()) {
+			result |= layer.setSubtreeDirty();
+		}
+		return result;
 	}
 
 	protected boolean isImmediateDirty() {
@@ -345,8 +578,15 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 		return false;
 	}
 
+	/**
+	 * Flags that a descendant of this node requires layout. Propagates upwards
+	 * until an ancestor that is already flagged is reached.
+	 */
 	public void setChildDirty() {
-		cachedDirtyUpdateRequired = true;
+		if(childDirty) {
+			return;
+		}
+		childDirty = true;
 		if(parent == null) {
 			return;
 		}
@@ -364,10 +604,42 @@ public abstract class ParentRenderNode<T extends ParentUiElement, S extends Pare
 		}
 	}
 
+	@Override
+	void registerElementIds(UiContainerRenderTree renderTree) {
+		super.registerElementIds(renderTree);
+		for (RenderLayer layer : layers.values()) {
+			layer.registerElementIds(renderTree);
+		}
+	}
+
+	@Override
+	void unregisterElementIds() {
+		super.unregisterElementIds();
+		for (RenderLayer layer : layers.values()) {
+			layer.unregisterElementIds();
+		}
+	}
+
 	public RenderNode<?, ?> getElementById(String id) {
 		if (element.getId().equals(id)) {
 			return this;
 		}
+		final UiContainerRenderTree renderTree = getIndexedRenderTree();
+		if (renderTree != null) {
+			final RenderNode<?, ?> result = renderTree.getIndexedElementById(id, this);
+			if (result != null) {
+				return result;
+			}
+		}
+		return getLayerElementById(id);
+	}
+
+	/**
+	 * Searches this node's layers depth-first for a {@link RenderNode} with a given id
+	 * @param id The element id
+	 * @return Null if no descendant has the id
+	 */
+	RenderNode<?, ?> getLayerElementById(String id) {
 		for (RenderLayer layer : layers.values()) {
 			RenderNode<?, ?> result = layer.getElementById(id);
 			if (result != null) {
@@ -116,6 +116,10 @@ public class ProgressBarRenderNode extends RenderNode<ProgressBar, ProgressBarSt
 
 	public void updateFillWidth() {
 		multiplier = element.getValue() / element.getMax();
+		final float previousFillWidth = fillWidth;
 		fillWidth = MathUtils.round(getContentRenderWidth() * multiplier);
+		if (previousFillWidth != fillWidth) {
+			invalidateRenderCache();
+		}
 	}
 }
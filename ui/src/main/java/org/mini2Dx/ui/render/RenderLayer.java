@@ -17,6 +17,7 @@ package org.mini2Dx.ui.render;
 
 import org.mini2Dx.gdx.utils.Array;
 import org.mini2Dx.core.Graphics;
+import org.mini2Dx.gdx.utils.IntArray;
 import org.mini2Dx.ui.layout.LayoutRuleset;
 import org.mini2Dx.ui.layout.LayoutState;
 
@@ -27,6 +28,11 @@ public class RenderLayer implements Comparable<RenderLayer> {
 	protected final Array<RenderNode<?, ?>> children = new Array<RenderNode<?, ?>>(1);
 	protected final ParentRenderNode<?, ?> owner;
 	protected final int zIndex;
+
+	private final HitTestIndex hitTestIndex = new HitTestIndex();
+	private final Array<RenderNode<?, ?>> pointerActiveChildren = new Array<RenderNode<?, ?>>(false, 2);
+	private final IntArray hitCandidates = new IntArray();
+	private boolean hitTestIndexDirty = true;
 	
 	public RenderLayer(ParentRenderNode<?, ?> owner, int zIndex) {
 		this.owner = owner;
@@ -35,10 +41,14 @@ public class RenderLayer implements Comparable<RenderLayer> {
 	
 	public void add(RenderNode<?, ?> child) {
 		children.add(child);
+		hitTestIndexDirty = true;
+		updatePointerActive(child);
 	}
 	
 	public void remove(RenderNode<?, ?> child) {
 		children.removeValue(child, false);
+		pointerActiveChildren.removeValue(child, true);
+		hitTestIndexDirty = true;
 	}
 	
 	public void update(UiContainerRenderTree uiContainer, float delta) {
@@ -53,14 +63,46 @@ public class RenderLayer implements Comparable<RenderLayer> {
 		}
 	}
 	
+	/**
+	 * Renders only the children that overlap a vertical range
+	 * @param g The {@link Graphics} context
+	 * @param minY The minimum y coordinate to render
+	 * @param maxY The maximum y coordinate to render
+	 */
+	public void render(Graphics g, float minY, float maxY) {
+		for (int i = 0; i < children.size; i++) {
+			final RenderNode<?, ?> child = children.get(i);
+			if (child.getOuterY() > maxY || child.getOuterY() + child.getOuterHeight() < minY) {
+				continue;
+			}
+			child.render(g);
+		}
+	}
+	
+	void syncWithCachedRender() {
+		for (int i = 0; i < children.size; i++) {
+			children.get(i).syncWithCachedRender();
+		}
+	}
+
+	void disposeRenderCache() {
+		for (int i = 0; i < children.size; i++) {
+			final RenderNode<?, ?> child = children.get(i);
+			if (child instanceof ParentRenderNode) {
+				((ParentRenderNode<?, ?>) child).disposeRenderCache();
+			}
+		}
+	}
+
 	public void layout(LayoutState layoutState, LayoutRuleset layoutRuleset) {
 		layoutRuleset.layout(layoutState, owner, children);
 	}
 	
 	public boolean mouseScrolled(int screenX, int screenY, float amount) {
 		boolean result = false;
-		for(int i = children.size - 1; i >= 0; i--) {
-			if(children.get(i).mouseScrolled(screenX, screenY, amount)) {
+		final IntArray candidates = getHitCandidates(screenX, screenY);
+		for(int i = candidates.size - 1; i >= 0; i--) {
+			if(children.get(candidates.get(i)).mouseScrolled(screenX, screenY, amount)) {
 				result = true;
 			}
 		}
@@ -69,26 +111,113 @@ public class RenderLayer implements Comparable<RenderLayer> {
 	
 	public boolean mouseMoved(int screenX, int screenY) {
 		boolean result = false;
-		for(int i = children.size - 1; i >= 0; i--) {
-			if(children.get(i).mouseMoved(screenX, screenY)) {
+		final IntArray candidates = getHitCandidates(screenX, screenY);
+		for(int i = candidates.size - 1; i >= 0; i--) {
+			final RenderNode<?, ?> child = children.get(candidates.get(i));
+			if(child.mouseMoved(screenX, screenY)) {
 				result = true;
 			}
+			updatePointerActive(child);
 		}
 		return result;
 	}
 	
 	public ActionableRenderNode mouseDown(int screenX, int screenY, int pointer, int button) {
-		for (int i = children.size - 1; i >= 0; i--) {
-			if(!children.get(i).isIncludedInRender()) {
+		final IntArray candidates = getHitCandidates(screenX, screenY);
+		for (int i = candidates.size - 1; i >= 0; i--) {
+			final RenderNode<?, ?> child = children.get(candidates.get(i));
+			if(!child.isIncludedInRender()) {
 				continue;
 			}
-			ActionableRenderNode result = children.get(i).mouseDown(screenX, screenY, pointer, button);
+			ActionableRenderNode result = child.mouseDown(screenX, screenY, pointer, button);
+			updatePointerActive(child);
 			if (result != null) {
 				return result;
 			}
 		}
 		return null;
 	}
+
+	/**
+	 * Returns the indices (ascending) of children that may respond to a pointer event at a point.
+	 * This is the children whose hit area contains the point plus any children that are
+	 * hovered, actioned or capturing the pointer.
+	 */
+	private IntArray getHitCandidates(int screenX, int screenY) {
+		ensureHitTestIndex();
+		hitCandidates.clear();
+		hitTestIndex.query(screenX, screenY, hitCandidates);
+		for (int i = 0; i < pointerActiveChildren.size; i++) {
+			hitCandidates.add(pointerActiveChildren.get(i).getHitTestPosition());
+		}
+		if (pointerActiveChildren.size > 0) {
+			hitCandidates.sort();
+			int uniqueSize = 0;
+			for (int i = 0; i < hitCandidates.size; i++) {
+				if (uniqueSize > 0 && hitCandidates.get(uniqueSize - 1) == hitCandidates.get(i)) {
+					continue;
+				}
+				hitCandidates.set(uniqueSize, hitCandidates.get(i));
+				uniqueSize++;
+			}
+			hitCandidates.size = uniqueSize;
+		}
+		return hitCandidates;
+	}
+
+	private void ensureHitTestIndex() {
+		if (!hitTestIndexDirty) {
+			return;
+		}
+		for (int i = 0; i < children.size; i++) {
+			children.get(i).setHitTestPosition(i);
+		}
+		hitTestIndex.rebuild(children);
+		hitTestIndexDirty = false;
+	}
+
+	/**
+	 * Tracks children that must receive pointer events even when the pointer is outside their area
+	 * @param child The child that changed state
+	 */
+	void updatePointerActive(RenderNode<?, ?> child) {
+		if (child.getState() != NodeState.NORMAL || child.isPointerCaptured()) {
+			if (!pointerActiveChildren.contains(child, true)) {
+				pointerActiveChildren.add(child);
+			}
+		} else {
+			pointerActiveChildren.removeValue(child, true);
+		}
+	}
+
+	void invalidateHitTestIndex() {
+		hitTestIndexDirty = true;
+	}
+
+	float getHitMinX() {
+		ensureHitTestIndex();
+		return hitTestIndex.getMinX();
+	}
+
+	float getHitMinY() {
+		ensureHitTestIndex();
+		return hitTestIndex.getMinY();
+	}
+
+	float getHitMaxX() {
+		ensureHitTestIndex();
+		return hitTestIndex.getMaxX();
+	}
+
+	float getHitMaxY() {
+		ensureHitTestIndex();
+		return hitTestIndex.getMaxY();
+	}
+
+	boolean isHitTestIndexEmpty() {
+		ensureHitTestIndex();
+		return hitTestIndex.isEmpty();
+	}
 	
 	public float determinePreferredContentHeight(LayoutState layoutState) {
 		float maxHeight = 0f;
@@ -114,10 +243,10 @@ public class RenderLayer implements Comparable<RenderLayer> {
 		return false;
 	}
 	
-	public boolean setDirty() {
+	public boolean setSubtreeDirty() {
 		boolean result = false;
 		for (int i = children.size - 1; i >= 0; i--) {
-			result |= children.get(i).setDirty();
+			result |= children.get(i).setSubtreeDirty();
 		}
 		return result;
 	}
@@ -128,6 +257,24 @@ public class RenderLayer implements Comparable<RenderLayer> {
 		}
 	}
 	
+	void registerElementIds(UiContainerRenderTree renderTree) {
+		for (int i = 0; i < children.size; i++) {
+			children.get(i).registerElementIds(renderTree);
+		}
+	}
+
+	void unregisterElementIds() {
+		for (int i = 0; i < children.size; i++) {
+			children.get(i).unregisterElementIds();
+		}
+	}
+
+	void disposeEffectAreas() {
+		for (int i = 0; i < children.size; i++) {
+			children.get(i).disposeEffectArea();
+		}
+	}
+	
 	public RenderNode<?, ?> getElementById(String id) {
 		for (RenderNode<?, ?> child : children) {
 			RenderNode<?, ?> result = child.getElementById(id);
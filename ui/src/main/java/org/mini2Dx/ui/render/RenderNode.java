@@ -36,7 +36,6 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 	private static final String LOGGING_TAG = RenderNode.class.getSimpleName();
 
 	protected final Array<UiEffect> effects = new Array<UiEffect>(true, 1, UiEffect.class);
-	protected final CollisionBox outerArea = new CollisionBox();
 	protected final Rectangle innerArea = new Rectangle();
 	protected final Rectangle targetOuterArea = new Rectangle();
 	protected final ParentRenderNode<?, ?> parent;
@@ -50,6 +49,16 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 	protected boolean hiddenByLayoutRule = false;
 	protected boolean initialLayoutOccurred = false, initialUpdateOccurred = false;
 	private float relativeX, relativeY;
+	private float layoutParentWidth = -1f;
+	private int hitTestPosition;
+	private int totalLayouts;
+	private float outerX, outerY, outerWidth, outerHeight;
+	private int outerRenderX, outerRenderY, outerRenderWidth, outerRenderHeight;
+	/**
+	 * Only allocated while {@link UiEffect}s are applied so that interpolation is limited to animating nodes
+	 */
+	private CollisionBox effectArea;
+	private UiContainerRenderTree indexedRenderTree;
 	private boolean dirty;
 	private boolean includeInRender = false;
 	private NodeState state = NodeState.NORMAL;
@@ -72,6 +81,10 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 		if (style == null) {
 			throw new MdxException("No style found for element: " + getId());
 		}
+		final float previousHitMinX = getOwnHitMinX();
+		final float previousHitMinY = getOwnHitMinY();
+		final float previousHitMaxX = getOwnHitMaxX();
+		final float previousHitMaxY = getOwnHitMaxY();
 		if (parent == null) {
 			targetOuterArea.set(relativeX, relativeY,
 					getPreferredOuterWidth(), getPreferredOuterHeight());
@@ -83,9 +96,17 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 
 		boolean visible = isScheduledToRender();
 		if (effects.size == 0) {
-			outerArea.forceTo(targetOuterArea.getX(), targetOuterArea.getY(),
+			if (effectArea != null) {
+				disposeEffectArea();
+				invalidateRenderCache();
+			}
+			setOuterArea(targetOuterArea.getX(), targetOuterArea.getY(),
 					targetOuterArea.getWidth(), targetOuterArea.getHeight());
 		} else {
+			if (effectArea == null) {
+				effectArea = new CollisionBox(outerX, outerY, outerWidth, outerHeight);
+			}
+			invalidateRenderCache();
 			for (int i = 0; i < effects.size; i++) {
 				UiEffect effect = effects.get(i);
 				if (effect.isFinished()) {
@@ -96,17 +117,25 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 					continue;
 				}
 
-				visible &= effect.update(uiContainer, outerArea, targetOuterArea, delta);
+				visible &= effect.update(uiContainer, effectArea, targetOuterArea, delta);
 			}
+			outerX = effectArea.getX();
+			outerY = effectArea.getY();
+			outerWidth = effectArea.getWidth();
+			outerHeight = effectArea.getHeight();
 		}
 		includeInRender = visible;
 
 		if (element.isDebugEnabled()) {
-			Mdx.log.debug(element.getId(), "UPDATE - outerArea: " + outerArea + ", targetArea: " + targetOuterArea
+			Mdx.log.debug(element.getId(), "UPDATE - outerArea: " + outerAreaToString() + ", targetArea: " + targetOuterArea
 					+ ", visibility: " + element.getVisibility());
 		}
 
 		innerArea.set(getInnerX(), getInnerY(), getInnerWidth(), getInnerHeight());
+		if (previousHitMinX != getOwnHitMinX() || previousHitMinY != getOwnHitMinY() ||
+				previousHitMaxX != getOwnHitMaxX() || previousHitMaxY != getOwnHitMaxY()) {
+			invalidateHitTestIndex();
+		}
 		initialUpdateOccurred = true;
 
 		element.syncWithUpdate(rootNode);
@@ -135,6 +164,16 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 		element.syncWithRender(rootNode);
 	}
 
+	/**
+	 * Called instead of {@link #render(Graphics)} when an ancestor draws this node from its render cache
+	 */
+	void syncWithCachedRender() {
+		if (!isIncludedInRender()) {
+			return;
+		}
+		element.syncWithRender(rootNode);
+	}
+
 	public void beginFakeHover() {
 		mouseMoved(MathUtils.round(innerArea.getCenterX()), MathUtils.round(innerArea.getCenterY()));
 		if(rootNode == null) {
@@ -176,6 +215,120 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 	public void mouseUp(int screenX, int screenY, int pointer, int button) {
 	}
 
+	/**
+	 * Returns if this node must receive pointer events even when the pointer is outside of it,
+	 * e.g. while dragging
+	 * @return False by default
+	 */
+	protected boolean isPointerCaptured() {
+		return false;
+	}
+
+	/**
+	 * Notifies ancestors that the area this node responds to pointer events in has changed
+	 */
+	void invalidateHitTestIndex() {
+		if (parent != null) {
+			parent.invalidateHitTestIndex(this);
+		}
+	}
+
+	/**
+	 * Adds this node and its descendants to the element id index of a {@link UiContainerRenderTree}
+	 * @param renderTree The {@link UiContainerRenderTree} this node is now attached to
+	 */
+	void registerElementIds(UiContainerRenderTree renderTree) {
+		indexedRenderTree = renderTree;
+		renderTree.registerElementId(this);
+	}
+
+	/**
+	 * Removes this node and its descendants from the element id index they were added to
+	 */
+	void unregisterElementIds() {
+		if (indexedRenderTree == null) {
+			return;
+		}
+		indexedRenderTree.unregisterElementId(this);
+		indexedRenderTree = null;
+	}
+
+	/**
+	 * Releases the {@link CollisionBox} used while {@link UiEffect}s are applied so that a node
+	 * removed mid-effect does not keep its interpolation slot. It is re-created if the node is updated with effects again.
+	 */
+	void disposeEffectArea() {
+		if (effectArea == null) {
+			return;
+		}
+		effectArea.dispose();
+		effectArea = null;
+	}
+
+	/**
+	 * Returns the {@link UiContainerRenderTree} whose element id index contains this node
+	 * @return Null if this node is not attached to a {@link UiContainerRenderTree}
+	 */
+	UiContainerRenderTree getIndexedRenderTree() {
+		return indexedRenderTree;
+	}
+
+	/**
+	 * Returns if this node is a descendant of another node
+	 * @param ancestor The potential ancestor
+	 * @return True if ancestor is found in this node's parent chain
+	 */
+	boolean isDescendantOf(ParentRenderNode<?, ?> ancestor) {
+		ParentRenderNode<?, ?> node = parent;
+		while (node != null) {
+			if (node == ancestor) {
+				return true;
+			}
+			node = node.parent;
+		}
+		return false;
+	}
+
+	final float getOwnHitMinX() {
+		return Math.min(outerX, innerArea.getX());
+	}
+
+	final float getOwnHitMinY() {
+		return Math.min(outerY, innerArea.getY());
+	}
+
+	final float getOwnHitMaxX() {
+		return Math.max(outerX + outerWidth, innerArea.getX() + innerArea.getWidth());
+	}
+
+	final float getOwnHitMaxY() {
+		return Math.max(outerY + outerHeight, innerArea.getY() + innerArea.getHeight());
+	}
+
+	float getHitMinX() {
+		return getOwnHitMinX();
+	}
+
+	float getHitMinY() {
+		return getOwnHitMinY();
+	}
+
+	float getHitMaxX() {
+		return getOwnHitMaxX();
+	}
+
+	float getHitMaxY() {
+		return getOwnHitMaxY();
+	}
+
+	int getHitTestPosition() {
+		return hitTestPosition;
+	}
+
+	void setHitTestPosition(int hitTestPosition) {
+		this.hitTestPosition = hitTestPosition;
+	}
+
 	public boolean contains(float screenX, float screenY) {
 		return innerArea.contains(screenX, screenY);
 	}
@@ -203,17 +356,18 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 	protected abstract float determineYOffset(LayoutState layoutState);
 
 	public void layout(LayoutState layoutState) {
-		if (!isDirty() && !layoutState.isScreenSizeChanged()) {
+		if (!isLayoutRequired(layoutState)) {
 			return;
 		}
 		if (element.isDebugEnabled()) {
 			Mdx.log.debug(LOGGING_TAG, "Layout triggered");
 		}
+		beginLayout();
 		rootNode = layoutState.getUiContainerRenderTree();
 		style = determineStyleRule(layoutState);
 
 		if (this.zIndex != element.getZIndex()) {
-			parent.removeChild(this);
+			parent.removeChildFromLayer(this);
 			zIndex = element.getZIndex();
 			parent.addChild(this);
 		}
@@ -224,6 +378,7 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 			preferredContentHeight = 0f;
 			xOffset = 0f;
 			yOffset = 0f;
+			dirty = false;
 			element.syncWithLayout(rootNode);
 			return;
 		default:
@@ -239,6 +394,42 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 		element.syncWithLayout(rootNode);
 	}
 
+	/**
+	 * Returns if this node needs to be laid out. Nodes that are not dirty keep their
+	 * cached preferred sizes unless the screen size or their parent's width has changed.
+	 * @param layoutState The current {@link LayoutState}
+	 * @return True if layout is required
+	 */
+	protected boolean isLayoutRequired(LayoutState layoutState) {
+		if (isDirty() || layoutState.isScreenSizeChanged()) {
+			return true;
+		}
+		return getLayoutParentWidth() != layoutParentWidth;
+	}
+
+	/**
+	 * Records the constraints this node is being laid out with
+	 */
+	protected void beginLayout() {
+		layoutParentWidth = getLayoutParentWidth();
+		totalLayouts++;
+	}
+
+	private float getLayoutParentWidth() {
+		if (parent == null) {
+			return 0f;
+		}
+		return parent.getPreferredContentWidth();
+	}
+
+	/**
+	 * Returns the number of times this node has been laid out
+	 * @return 0 if no layout has occurred
+	 */
+	public int getTotalLayouts() {
+		return totalLayouts;
+	}
+
 	public boolean isIncludedInLayout() {
 		if (hiddenByLayoutRule) {
 			return false;
@@ -292,9 +483,27 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 		if(parent != null) {
 			parent.setChildDirty();
 		}
+		invalidateRenderCache();
 		return result;
 	}
 
+	/**
+	 * Invalidates any cached rendering of this node's ancestors
+	 */
+	public void invalidateRenderCache() {
+		if(parent != null) {
+			parent.invalidateRenderCache();
+		}
+	}
+
+	/**
+	 * Marks this node and all of its descendants as requiring layout
+	 * @return True if this node was not already dirty
+	 */
+	public boolean setSubtreeDirty() {
+		return setDirty();
+	}
+
 	public void applyEffect(UiEffect effect) {
 		effect.preBegin(element);
 		effects.add(effect);
@@ -362,92 +571,139 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 		return yOffset;
 	}
 
+	/**
+	 * Sets the outer area of this node without interpolation
+	 * @param x The x coordinate
+	 * @param y The y coordinate
+	 * @param width The width
+	 * @param height The height
+	 */
+	protected void setOuterArea(float x, float y, float width, float height) {
+		outerX = x;
+		outerY = y;
+		outerWidth = width;
+		outerHeight = height;
+
+		final int renderX = MathUtils.round(x);
+		final int renderY = MathUtils.round(y);
+		final int renderWidth = MathUtils.round(width);
+		final int renderHeight = MathUtils.round(height);
+		if (renderX == outerRenderX && renderY == outerRenderY &&
+				renderWidth == outerRenderWidth && renderHeight == outerRenderHeight) {
+			return;
+		}
+		outerRenderX = renderX;
+		outerRenderY = renderY;
+		outerRenderWidth = renderWidth;
+		outerRenderHeight = renderHeight;
+		invalidateRenderCache();
+	}
+
+	private String outerAreaToString() {
+		if(effectArea != null) {
+			return effectArea.toString();
+		}
+		return "[x=" + outerX + ", y=" + outerY + ", width=" + outerWidth + ", height=" + outerHeight + "]";
+	}
+
 	public float getOuterX() {
-		return outerArea.getX();
+		return outerX;
 	}
 
 	public float getOuterY() {
-		return outerArea.getY();
+		return outerY;
 	}
 
 	public float getOuterWidth() {
-		return outerArea.getWidth();
+		return outerWidth;
 	}
 
 	public float getOuterHeight() {
-		return outerArea.getHeight();
+		return outerHeight;
 	}
 
 	public int getOuterRenderX() {
-		return outerArea.getRenderX();
+		if(effectArea != null) {
+			return effectArea.getRenderX();
+		}
+		return outerRenderX;
 	}
 
 	public int getOuterRenderY() {
-		return outerArea.getRenderY();
+		if(effectArea != null) {
+			return effectArea.getRenderY();
+		}
+		return outerRenderY;
 	}
 
 	public int getOuterRenderWidth() {
-		return outerArea.getRenderWidth();
+		if(effectArea != null) {
+			return effectArea.getRenderWidth();
+		}
+		return outerRenderWidth;
 	}
 
 	public int getOuterRenderHeight() {
-		return outerArea.getRenderHeight();
+		if(effectArea != null) {
+			return effectArea.getRenderHeight();
+		}
+		return outerRenderHeight;
 	}
 	
 	public float getInnerX() {
 		if(style == null) {
-			return outerArea.getX();
+			return outerX;
 		}
-		return outerArea.getX() + style.getMarginLeft();
+		return outerX + style.getMarginLeft();
 	}
 
 	public float getInnerY() {
 		if(style == null) {
-			return outerArea.getY();
+			return outerY;
 		}
-		return outerArea.getY() + style.getMarginTop();
+		return outerY + style.getMarginTop();
 	}
 
 	public float getInnerWidth() {
 		if(style == null) {
-			return outerArea.getWidth();
+			return outerWidth;
 		}
-		return outerArea.getWidth() - style.getMarginLeft() - style.getMarginRight();
+		return outerWidth - style.getMarginLeft() - style.getMarginRight();
 	}
 
 	public float getInnerHeight() {
 		if(style == null) {
-			return outerArea.getHeight();
+			return outerHeight;
 		}
-		return outerArea.getHeight() - style.getMarginTop() - style.getMarginBottom();
+		return outerHeight - style.getMarginTop() - style.getMarginBottom();
 	}
 
 	public int getInnerRenderX() {
 		if(style == null) {
-			return outerArea.getRenderX();
+			return getOuterRenderX();
 		}
-		return outerArea.getRenderX() + style.getMarginLeft();
+		return getOuterRenderX() + style.getMarginLeft();
 	}
 
 	public int getInnerRenderY() {
 		if(style == null) {
-			return outerArea.getRenderY();
+			return getOuterRenderY();
 		}
-		return outerArea.getRenderY() + style.getMarginTop();
+		return getOuterRenderY() + style.getMarginTop();
 	}
 
 	public int getInnerRenderWidth() {
 		if(style == null) {
-			return outerArea.getRenderWidth();
+			return getOuterRenderWidth();
 		}
-		return outerArea.getRenderWidth() - style.getMarginLeft() - style.getMarginRight();
+		return getOuterRenderWidth() - style.getMarginLeft() - style.getMarginRight();
 	}
 
 	public int getInnerRenderHeight() {
 		if(style == null) {
-			return outerArea.getRenderHeight();
+			return getOuterRenderHeight();
 		}
-		return outerArea.getRenderHeight() - style.getMarginTop() - style.getMarginBottom();
+		return getOuterRenderHeight() - style.getMarginTop() - style.getMarginBottom();
 	}
 	
 	public int getContentRenderX() {
@@ -486,6 +742,10 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 		NodeState previousState = this.state;
 		this.state = state;
 		if (previousState != state) {
+			invalidateRenderCache();
+			if (parent != null) {
+				parent.onChildStateChanged(this);
+			}
 			element.notifyNodeStateListeners(state);
 			if (state == NodeState.HOVER) {
 				element.notifyHoverListenersOnBeginHover();
@@ -542,7 +802,7 @@ public abstract class RenderNode<T extends UiElement, S extends StyleRule> imple
 
 	@Override
 	public String toString() {
-		return "RenderNode [outerArea=" + outerArea + ", targetOuterArea=" + targetOuterArea + ", parent=" + parent.getId()
+		return "RenderNode [outerArea=" + outerAreaToString() + ", targetOuterArea=" + targetOuterArea + ", parent=" + parent.getId()
 				+ ", style=" + style + ", preferredWidth=" + preferredContentWidth + ", preferredHeight="
 				+ preferredContentHeight + ", xOffset=" + xOffset + ", yOffset=" + yOffset + "]";
 	}
@@ -22,6 +22,7 @@ import org.mini2Dx.gdx.math.MathUtils;
 import org.mini2Dx.gdx.utils.IntMap;
 import org.mini2Dx.ui.animation.ScrollTo;
 import org.mini2Dx.ui.element.ScrollBox;
+import org.mini2Dx.ui.element.ScrollBoxAdapter;
 import org.mini2Dx.ui.element.Visibility;
 import org.mini2Dx.ui.event.EventTrigger;
 import org.mini2Dx.ui.event.params.EventTriggerParams;
@@ -55,6 +56,7 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 	private NodeState scrollThumbState = NodeState.NORMAL;
 
 	private int scrollTranslationY;
+	private int virtualOffsetY;
 	private float thumbDragStartY;
 
 	public ScrollBoxRenderNode(ParentRenderNode<?, ?> parent, ScrollBox row) {
@@ -117,18 +119,28 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 	@Override
 	protected void renderElement(Graphics g) {
 		renderBackground(g);
-		g.translate(0f, scrollTranslationY);
+		final int translationY = getContentTranslationY();
+		g.translate(0f, translationY);
 
 		Rectangle existingClip = g.removeClip();
-		g.setClip(getInnerRenderX(), getInnerRenderY() + scrollTranslationY, getInnerRenderWidth(),
+		g.setClip(getInnerRenderX(), getInnerRenderY() + translationY, getInnerRenderWidth(),
 				getInnerRenderHeight());
 
+		final boolean virtualized = ((ScrollBox) element).isVirtualized();
+		final float overscan = ((ScrollBox) element).getOverscan();
+		final float minVisibleY = getInnerRenderY() + translationY - overscan;
+		final float maxVisibleY = minVisibleY + getInnerRenderHeight() + overscan + overscan;
+
 		final IntMap.Keys keys = layers.ascendingKeys();
 		keys.reset();
 		while(keys.hasNext) {
 			final int layerIndex = keys.next();
 			final RenderLayer layer = layers.get(layerIndex);
-			layer.render(g);
+			if(virtualized) {
+				layer.render(g, minVisibleY, maxVisibleY);
+			} else {
+				layer.render(g);
+			}
 		}
 
 		if (existingClip != null) {
@@ -136,7 +148,7 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 		} else {
 			g.removeClip();
 		}
-		g.translate(0f, -scrollTranslationY);
+		g.translate(0f, -translationY);
 
 		if(!element.getScrollTrackVisibility().equals(Visibility.VISIBLE)) {
 			return;
@@ -267,7 +279,7 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 			keys.reset();
 			while(keys.hasNext) {
 				final int layerIndex = keys.next();
-				if (layers.get(layerIndex).mouseMoved(screenX, screenY + scrollTranslationY)) {
+				if (layers.get(layerIndex).mouseMoved(screenX, screenY + getContentTranslationY())) {
 					result = true;
 				}
 			}
@@ -275,6 +287,17 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 		return result;
 	}
 
+	@Override
+	protected boolean isPointerCaptured() {
+		return scrollThumbState != NodeState.NORMAL || topScrollButtonState != NodeState.NORMAL ||
+				bottomScrollButtonState != NodeState.NORMAL;
+	}
+
+	@Override
+	protected boolean isChildHitAreaIncluded() {
+		return false;
+	}
+
 	private boolean handleScrollThumbMouseMoved(boolean innerAreaContains, int screenX, int screenY) {
 		switch (scrollThumbState) {
 		case ACTION:
@@ -362,7 +385,7 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 			keys.reset();
 			while(keys.hasNext) {
 				final int layerIndex = keys.next();
-				ActionableRenderNode result = layers.get(layerIndex).mouseDown(screenX, screenY + scrollTranslationY,
+				ActionableRenderNode result = layers.get(layerIndex).mouseDown(screenX, screenY + getContentTranslationY(),
 						pointer, button);
 				if (result != null) {
 					return result;
@@ -391,7 +414,12 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 
 	@Override
 	protected float determinePreferredContentHeight(LayoutState layoutState) {
-		contentHeight = super.determinePreferredContentHeight(layoutState);
+		final ScrollBoxAdapter adapter = ((ScrollBox) element).getAdapter();
+		if (adapter != null) {
+			contentHeight = adapter.getTotalItems() * ((ScrollBox) element).getItemHeight();
+		} else {
+			contentHeight = super.determinePreferredContentHeight(layoutState);
+		}
 		float result = contentHeight;
 
 		if (result > ((ScrollBox) element).getMaxHeight()) {
@@ -516,6 +544,27 @@ public class ScrollBoxRenderNode extends ParentRenderNode<ScrollBox, ScrollBoxSt
 		return preferredContentWidth + style.getPaddingLeft() + style.getPaddingRight() + scrollTrack.getWidth();
 	}
 
+	private int getContentTranslationY() {
+		return scrollTranslationY - virtualOffsetY;
+	}
+
+	/**
+	 * Returns the current scroll translation of the content
+	 * @return 0 when scrolled to the top
+	 */
+	public int getScrollTranslationY() {
+		return scrollTranslationY;
+	}
+
+	/**
+	 * Sets the y offset of the first child within the full scroll content.
+	 * Used by virtualized {@link ScrollBox}es where children only represent the visible items.
+	 * @param virtualOffsetY The offset in pixels
+	 */
+	public void setVirtualOffsetY(int virtualOffsetY) {
+		this.virtualOffsetY = virtualOffsetY;
+	}
+
 	public float getBoxHeight() {
 		return boxHeight;
 	}
@@ -60,6 +60,11 @@ public class SliderRenderNode extends RenderNode<Slider, SliderStyleRule> implem
 		return super.mouseMoved(screenX, screenY);
 	}
 
+	@Override
+	protected boolean isPointerCaptured() {
+		return dragging;
+	}
+
 	@Override
 	public ActionableRenderNode mouseDown(int screenX, int screenY, int pointer, int button) {
 		if (!isIncludedInRender()) {
@@ -30,7 +30,6 @@ import org.mini2Dx.ui.style.TabStyleRule;
  * {@link RenderNode} implementation for {@link TabView}
  */
 public class TabViewRenderNode extends ParentRenderNode<TabView, TabStyleRule>implements NavigatableRenderNode {
-	private final ObjectMap<String, RenderNode<?, ?>> elementIdLookupCache = new ObjectMap<String, RenderNode<?, ?>>();
 	private final IntMap<String> keyboardHotkeys = new IntMap<String>();
 	private final ObjectMap<String, String> controllerHotkeys = new ObjectMap<String, String>();
 
@@ -38,14 +37,6 @@ public class TabViewRenderNode extends ParentRenderNode<TabView, TabStyleRule>im
 		super(parent, tabView);
 	}
 
-	@Override
-	public void layout(LayoutState layoutState) {
-		if(isDirty()) {
-			elementIdLookupCache.clear();
-		}
-		super.layout(layoutState);
-	}
-
 	@Override
 	public ActionableRenderNode hotkey(int keycode) {
 		String id = keyboardHotkeys.get(keycode);
@@ -116,24 +107,6 @@ public class TabViewRenderNode extends ParentRenderNode<TabView, TabStyleRule>im
 		return layoutState.getTheme().getStyleRule(element, layoutState.getScreenSize());
 	}
 	
-	@Override
-	public RenderNode<?, ?> getElementById(String id) {
-		if (element.getId().equals(id)) {
-			return this;
-		}
-		if(elementIdLookupCache.containsKey(id)) {
-			return elementIdLookupCache.get(id);
-		}
-		for (RenderLayer layer : layers.values()) {
-			RenderNode<?, ?> result = layer.getElementById(id);
-			if (result != null) {
-				elementIdLookupCache.put(id, result);
-				return result;
-			}
-		}
-		return null;
-	}
-
 	public String getTabMenuStyleId() {
 		return style.getMenuStyle();
 	}
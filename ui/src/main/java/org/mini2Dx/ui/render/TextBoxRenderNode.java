@@ -73,11 +73,15 @@ public class TextBoxRenderNode extends RenderNode<TextBox, TextBoxStyleRule> imp
 	public void update(UiContainerRenderTree uiContainer, float delta) {
 		super.update(uiContainer, delta);
 
+		final boolean previousCursorVisible = cursorVisible;
 		if (cursorTimer <= CURSOR_VISIBLE_DURATION) {
 			cursorVisible = true;
 		} else {
 			cursorVisible = false;
 		}
+		if (previousCursorVisible != cursorVisible) {
+			invalidateRenderCache();
+		}
 		if (cursorTimer <= 0f) {
 			cursorTimer += CURSOR_VISIBLE_DURATION * 2f;
 		}
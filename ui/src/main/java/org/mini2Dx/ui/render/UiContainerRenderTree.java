@@ -36,7 +36,7 @@ public class UiContainerRenderTree extends ParentRenderNode<UiContainer, ParentS
 	private static final String LOGGING_TAG = UiContainerRenderTree.class.getSimpleName();
 
 	private final AssetManager assetManager;
-	private final ObjectMap<String, RenderNode<?, ?>> elementIdLookupCache = new ObjectMap<String, RenderNode<?, ?>>();
+	private final ObjectMap<String, Array<RenderNode<?, ?>>> elementIdIndex = new ObjectMap<String, Array<RenderNode<?, ?>>>();
 
 	protected final Array<DeferredRunnable> deferredLayout = new Array<DeferredRunnable>(true,1, DeferredRunnable.class);
 	protected final Array<DeferredRunnable> deferredUpdate = new Array<DeferredRunnable>(true,1, DeferredRunnable.class);
@@ -76,8 +76,8 @@ public class UiContainerRenderTree extends ParentRenderNode<UiContainer, ParentS
 		if (element.isDebugEnabled()) {
 			Mdx.log.debug(LOGGING_TAG, "Layout triggered");
 		}
+		beginLayout();
 		rootNode = this;
-		elementIdLookupCache.clear();
 		
 		style = determineStyleRule(layoutState);
 		zIndex = element.getZIndex();
@@ -85,8 +85,8 @@ public class UiContainerRenderTree extends ParentRenderNode<UiContainer, ParentS
 		preferredContentHeight = determinePreferredContentHeight(layoutState);
 		xOffset = determineXOffset(layoutState);
 		yOffset = determineYOffset(layoutState);
-		outerArea.forceTo(xOffset, yOffset, preferredContentWidth, preferredContentHeight);
-		innerArea.set(outerArea.getX(), outerArea.getY(), outerArea.getWidth(), outerArea.getHeight());
+		setOuterArea(xOffset, yOffset, preferredContentWidth, preferredContentHeight);
+		innerArea.set(getOuterX(), getOuterY(), getOuterWidth(), getOuterHeight());
 
 		final IntMap.Keys keys = layers.ascendingKeys();
 		keys.reset();
@@ -99,7 +99,6 @@ public class UiContainerRenderTree extends ParentRenderNode<UiContainer, ParentS
 		clearDirty();
 		screenSizeChanged = false;
 		initialLayoutOccurred = true;
-		cachedDirtyUpdateRequired = true;
 		element.syncWithLayout(this);
 	}
 
@@ -110,6 +109,8 @@ public class UiContainerRenderTree extends ParentRenderNode<UiContainer, ParentS
 			layers.put(zIndex, new UiContainerRenderLayer(this, zIndex));
 		}
 		layers.get(zIndex).add(child);
+		child.registerElementIds(this);
+		invalidateHitTestIndex(child);
 		setDirty();
 	}
 
@@ -255,19 +256,68 @@ public class UiContainerRenderTree extends ParentRenderNode<UiContainer, ParentS
 		if (element.getId().equals(id)) {
 			return this;
 		}
-		if (elementIdLookupCache.containsKey(id)) {
-			return elementIdLookupCache.get(id);
+		final RenderNode<?, ?> result = getIndexedElementById(id, this);
+		if (result != null) {
+			return result;
 		}
-		for (RenderLayer layer : layers.values()) {
-			RenderNode<?, ?> result = layer.getElementById(id);
-			if (result != null) {
-				elementIdLookupCache.put(id, result);
-				return result;
+		return getLayerElementById(id);
+	}
+
+	/**
+	 * Returns the first indexed {@link RenderNode} with a given id that is a descendant of a node
+	 * @param id The element id
+	 * @param ancestor The ancestor {@link ParentRenderNode}
+	 * @return Null if no indexed descendant of the ancestor has the id
+	 */
+	RenderNode<?, ?> getIndexedElementById(String id, ParentRenderNode<?, ?> ancestor) {
+		final Array<RenderNode<?, ?>> renderNodes = elementIdIndex.get(id);
+		if (renderNodes == null) {
+			return null;
+		}
+		for (int i = 0; i < renderNodes.size; i++) {
+			final RenderNode<?, ?> renderNode = renderNodes.get(i);
+			if (ancestor == this || renderNode.isDescendantOf(ancestor)) {
+				return renderNode;
 			}
 		}
 		return null;
 	}
 
+	@Override
+	UiContainerRenderTree getIndexedRenderTree() {
+		return this;
+	}
+
+	/**
+	 * Adds a {@link RenderNode} attached to this tree to the element id index.
+	 * Nodes sharing an id are kept in attach order so that lookups return the earliest attached node.
+	 * @param renderNode The attached {@link RenderNode}
+	 */
+	void registerElementId(RenderNode<?, ?> renderNode) {
+		final String id = renderNode.getId();
+		Array<RenderNode<?, ?>> renderNodes = elementIdIndex.get(id);
+		if (renderNodes == null) {
+			renderNodes = new Array<RenderNode<?, ?>>(1);
+			elementIdIndex.put(id, renderNodes);
+		}
+		renderNodes.add(renderNode);
+	}
+
+	/**
+	 * Removes a detached {@link RenderNode} from the element id index
+	 * @param renderNode The detached {@link RenderNode}
+	 */
+	void unregisterElementId(RenderNode<?, ?> renderNode) {
+		final String id = renderNode.getId();
+		final Array<RenderNode<?, ?>> renderNodes = elementIdIndex.get(id);
+		if (renderNodes == null || !renderNodes.removeValue(renderNode, true)) {
+			return;
+		}
+		if (renderNodes.size == 0) {
+			elementIdIndex.remove(id);
+		}
+	}
+
 	@Override
 	public boolean isDirty() {
 		return screenSizeChanged || super.isDirty();
@@ -27,6 +27,7 @@ import org.mini2Dx.core.Graphics;
 import org.mini2Dx.core.input.GamePadType;
 import org.mini2Dx.core.input.button.XboxOneButton;
 import org.mini2Dx.ui.element.Container;
+import org.mini2Dx.ui.element.Div;
 import org.mini2Dx.ui.element.UiElement;
 import org.mini2Dx.ui.layout.ScreenSize;
 import org.mini2Dx.ui.listener.UiContainerListener;
@@ -157,6 +158,56 @@ public class UiContainerTest implements UiContainerListener {
 		Assert.assertEquals(false, uiContainer.buttonUp(null, XboxOneButton.A));
 	}
 
+	@Test
+	public void testGetElementByIdTracksAttachAndDetach() {
+		final Div outer = new Div("outer");
+		final Div inner = new Div("inner");
+		outer.add(inner);
+		uiContainer.add(outer);
+
+		Assert.assertEquals(outer, uiContainer.getElementById("outer"));
+		Assert.assertEquals(inner, uiContainer.getElementById("inner"));
+
+		final Div sibling = new Div("sibling");
+		uiContainer.add(sibling);
+		Assert.assertEquals(sibling, uiContainer.getElementById("sibling"));
+		Assert.assertNull(outer.getElementById("sibling"));
+
+		outer.remove(inner);
+		Assert.assertNull(uiContainer.getElementById("inner"));
+
+		uiContainer.remove(outer);
+		Assert.assertNull(uiContainer.getElementById("outer"));
+		Assert.assertEquals(sibling, uiContainer.getElementById("sibling"));
+	}
+
+	@Test
+	public void testGetElementByIdWithDuplicateIds() {
+		final Div first = new Div("duplicate");
+		final Div second = new Div("duplicate");
+		uiContainer.add(first);
+		uiContainer.add(second);
+
+		Assert.assertEquals(first, uiContainer.getElementById("duplicate"));
+		uiContainer.remove(first);
+		Assert.assertEquals(second, uiContainer.getElementById("duplicate"));
+		uiContainer.remove(second);
+		Assert.assertNull(uiContainer.getElementById("duplicate"));
+	}
+
+	@Test
+	public void testGetElementByIdFindsDescendantSharingIdWithEarlierNode() {
+		final Div earlier = new Div("duplicate");
+		final Div outer = new Div("outer");
+		final Div inner = new Div("duplicate");
+		outer.add(inner);
+		uiContainer.add(earlier);
+		uiContainer.add(outer);
+
+		Assert.assertEquals(earlier, uiContainer.getElementById("duplicate"));
+		Assert.assertEquals(inner, outer.getElementById("duplicate"));
+	}
+
 	@Test
 	public void testIgnoresButtonUpWhenButtonDownNotPreviouslyReceived() {
 		uiContainer.setActiveNavigation(container);
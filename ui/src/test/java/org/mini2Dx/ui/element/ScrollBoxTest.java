@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.ui.element;
+
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link ScrollBox}
+ */
+public class ScrollBoxTest {
+	private static final float ITEM_HEIGHT = 20f;
+
+	@Test
+	public void testAdapterBindsVisibleItemsOnly() {
+		final TestAdapter adapter = new TestAdapter(5000);
+		final ScrollBox scrollBox = new ScrollBox();
+		scrollBox.setOverscan(40f);
+		scrollBox.setAdapter(adapter, ITEM_HEIGHT);
+		Assert.assertEquals(true, scrollBox.isVirtualized());
+
+		scrollBox.syncAdapter(0f, 200f);
+		//(200 + 40 * 2) / 20 + 1
+		Assert.assertEquals(15, scrollBox.getTotalChildren());
+		Assert.assertEquals(15, adapter.totalCreated);
+		Assert.assertEquals(0, scrollBox.getFirstItemIndex());
+		Assert.assertEquals(0, adapter.getBoundIndex(scrollBox.getChild(0)));
+		Assert.assertEquals(14, adapter.getBoundIndex(scrollBox.getChild(14)));
+
+		scrollBox.syncAdapter(1000f, 200f);
+		Assert.assertEquals(15, scrollBox.getTotalChildren());
+		Assert.assertEquals(15, adapter.totalCreated);
+		Assert.assertEquals(48, scrollBox.getFirstItemIndex());
+		Assert.assertEquals(48, adapter.getBoundIndex(scrollBox.getChild(0)));
+
+		scrollBox.syncAdapter(ITEM_HEIGHT * 5000f, 200f);
+		Assert.assertEquals(4985, scrollBox.getFirstItemIndex());
+		Assert.assertEquals(4999, adapter.getBoundIndex(scrollBox.getChild(14)));
+	}
+
+	@Test
+	public void testAdapterRecyclesElementsWhenItemsChange() {
+		final TestAdapter adapter = new TestAdapter(100);
+		final ScrollBox scrollBox = new ScrollBox();
+		scrollBox.setOverscan(0f);
+		scrollBox.setAdapter(adapter, ITEM_HEIGHT);
+
+		scrollBox.syncAdapter(0f, 200f);
+		Assert.assertEquals(11, scrollBox.getTotalChildren());
+
+		adapter.totalItems = 3;
+		scrollBox.notifyItemsChanged();
+		scrollBox.syncAdapter(0f, 200f);
+		Assert.assertEquals(3, scrollBox.getTotalChildren());
+
+		adapter.totalItems = 100;
+		scrollBox.notifyItemsChanged();
+		scrollBox.syncAdapter(0f, 200f);
+		Assert.assertEquals(11, scrollBox.getTotalChildren());
+		Assert.assertEquals(11, adapter.totalCreated);
+	}
+
+	private static class TestAdapter implements ScrollBoxAdapter {
+		private final Map<UiElement, Integer> boundIndices = new IdentityHashMap<UiElement, Integer>();
+		private int totalItems;
+		private int totalCreated;
+
+		public TestAdapter(int totalItems) {
+			this.totalItems = totalItems;
+		}
+
+		@Override
+		public int getTotalItems() {
+			return totalItems;
+		}
+
+		@Override
+		public UiElement createElement() {
+			totalCreated++;
+			return new Div();
+		}
+
+		@Override
+		public void bindElement(UiElement element, int index) {
+			boundIndices.put(element, index);
+		}
+
+		public int getBoundIndex(UiElement element) {
+			return boundIndices.get(element);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright 2019 See AUTHORS file
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package org.mini2Dx.ui.layout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mini2Dx.core.input.GamePadType;
+import org.mini2Dx.ui.InputSource;
+
+import junit.framework.Assert;
+
+/**
+ * Unit tests for {@link FlexLayoutRules}
+ */
+public class FlexLayoutRulesTest {
+
+	@Before
+	public void setUp() {
+		FlexLayoutRules.clearCache();
+	}
+
+	@Test
+	public void testRulesSharedByRuleString() {
+		final FlexLayoutRules rules = FlexLayoutRules.get("flex-column:xs-12c");
+		Assert.assertSame(rules, FlexLayoutRules.get(new String("flex-column:xs-12c")));
+		Assert.assertNotSame(rules, FlexLayoutRules.get("flex-column:xs-6c"));
+
+		final FlexLayoutRuleset ruleset1 = FlexLayoutRuleset.parse("flex-column:xs-12c");
+		final FlexLayoutRuleset ruleset2 = FlexLayoutRuleset.parse("flex-column:xs-12c");
+		Assert.assertNotSame(ruleset1, ruleset2);
+		Assert.assertTrue(ruleset1.equals("flex-column:xs-12c"));
+	}
+
+	@Test
+	public void testSizeRulesInheritFromSmallerScreenSizes() {
+		final FlexLayoutRules rules = FlexLayoutRules.get("flex-row:xs-12c md-6c,xs-auto lg-100px");
+		Assert.assertEquals(FlexDirection.ROW, rules.getFlexDirection());
+
+		final SizeRule xsWidth = rules.getWidthRule(ScreenSize.XS);
+		final SizeRule mdWidth = rules.getWidthRule(ScreenSize.MD);
+		Assert.assertNotSame(xsWidth, mdWidth);
+		Assert.assertSame(xsWidth, rules.getWidthRule(ScreenSize.SM));
+		Assert.assertSame(mdWidth, rules.getWidthRule(ScreenSize.LG));
+		Assert.assertSame(mdWidth, rules.getWidthRule(ScreenSize.XL));
+
+		Assert.assertTrue(rules.getHeightRule(ScreenSize.MD).isAutoSize());
+		Assert.assertFalse(rules.getHeightRule(ScreenSize.LG).isAutoSize());
+		Assert.assertSame(rules.getHeightRule(ScreenSize.LG), rules.getHeightRule(ScreenSize.XL));
+		Assert.assertNotNull(rules.getOffsetXRule(ScreenSize.XL));
+		Assert.assertNotNull(rules.getOffsetYRule(ScreenSize.XL));
+	}
+
+	@Test
+	public void testHiddenByInputSource() {
+		final FlexLayoutRules rules = FlexLayoutRules.get("flex-column:xs-12c hidden-touchscreen");
+		Assert.assertTrue(rules.isHiddenByInputSource(InputSource.TOUCHSCREEN));
+		Assert.assertFalse(rules.isHiddenByInputSource(InputSource.KEYBOARD_MOUSE));
+		Assert.assertFalse(rules.isHiddenByInputSource(InputSource.CONTROLLER));
+		Assert.assertFalse(rules.isGamePadTypeRulesDefined());
+		Assert.assertFalse(rules.isHiddenByGamePadType(GamePadType.PS4));
+	}
+}
@@ -16,13 +16,25 @@
 package org.mini2Dx.ui.render;
 
 import org.junit.Ignore;
+import org.mini2Dx.core.Graphics;
+import org.mini2Dx.core.GraphicsUtils;
 import org.mini2Dx.core.Mdx;
 import org.mini2Dx.core.Platform;
+import org.mini2Dx.core.geom.Rectangle;
+import org.mini2Dx.core.graphics.Color;
+import org.mini2Dx.core.graphics.FrameBuffer;
+import org.mini2Dx.core.graphics.Mini2DxBlendFunction;
+import org.mini2Dx.core.graphics.Texture;
+import org.mini2Dx.core.collision.CollisionBox;
+import org.mini2Dx.core.util.InterpolationBuffer;
 import org.mini2Dx.core.util.InterpolationTracker;
 import org.mini2Dx.gdx.utils.Array;
 import junit.framework.Assert;
 import org.jmock.Expectations;
 import org.jmock.Mockery;
+import org.jmock.States;
+import org.jmock.api.Invocation;
+import org.jmock.lib.action.CustomAction;
 import org.jmock.lib.legacy.ClassImposteriser;
 import org.junit.After;
 import org.junit.Before;
@@ -31,9 +43,13 @@ import org.mini2Dx.ui.dummy.DummyParentRenderNode;
 import org.mini2Dx.ui.dummy.DummyParentUiElement;
 import org.mini2Dx.ui.dummy.DummyRenderNode;
 import org.mini2Dx.ui.dummy.DummyUiElement;
+import org.mini2Dx.ui.effect.UiEffect;
+import org.mini2Dx.ui.element.UiElement;
 import org.mini2Dx.ui.element.Visibility;
 import org.mini2Dx.ui.layout.LayoutState;
 
+import java.util.Arrays;
+
 /**
  * Unit tests for {@link RenderNode}
  */
@@ -388,6 +404,578 @@ public class RenderNodeTest {
 		Assert.assertEquals(preferredHeight + (padding * 2) + (margin * 2), renderNode.getPreferredOuterHeight());
 	}
 	
+	@Test
+	public void testLayoutSkipsCleanSiblings() {
+		mockery.checking(new Expectations() {
+			{
+				atLeast(1).of(renderTree).transferLayoutDeferred(with(any(Array.class)));
+				allowing(layoutState).isScreenSizeChanged();
+				will(returnValue(false));
+			}
+		});
+
+		configureParentWidth();
+
+		final DummyRenderNode siblingNode = createSiblingNode();
+		parentRenderNode.layout(layoutState);
+		Assert.assertEquals(false, parentRenderNode.isDirty());
+
+		final int totalLayouts = renderNode.getTotalLayouts();
+		final int totalSiblingLayouts = siblingNode.getTotalLayouts();
+		final int totalParentLayouts = parentRenderNode.getTotalLayouts();
+
+		renderNode.setDirty();
+		Assert.assertEquals(true, parentRenderNode.isDirty());
+		Assert.assertEquals(false, siblingNode.isDirty());
+
+		parentRenderNode.layout(layoutState);
+		Assert.assertEquals(false, parentRenderNode.isDirty());
+		Assert.assertEquals(totalLayouts + 1, renderNode.getTotalLayouts());
+		Assert.assertEquals(totalSiblingLayouts, siblingNode.getTotalLayouts());
+		Assert.assertEquals(totalParentLayouts + 1, parentRenderNode.getTotalLayouts());
+	}
+
+	@Test
+	public void testLayoutChildrenOnParentWidthChange() {
+		mockery.checking(new Expectations() {
+			{
+				atLeast(1).of(renderTree).transferLayoutDeferred(with(any(Array.class)));
+				allowing(layoutState).isScreenSizeChanged();
+				will(returnValue(false));
+			}
+		});
+
+		configureParentWidth();
+
+		final DummyRenderNode siblingNode = createSiblingNode();
+		parentRenderNode.layout(layoutState);
+
+		final int totalLayouts = renderNode.getTotalLayouts();
+		final int totalSiblingLayouts = siblingNode.getTotalLayouts();
+
+		parentRenderNode.setDirty();
+		Assert.assertEquals(false, renderNode.isDirty());
+		parentRenderNode.layout(layoutState);
+		Assert.assertEquals(totalLayouts, renderNode.getTotalLayouts());
+		Assert.assertEquals(totalSiblingLayouts, siblingNode.getTotalLayouts());
+
+		parentElement.setPreferredContentWidth(PARENT_WIDTH / 2);
+		parentRenderNode.setDirty();
+		parentRenderNode.layout(layoutState);
+		Assert.assertEquals(totalLayouts + 1, renderNode.getTotalLayouts());
+		Assert.assertEquals(totalSiblingLayouts + 1, siblingNode.getTotalLayouts());
+	}
+
+	@Test
+	public void testSetSubtreeDirty() {
+		mockery.checking(new Expectations() {
+			{
+				atLeast(1).of(renderTree).transferLayoutDeferred(with(any(Array.class)));
+				allowing(layoutState).isScreenSizeChanged();
+				will(returnValue(false));
+			}
+		});
+
+		configureParentWidth();
+
+		final DummyRenderNode siblingNode = createSiblingNode();
+		parentRenderNode.layout(layoutState);
+		Assert.assertEquals(false, renderNode.isDirty());
+		Assert.assertEquals(false, siblingNode.isDirty());
+
+		parentRenderNode.setSubtreeDirty();
+		Assert.assertEquals(true, parentRenderNode.isDirty());
+		Assert.assertEquals(true, renderNode.isDirty());
+		Assert.assertEquals(true, siblingNode.isDirty());
+	}
+
+	@Test
+	public void testRenderCacheInvalidatedOnStateChange() {
+		final GraphicsUtils previousGraphicsUtils = Mdx.graphics;
+		final GraphicsUtils graphicsUtils = mockery.mock(GraphicsUtils.class);
+		final Graphics g = mockery.mock(Graphics.class);
+		final FrameBuffer frameBuffer = mockery.mock(FrameBuffer.class);
+		final Texture texture = mockery.mock(Texture.class);
+		Mdx.graphics = graphicsUtils;
+
+		layoutWithRenderCache();
+		final int cacheWidth = parentRenderNode.getOuterRenderWidth();
+		final int cacheHeight = parentRenderNode.getOuterRenderHeight();
+
+		mockery.checking(new Expectations() {
+			{
+				oneOf(graphicsUtils).newFrameBuffer(cacheWidth, cacheHeight);
+				will(returnValue(frameBuffer));
+				allowing(frameBuffer).getWidth();
+				will(returnValue(cacheWidth));
+				allowing(frameBuffer).getHeight();
+				will(returnValue(cacheHeight));
+				allowing(frameBuffer).getTexture();
+				will(returnValue(texture));
+				exactly(2).of(frameBuffer).begin();
+				exactly(2).of(frameBuffer).end();
+				exactly(3).of(g).drawTexture(texture, 0f, 0f, 0f + cacheWidth, 0f + cacheHeight, false);
+			}
+		});
+		allowRenderCacheGraphics(graphicsUtils, g);
+
+		Assert.assertEquals(false, parentRenderNode.isRenderCacheValid());
+
+		parentRenderNode.render(g);
+		Assert.assertEquals(true, parentRenderNode.isRenderCacheValid());
+		parentRenderNode.render(g);
+		Assert.assertEquals(true, parentRenderNode.isRenderCacheValid());
+
+		renderNode.setState(NodeState.HOVER);
+		Assert.assertEquals(false, parentRenderNode.isRenderCacheValid());
+		parentRenderNode.render(g);
+		Assert.assertEquals(true, parentRenderNode.isRenderCacheValid());
+
+		Mdx.graphics = previousGraphicsUtils;
+	}
+
+	@Test
+	public void testRenderCacheMatchesUncachedTranslucentRendering() {
+		final GraphicsUtils previousGraphicsUtils = Mdx.graphics;
+		final GraphicsUtils graphicsUtils = mockery.mock(GraphicsUtils.class);
+		final Graphics g = mockery.mock(Graphics.class);
+		final FrameBuffer frameBuffer = mockery.mock(FrameBuffer.class);
+		final Texture texture = mockery.mock(Texture.class);
+		final BlendModel blendModel = new BlendModel();
+		Mdx.graphics = graphicsUtils;
+
+		final DummyUiElement translucentElement = new DummyUiElement();
+		translucentElement.setVisibility(Visibility.VISIBLE);
+		translucentElement.setPreferredContentWidth(ELEMENT_WIDTH);
+		translucentElement.setPreferredContentHeight(ELEMENT_HEIGHT);
+		parentRenderNode.addChild(new DummyRenderNode(parentRenderNode, translucentElement) {
+			@Override
+			protected void renderElement(Graphics g) {
+				g.fillRect(getOuterRenderX(), getOuterRenderY(), getOuterRenderWidth(), getOuterRenderHeight());
+			}
+		});
+
+		layoutWithRenderCache();
+
+		mockery.checking(new Expectations() {
+			{
+				allowing(graphicsUtils).newFrameBuffer(with(any(Integer.class)), with(any(Integer.class)));
+				will(returnValue(frameBuffer));
+				allowing(frameBuffer).getWidth();
+				will(returnValue(parentRenderNode.getOuterRenderWidth()));
+				allowing(frameBuffer).getHeight();
+				will(returnValue(parentRenderNode.getOuterRenderHeight()));
+				allowing(frameBuffer).getTexture();
+				will(returnValue(texture));
+				allowing(frameBuffer).dispose();
+				allowing(frameBuffer).begin();
+				will(blendModel.action("begin"));
+				allowing(frameBuffer).end();
+				will(blendModel.action("end"));
+
+				allowing(g).getTranslationX();
+				will(returnValue(0f));
+				allowing(g).getTranslationY();
+				will(returnValue(0f));
+				allowing(g).getScaleX();
+				will(returnValue(1f));
+				allowing(g).getScaleY();
+				will(returnValue(1f));
+				allowing(g).flush();
+				allowing(g).setTranslation(with(any(Float.class)), with(any(Float.class)));
+				allowing(g).enableBlending();
+				allowing(g).clearContext(with(any(Color.class)));
+				will(blendModel.action("clear"));
+				allowing(g).setBlendFunction(with(any(Mini2DxBlendFunction.class)), with(any(Mini2DxBlendFunction.class)));
+				will(blendModel.action("blend"));
+				allowing(g).setBlendFunction(with(any(Mini2DxBlendFunction.class)), with(any(Mini2DxBlendFunction.class)),
+						with(any(Mini2DxBlendFunction.class)), with(any(Mini2DxBlendFunction.class)));
+				will(blendModel.action("blend"));
+				allowing(g).clearBlendFunction();
+				will(blendModel.action("clearBlend"));
+				allowing(g).fillRect(with(any(Float.class)), with(any(Float.class)), with(any(Float.class)), with(any(Float.class)));
+				will(blendModel.action("fill"));
+				allowing(g).drawTexture(with(same(texture)), with(any(Float.class)), with(any(Float.class)),
+						with(any(Float.class)), with(any(Float.class)), with(any(Boolean.class)));
+				will(blendModel.action("composite"));
+			}
+		});
+		allowRenderCacheGraphics(graphicsUtils, g);
+
+		parentRenderNode.render(g);
+		Assert.assertEquals(true, parentRenderNode.isRenderCacheValid());
+		final float [] cachedResult = blendModel.window.clone();
+
+		blendModel.resetWindow();
+		parentElement.setRenderCacheEnabled(false);
+		parentRenderNode.render(g);
+		final float [] uncachedResult = blendModel.window.clone();
+
+		//Destination alpha is not visible on screen so only colour channels are compared
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(uncachedResult[i], cachedResult[i], 0.0001f);
+		}
+		Mdx.graphics = previousGraphicsUtils;
+	}
+
+	@Test
+	public void testRenderCacheRecordingEndsWhenChildThrows() {
+		final GraphicsUtils previousGraphicsUtils = Mdx.graphics;
+		final GraphicsUtils graphicsUtils = mockery.mock(GraphicsUtils.class);
+		final Graphics g = mockery.mock(Graphics.class);
+		final FrameBuffer frameBuffer = mockery.mock(FrameBuffer.class);
+		final Texture texture = mockery.mock(Texture.class);
+		Mdx.graphics = graphicsUtils;
+
+		final DummyUiElement failingElement = new DummyUiElement();
+		failingElement.setVisibility(Visibility.VISIBLE);
+		failingElement.setPreferredContentWidth(ELEMENT_WIDTH);
+		failingElement.setPreferredContentHeight(ELEMENT_HEIGHT);
+		final boolean [] fail = new boolean[] { true };
+		parentRenderNode.addChild(new DummyRenderNode(parentRenderNode, failingElement) {
+			@Override
+			protected void renderElement(Graphics g) {
+				if (fail[0]) {
+					throw new IllegalStateException();
+				}
+			}
+		});
+
+		layoutWithRenderCache();
+		final int cacheWidth = parentRenderNode.getOuterRenderWidth();
+		final int cacheHeight = parentRenderNode.getOuterRenderHeight();
+
+		mockery.checking(new Expectations() {
+			{
+				oneOf(graphicsUtils).newFrameBuffer(cacheWidth, cacheHeight);
+				will(returnValue(frameBuffer));
+				allowing(frameBuffer).getWidth();
+				will(returnValue(cacheWidth));
+				allowing(frameBuffer).getHeight();
+				will(returnValue(cacheHeight));
+				allowing(frameBuffer).getTexture();
+				will(returnValue(texture));
+				exactly(2).of(frameBuffer).begin();
+				exactly(2).of(frameBuffer).end();
+				oneOf(g).drawTexture(texture, 0f, 0f, 0f + cacheWidth, 0f + cacheHeight, false);
+			}
+		});
+		allowRenderCacheGraphics(graphicsUtils, g);
+
+		try {
+			parentRenderNode.render(g);
+			Assert.fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+		}
+		Assert.assertEquals(false, parentRenderNode.isRenderCacheValid());
+
+		fail[0] = false;
+		parentRenderNode.render(g);
+		Assert.assertEquals(true, parentRenderNode.isRenderCacheValid());
+
+		Mdx.graphics = previousGraphicsUtils;
+	}
+
+	@Test
+	public void testRenderCacheRecordedWithoutAncestorClip() {
+		final GraphicsUtils previousGraphicsUtils = Mdx.graphics;
+		final GraphicsUtils graphicsUtils = mockery.mock(GraphicsUtils.class);
+		final Graphics g = mockery.mock(Graphics.class);
+		final FrameBuffer frameBuffer = mockery.mock(FrameBuffer.class);
+		final Texture texture = mockery.mock(Texture.class);
+		final States clip = mockery.states("clip").startsAs("ancestor");
+		final Rectangle restoredClip = new Rectangle();
+		Mdx.graphics = graphicsUtils;
+
+		layoutWithRenderCache();
+		final int cacheWidth = parentRenderNode.getOuterRenderWidth();
+		final int cacheHeight = parentRenderNode.getOuterRenderHeight();
+
+		mockery.checking(new Expectations() {
+			{
+				oneOf(graphicsUtils).newFrameBuffer(cacheWidth, cacheHeight);
+				will(returnValue(frameBuffer));
+				allowing(frameBuffer).getWidth();
+				will(returnValue(cacheWidth));
+				allowing(frameBuffer).getHeight();
+				will(returnValue(cacheHeight));
+				allowing(frameBuffer).getTexture();
+				will(returnValue(texture));
+
+				allowing(g).peekClip(with(any(Rectangle.class)));
+				when(clip.is("ancestor"));
+				will(new CustomAction("peekClip") {
+					@Override
+					public Object invoke(Invocation invocation) {
+						((Rectangle) invocation.getParameter(0)).set(10f, 20f, 30f, 40f);
+						return null;
+					}
+				});
+				oneOf(g).removeClip();
+				when(clip.is("ancestor"));
+				will(returnValue(new Rectangle(10f, 20f, 30f, 40f)));
+				then(clip.is("removed"));
+				oneOf(frameBuffer).begin();
+				when(clip.is("removed"));
+				oneOf(frameBuffer).end();
+				when(clip.is("removed"));
+				oneOf(g).setClip(with(any(Rectangle.class)));
+				when(clip.is("removed"));
+				will(new CustomAction("setClip") {
+					@Override
+					public Object invoke(Invocation invocation) {
+						restoredClip.set((Rectangle) invocation.getParameter(0));
+						return null;
+					}
+				});
+				then(clip.is("ancestor"));
+				oneOf(g).drawTexture(texture, 0f, 0f, 0f + cacheWidth, 0f + cacheHeight, false);
+				when(clip.is("ancestor"));
+			}
+		});
+		allowRenderCacheGraphics(graphicsUtils, g);
+
+		parentRenderNode.render(g);
+		Assert.assertEquals(true, parentRenderNode.isRenderCacheValid());
+		Assert.assertEquals(10f, restoredClip.getX());
+		Assert.assertEquals(20f, restoredClip.getY());
+		Assert.assertEquals(30f, restoredClip.getWidth());
+		Assert.assertEquals(40f, restoredClip.getHeight());
+
+		Mdx.graphics = previousGraphicsUtils;
+	}
+
+	@Test
+	public void testEffectAreaReleasedWhenRemovedMidEffect() {
+		mockery.checking(new Expectations() {
+			{
+				atLeast(1).of(renderTree).transferLayoutDeferred(with(any(Array.class)));
+				atLeast(1).of(renderTree).transferUpdateDeferred(with(any(Array.class)));
+			}
+		});
+		configureParentWidth();
+
+		final InterpolationBuffer buffer = InterpolationTracker.getBuffer();
+		final int expectedSlot = buffer.allocate(0f, 0f, 1f, 1f);
+		buffer.release(expectedSlot);
+
+		renderNode.applyEffect(new UiEffect() {
+			@Override
+			public void preBegin(UiElement element) {
+			}
+
+			@Override
+			public void postEnd(UiElement element) {
+			}
+
+			@Override
+			public boolean update(UiContainerRenderTree uiContainer, CollisionBox currentArea, Rectangle targetArea, float delta) {
+				return true;
+			}
+
+			@Override
+			public void preRender(Graphics g) {
+			}
+
+			@Override
+			public void postRender(Graphics g) {
+			}
+
+			@Override
+			public boolean isFinished() {
+				return false;
+			}
+		});
+		parentRenderNode.layout(layoutState);
+		parentRenderNode.update(null, 0.1f);
+		parentRenderNode.removeChild(renderNode);
+
+		final int slot = buffer.allocate(0f, 0f, 1f, 1f);
+		buffer.release(slot);
+		Assert.assertEquals(expectedSlot, slot);
+	}
+
+	@Test
+	public void testMouseMovedOnlyVisitsNodesUnderPointer() {
+		mockery.checking(new Expectations() {
+			{
+				atLeast(1).of(renderTree).transferLayoutDeferred(with(any(Array.class)));
+				atLeast(1).of(renderTree).transferUpdateDeferred(with(any(Array.class)));
+			}
+		});
+
+		configureParentWidth();
+
+		final int [] totalMouseMoved = new int[1];
+		final Array<DummyRenderNode> gridNodes = new Array<DummyRenderNode>();
+		for (int i = 0; i < 100; i++) {
+			final DummyUiElement gridElement = new DummyUiElement();
+			gridElement.setVisibility(Visibility.VISIBLE);
+			gridElement.setPreferredContentWidth(10f);
+			gridElement.setPreferredContentHeight(10f);
+			gridElement.setXY((i % 10) * 20f, (i / 10) * 20f);
+
+			final DummyRenderNode gridNode = new DummyRenderNode(parentRenderNode, gridElement) {
+				@Override
+				public boolean mouseMoved(int screenX, int screenY) {
+					totalMouseMoved[0]++;
+					return super.mouseMoved(screenX, screenY);
+				}
+			};
+			parentRenderNode.addChild(gridNode);
+			gridNodes.add(gridNode);
+		}
+
+		parentRenderNode.layout(layoutState);
+		parentRenderNode.update(renderTree, 0.1f);
+
+		Assert.assertEquals(true, parentRenderNode.mouseMoved(45, 45));
+		Assert.assertEquals(1, totalMouseMoved[0]);
+		Assert.assertEquals(NodeState.HOVER, gridNodes.get(22).getState());
+
+		totalMouseMoved[0] = 0;
+		Assert.assertEquals(true, parentRenderNode.mouseMoved(65, 45));
+		Assert.assertEquals(2, totalMouseMoved[0]);
+		Assert.assertEquals(NodeState.NORMAL, gridNodes.get(22).getState());
+		Assert.assertEquals(NodeState.HOVER, gridNodes.get(23).getState());
+
+		totalMouseMoved[0] = 0;
+		Assert.assertEquals(true, parentRenderNode.mouseMoved(55, 45));
+		Assert.assertEquals(1, totalMouseMoved[0]);
+		Assert.assertEquals(NodeState.NORMAL, gridNodes.get(23).getState());
+	}
+
+	private DummyRenderNode createSiblingNode() {
+		final DummyUiElement siblingElement = new DummyUiElement();
+		siblingElement.setVisibility(Visibility.VISIBLE);
+		siblingElement.setPreferredContentWidth(ELEMENT_WIDTH);
+		siblingElement.setPreferredContentHeight(ELEMENT_HEIGHT);
+
+		final DummyRenderNode siblingNode = new DummyRenderNode(parentRenderNode, siblingElement);
+		parentRenderNode.addChild(siblingNode);
+		return siblingNode;
+	}
+
+	private void layoutWithRenderCache() {
+		mockery.checking(new Expectations() {
+			{
+				atLeast(1).of(renderTree).transferLayoutDeferred(with(any(Array.class)));
+				atLeast(1).of(renderTree).transferUpdateDeferred(with(any(Array.class)));
+				allowing(renderTree).transferRenderDeferred(with(any(Array.class)));
+			}
+		});
+
+		configureParentWidth();
+		parentElement.setRenderCacheEnabled(true);
+
+		parentRenderNode.layout(layoutState);
+		parentRenderNode.update(renderTree, 0.1f);
+	}
+
+	private void allowRenderCacheGraphics(final GraphicsUtils graphicsUtils, final Graphics g) {
+		final Color clearColor = mockery.mock(Color.class);
+		mockery.checking(new Expectations() {
+			{
+				allowing(graphicsUtils).newColor(0f, 0f, 0f, 0f);
+				will(returnValue(clearColor));
+
+				allowing(g).getTranslationX();
+				will(returnValue(0f));
+				allowing(g).getTranslationY();
+				will(returnValue(0f));
+				allowing(g).getScaleX();
+				will(returnValue(1f));
+				allowing(g).getScaleY();
+				will(returnValue(1f));
+				allowing(g).flush();
+				allowing(g).setTranslation(with(any(Float.class)), with(any(Float.class)));
+				allowing(g).clearContext(with(any(Color.class)));
+				allowing(g).enableBlending();
+				allowing(g).setBlendFunction(with(any(Mini2DxBlendFunction.class)), with(any(Mini2DxBlendFunction.class)));
+				allowing(g).setBlendFunction(with(any(Mini2DxBlendFunction.class)), with(any(Mini2DxBlendFunction.class)),
+						with(any(Mini2DxBlendFunction.class)), with(any(Mini2DxBlendFunction.class)));
+				allowing(g).clearBlendFunction();
+				allowing(g).peekClip(with(any(Rectangle.class)));
+				allowing(g).removeClip();
+				will(returnValue(null));
+			}
+		});
+	}
+
+	/**
+	 * Evaluates the blend equation for a single pixel of the window and the render cache
+	 */
+	private static class BlendModel {
+		private static final float [] BACKGROUND = new float[] { 0.2f, 0.4f, 0.6f, 1f };
+		private static final float [] FILL = new float[] { 1f, 0.5f, 0f, 0.5f };
+
+		private final float [] window = BACKGROUND.clone();
+		private final float [] cache = new float[4];
+		private float [] target = window;
+		private Mini2DxBlendFunction srcColor, dstColor, srcAlpha, dstAlpha;
+
+		public BlendModel() {
+			clearBlend();
+		}
+
+		public void resetWindow() {
+			System.arraycopy(BACKGROUND, 0, window, 0, window.length);
+		}
+
+		public CustomAction action(final String operation) {
+			return new CustomAction(operation) {
+				@Override
+				public Object invoke(Invocation invocation) {
+					if (operation.equals("begin")) {
+						target = cache;
+					} else if (operation.equals("end")) {
+						target = window;
+					} else if (operation.equals("clear")) {
+						Arrays.fill(target, 0f);
+					} else if (operation.equals("blend")) {
+						final int parameters = invocation.getParameterCount();
+						srcColor = (Mini2DxBlendFunction) invocation.getParameter(0);
+						dstColor = (Mini2DxBlendFunction) invocation.getParameter(1);
+						srcAlpha = (Mini2DxBlendFunction) invocation.getParameter(parameters == 4 ? 2 : 0);
+						dstAlpha = (Mini2DxBlendFunction) invocation.getParameter(parameters == 4 ? 3 : 1);
+					} else if (operation.equals("clearBlend")) {
+						clearBlend();
+					} else if (operation.equals("fill")) {
+						blend(FILL);
+					} else if (operation.equals("composite")) {
+						blend(cache.clone());
+					}
+					return null;
+				}
+			};
+		}
+
+		private void clearBlend() {
+			srcColor = srcAlpha = Mini2DxBlendFunction.SRC_ALPHA;
+			dstColor = dstAlpha = Mini2DxBlendFunction.ONE_MINUS_SRC_ALPHA;
+		}
+
+		private void blend(float [] source) {
+			for (int i = 0; i < 3; i++) {
+				target[i] = source[i] * factor(srcColor, source) + target[i] * factor(dstColor, source);
+			}
+			target[3] = source[3] * factor(srcAlpha, source) + target[3] * factor(dstAlpha, source);
+		}
+
+		private static float factor(Mini2DxBlendFunction function, float [] source) {
+			switch (function) {
+			case ONE:
+				return 1f;
+			case SRC_ALPHA:
+				return source[3];
+			case ONE_MINUS_SRC_ALPHA:
+				return 1f - source[3];
+			default:
+				return 0f;
+			}
+		}
+	}
+
 	private void configureParentWidth() {
 		mockery.checking(new Expectations() {
 			{